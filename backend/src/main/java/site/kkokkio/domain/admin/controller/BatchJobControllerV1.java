@@ -4,9 +4,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -18,6 +16,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import site.kkokkio.global.auth.annotations.IsAdmin;
+import site.kkokkio.global.scheduler.LeaderJobLauncher;
 
 @Slf4j
 @RestController
@@ -26,7 +25,7 @@ import site.kkokkio.global.auth.annotations.IsAdmin;
 @Tag(name = "Admin V1", description = "관리자용 API 엔드포인트 V1")
 public class BatchJobControllerV1 {
 
-	private final JobLauncher jobLauncher;
+	private final LeaderJobLauncher leaderJobLauncher;
 	private final Job trendToPostJob;
 
 	@IsAdmin
@@ -38,11 +37,14 @@ public class BatchJobControllerV1 {
 			LocalDateTime bucketAt = LocalDateTime.now(ZoneId.of("UTC")).withSecond(0).withNano(0);
 
 			// JobParameters는 항상 고유해야 실행됨
-			JobParameters params = new JobParametersBuilder()
-				.addString("runTime", bucketAt.toString())
-				.toJobParameters();
-
-			jobLauncher.run(trendToPostJob, params);
+			JobParametersBuilder params = new JobParametersBuilder()
+				.addString("runTime", bucketAt.toString());
+
+			// 배치 리더 lease 를 다른 노드(또는 증분 갱신)가 가지고 있으면 실행하지 않음
+			if (leaderJobLauncher.runIfLeader(trendToPostJob, params).isEmpty()) {
+				return ResponseEntity.status(HttpStatus.CONFLICT)
+					.body("다른 노드에서 트렌드 Job 실행 중");
+			}
 			return ResponseEntity.ok("trendToPostJob 실행: " + bucketAt);
 
 		} catch (Exception e) {
@@ -0,0 +1,61 @@
+package site.kkokkio.domain.batch;
+
+import static site.kkokkio.domain.batch.context.BatchConstants.*;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+import org.springframework.batch.core.job.flow.support.SimpleFlow;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.RequiredArgsConstructor;
+import site.kkokkio.domain.batch.listener.BatchMetricsListener;
+
+/**
+ * 정각 전체 실행 사이의 증분 갱신 Job
+ * - RSS 를 현재 버킷과 비교해 새로 진입했거나 급등한 키워드만 소스 검색, 신규성 평가, 포스트 생성을 수행한다.
+ * - 변경이 없거나 포스트가 필요 없으면 바로 종료한다.
+ * - Top 포스트 캐시만 교체하고, 키워드 점수의 트렌딩 적립(creditTrendingStep)은 정각 전체 실행에서만 한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class TrendDeltaJobConfig {
+
+	private final JobRepository jobRepository;
+	private final BatchMetricsListener metrics;
+	private final Step fetchTrendDeltaStep;
+	private final JobExecutionDecider deltaDecider;
+	private final Flow searchSourcesFlow;
+	private final Step evaluateNoveltyStep;
+	private final JobExecutionDecider noveltyDecider;
+	private final Step generatePostStep;
+	private final Step cachePostStep;
+
+	@Bean(name = TREND_DELTA_JOB)
+	public Job trendDeltaJob() {
+		Flow trendDeltaFlow = new FlowBuilder<SimpleFlow>(TREND_DELTA_JOB)
+			.start(fetchTrendDeltaStep)
+			.next(deltaDecider)
+			.on(NO_DELTA_STATUS).end()
+			.from(deltaDecider).on("*").to(searchSourcesFlow)
+			.next(evaluateNoveltyStep)
+			.next(noveltyDecider)
+			.on(NO_POST_NEEDED_STATUS).end()
+			.from(noveltyDecider).on("*").to(generatePostStep)
+			.next(cachePostStep)
+			.end();
+
+		return new JobBuilder(TREND_DELTA_JOB, jobRepository)
+			.incrementer(new RunIdIncrementer())
+			.listener(metrics)
+			.start(trendDeltaFlow)
+			.end()
+			.build();
+	}
+}
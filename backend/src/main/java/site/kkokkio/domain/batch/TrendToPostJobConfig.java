@@ -29,6 +29,7 @@ public class TrendToPostJobConfig {
 	private final JobExecutionDecider noveltyDecider;
 	private final Step generatePostStep;
 	private final Step cachePostStep;
+	private final Step creditTrendingStep;
 
 	@Bean
 	public Job trendToPostJob() {
@@ -40,6 +41,7 @@ public class TrendToPostJobConfig {
 			.on(NO_POST_NEEDED_STATUS).to(cachePostStep)
 			.from(noveltyDecider).on("*").to(generatePostStep)
 			.next(cachePostStep)
+			.next(creditTrendingStep)
 			.end();
 
 		return new JobBuilder(TREND_TO_POST_JOB, jobRepository)
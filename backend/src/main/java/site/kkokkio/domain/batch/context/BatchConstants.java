@@ -3,16 +3,29 @@ package site.kkokkio.domain.batch.context;
 public interface BatchConstants {
 	// Batch Job
 	String TREND_TO_POST_JOB = "trendToPostJob";
+	String TREND_DELTA_JOB = "trendDeltaJob";
+
+	// 배치 리더 lease (같은 키워드/포스트를 쓰는 두 Job 은 노드가 달라도 동시에 돌지 않도록 하나의 lease 를 나눠 쓴다)
+	String TREND_JOB_LEASE = "trendJobs";
 
 	// Batch Steps
 	String FETCH_KEYWORDS_STEP = "fetchTrendingKeywordsStep";
+	String FETCH_DELTA_STEP = "fetchTrendDeltaStep";
 	String SEARCH_NEWS_STEP = "searchNewsStep";
 	String SEARCH_VIDEOS_STEP = "searchVideosStep";
 	String EVALUATE_NOVELTY_STEP = "evaluateNoveltyStep";
 	String GENERATE_POST_STEP = "generatePostStep";
 	String CACHE_POST_STEP = "cachePostStep";
+	String CREDIT_TRENDING_STEP = "creditTrendingStep";
+
+	// Partition Worker Steps (실행 이름: workerStep:partitionN)
+	String EVALUATE_NOVELTY_WORKER_STEP = "evaluateNoveltyWorkerStep";
+	String GENERATE_POST_WORKER_STEP = "generatePostWorkerStep";
+	String PARTITION_PREFIX = "partition";
+	String PARTITION_SEPARATOR = ":";
 
 	String NOVELTY_DECIDER = "noveltyDecider";
+	String DELTA_DECIDER = "deltaDecider";
 
 	// Batch Flows
 	String SEARCH_SOURCES_FLOW = "searchSourcesFlow";
@@ -21,4 +34,5 @@ public interface BatchConstants {
 	
 	// Batch FlowExecutionStatus
 	String NO_POST_NEEDED_STATUS = "NO_POST_NEEDED";
+	String NO_DELTA_STATUS = "NO_DELTA";
 }
@@ -5,6 +5,8 @@ public interface ExecutionContextKeys {
 	// JobExecutionContext Keys
 	String JC_TOP_KEYWORD_IDS = "topKeywordIds";
 	String JC_TOP_KEYWORD_COUNT = "topKeywordCount";
+	// 증분 갱신 대상 키워드 (없으면 전체 실행)
+	String JC_DELTA_KEYWORD_IDS = "deltaKeywordIds";
 	String JC_POSTABLE_KEYWORD_IDS = "postableKeywordIds";
 	String JC_POSTABLE_KEYWORD_COUNT = "postableKeywordCount";
 	String JC_NO_POST_NEEDED = "noPostNeeded";
@@ -13,9 +15,19 @@ public interface ExecutionContextKeys {
 	// StepExecutionContext Keys
 	String SC_NEWS_FETCHED = "newsFetched";
 	String SC_NEWS_API_FAIL = "newsApiFail";
+	String SC_NEWS_FAILED_KEYWORDS = "newsFailedKeywords";
+	String SC_NEWS_MAX_LATENCY_MS = "newsMaxLatencyMs";
 	String SC_VIDEO_FETCHED = "videoFetched";
 	String SC_VIDEO_API_FAIL = "videoApiFail";
+	String SC_VIDEO_FAILED_KEYWORDS = "videoFailedKeywords";
+	String SC_VIDEO_MAX_LATENCY_MS = "videoMaxLatencyMs";
 	String SC_NOVELTY_SKIPPED = "noveltyLowVarCount";
 	String SC_POST_CREATED = "postCreated";
 	String SC_CACHE_SIZE = "cacheEntryCount";
+	String SC_TOP_POST_CACHED = "topPostCached";
+	String SC_TRENDING_CREDITED = "trendingCredited";
+
+	// Partition StepExecutionContext Keys
+	String SC_PARTITION_NAME = "partitionName";
+	String SC_PARTITION_KEYWORD_IDS = "partitionKeywordIds";
 }
\ No newline at end of file
@@ -2,4 +2,8 @@ package site.kkokkio.domain.batch.context;
 
 public interface JobParameterKeys {
 	String JP_RUNTIME = "runTime";
+	// 배치 리더 lease 의 fencing token (식별 파라미터 아님)
+	String JP_FENCING_TOKEN = "fencingToken";
+	// fencing token 을 발급한 lease 이름 (식별 파라미터 아님)
+	String JP_LEASE_NAME = "leaseName";
 }
@@ -8,5 +8,13 @@ public interface MetricsKeys {
 	String BATCH_NOVELTY_LOWVAR = "spring_batch_novelty_lowvar";
 	String BATCH_POST_CREATED = "spring_batch_post_added";
 	String BATCH_CACHE_SIZE = "spring_batch_post_cached";
+	String BATCH_TOP_POST_CACHED = "spring_batch_top_post_cached";
+	String BATCH_TRENDING_CREDITED = "spring_batch_trending_credited";
 	String BATCH_NO_POST_NEEDED = "spring_batch_no_post_needed";
+	String BATCH_STEP_DURATION = "spring_batch_step_duration";
+	String BATCH_KEYWORD_DURATION = "spring_batch_keyword_duration";
+	String BATCH_SOURCES_PER_KEYWORD = "spring_batch_sources_per_keyword";
+	String BATCH_LAST_RUN_DURATION = "spring_batch_last_run_duration_seconds";
+	String BATCH_LAST_RUN_SUCCESS = "spring_batch_last_run_success";
+	String BATCH_LAST_RUN_TIMESTAMP = "spring_batch_last_run_timestamp_seconds";
 }
@@ -0,0 +1,33 @@
+package site.kkokkio.domain.batch.decider;
+
+import static site.kkokkio.domain.batch.context.BatchConstants.*;
+import static site.kkokkio.domain.batch.context.ExecutionContextKeys.*;
+
+import java.util.List;
+
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class DeltaDeciderConfig {
+
+	@Bean(name = DELTA_DECIDER)
+	public JobExecutionDecider deltaDecider() {
+		return (jobExec, stepExec) -> {
+
+			// 증분 갱신 대상 키워드 유무 판정
+			@SuppressWarnings("unchecked")
+			List<Long> ids = (List<Long>)jobExec.getExecutionContext()
+				.get(JC_DELTA_KEYWORD_IDS);
+
+			return ids == null || ids.isEmpty()
+				? new FlowExecutionStatus(NO_DELTA_STATUS)
+				: FlowExecutionStatus.COMPLETED;
+		};
+	}
+}
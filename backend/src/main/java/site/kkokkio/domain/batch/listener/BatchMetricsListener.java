@@ -1,8 +1,16 @@
 package site.kkokkio.domain.batch.listener;
 
+import static site.kkokkio.domain.batch.context.BatchConstants.*;
 import static site.kkokkio.domain.batch.context.ExecutionContextKeys.*;
 import static site.kkokkio.domain.batch.context.MetricsKeys.*;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
@@ -17,13 +25,19 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import site.kkokkio.infra.common.metrics.HitRatioMetrics;
 
 @Component
 @RequiredArgsConstructor
 public class BatchMetricsListener implements StepExecutionListener, JobExecutionListener {
 
 	private final MeterRegistry meter;
+	private final HitRatioMetrics hitRatioMetrics;
+
+	// Job 이름 → 마지막 실행 상태
+	private final Map<String, LastRun> lastRuns = new ConcurrentHashMap<>();
 
 	@Value("${management.metrics.tags.application:trend-batch}")
 	private String application;
@@ -39,11 +53,17 @@ public class BatchMetricsListener implements StepExecutionListener, JobExecution
 		ExecutionContext ctx = stepExec.getExecutionContext();
 		JobParameters jp = stepExec.getJobExecution().getJobParameters();
 
+		// 파티션 워커 실행(workerStep:partitionN)은 스텝 이름과 파티션 태그로 나눠 기록
+		String stepName = stepExec.getStepName();
+		int separator = stepName.indexOf(PARTITION_SEPARATOR);
+		String partition = separator < 0 ? "none" : stepName.substring(separator + 1);
+
 		Tags base = Tags.of(
 			"application", application,
 			"instance", profile,
 			"job", je.getJobInstance().getJobName(),
-			"step", stepExec.getStepName()
+			"step", separator < 0 ? stepName : stepName.substring(0, separator),
+			"partition", partition
 		);
 
 		// Counter 기록
@@ -56,20 +76,56 @@ public class BatchMetricsListener implements StepExecutionListener, JobExecution
 		recordCounter(ctx, SC_VIDEO_API_FAIL, BATCH_VIDEO_API_FAIL_TOTAL, base);
 
 		recordCounter(ctx, SC_CACHE_SIZE, BATCH_CACHE_SIZE, base);
+		recordCounter(ctx, SC_TOP_POST_CACHED, BATCH_TOP_POST_CACHED, base);
+		recordCounter(ctx, SC_TRENDING_CREDITED, BATCH_TRENDING_CREDITED, base);
+
+		if (stepExec.getStartTime() != null) {
+			Duration elapsed = Duration.between(stepExec.getStartTime(), LocalDateTime.now());
+
+			// 스텝별 소요 시간 (파티션 워커 포함, partition 태그로 느린 파티션 확인)
+			Timer.builder(BATCH_STEP_DURATION)
+				.tags(base)
+				.tag("status", stepExec.getStatus().name())
+				.publishPercentileHistogram()
+				.register(meter)
+				.record(elapsed);
+		}
 
 		return stepExec.getExitStatus();
 	}
 
-	// Job 종료 : noPostNeeded 플래그 Gauge
+	// Job 종료 : 마지막 실행의 소요 시간 / 결과 / noPostNeeded 플래그, 실행 동안의 캐시 적중률 Gauge 갱신
 	@Override
 	public void afterJob(JobExecution jobExec) {
-		boolean skip = Boolean.TRUE.equals(jobExec.getExecutionContext().get(JC_NO_POST_NEEDED));
+		String jobName = jobExec.getJobInstance().getJobName();
+		lastRuns.computeIfAbsent(jobName, this::registerLastRunGauges).update(jobExec);
+		hitRatioMetrics.publishAll();
+	}
 
-		Gauge.builder(BATCH_NO_POST_NEEDED, () -> skip ? 1.0 : 0.0)
-			.tags("application", application,
-				"instance", System.getenv().getOrDefault("HOSTNAME", "local"),
-				"job", jobExec.getJobInstance().getJobName())
+	// Gauge 는 Job 마다 한 번만 등록하고, 이후 실행에서는 상태 객체의 값만 바꾼다
+	private LastRun registerLastRunGauges(String jobName) {
+		LastRun lastRun = new LastRun();
+		Tags tags = Tags.of(
+			"application", application,
+			"instance", System.getenv().getOrDefault("HOSTNAME", "local"),
+			"job", jobName
+		);
+		Gauge.builder(BATCH_NO_POST_NEEDED, lastRun, run -> run.noPostNeeded)
+			.tags(tags)
 			.register(meter);
+		Gauge.builder(BATCH_LAST_RUN_DURATION, lastRun, run -> run.durationSeconds)
+			.description("마지막 Job 실행 소요 시간 (초)")
+			.tags(tags)
+			.register(meter);
+		Gauge.builder(BATCH_LAST_RUN_SUCCESS, lastRun, run -> run.success)
+			.description("마지막 Job 실행 성공 여부 (COMPLETED=1)")
+			.tags(tags)
+			.register(meter);
+		Gauge.builder(BATCH_LAST_RUN_TIMESTAMP, lastRun, run -> run.finishedAtEpochSeconds)
+			.description("마지막 Job 종료 시각 (epoch 초)")
+			.tags(tags)
+			.register(meter);
+		return lastRun;
 	}
 
 	private void recordCounter(ExecutionContext ctx, String key, String name, Tags tags) {
@@ -81,4 +137,24 @@ public class BatchMetricsListener implements StepExecutionListener, JobExecution
 			counter.increment(number.doubleValue());
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Job 별 마지막 실행 상태 (Gauge 가 참조)
+	 */
+	private static class LastRun {
+		private volatile double durationSeconds;
+		private volatile double success;
+		private volatile double noPostNeeded;
+		private volatile double finishedAtEpochSeconds;
+
+		void update(JobExecution jobExec) {
+			LocalDateTime endTime = jobExec.getEndTime() != null ? jobExec.getEndTime() : LocalDateTime.now();
+			durationSeconds = jobExec.getStartTime() == null
+				? 0.0
+				: Duration.between(jobExec.getStartTime(), endTime).toMillis() / 1000.0;
+			success = jobExec.getStatus() == BatchStatus.COMPLETED ? 1.0 : 0.0;
+			noPostNeeded = Boolean.TRUE.equals(jobExec.getExecutionContext().get(JC_NO_POST_NEEDED)) ? 1.0 : 0.0;
+			finishedAtEpochSeconds = endTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+		}
+	}
+}
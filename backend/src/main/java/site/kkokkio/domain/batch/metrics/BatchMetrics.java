@@ -0,0 +1,76 @@
+package site.kkokkio.domain.batch.metrics;
+
+import static site.kkokkio.domain.batch.context.MetricsKeys.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import site.kkokkio.global.enums.Platform;
+
+/**
+ * 배치 구간별 소요 시간 기록기
+ * - 키워드 단위 처리 시간 : spring_batch_keyword_duration{stage, outcome}
+ * - 키워드당 수집 소스 수 : spring_batch_sources_per_keyword{platform}
+ * 외부 호출 1회 응답 시간은 ExternalCallMetrics, AI 제공자별 응답 시간은 AiSummaryPortRouter 가 ai.summary.latency 로 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchMetrics {
+	public static final String STAGE_NEWS_SEARCH = "news_search";
+	public static final String STAGE_VIDEO_SEARCH = "video_search";
+	public static final String STAGE_POST_GENERATION = "post_generation";
+
+	private static final String SUCCESS = "success";
+	private static final String FAILURE = "failure";
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 키워드 1건 처리 시간을 기록한다.
+	 */
+	public void recordKeyword(String stage, long elapsedNanos, boolean success) {
+		keywordTimer(stage, success ? SUCCESS : FAILURE).record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 키워드 1건 처리를 실행하며 소요 시간을 기록한다. 예외는 그대로 던진다.
+	 */
+	public <T> T recordKeyword(String stage, Supplier<T> work) {
+		long startedAt = System.nanoTime();
+		boolean success = false;
+		try {
+			T result = work.get();
+			success = true;
+			return result;
+		} finally {
+			recordKeyword(stage, System.nanoTime() - startedAt, success);
+		}
+	}
+
+	/**
+	 * 키워드 1건에서 수집한 소스 수를 기록한다.
+	 */
+	public void recordSourcesPerKeyword(Platform platform, int count) {
+		DistributionSummary.builder(BATCH_SOURCES_PER_KEYWORD)
+			.description("키워드당 수집 소스 수")
+			.tag("platform", platform.name())
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(count);
+	}
+
+	private Timer keywordTimer(String stage, String outcome) {
+		return Timer.builder(BATCH_KEYWORD_DURATION)
+			.description("키워드 단위 처리 시간")
+			.tag("stage", stage)
+			.tag("outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+}
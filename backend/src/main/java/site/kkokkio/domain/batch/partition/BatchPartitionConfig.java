@@ -0,0 +1,32 @@
+package site.kkokkio.domain.batch.partition;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BatchPartitionConfig {
+
+	@Value("${batch.partition.grid-size:4}")
+	private int gridSize;
+
+	/**
+	 * 파티션 워커 스텝 실행용 스레드 풀 (컨테이너가 종료 시 정리)
+	 * 파티션 수는 gridSize 를 넘지 않으므로 한 스텝의 파티션은 모두 동시에 실행된다.
+	 */
+	@Bean(name = "batchPartitionExecutor")
+	public TaskExecutor batchPartitionExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+		executor.setCorePoolSize(gridSize);
+		executor.setMaxPoolSize(gridSize);
+		executor.setQueueCapacity(100);
+		executor.setThreadNamePrefix("KK-Partition-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+
+		return executor;
+	}
+}
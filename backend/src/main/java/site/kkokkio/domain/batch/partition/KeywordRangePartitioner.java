@@ -0,0 +1,53 @@
+package site.kkokkio.domain.batch.partition;
+
+import static site.kkokkio.domain.batch.context.BatchConstants.*;
+import static site.kkokkio.domain.batch.context.ExecutionContextKeys.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 키워드 ID 목록을 순서대로 연속 구간으로 나누는 Partitioner
+ * - 파티션 수는 min(gridSize, 키워드 수)이고, 키워드가 없어도 빈 파티션 하나를 만들어 스텝 결과를 남긴다.
+ * - 각 파티션 StepExecutionContext 에 파티션 이름과 담당 키워드 ID 를 넣는다.
+ */
+public class KeywordRangePartitioner implements Partitioner {
+
+	private final List<Long> keywordIds;
+
+	public KeywordRangePartitioner(List<Long> keywordIds) {
+		this.keywordIds = keywordIds == null ? List.of() : keywordIds;
+	}
+
+	@Override
+	public Map<String, ExecutionContext> partition(int gridSize) {
+		int partitionCount = Math.max(1, Math.min(gridSize, keywordIds.size()));
+		int rangeSize = (keywordIds.size() + partitionCount - 1) / partitionCount;
+
+		Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+		for (int i = 0; i < partitionCount; i++) {
+			int from = Math.min(i * rangeSize, keywordIds.size());
+			int to = Math.min(from + rangeSize, keywordIds.size());
+
+			String name = PARTITION_PREFIX + i;
+			ExecutionContext ctx = new ExecutionContext();
+			ctx.putString(SC_PARTITION_NAME, name);
+			ctx.put(SC_PARTITION_KEYWORD_IDS, new ArrayList<>(keywordIds.subList(from, to)));
+			partitions.put(name, ctx);
+		}
+		return partitions;
+	}
+
+	/**
+	 * 파티션별 결과를 JobExecutionContext 에 겹치지 않게 담기 위한 키 (key:partitionN)
+	 */
+	public static String partitionedKey(String key, StepExecution stepExecution) {
+		return key + PARTITION_SEPARATOR + stepExecution.getExecutionContext().getString(SC_PARTITION_NAME);
+	}
+}
@@ -0,0 +1,62 @@
+package site.kkokkio.domain.batch.partition;
+
+import static site.kkokkio.domain.batch.context.BatchConstants.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.support.DefaultStepExecutionAggregator;
+import org.springframework.batch.core.partition.support.StepExecutionAggregator;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 파티션 결과 병합기
+ * - 읽기/쓰기 건수와 상태는 DefaultStepExecutionAggregator 로 합친다.
+ * - 모든 파티션이 완료되면 JobExecutionContext 의 파티션별 목록(listKey:partitionN)을 파티션 순서대로 이어 listKey 에 담는다.
+ *   재시작 시 이전 실행에서 완료된 파티션의 목록도 JobExecutionContext 에 남아 있으므로 함께 병합된다.
+ */
+public class PartitionResultAggregator implements StepExecutionAggregator {
+
+	private final StepExecutionAggregator delegate = new DefaultStepExecutionAggregator();
+	private final String listKey;
+	private final String countKey;
+
+	/**
+	 * @param countKey 병합된 목록 크기를 담을 키 (필요 없으면 null)
+	 */
+	public PartitionResultAggregator(String listKey, String countKey) {
+		this.listKey = listKey;
+		this.countKey = countKey;
+	}
+
+	@Override
+	public void aggregate(StepExecution result, Collection<StepExecution> executions) {
+		delegate.aggregate(result, executions);
+		if (executions.stream().anyMatch(execution -> execution.getStatus() != BatchStatus.COMPLETED)) {
+			return;
+		}
+
+		ExecutionContext jobEc = result.getJobExecution().getExecutionContext();
+		String prefix = listKey + PARTITION_SEPARATOR + PARTITION_PREFIX;
+		List<String> partitionKeys = jobEc.entrySet().stream()
+			.map(Map.Entry::getKey)
+			.filter(key -> key.startsWith(prefix))
+			.sorted(Comparator.comparingInt(key -> Integer.parseInt(key.substring(prefix.length()))))
+			.toList();
+
+		List<Object> merged = new ArrayList<>();
+		for (String key : partitionKeys) {
+			merged.addAll((Collection<?>)jobEc.get(key));
+			jobEc.remove(key);
+		}
+		jobEc.put(listKey, merged);
+		if (countKey != null) {
+			jobEc.putInt(countKey, merged.size());
+		}
+	}
+}
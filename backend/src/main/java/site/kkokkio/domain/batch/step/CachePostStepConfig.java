@@ -48,18 +48,18 @@ public class CachePostStepConfig {
 				@SuppressWarnings("unchecked")
 				List<Long> keywordIds = (List<Long>)jobEc.get(JC_POSTABLE_KEYWORD_IDS);
 
-				// 캐싱이 필요 없는 경우 빠른 종료
-				if (newPostIds == null || newPostIds.isEmpty()) {
-					stepEc.putInt(SC_CACHE_SIZE, 0);
-					return RepeatStatus.FINISHED;
+				// 1. 신규 포스트 카드 Redis 캐싱 (24h TTL)
+				int cached = 0;
+				if (newPostIds != null && !newPostIds.isEmpty()) {
+					cached = postService.cacheCardViews(newPostIds, keywordIds, Duration.ofHours(24));
 				}
 
-				// Redis 캐싱 (24h TTL)
-				int cached = postService.cacheCardViews(newPostIds, keywordIds, Duration.ofHours(24));
-
 				// StepExecutionContext 업데이트
 				stepEc.putInt(SC_CACHE_SIZE, cached);  // Gauge (batch_cache_size)
 
+				// 2. Top 포스트 목록 캐시 교체 (Redis POST_TOP + 로컬 스냅샷)
+				stepEc.putInt(SC_TOP_POST_CACHED, postService.refreshTopPostCache());
+
 				return RepeatStatus.FINISHED;
 			}, transactionManager)
 			.listener(err)
@@ -0,0 +1,46 @@
+package site.kkokkio.domain.batch.step;
+
+import static site.kkokkio.domain.batch.context.BatchConstants.*;
+import static site.kkokkio.domain.batch.context.ExecutionContextKeys.*;
+
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import lombok.RequiredArgsConstructor;
+import site.kkokkio.domain.batch.listener.BatchMetricsListener;
+import site.kkokkio.domain.batch.listener.LogStepListener;
+import site.kkokkio.domain.post.service.PostService;
+
+/**
+ * 이번 시간 Top 키워드 점수를 포스트 트렌딩 점수에 적립하는 Step
+ * - 시간당 한 번만 적립되도록 정각 전체 실행(trendToPostJob)에만 둔다. 증분 갱신 Job 은 cachePostStep 만 실행한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class CreditTrendingStepConfig {
+
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final PostService postService;
+	private final LogStepListener err;
+	private final BatchMetricsListener metrics;
+
+	@Bean(name = CREDIT_TRENDING_STEP)
+	public Step creditTrendingStep() {
+		return new StepBuilder(CREDIT_TRENDING_STEP, jobRepository)
+			.tasklet((contrib, ctx) -> {
+				int credited = postService.creditTopKeywordScores();
+				ctx.getStepContext().getStepExecution().getExecutionContext()
+					.putInt(SC_TRENDING_CREDITED, credited);
+				return RepeatStatus.FINISHED;
+			}, transactionManager)
+			.listener(err)
+			.listener(metrics)
+			.build();
+	}
+}
@@ -7,18 +7,24 @@ import java.util.List;
 
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import site.kkokkio.domain.batch.listener.BatchMetricsListener;
 import site.kkokkio.domain.batch.listener.LogStepListener;
+import site.kkokkio.domain.batch.partition.KeywordRangePartitioner;
+import site.kkokkio.domain.batch.partition.PartitionResultAggregator;
 import site.kkokkio.domain.keyword.dto.NoveltyStatsDto;
 import site.kkokkio.domain.keyword.service.KeywordMetricHourlyService;
 
@@ -32,32 +38,52 @@ public class EvaluateNoveltyStepConfig {
 	private final KeywordMetricHourlyService keywordMetricHourlyService;
 	private final LogStepListener err;
 	private final BatchMetricsListener metrics;
+	@Qualifier("batchPartitionExecutor")
+	private final TaskExecutor batchPartitionExecutor;
 
+	@Value("${batch.partition.grid-size:4}")
+	private int gridSize;
+
+	/**
+	 * Top 키워드를 구간별로 나눠 워커 스텝에서 동시에 신규성을 평가하고,
+	 * 파티션별 포스팅 대상 키워드를 키워드 순서대로 병합해 다음 Step 에 전달한다.
+	 */
 	@Bean(name = EVALUATE_NOVELTY_STEP)
 	public Step evalutateNoveltyStep() {
 		return new StepBuilder(EVALUATE_NOVELTY_STEP, jobRepository)
+			.partitioner(EVALUATE_NOVELTY_WORKER_STEP, noveltyPartitioner(null))
+			.step(evaluateNoveltyWorkerStep())
+			.gridSize(gridSize)
+			.taskExecutor(batchPartitionExecutor)
+			.aggregator(new PartitionResultAggregator(JC_POSTABLE_KEYWORD_IDS, JC_POSTABLE_KEYWORD_COUNT))
+			.listener(err)
+			.build();
+	}
+
+	@Bean(name = EVALUATE_NOVELTY_WORKER_STEP)
+	public Step evaluateNoveltyWorkerStep() {
+		return new StepBuilder(EVALUATE_NOVELTY_WORKER_STEP, jobRepository)
 			.tasklet((contrib, ctx) -> {
 
 				StepExecution se = ctx.getStepContext().getStepExecution();
 				ExecutionContext jobEc = se.getJobExecution().getExecutionContext();
 				ExecutionContext stepEc = se.getExecutionContext();
 
-				// Top-10 키워드 ID 가져오기
+				// 파티션이 담당하는 키워드 ID 가져오기
 				@SuppressWarnings("unchecked")
-				List<Long> topKeywordIds = (List<Long>)jobEc.get(JC_TOP_KEYWORD_IDS);
+				List<Long> keywordIds = (List<Long>)stepEc.get(SC_PARTITION_KEYWORD_IDS);
 
 				// 1) Novelty 계산 & keyword_metric_hourly UPDATE
-				NoveltyStatsDto ns = keywordMetricHourlyService.evaluateNovelty(topKeywordIds);
+				NoveltyStatsDto ns = keywordMetricHourlyService.evaluateNovelty(keywordIds);
 				int lowVarCnt = ns.lowVariationCount();
 
-				// 2) low_variation = false 인 키워드만 다음 Step 전달
-				jobEc.put(JC_POSTABLE_KEYWORD_IDS, ns.postableIds());
-				jobEc.putInt(JC_POSTABLE_KEYWORD_COUNT, ns.postableIds().size());
+				// 2) low_variation = false 인 키워드를 파티션별 키로 전달 (매니저 Step 에서 병합)
+				jobEc.put(KeywordRangePartitioner.partitionedKey(JC_POSTABLE_KEYWORD_IDS, se), ns.postableIds());
 
 				// 3) StepExecutionContext 업데이트
 				stepEc.putInt(SC_NOVELTY_SKIPPED, lowVarCnt);
 
-				log.info("Evaluate novelty step completed.");
+				log.info("Evaluate novelty partition completed. keywords={}", keywordIds.size());
 
 				return RepeatStatus.FINISHED;
 			}, transactionManager)
@@ -65,4 +91,11 @@ public class EvaluateNoveltyStepConfig {
 			.listener(metrics)
 			.build();
 	}
+
+	@Bean
+	@StepScope
+	public KeywordRangePartitioner noveltyPartitioner(
+		@Value("#{jobExecutionContext['" + JC_TOP_KEYWORD_IDS + "']}") List<Long> topKeywordIds) {
+		return new KeywordRangePartitioner(topKeywordIds);
+	}
 }
@@ -6,20 +6,28 @@ import static site.kkokkio.domain.batch.context.ExecutionContextKeys.*;
 import java.util.List;
 
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ExecutionContext;
-import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import site.kkokkio.domain.batch.listener.BatchMetricsListener;
 import site.kkokkio.domain.batch.listener.LogStepListener;
+import site.kkokkio.domain.batch.metrics.BatchMetrics;
+import site.kkokkio.domain.batch.partition.KeywordRangePartitioner;
+import site.kkokkio.domain.batch.partition.PartitionResultAggregator;
+import site.kkokkio.domain.post.dto.PostDraft;
+import site.kkokkio.domain.post.dto.PostGenerationTarget;
 import site.kkokkio.domain.post.service.PostService;
+import site.kkokkio.global.scheduler.BatchLeaderLock;
+import site.kkokkio.infra.common.exception.RetryableExternalApiException;
 
 @Slf4j
 @Configuration
@@ -31,33 +39,86 @@ public class GeneratePostStepConfig {
 	private final PostService postService;
 	private final LogStepListener err;
 	private final BatchMetricsListener metrics;
+	private final BatchMetrics batchMetrics;
+	private final BatchLeaderLock batchLeaderLock;
+	@Qualifier("batchPartitionExecutor")
+	private final TaskExecutor batchPartitionExecutor;
 
-	@Bean(name = GENERATE_POST_STEP)
-	public Step generatePostStep() {
-		return new StepBuilder(GENERATE_POST_STEP, jobRepository)
-			.tasklet((contrib, ctx) -> {
+	@Value("${batch.partition.grid-size:4}")
+	private int gridSize;
 
-				StepExecution se = ctx.getStepContext().getStepExecution();
-				ExecutionContext jobEc = se.getJobExecution().getExecutionContext();
-				ExecutionContext stepEc = se.getExecutionContext();
+	@Value("${batch.generate-post.commit-interval:1}")
+	private int commitInterval;
 
-				// 대상 키워드(id) 목록
-				@SuppressWarnings("unchecked")
-				List<Long> ids = (List<Long>)jobEc.get(JC_POSTABLE_KEYWORD_IDS);
+	@Value("${batch.generate-post.retry-limit:2}")
+	private int retryLimit;
 
-				// Post 생성 (신규 Source ↔ LLM 요약)
-				List<Long> newPostIds = postService.generatePosts(ids);
-				int created = ids.isEmpty() ? 0 : newPostIds.size();
+	@Value("${batch.generate-post.skip-limit:10}")
+	private int skipLimit;
 
-				// StepExecutionContext 업데이트
-				jobEc.put(JC_NEW_POST_IDS, newPostIds);
-				stepEc.putInt(SC_POST_CREATED, created);          // Counter
+	/**
+	 * 포스팅 대상 키워드를 구간별로 나눠 워커 스텝에서 동시에 포스트를 생성하고,
+	 * 파티션별 신규 포스트 ID 를 키워드 순서대로 병합해 캐싱 Step 에 전달한다.
+	 * 재시작 시 완료된 파티션은 다시 실행하지 않는다. (이미 커밋된 포스트 중복 생성 방지)
+	 */
+	@Bean(name = GENERATE_POST_STEP)
+	public Step generatePostStep() {
+		return new StepBuilder(GENERATE_POST_STEP, jobRepository)
+			.partitioner(GENERATE_POST_WORKER_STEP, generatePostPartitioner(null))
+			.step(generatePostWorkerStep())
+			.gridSize(gridSize)
+			.taskExecutor(batchPartitionExecutor)
+			.aggregator(new PartitionResultAggregator(JC_NEW_POST_IDS, null))
+			.listener(err)
+			.build();
+	}
 
-				return RepeatStatus.FINISHED;
-			}, transactionManager)
+	/**
+	 * 키워드 단위 청크 스텝: 대상 조회(Reader) → AI 요약(Processor) → 포스트/연관 관계 저장(Writer)
+	 * - AI 요약(Processor) 소요 시간은 키워드마다 spring_batch_keyword_duration{stage=post_generation} 로 기록한다.
+	 * - Processor 는 키워드 한 건씩 순서대로 AI 요약을 요청하므로(commitInterval=1 이면 커밋도 한 건씩), 키워드별 요약의 동시 요청 수는
+	 *   파티션 수(gridSize)다. ai.summary.concurrency 는 Reader 가 미리 보내는 일괄 요약(prefetchSummaries)에만 적용된다.
+	 * - commitInterval 개 키워드마다 커밋하고, 실패 후 재시작하면 마지막으로 커밋된 키워드 다음부터 진행한다.
+	 * - 재시도 가능한 외부 API 오류는 retryLimit 회까지 재시도하고, 그래도 실패한 키워드는 skipLimit 개까지 건너뛴다.
+	 * - 커넥션은 첫 SQL 실행 시점에 얻으므로(provider_disables_autocommit) AI 요약을 기다리는 동안 잡지 않는다.
+	 */
+	@Bean(name = GENERATE_POST_WORKER_STEP)
+	public Step generatePostWorkerStep() {
+		return new StepBuilder(GENERATE_POST_WORKER_STEP, jobRepository)
+			.<PostGenerationTarget, PostDraft>chunk(commitInterval, transactionManager)
+			.reader(postGenerationTargetReader(null))
+			.processor(target -> batchMetrics.recordKeyword(BatchMetrics.STAGE_POST_GENERATION,
+				() -> postService.draftPost(target)))
+			.writer(generatedPostWriter())
+			.faultTolerant()
+			.retry(RetryableExternalApiException.class)
+			.retryLimit(retryLimit)
+			.skip(RetryableExternalApiException.class)
+			.skipLimit(skipLimit)
+			// 재시도로 청크를 다시 처리할 때 이미 받은 요약은 다시 요청하지 않는다
+			.processorNonTransactional()
 			.listener(err)
 			.listener(metrics)
-			.allowStartIfComplete(true)
 			.build();
 	}
+
+	@Bean
+	@StepScope
+	public KeywordRangePartitioner generatePostPartitioner(
+		@Value("#{jobExecutionContext['" + JC_POSTABLE_KEYWORD_IDS + "']}") List<Long> keywordIds) {
+		return new KeywordRangePartitioner(keywordIds);
+	}
+
+	@Bean
+	@StepScope
+	public PostGenerationTargetReader postGenerationTargetReader(
+		@Value("#{stepExecutionContext['" + SC_PARTITION_KEYWORD_IDS + "']}") List<Long> keywordIds) {
+		return new PostGenerationTargetReader(postService, keywordIds);
+	}
+
+	@Bean
+	@StepScope
+	public GeneratedPostWriter generatedPostWriter() {
+		return new GeneratedPostWriter(postService, batchLeaderLock);
+	}
 }
@@ -0,0 +1,79 @@
+package site.kkokkio.domain.batch.step;
+
+import static site.kkokkio.domain.batch.context.ExecutionContextKeys.*;
+import static site.kkokkio.domain.batch.context.JobParameterKeys.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+
+import lombok.RequiredArgsConstructor;
+import site.kkokkio.domain.batch.partition.KeywordRangePartitioner;
+import site.kkokkio.domain.post.dto.PostDraft;
+import site.kkokkio.domain.post.service.PostService;
+import site.kkokkio.global.scheduler.BatchLeaderLock;
+
+/**
+ * 포스트 초안 Writer
+ * - 청크 단위로 포스트와 연관 관계를 저장하고, 생성된 포스트 ID를 StepExecutionContext 에 누적한다.
+ * - 파티션이 완료되면 누적된 ID를 JobExecutionContext 에 파티션별 키로 올리고, 매니저 스텝이 병합해 캐싱 스텝에 넘긴다.
+ * - 배치 리더 lease 로 실행된 경우 저장 직전에 fencing token 을 확인해, lease 가 만료되어 밀려난 노드는 포스트를 저장하지 않는다.
+ */
+@RequiredArgsConstructor
+public class GeneratedPostWriter implements ItemWriter<PostDraft>, StepExecutionListener {
+
+	private final PostService postService;
+	private final BatchLeaderLock batchLeaderLock;
+
+	private ExecutionContext stepEc;
+	private List<Long> newPostIds;
+	private String leaseName;
+	private Long fencingToken;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void beforeStep(StepExecution stepExecution) {
+		stepEc = stepExecution.getExecutionContext();
+		// 재시작 시 이전 실행에서 커밋된 포스트 ID 이어받기
+		List<Long> committed = (List<Long>)stepEc.get(JC_NEW_POST_IDS);
+		newPostIds = committed == null ? new ArrayList<>() : new ArrayList<>(committed);
+		leaseName = stepExecution.getJobParameters().getString(JP_LEASE_NAME,
+			stepExecution.getJobExecution().getJobInstance().getJobName());
+		fencingToken = stepExecution.getJobParameters().getLong(JP_FENCING_TOKEN);
+	}
+
+	@Override
+	public void write(Chunk<? extends PostDraft> chunk) {
+		// 청크 전체가 스킵된 경우
+		if (chunk.isEmpty()) {
+			return;
+		}
+		// 다른 노드가 lease 를 다시 받았다면 중복 포스트가 되므로 저장하지 않고 실패 처리
+		if (fencingToken != null && !batchLeaderLock.isCurrent(leaseName, fencingToken)) {
+			throw new IllegalStateException(
+				"배치 리더 lease 가 만료되었습니다. lease=" + leaseName + ", fencingToken=" + fencingToken);
+		}
+		newPostIds.addAll(postService.savePostDrafts(chunk.getItems()));
+
+		// 청크 커밋과 함께 저장되도록 StepExecutionContext 갱신
+		stepEc.put(JC_NEW_POST_IDS, new ArrayList<>(newPostIds));
+		stepEc.putInt(SC_POST_CREATED, newPostIds.size());
+	}
+
+	@Override
+	public ExitStatus afterStep(StepExecution stepExecution) {
+		if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+			stepEc.putInt(SC_POST_CREATED, newPostIds.size());          // Counter
+			stepExecution.getJobExecution().getExecutionContext()
+				.put(KeywordRangePartitioner.partitionedKey(JC_NEW_POST_IDS, stepExecution), new ArrayList<>(newPostIds));
+		}
+		return null;
+	}
+}
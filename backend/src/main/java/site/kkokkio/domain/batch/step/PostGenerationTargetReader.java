@@ -0,0 +1,73 @@
+package site.kkokkio.domain.batch.step;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.ItemStreamSupport;
+
+import lombok.extern.slf4j.Slf4j;
+import site.kkokkio.domain.post.dto.PostGenerationTarget;
+import site.kkokkio.domain.post.service.PostService;
+
+/**
+ * 포스트 생성 대상 키워드 Reader
+ * - JobExecutionContext 의 키워드 ID 순서대로 읽고, 다음에 읽을 위치를 StepExecutionContext 에 저장한다.
+ * - 재시작 시 마지막으로 커밋된 키워드 다음부터 남은 키워드의 대상만 다시 조회한다.
+ * - 조회한 대상의 AI 요약은 일괄 요청으로 미리 요약 캐시에 채워 둔다.
+ */
+@Slf4j
+public class PostGenerationTargetReader extends ItemStreamSupport implements ItemStreamReader<PostGenerationTarget> {
+	private static final String NEXT_INDEX = "nextIndex";
+
+	private final PostService postService;
+	private final List<Long> keywordIds;
+
+	private Map<Long, PostGenerationTarget> targets = Map.of();
+	private int nextIndex;
+
+	public PostGenerationTargetReader(PostService postService, List<Long> keywordIds) {
+		this.postService = postService;
+		this.keywordIds = keywordIds == null ? List.of() : keywordIds;
+		setName("postGenerationTargetReader");
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) {
+		nextIndex = executionContext.getInt(getExecutionContextKey(NEXT_INDEX), 0);
+		if (nextIndex >= keywordIds.size()) {
+			return;
+		}
+		if (nextIndex > 0) {
+			log.info("포스트 생성 재시작 → {}번째 키워드부터 진행", nextIndex);
+		}
+
+		// 남은 키워드의 대상과 소스를 한 번에 조회 (청크 트랜잭션 밖)
+		List<PostGenerationTarget> found = postService.findGenerationTargets(
+			keywordIds.subList(nextIndex, keywordIds.size()));
+		targets = found.stream()
+			.collect(Collectors.toMap(PostGenerationTarget::keywordId, Function.identity(), (a, b) -> a));
+
+		// 요약이 필요한 대상을 묶어서 한 번에 요약해 캐시를 채운다 (키워드별 Processor 는 캐시 적중 시 AI 를 호출하지 않는다)
+		postService.prefetchSummaries(found);
+	}
+
+	@Override
+	public PostGenerationTarget read() {
+		while (nextIndex < keywordIds.size()) {
+			PostGenerationTarget target = targets.get(keywordIds.get(nextIndex++));
+			if (target != null) {
+				return target;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) {
+		executionContext.putInt(getExecutionContextKey(NEXT_INDEX), nextIndex);
+	}
+}
@@ -3,6 +3,8 @@ package site.kkokkio.domain.batch.step;
 import static site.kkokkio.domain.batch.context.BatchConstants.*;
 import static site.kkokkio.domain.batch.context.ExecutionContextKeys.*;
 
+import java.util.List;
+
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
@@ -37,10 +39,23 @@ public class SearchNewsStepConfig {
 
 				ExecutionContext stepEc = ctx.getStepContext().getStepExecution().getExecutionContext();
 
-				SearchStatsDto stat = sourceService.searchNews();
+				@SuppressWarnings("unchecked")
+				List<Long> deltaKeywordIds = (List<Long>)ctx.getStepContext()
+					.getStepExecution()
+					.getJobExecution()
+					.getExecutionContext()
+					.get(JC_DELTA_KEYWORD_IDS);
+
+				// 증분 갱신이면 변경된 키워드만, 아니면 최신 Top10 검색
+				SearchStatsDto stat = deltaKeywordIds == null
+					? sourceService.searchNews()
+					: sourceService.searchNews(deltaKeywordIds);
 
 				stepEc.putInt(SC_NEWS_FETCHED, stat.fetched());
 				stepEc.putInt(SC_NEWS_API_FAIL, stat.failed());
+				stepEc.putString(SC_NEWS_FAILED_KEYWORDS, String.join(",", stat.failedKeywords()));
+				// 키워드별 검색을 병렬로 실행하므로 스텝 소요 시간은 가장 느린 키워드에 근접한다
+				stepEc.putLong(SC_NEWS_MAX_LATENCY_MS, stat.maxLatencyMs());
 
 				return RepeatStatus.FINISHED;
 			}, transactionManager)
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -22,14 +23,18 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import site.kkokkio.domain.comment.controller.dto.CommentCursorListResponse;
 import site.kkokkio.domain.comment.controller.dto.CommentReportRequest;
 import site.kkokkio.domain.comment.controller.dto.ReportedCommentHideRequest;
 import site.kkokkio.domain.comment.controller.dto.ReportedCommentListResponse;
+import site.kkokkio.domain.comment.dto.CommentDto;
 import site.kkokkio.domain.comment.dto.ReportedCommentSummary;
 import site.kkokkio.domain.comment.service.CommentService;
 import site.kkokkio.global.auth.CustomUserDetails;
 import site.kkokkio.global.auth.annotations.IsActiveMember;
 import site.kkokkio.global.auth.annotations.IsAdmin;
+import site.kkokkio.global.dto.Cursor;
+import site.kkokkio.global.dto.CursorSlice;
 import site.kkokkio.global.dto.RsData;
 import site.kkokkio.global.exception.doc.ApiErrorCodeExamples;
 import site.kkokkio.global.exception.doc.ErrorCode;
@@ -41,6 +46,29 @@ import site.kkokkio.global.exception.doc.ErrorCode;
 public class CommentControllerV2 {
 	private final CommentService commentService;
 
+	@Operation(
+		summary = "댓글 목록 조회 (커서)",
+		description = "최신순 댓글 목록을 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다."
+	)
+	@ApiErrorCodeExamples({ErrorCode.POST_NOT_FOUND_3, ErrorCode.BAD_CURSOR, ErrorCode.BAD_CURSOR_SIZE})
+	@GetMapping("/posts/{postId}/comments")
+	public RsData<CommentCursorListResponse> getCommentList(
+		@PathVariable("postId") Long postId,
+		@AuthenticationPrincipal UserDetails userDetails,
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+		@RequestParam(value = "cursor", required = false) String cursor,
+		@Parameter(description = "조회 크기 (최대 " + Cursor.MAX_SIZE + ")")
+		@RequestParam(value = "size", defaultValue = "" + Cursor.DEFAULT_SIZE) int size
+	) {
+		CursorSlice<CommentDto> comments = commentService.getCommentSliceByPostId(postId, userDetails, cursor, size);
+
+		return new RsData<>(
+			"200",
+			"댓글 목록 조회 완료",
+			CommentCursorListResponse.from(comments)
+		);
+	}
+
 	@Operation(
 		summary = "댓글 신고",
 		description = "댓글을 신고하는 기능입니다."
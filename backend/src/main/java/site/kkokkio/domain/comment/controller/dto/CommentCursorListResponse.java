@@ -0,0 +1,21 @@
+package site.kkokkio.domain.comment.controller.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import site.kkokkio.domain.comment.dto.CommentDto;
+import site.kkokkio.global.dto.CursorMeta;
+import site.kkokkio.global.dto.CursorSlice;
+
+@Builder
+public record CommentCursorListResponse(
+	List<CommentDto> list,
+	CursorMeta meta
+) {
+	public static CommentCursorListResponse from(CursorSlice<CommentDto> comments) {
+		return CommentCursorListResponse.builder()
+			.list(comments.list())
+			.meta(comments.meta())
+			.build();
+	}
+}
@@ -51,4 +51,9 @@ public record CommentDto(
 			.createdAt(comment.getCreatedAt())
 			.build();
 	}
+
+	public CommentDto withLikeCount(Integer likeCount) {
+		return new CommentDto(commentId, memberId, profileUrl, nickname, body, likeCount, likedByMe, reportedByMe,
+			createdAt);
+	}
 }
@@ -32,8 +32,9 @@ public class Comment extends BaseTimeEntity {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String body;
 
+	// 증감은 CommentLikeCounter 의 배치 UPDATE 로만 반영 (엔티티 저장 시 덮어쓰지 않음)
 	@Builder.Default
-    @Column(name = "like_count", nullable = false)
+    @Column(name = "like_count", nullable = false, updatable = false)
     private int likeCount = 0;
 
 	@Builder.Default
@@ -60,14 +61,6 @@ public class Comment extends BaseTimeEntity {
 		this.body = body;
 	}
 
-	public void increaseLikeCount() {
-		this.likeCount++;
-	}
-
-	public void decreaseLikeCount() {
-		this.likeCount--;
-	}
-
     // 신고 카운트를 증가시키는 메서드
     public void increaseReportCount() { this.reportCount++; }
 }
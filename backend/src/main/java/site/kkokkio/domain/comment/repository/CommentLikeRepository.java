@@ -1,6 +1,13 @@
 package site.kkokkio.domain.comment.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import site.kkokkio.domain.comment.entity.Comment;
@@ -11,5 +18,20 @@ import site.kkokkio.domain.member.entity.Member;
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
 	Boolean existsByCommentAndMember(Comment comment, Member member);
 
-	void deleteByCommentAndMember(Comment comment, Member member);
+	// 유니크 키 (comment_id, member_id) 로 중복 좋아요를 무시하고, 실제 추가된 행 수를 반환
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO comment_like (comment_id, member_id, created_at, updated_at)
+		VALUES (:commentId, :memberId, NOW(), NOW())
+		""", nativeQuery = true)
+	int insertIgnore(@Param("commentId") Long commentId, @Param("memberId") UUID memberId);
+
+	// 실제 삭제된 행 수를 반환 (0이면 좋아요하지 않은 상태)
+	@Modifying
+	@Query("DELETE FROM CommentLike cl WHERE cl.comment.id = :commentId AND cl.member.id = :memberId")
+	int deleteByCommentIdAndMemberId(@Param("commentId") Long commentId, @Param("memberId") UUID memberId);
+
+	// 회원이 좋아요한 댓글 ID 목록 (댓글 페이지 단위 일괄 조회)
+	@Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.member.email = :email AND cl.comment.id IN :commentIds")
+	List<Long> findLikedCommentIds(@Param("email") String email, @Param("commentIds") Collection<Long> commentIds);
 }
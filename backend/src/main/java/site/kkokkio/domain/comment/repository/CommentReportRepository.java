@@ -1,6 +1,7 @@
 package site.kkokkio.domain.comment.repository;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +21,10 @@ public interface CommentReportRepository extends JpaRepository<CommentReport, Lo
 	// 특정 사용자가 특정 댓글을 이미 신고했는지 확인하는 메서드
 	boolean existsByCommentAndReporter(Comment comment, Member reporter);
 
+	// 회원이 신고한 댓글 ID 목록 (댓글 페이지 단위 일괄 조회)
+	@Query("SELECT cr.comment.id FROM CommentReport cr WHERE cr.reporter.email = :email AND cr.comment.id IN :commentIds")
+	List<Long> findReportedCommentIds(@Param("email") String email, @Param("commentIds") Collection<Long> commentIds);
+
 	// 관리자용 신고된 댓글 목록 집계 조회 메서드
 	@Query(value = """
 		SELECT
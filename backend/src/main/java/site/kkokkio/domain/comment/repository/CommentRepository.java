@@ -1,9 +1,11 @@
 package site.kkokkio.domain.comment.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -22,4 +24,29 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
 	@Query("SELECT c FROM Comment c JOIN FETCH c.member WHERE c.id = :id")
 	Optional<Comment> findByIdWithMember(@Param("id") Long id);
+
+	// 키셋 페이지네이션 첫 페이지 (COUNT 없이 size + 1건 조회)
+	@EntityGraph(attributePaths = {"member"})
+	@Query("""
+		SELECT c FROM Comment c
+		WHERE c.post.id = :postId
+			AND c.deletedAt IS NULL
+		ORDER BY c.createdAt DESC, c.id DESC
+		""")
+	Slice<Comment> findSliceByPostId(@Param("postId") Long postId, Pageable pageable);
+
+	// 키셋 페이지네이션 다음 페이지 - 커서 (createdAt, id) 이전 댓글부터 조회
+	@EntityGraph(attributePaths = {"member"})
+	@Query("""
+		SELECT c FROM Comment c
+		WHERE c.post.id = :postId
+			AND c.deletedAt IS NULL
+			AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+		ORDER BY c.createdAt DESC, c.id DESC
+		""")
+	Slice<Comment> findSliceByPostIdAfterCursor(
+		@Param("postId") Long postId,
+		@Param("createdAt") LocalDateTime createdAt,
+		@Param("id") Long id,
+		Pageable pageable);
 }
@@ -0,0 +1,204 @@
+package site.kkokkio.domain.comment.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 댓글 좋아요 수 write-behind 카운터
+ * - 좋아요 여부의 원본은 comment_like 행이고, 이 카운터는 comment.like_count 반영 전 증감분만 보관한다.
+ * - 요청 스레드는 댓글별 LongAdder에만 더하고, 주기적으로 모인 증감분을 배치 UPDATE 한 번으로 반영한다.
+ * - 조회 값(DB 값 + 대기 + 반영 중)이 줄어들거나 두 번 더해지지 않도록,
+ *   대기 → 반영 중 이동과 커밋 → 반영 중 비우기를 각각 쓰기 잠금 한 구간에서 처리한다. 적립은 잠금을 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentLikeCounter {
+	static final String FLUSH_SQL = "UPDATE comment SET like_count = like_count + ? WHERE comment_id = ?";
+	// 증감이 없는 댓글 카운터를 정리하기까지의 유휴 시간
+	private static final long IDLE_EVICT_MILLIS = 60_000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	// 아직 반영되지 않은 댓글별 증감분
+	private final Map<Long, Slot> pending = new ConcurrentHashMap<>();
+	// 반영 중인 증감분 (커밋 전까지 조회 값에 포함). 완성된 맵으로만 교체한다.
+	private volatile Map<Long, Long> inFlight = Map.of();
+	// 조회는 낙관적 읽기, 반영 중 스냅샷 교체만 쓰기 잠금
+	private final StampedLock snapshotLock = new StampedLock();
+
+	/**
+	 * 증감분을 적립한다.
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 적립해, 롤백된 좋아요가 집계되지 않도록 한다.
+	 */
+	public void add(Long commentId, long delta) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					accumulate(commentId, delta);
+				}
+			});
+			return;
+		}
+		accumulate(commentId, delta);
+	}
+
+	/**
+	 * like_count 에 아직 반영되지 않은 증감분 (대기 + 반영 중)
+	 */
+	public long pendingDelta(Long commentId) {
+		long stamp = snapshotLock.tryOptimisticRead();
+		long delta = readDelta(commentId);
+		if (!snapshotLock.validate(stamp)) {
+			stamp = snapshotLock.readLock();
+			try {
+				delta = readDelta(commentId);
+			} finally {
+				snapshotLock.unlockRead(stamp);
+			}
+		}
+		return delta;
+	}
+
+	/**
+	 * 모인 증감분을 comment.like_count 에 배치 UPDATE 로 반영한다.
+	 * 실패한 증감분은 다시 적립해 다음 주기에 재시도한다.
+	 */
+	@Scheduled(fixedDelayString = "${comment.like.flush-interval-ms:1000}")
+	public synchronized void flush() {
+		// 1. 댓글별 카운터를 비우고, 다 모은 증감분을 반영 중 스냅샷으로 한 번에 교체
+		Map<Long, Long> deltas;
+		long stamp = snapshotLock.writeLock();
+		try {
+			deltas = drain();
+			inFlight = deltas;
+		} finally {
+			snapshotLock.unlockWrite(stamp);
+		}
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		// 2. 배치 UPDATE 커밋과 반영 중 스냅샷 비우기를 같은 쓰기 잠금 구간에서 처리
+		//    (조회 스레드는 DB 값과 반영 중 증감분을 동시에 보거나 둘 다 못 보는 일이 없다)
+		List<Object[]> batchArgs = deltas.entrySet().stream()
+			.map(entry -> new Object[] {entry.getValue(), entry.getKey()})
+			.toList();
+		stamp = snapshotLock.writeLock();
+		try {
+			transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+			log.debug("댓글 좋아요 수 반영 완료. comments={}", deltas.size());
+		} catch (DataAccessException | TransactionException e) {
+			log.warn("댓글 좋아요 수 반영 실패 → 다음 주기에 재시도. comments={}", deltas.size(), e);
+			deltas.forEach(this::accumulate);
+		} finally {
+			inFlight = Map.of();
+			snapshotLock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * 종료 시 남은 증감분을 반영한다.
+	 */
+	@PreDestroy
+	public void drainOnShutdown() {
+		flush();
+	}
+
+	/**
+	 * 정리 중(closed)인 카운터에 더하지 못하면 새 카운터를 만들어 다시 더한다.
+	 */
+	private void accumulate(Long commentId, long delta) {
+		while (true) {
+			Slot slot = pending.computeIfAbsent(commentId, id -> new Slot());
+			if (slot.tryAdd(delta)) {
+				return;
+			}
+			pending.remove(commentId, slot);
+		}
+	}
+
+	private long readDelta(Long commentId) {
+		Slot slot = pending.get(commentId);
+		long delta = slot == null ? 0 : slot.delta.sum();
+		return delta + inFlight.getOrDefault(commentId, 0L);
+	}
+
+	/**
+	 * 카운터를 맵에서 제거하지 않고 sumThenReset 으로 비워, 동시에 더해진 증가분이 유실되지 않도록 한다.
+	 * 오래 증감이 없던 카운터만 닫은 뒤 정리하고, 닫기 직전에 더해진 증감분도 함께 옮긴다.
+	 */
+	private Map<Long, Long> drain() {
+		Map<Long, Long> deltas = new HashMap<>();
+		long now = System.currentTimeMillis();
+		for (Map.Entry<Long, Slot> entry : pending.entrySet()) {
+			Slot slot = entry.getValue();
+			long delta = slot.delta.sumThenReset();
+			if (delta == 0 && now - slot.lastActiveAtMillis > IDLE_EVICT_MILLIS) {
+				delta = slot.close();
+				pending.remove(entry.getKey(), slot);
+			}
+			if (delta != 0) {
+				deltas.merge(entry.getKey(), delta, Long::sum);
+				slot.lastActiveAtMillis = now;
+			}
+		}
+		return Map.copyOf(deltas);
+	}
+
+	private static final class Slot {
+		private final LongAdder delta = new LongAdder();
+		// 더하는 중인 스레드 수. 닫을 때 이 값이 0 이 될 때까지 기다린다.
+		private final AtomicInteger writers = new AtomicInteger();
+		private volatile boolean closed;
+		// flush 스레드만 갱신
+		private long lastActiveAtMillis = System.currentTimeMillis();
+
+		/**
+		 * 닫힌 카운터면 false. closed 확인과 더하기 사이에 닫히더라도 close() 가 writers 를 기다리므로 유실되지 않는다.
+		 */
+		boolean tryAdd(long value) {
+			writers.incrementAndGet();
+			try {
+				if (closed) {
+					return false;
+				}
+				delta.add(value);
+				return true;
+			} finally {
+				writers.decrementAndGet();
+			}
+		}
+
+		/**
+		 * 새 적립을 막고, 진행 중인 적립이 끝난 뒤 남은 증감분을 반환한다.
+		 */
+		long close() {
+			closed = true;
+			while (writers.get() != 0) {
+				Thread.onSpinWait();
+			}
+			return delta.sumThenReset();
+		}
+	}
+}
@@ -1,12 +1,16 @@
 package site.kkokkio.domain.comment.service;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -18,7 +22,6 @@ import site.kkokkio.domain.comment.controller.dto.CommentReportRequest;
 import site.kkokkio.domain.comment.dto.CommentDto;
 import site.kkokkio.domain.comment.dto.ReportedCommentSummary;
 import site.kkokkio.domain.comment.entity.Comment;
-import site.kkokkio.domain.comment.entity.CommentLike;
 import site.kkokkio.domain.comment.entity.CommentReport;
 import site.kkokkio.domain.comment.repository.CommentLikeRepository;
 import site.kkokkio.domain.comment.repository.CommentReportRepository;
@@ -27,6 +30,10 @@ import site.kkokkio.domain.member.entity.Member;
 import site.kkokkio.domain.member.service.MemberService;
 import site.kkokkio.domain.post.entity.Post;
 import site.kkokkio.domain.post.repository.PostRepository;
+import site.kkokkio.domain.post.service.PostTrendingService;
+import site.kkokkio.domain.post.service.PostTrendingService.TrendingEvent;
+import site.kkokkio.global.dto.Cursor;
+import site.kkokkio.global.dto.CursorSlice;
 import site.kkokkio.global.enums.ReportProcessingStatus;
 import site.kkokkio.global.enums.ReportReason;
 import site.kkokkio.global.exception.ServiceException;
@@ -40,28 +47,44 @@ public class CommentService {
 	private final CommentLikeRepository commentLikeRepository;
 	private final CommentReportRepository commentReportRepository;
 	private final MemberService memberService;
+	private final CommentLikeCounter commentLikeCounter;
+	private final PostTrendingService postTrendingService;
 
+	@Transactional(readOnly = true)
 	public Page<CommentDto> getCommentListByPostId(Long postId, UserDetails userDetails, Pageable pageable) {
 		Post post = postRepository.findById(postId)
 			.orElseThrow(() -> new ServiceException("404", "존재하지 않는 포스트입니다."));
 
-		if (userDetails == null) {
-			return commentRepository.findAllByPostAndDeletedAtIsNull(post, pageable)
-				.map(comment -> CommentDto.from(comment, null, null));
-		}
+		Page<Comment> comments = commentRepository.findAllByPostAndDeletedAtIsNull(post, pageable);
 
-		Member member = memberService.findByEmail(userDetails.getUsername());
-		return commentRepository.findAllByPostAndDeletedAtIsNull(post, pageable)
-			.map(comment -> CommentDto.from(
-				comment, isLikedByMe(comment, member), isReportedByMe(comment, member)));
+		return comments.map(commentDtoMapper(comments.getContent(), userDetails));
 	}
 
-	private Boolean isLikedByMe(Comment comment, Member member) {
-		return commentLikeRepository.existsByCommentAndMember(comment, member);
-	}
+	/**
+	 * 댓글 목록 키셋(커서) 조회 - 최신순, COUNT 쿼리 없음
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+	 */
+	@Transactional(readOnly = true)
+	public CursorSlice<CommentDto> getCommentSliceByPostId(
+		Long postId, UserDetails userDetails, String cursor, int size
+	) {
+		if (!postRepository.existsById(postId)) {
+			throw new ServiceException("404", "존재하지 않는 포스트입니다.");
+		}
 
-	private Boolean isReportedByMe(Comment comment, Member member) {
-		return commentReportRepository.existsByCommentAndReporter(comment, member);
+		Pageable pageable = Cursor.sliceRequest(size);
+		Slice<Comment> comments;
+		if (cursor == null || cursor.isBlank()) {
+			comments = commentRepository.findSliceByPostId(postId, pageable);
+		} else {
+			Cursor after = Cursor.decode(cursor);
+			comments = commentRepository.findSliceByPostIdAfterCursor(postId, after.createdAt(), after.id(), pageable);
+		}
+
+		List<CommentDto> commentDtos = comments.getContent().stream()
+			.map(commentDtoMapper(comments.getContent(), userDetails))
+			.toList();
+		return CursorSlice.of(comments, commentDtos, comment -> new Cursor(comment.getCreatedAt(), comment.getId()));
 	}
 
 	@Transactional
@@ -77,7 +100,11 @@ public class CommentService {
 			.body(request.body())
 			.build();
 
-		return CommentDto.from(commentRepository.save(comment));
+		Comment saved = commentRepository.save(comment);
+		// 커밋 이후 포스트 트렌딩 점수에 적립
+		postTrendingService.record(TrendingEvent.COMMENT, postId);
+
+		return CommentDto.from(saved);
 	}
 
 	@Transactional
@@ -88,7 +115,7 @@ public class CommentService {
 		comment.updateBody(request.body());
 		commentRepository.save(comment);
 
-		return CommentDto.from(comment);
+		return CommentDto.from(comment).withLikeCount(currentLikeCount(comment));
 	}
 
 	@Transactional
@@ -111,20 +138,17 @@ public class CommentService {
 			throw new ServiceException("403", "본인 댓글은 좋아요 할 수 없습니다.");
 		}
 
-		if (commentLikeRepository.existsByCommentAndMember(comment, member)) {
+		// 1. 좋아요 행 INSERT IGNORE - 유니크 키가 중복 좋아요를 막으므로 선조회하지 않는다
+		if (commentLikeRepository.insertIgnore(comment.getId(), member.getId()) == 0) {
 			throw new ServiceException("400", "이미 좋아요를 누른 댓글입니다.");
 		}
 
-		CommentLike commentLike = CommentLike.builder()
-			.comment(comment)
-			.member(member)
-			.build();
-		commentLikeRepository.save(commentLike);
+		// 2. 좋아요 수는 행 잠금 없이 카운터에 적립 후 주기적으로 일괄 반영
+		int likeCount = currentLikeCount(comment) + 1;
+		commentLikeCounter.add(comment.getId(), 1);
+		postTrendingService.record(TrendingEvent.COMMENT_LIKE, comment.getPost().getId());
 
-		comment.increaseLikeCount();
-		commentRepository.save(comment);
-
-		return CommentDto.from(comment);
+		return CommentDto.from(comment).withLikeCount(likeCount);
 	}
 
 	@Transactional
@@ -137,14 +161,16 @@ public class CommentService {
 			throw new ServiceException("403", "본인 댓글은 좋아요 할 수 없습니다.");
 		}
 
-		if (commentLikeRepository.existsByCommentAndMember(comment, member)) {
-			commentLikeRepository.deleteByCommentAndMember(comment, member);
-			comment.decreaseLikeCount();
-			commentRepository.save(comment);
-		} else {
+		// 1. 실제로 삭제된 행이 있을 때만 좋아요 수를 차감
+		if (commentLikeRepository.deleteByCommentIdAndMemberId(comment.getId(), member.getId()) == 0) {
 			throw new ServiceException("400", "이미 좋아요가 취소된 상태입니다.");
 		}
-		return CommentDto.from(comment);
+
+		// 2. 좋아요 수 차감분 적립
+		int likeCount = currentLikeCount(comment) - 1;
+		commentLikeCounter.add(comment.getId(), -1);
+
+		return CommentDto.from(comment).withLikeCount(likeCount);
 	}
 
 	/**
@@ -355,4 +381,33 @@ public class CommentService {
 		// 5. 모든 검증을 통과했다면, 요청된 댓글 ID들에 해당하는 모든 신고 엔티티의 상태를 변경
 		commentReportRepository.updateStatusByCommentIdIn(commentIds, ReportProcessingStatus.REJECTED);
 	}
+
+	/**
+	 * 댓글 목록 → DTO 변환 함수
+	 * 목록의 댓글 ID 기준으로 좋아요/신고 여부를 IN 쿼리 2회로 일괄 조회한다.
+	 */
+	private Function<Comment, CommentDto> commentDtoMapper(List<Comment> comments, UserDetails userDetails) {
+		if (userDetails == null || comments.isEmpty()) {
+			return comment -> CommentDto.from(comment, null, null).withLikeCount(currentLikeCount(comment));
+		}
+
+		List<Long> commentIds = comments.stream().map(Comment::getId).toList();
+		String email = userDetails.getUsername();
+		Set<Long> likedCommentIds = new HashSet<>(commentLikeRepository.findLikedCommentIds(email, commentIds));
+		Set<Long> reportedCommentIds = new HashSet<>(
+			commentReportRepository.findReportedCommentIds(email, commentIds));
+
+		return comment -> CommentDto.from(
+			comment,
+			likedCommentIds.contains(comment.getId()),
+			reportedCommentIds.contains(comment.getId()))
+			.withLikeCount(currentLikeCount(comment));
+	}
+
+	/**
+	 * DB에 반영된 좋아요 수에 아직 반영되지 않은 증감분을 더한 현재 좋아요 수
+	 */
+	private int currentLikeCount(Comment comment) {
+		return (int)(comment.getLikeCount() + commentLikeCounter.pendingDelta(comment.getId()));
+	}
 }
@@ -19,6 +19,7 @@ import site.kkokkio.global.util.BaseTimeEntity;
 
 /**
  * INDEX (bucket_at, score)
+ * INDEX (keyword_id, bucket_at)
  */
 @Getter
 @Entity
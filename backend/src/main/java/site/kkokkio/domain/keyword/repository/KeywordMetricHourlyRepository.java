@@ -1,8 +1,8 @@
 package site.kkokkio.domain.keyword.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -11,9 +11,11 @@ import org.springframework.stereotype.Repository;
 
 import site.kkokkio.domain.keyword.entity.KeywordMetricHourly;
 import site.kkokkio.domain.keyword.entity.KeywordMetricHourlyId;
+import site.kkokkio.global.enums.Platform;
 
 @Repository
-public interface KeywordMetricHourlyRepository extends JpaRepository<KeywordMetricHourly, KeywordMetricHourlyId> {
+public interface KeywordMetricHourlyRepository extends JpaRepository<KeywordMetricHourly, KeywordMetricHourlyId>,
+	KeywordMetricHourlyRepositoryCustom {
 	@Query(value = """
 		SELECT kmh.*
 		FROM keyword_metric_hourly kmh
@@ -28,8 +30,68 @@ public interface KeywordMetricHourlyRepository extends JpaRepository<KeywordMetr
 		nativeQuery = true)
 	List<KeywordMetricHourly> findTop10HourlyMetricsClosestToNowNative(@Param("now") String now);
 
-	List<KeywordMetricHourly> findById_KeywordIdOrderById_BucketAtDesc(Long keywordId);
+	/**
+	 * 가장 최근 버킷에서 지정한 키워드의 메트릭만 조회 (증분 갱신 대상)
+	 */
+	@Query(value = """
+		SELECT kmh.*
+		FROM keyword_metric_hourly kmh
+		WHERE kmh.bucket_at = (
+		  SELECT MAX(bucket_at)
+		  FROM keyword_metric_hourly
+		  WHERE bucket_at <= :now
+		)
+		AND kmh.keyword_id IN (:keywordIds)
+		ORDER BY kmh.score DESC
+		""",
+		nativeQuery = true)
+	List<KeywordMetricHourly> findHourlyMetricsClosestToNowNative(
+		@Param("now") String now,
+		@Param("keywordIds") Collection<Long> keywordIds
+	);
+
+	/**
+	 * 키워드별로 since 이후의 최근 메트릭 2건씩 조회 (현재 버킷, 직전 버킷)
+	 * - (keyword_id, bucket_at) 인덱스로 since 이후 구간만 읽으므로 이력 길이와 무관하게 키워드당 비용이 일정
+	 */
+	String LATEST_TWO_BY_KEYWORD_SQL = """
+		SELECT kmh.*
+		FROM (
+			SELECT kmh.*, ROW_NUMBER() OVER (PARTITION BY kmh.keyword_id ORDER BY kmh.bucket_at DESC) AS rn
+			FROM keyword_metric_hourly kmh
+			WHERE kmh.keyword_id IN (:keywordIds)
+			  AND kmh.bucket_at >= :since
+		) kmh
+		WHERE kmh.rn <= 2
+		""";
 
-	Optional<KeywordMetricHourly> findTop1ById_KeywordIdAndId_BucketAtLessThanOrderById_BucketAtDesc(Long keywordId,
-		LocalDateTime bucketAt);
+	@Query(value = LATEST_TWO_BY_KEYWORD_SQL, nativeQuery = true)
+	List<KeywordMetricHourly> findLatestTwoByKeywordIds(
+		@Param("keywordIds") Collection<Long> keywordIds,
+		@Param("since") LocalDateTime since
+	);
+
+	List<KeywordMetricHourly> findAllById_BucketAtAndId_Platform(LocalDateTime bucketAt, Platform platform);
+
+	/**
+	 * 키워드별로 [since, bucketAt) 구간의 가장 최근 메트릭 1건씩 조회
+	 * - since 하한으로 키워드의 전체 이력을 훑지 않도록 한다.
+	 * - 구간 조건은 PK (bucket_at, platform, keyword_id) 범위 스캔으로, 키워드 조건은 idx_kmh_keyword_bucket 으로 좁혀진다.
+	 */
+	@Query(value = """
+		SELECT kmh.*
+		FROM (
+			SELECT kmh.*, ROW_NUMBER() OVER (PARTITION BY kmh.keyword_id ORDER BY kmh.bucket_at DESC) AS rn
+			FROM keyword_metric_hourly kmh
+			WHERE kmh.keyword_id IN (:keywordIds)
+			  AND kmh.bucket_at >= :since
+			  AND kmh.bucket_at < :bucketAt
+		) kmh
+		WHERE kmh.rn = 1
+		""", nativeQuery = true)
+	List<KeywordMetricHourly> findLatestBeforeByKeywordIds(
+		@Param("keywordIds") Collection<Long> keywordIds,
+		@Param("since") LocalDateTime since,
+		@Param("bucketAt") LocalDateTime bucketAt
+	);
 }
@@ -0,0 +1,17 @@
+package site.kkokkio.domain.keyword.repository;
+
+import java.util.List;
+
+import site.kkokkio.domain.keyword.entity.KeywordMetricHourly;
+
+public interface KeywordMetricHourlyRepositoryCustom {
+	/**
+	 * 같은 (bucket_at, platform, keyword_id) 가 있으면 지표만 갱신 (post_id, low_variation 유지)
+	 */
+	void upsertAll(List<KeywordMetricHourly> metrics);
+
+	/**
+	 * 신규성 평가 결과(score, no_post_streak, low_variation, post_id)만 배치 UPDATE
+	 */
+	void updateNoveltyAll(List<KeywordMetricHourly> metrics);
+}
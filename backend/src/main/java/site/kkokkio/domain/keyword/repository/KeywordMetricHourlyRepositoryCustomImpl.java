@@ -0,0 +1,61 @@
+package site.kkokkio.domain.keyword.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import site.kkokkio.domain.keyword.entity.KeywordMetricHourly;
+import site.kkokkio.global.jdbc.BulkUpsertStatement;
+import site.kkokkio.global.jdbc.BulkUpsertWriter;
+
+@Repository
+@RequiredArgsConstructor
+public class KeywordMetricHourlyRepositoryCustomImpl implements KeywordMetricHourlyRepositoryCustom {
+
+	private static final BulkUpsertStatement<KeywordMetricHourly> UPSERT = BulkUpsertStatement.upsert(
+		"keyword_metric_hourly",
+		List.of("bucket_at", "platform", "keyword_id", "volume", "score", "rank_delta", "novelty_ratio",
+			"weighted_novelty", "no_post_streak", "low_variation"),
+		List.of(
+			"volume = VALUES(volume)",
+			"score = VALUES(score)",
+			"rank_delta = VALUES(rank_delta)",
+			"novelty_ratio = VALUES(novelty_ratio)",
+			"weighted_novelty = VALUES(weighted_novelty)",
+			"no_post_streak = VALUES(no_post_streak)"),
+		m -> new Object[] {m.getId().getBucketAt(), m.getId().getPlatform().name(), m.getId().getKeywordId(),
+			m.getVolume(), m.getScore(), m.getRankDelta(), m.getNoveltyRatio(), m.getWeightedNovelty(),
+			m.getNoPostStreak(), m.isLowVariation()});
+
+	static final String UPDATE_NOVELTY_SQL = """
+		UPDATE keyword_metric_hourly
+		SET score = ?, no_post_streak = ?, low_variation = ?, post_id = ?, updated_at = NOW()
+		WHERE bucket_at = ? AND platform = ? AND keyword_id = ?
+		""";
+
+	private final BulkUpsertWriter bulkUpsertWriter;
+	private final JdbcTemplate jdbcTemplate;
+
+	@Transactional
+	@Override
+	public void upsertAll(List<KeywordMetricHourly> metrics) {
+		bulkUpsertWriter.write(UPSERT, metrics);
+	}
+
+	@Transactional
+	@Override
+	public void updateNoveltyAll(List<KeywordMetricHourly> metrics) {
+		if (metrics.isEmpty()) {
+			return;
+		}
+		List<Object[]> batchArgs = metrics.stream()
+			.map(m -> new Object[] {m.getScore(), m.getNoPostStreak(), m.isLowVariation(),
+				m.getPost() != null ? m.getPost().getId() : null,
+				m.getId().getBucketAt(), m.getId().getPlatform().name(), m.getId().getKeywordId()})
+			.toList();
+		jdbcTemplate.batchUpdate(UPDATE_NOVELTY_SQL, batchArgs);
+	}
+}
@@ -1,5 +1,7 @@
 package site.kkokkio.domain.keyword.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,6 +10,8 @@ import org.springframework.stereotype.Repository;
 import site.kkokkio.domain.keyword.entity.Keyword;
 
 @Repository
-public interface KeywordRepository extends JpaRepository<Keyword, Long> {
+public interface KeywordRepository extends JpaRepository<Keyword, Long>, KeywordRepositoryCustom {
 	Optional<Keyword> findKeywordByText(String text);
+
+	List<Keyword> findAllByTextIn(Collection<String> texts);
 }
@@ -0,0 +1,7 @@
+package site.kkokkio.domain.keyword.repository;
+
+import java.util.Collection;
+
+public interface KeywordRepositoryCustom {
+	void insertIgnoreAll(Collection<String> texts);
+}
@@ -0,0 +1,28 @@
+package site.kkokkio.domain.keyword.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import site.kkokkio.global.jdbc.BulkUpsertStatement;
+import site.kkokkio.global.jdbc.BulkUpsertWriter;
+
+@Repository
+@RequiredArgsConstructor
+public class KeywordRepositoryCustomImpl implements KeywordRepositoryCustom {
+
+	private static final BulkUpsertStatement<String> INSERT_IGNORE = BulkUpsertStatement.insertIgnore(
+		"keyword", List.of("text"),
+		text -> new Object[] {text});
+
+	private final BulkUpsertWriter bulkUpsertWriter;
+
+	@Transactional
+	@Override
+	public void insertIgnoreAll(Collection<String> texts) {
+		bulkUpsertWriter.write(INSERT_IGNORE, texts);
+	}
+}
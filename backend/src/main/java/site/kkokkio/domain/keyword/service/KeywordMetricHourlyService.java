@@ -1,10 +1,17 @@
 package site.kkokkio.domain.keyword.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +30,10 @@ import site.kkokkio.global.exception.ServiceException;
 public class KeywordMetricHourlyService {
 	private final KeywordMetricHourlyRepository keywordMetricHourlyRepository;
 
+	// 신규성 평가 시 직전 버킷을 찾는 구간 (가중 신규성이 최대가 되는 24시간 초과 간격보다 길어야 한다)
+	@Value("${trend.novelty.lookback:48h}")
+	private Duration noveltyLookback;
+
 	@Transactional
 	public KeywordMetricHourly createKeywordMetricHourly(KeywordMetricHourly keywordMetricHourly) {
 		return keywordMetricHourlyRepository.save(keywordMetricHourly);
@@ -40,6 +51,20 @@ public class KeywordMetricHourlyService {
 		if (metrics == null || metrics.isEmpty()) {
 			throw new ServiceException("404", "키워드를 불러오지 못했습니다.");
 		}
+		return toDtos(metrics);
+	}
+
+	// 가장 최근 버킷에서 지정한 키워드의 메트릭 조회 (증분 갱신용, 없으면 빈 목록)
+	@Transactional(readOnly = true)
+	public List<KeywordMetricHourlyDto> findHourlyMetrics(Collection<Long> keywordIds) {
+		if (keywordIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+		String formattedNow = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS"));
+		return toDtos(keywordMetricHourlyRepository.findHourlyMetricsClosestToNowNative(formattedNow, keywordIds));
+	}
+
+	private List<KeywordMetricHourlyDto> toDtos(List<KeywordMetricHourly> metrics) {
 		List<KeywordMetricHourlyDto> responses = new ArrayList<>();
 		for (KeywordMetricHourly metric : metrics) {
 			Long postId = (metric.getPost() != null) ? metric.getPost().getId() : null;
@@ -57,34 +82,55 @@ public class KeywordMetricHourlyService {
 		return responses;
 	}
 
+	/**
+	 * 인기 키워드의 신규성 평가
+	 * - 키워드별 최근 2개 버킷(현재, 직전)을 한 번에 조회해 메모리에서 점수를 매기고, 결과는 배치 UPDATE 한 번으로 반영한다.
+	 * - 직전 버킷은 lookback 구간 안에서만 찾는다. 그보다 오래되면 가중 신규성이 최대(10)라 항상 높은 변동성이므로
+	 *   직전 버킷(포스트 승계용)이 필요 없다.
+	 */
 	@Transactional
 	public NoveltyStatsDto evaluateNovelty(List<Long> topKeywordIds) {
 		int lowVariationCount = 0;
 		List<Long> postableIds = new ArrayList<>();
+		if (topKeywordIds.isEmpty()) {
+			return new NoveltyStatsDto(lowVariationCount, postableIds);
+		}
+
+		// 1. 키워드별 최근 2개 버킷 조회 (bucket_at 역순)
+		LocalDateTime since = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minus(noveltyLookback);
+		Map<Long, List<KeywordMetricHourly>> latestByKeyword = keywordMetricHourlyRepository
+			.findLatestTwoByKeywordIds(topKeywordIds, since).stream()
+			.sorted(Comparator.comparing((KeywordMetricHourly metric) -> metric.getId().getBucketAt()).reversed())
+			.collect(Collectors.groupingBy(metric -> metric.getId().getKeywordId()));
 
+		// 2. 메모리에서 점수 평가
+		List<KeywordMetricHourly> updatedMetrics = new ArrayList<>();
 		for (Long keywordId : topKeywordIds) {
-			// 해당 keywordId를 가진 모든 keywordMetricHourly를 추출
-			List<KeywordMetricHourly> allMetric = keywordMetricHourlyRepository
-				.findById_KeywordIdOrderById_BucketAtDesc(keywordId);
-
-			if (allMetric.size() >= 2) {
-				KeywordMetricHourly currentMetric = allMetric.getFirst();
-				KeywordMetricHourly previousMetric = allMetric.get(1);
-				boolean lowVariation = scoreNoveltyEvaluation(currentMetric, previousMetric, postableIds);
-				if (lowVariation) {
-					lowVariationCount++;
-				}
-			} else {
-				// 추출된 keywordMetricHourly가 2개 미만이면 (최초 작성된 keywordMetricHourly라면) 포스팅 대상으로 추가
+			List<KeywordMetricHourly> latest = latestByKeyword.getOrDefault(keywordId, List.of());
+			if (latest.isEmpty()) {
+				// 평가할 메트릭이 없으면 포스팅 대상으로 추가
 				postableIds.add(keywordId);
+				continue;
 			}
+
+			// 최초 작성된 메트릭이거나 직전 버킷이 lookback 밖이면 직전 메트릭 없이 평가 (항상 높은 변동성)
+			KeywordMetricHourly currentMetric = latest.getFirst();
+			KeywordMetricHourly previousMetric = latest.size() >= 2 ? latest.get(1) : null;
+			KeywordMetricHourly updatedMetric = scoreNoveltyEvaluation(currentMetric, previousMetric, postableIds);
+			if (updatedMetric.isLowVariation()) {
+				lowVariationCount++;
+			}
+			updatedMetrics.add(updatedMetric);
 		}
 
+		// 3. 변경된 필드 일괄 반영
+		keywordMetricHourlyRepository.updateNoveltyAll(updatedMetrics);
 		return new NoveltyStatsDto(lowVariationCount, postableIds);
 	}
 
 	// 점수 기반 신규성 판단 로직
-	private boolean scoreNoveltyEvaluation(KeywordMetricHourly currentMetric, KeywordMetricHourly previousMetric, List<Long> postableIds) {
+	private KeywordMetricHourly scoreNoveltyEvaluation(KeywordMetricHourly currentMetric,
+		KeywordMetricHourly previousMetric, List<Long> postableIds) {
 		int score = calculateNoveltyScore(currentMetric);
 		boolean lowVariation = false;
 		int noPostStreak = currentMetric.getNoPostStreak();
@@ -101,9 +147,7 @@ public class KeywordMetricHourlyService {
 		}
 
 		// 최종 스코어 (신규성 스코어 우선 / 신규성 스코어가 같을 시 검색량 우선하도록 score * 10000 삽입)
-		// 이후 변경된 필드 반영
-		updateKeywordMetric(currentMetric, previousMetric, score, lowVariation, noPostStreak);
-		return lowVariation;
+		return updateKeywordMetric(currentMetric, previousMetric, score, lowVariation, noPostStreak);
 	}
 
 	// 점수 측정 함수
@@ -118,16 +162,16 @@ public class KeywordMetricHourlyService {
 		return score;
 	}
 
-	// KeywordMetricHourly 업데이트
-	private void updateKeywordMetric(KeywordMetricHourly currentMetric, KeywordMetricHourly previousMetric, int noveltyScore, boolean lowVariation,
-		int noPostStreak) {
+	// 변경된 필드를 반영한 KeywordMetricHourly 생성 (저장은 evaluateNovelty 에서 일괄 처리)
+	private KeywordMetricHourly updateKeywordMetric(KeywordMetricHourly currentMetric,
+		KeywordMetricHourly previousMetric, int noveltyScore, boolean lowVariation, int noPostStreak) {
 		Post updateMetricPost = currentMetric.getPost();
 
 		// 만약 포스트가 생성되지 않을 경우, 이전 실시간 키워드의 포스트를 이어받음.
-		if(lowVariation) {
+		if (lowVariation && previousMetric != null) {
 			updateMetricPost = previousMetric.getPost();
 		}
-		KeywordMetricHourly updatedMetric = KeywordMetricHourly.builder()
+		return KeywordMetricHourly.builder()
 			.id(currentMetric.getId())
 			.keyword(currentMetric.getKeyword())
 			.post(updateMetricPost)
@@ -139,7 +183,5 @@ public class KeywordMetricHourlyService {
 			.noveltyRatio(currentMetric.getNoveltyRatio())
 			.lowVariation(lowVariation)
 			.build();
-
-		keywordMetricHourlyRepository.save(updatedMetric);
 	}
 }
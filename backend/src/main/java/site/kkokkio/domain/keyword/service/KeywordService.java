@@ -1,7 +1,10 @@
 package site.kkokkio.domain.keyword.service;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +14,8 @@ import site.kkokkio.domain.keyword.repository.KeywordRepository;
 import site.kkokkio.domain.post.dto.PostDto;
 import site.kkokkio.domain.post.entity.PostKeyword;
 import site.kkokkio.domain.post.repository.PostKeywordRepository;
+import site.kkokkio.global.dto.Cursor;
+import site.kkokkio.global.dto.CursorSlice;
 
 @Service
 @RequiredArgsConstructor
@@ -33,4 +38,27 @@ public class KeywordService {
 		return postKeywordPage.map(postKeyword ->
 			PostDto.from(postKeyword.getPost(), postKeyword.getKeyword().getText()));
 	}
+
+	/**
+	 * 키워드 포스트 키셋(커서) 조회 - 최신순(post_id 역순), COUNT 쿼리 없음
+	 * 커서 형식은 다른 목록과 같은 (createdAt, id) 이지만 탐색에는 id 만 쓴다.
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+	 */
+	@Transactional(readOnly = true)
+	public CursorSlice<PostDto> getPostSliceByKeyword(String keywordText, String cursor, int size) {
+		Pageable pageable = Cursor.sliceRequest(size);
+		Slice<PostKeyword> postKeywords;
+		if (cursor == null || cursor.isBlank()) {
+			postKeywords = postKeywordRepository.findSliceByKeywordText(keywordText, pageable);
+		} else {
+			Cursor after = Cursor.decode(cursor);
+			postKeywords = postKeywordRepository.findSliceByKeywordTextAfterCursor(keywordText, after.id(), pageable);
+		}
+
+		List<PostDto> posts = postKeywords.getContent().stream()
+			.map(postKeyword -> PostDto.from(postKeyword.getPost(), postKeyword.getKeyword().getText()))
+			.toList();
+		return CursorSlice.of(postKeywords, posts,
+			postKeyword -> new Cursor(postKeyword.getPost().getCreatedAt(), postKeyword.getPost().getId()));
+	}
 }
@@ -1,8 +1,14 @@
 package site.kkokkio.domain.keyword.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -15,6 +21,7 @@ import site.kkokkio.domain.keyword.entity.KeywordMetricHourly;
 import site.kkokkio.domain.keyword.entity.KeywordMetricHourlyId;
 import site.kkokkio.domain.keyword.port.out.TrendsPort;
 import site.kkokkio.domain.keyword.repository.KeywordMetricHourlyRepository;
+import site.kkokkio.domain.keyword.repository.KeywordRepository;
 import site.kkokkio.global.enums.Platform;
 import site.kkokkio.infra.google.trends.dto.KeywordInfo;
 
@@ -24,42 +31,125 @@ import site.kkokkio.infra.google.trends.dto.KeywordInfo;
 public class TrendsService {
 	private final TrendsPort trendsAdapter; // TrendsPort 인터페이스 주입
 
-	private final KeywordService keywordService;
-	private final KeywordMetricHourlyService keywordMetricHourlyService;
+	private final KeywordRepository keywordRepository;
 	private final KeywordMetricHourlyRepository keywordMetricHourlyRepository;
 
 	@Value("${trend.platform}")
 	private Platform platform;
 
+	// 직전 메트릭 조회 구간 (이보다 오래된 메트릭은 직전 메트릭이 없는 것으로 본다)
+	@Value("${trend.previous-metric.lookback:7d}")
+	private Duration previousMetricLookback;
+
+	// 증분 갱신 시 현재 버킷 대비 검색량이 이 배수 이상이면 급등으로 판단
+	@Value("${trend.incremental.jump-ratio:2.0}")
+	private double jumpRatio;
+
+	/**
+	 * RSS 인기 키워드와 시간별 메트릭을 일괄 저장한다. 키워드 수와 무관하게 왕복 4회로 처리한다.
+	 */
 	@Transactional
 	public List<Keyword> getTrendingKeywordsFromRss() {
-		List<Keyword> trendingKeywords = new ArrayList<>();
 		List<KeywordInfo> trendingKeywordsInfo = trendsAdapter.fetchTrendingKeywords();
+		if (trendingKeywordsInfo.isEmpty()) {
+			return new ArrayList<>();
+		}
+		return saveMetrics(trendingKeywordsInfo, currentBucket());
+	}
+
+	/**
+	 * 정각 전체 실행 사이의 증분 갱신. RSS 를 현재 버킷의 키워드 집합과 비교해
+	 * 새로 진입했거나 검색량이 jumpRatio 배 이상 뛴 키워드만 현재 버킷 메트릭에 병합하고 그 키워드만 반환한다.
+	 * 현재 버킷이 아직 없으면(정각 전체 실행 전) 아무것도 하지 않는다.
+	 * 현재 버킷에서 이미 포스트를 만든 키워드는 다시 평가하지 않는다. (병합 시 no_post_streak 가 초기화되어 같은 버킷에 포스트가 또 생긴다)
+	 */
+	@Transactional
+	public List<Keyword> refreshTrendingKeywordDelta() {
+		List<KeywordInfo> trendingKeywordsInfo = trendsAdapter.fetchTrendingKeywords();
+		if (trendingKeywordsInfo.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		// 1. 현재 버킷의 키워드별 메트릭 조회
+		LocalDateTime bucketAt = currentBucket();
+		Map<Long, KeywordMetricHourly> currentMetrics = keywordMetricHourlyRepository
+			.findAllById_BucketAtAndId_Platform(bucketAt, platform).stream()
+			.collect(Collectors.toMap(metric -> metric.getId().getKeywordId(), Function.identity()));
+		if (currentMetrics.isEmpty()) {
+			log.info("현재 버킷이 아직 없어 증분 갱신을 건너뜁니다. bucketAt={}", bucketAt);
+			return new ArrayList<>();
+		}
+
+		// 2. 이미 있는 키워드 ID 조회 (없는 키워드는 신규 진입)
+		List<String> texts = trendingKeywordsInfo.stream().map(KeywordInfo::getText).distinct().toList();
+		Map<String, Keyword> keywordsByText = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		keywordRepository.findAllByTextIn(texts).forEach(keyword -> keywordsByText.put(keyword.getText(), keyword));
+
+		// 3. 신규 진입 또는 검색량 급등 키워드만 추리기 (현재 버킷에 포스트가 있는 키워드 제외)
+		List<KeywordInfo> delta = trendingKeywordsInfo.stream()
+			.filter(keywordInfo -> {
+				Keyword keyword = keywordsByText.get(keywordInfo.getText());
+				KeywordMetricHourly current = keyword == null ? null : currentMetrics.get(keyword.getId());
+				if (current != null && current.getPost() != null) {
+					return false;
+				}
+				return current == null || keywordInfo.getVolume() >= current.getVolume() * jumpRatio;
+			})
+			.toList();
+		log.info("인기 키워드 증분 비교. bucketAt={}, rss={}, current={}, delta={}",
+			bucketAt, trendingKeywordsInfo.size(), currentMetrics.size(), delta.size());
+		if (delta.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		// 4. 변경분만 현재 버킷에 병합 (post_id, low_variation 은 유지)
+		return saveMetrics(delta, bucketAt);
+	}
+
+	private LocalDateTime currentBucket() {
+		return LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
+	}
+
+	private List<Keyword> saveMetrics(List<KeywordInfo> trendingKeywordsInfo, LocalDateTime bucketAt) {
+		// 1. 키워드 텍스트 일괄 INSERT IGNORE
+		List<String> texts = trendingKeywordsInfo.stream().map(KeywordInfo::getText).distinct().toList();
+		keywordRepository.insertIgnoreAll(texts);
 
-		LocalDateTime bucketAt = LocalDateTime.now()
-			.withMinute(0).withSecond(0).withNano(0);
+		// 2. 키워드 ID 일괄 조회 (DB 정렬 규칙처럼 대소문자 구분 없이 매칭)
+		Map<String, Keyword> keywordsByText = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+		keywordRepository.findAllByTextIn(texts).forEach(keyword -> keywordsByText.put(keyword.getText(), keyword));
+
+		// 3. 키워드별 직전 메트릭 일괄 조회 (lookback 구간만)
+		List<Long> keywordIds = keywordsByText.values().stream().map(Keyword::getId).toList();
+		Map<Long, KeywordMetricHourly> previousMetrics = keywordIds.isEmpty() ? Map.of() : keywordMetricHourlyRepository
+			.findLatestBeforeByKeywordIds(keywordIds, bucketAt.minus(previousMetricLookback), bucketAt).stream()
+			.collect(Collectors.toMap(metric -> metric.getId().getKeywordId(), Function.identity()));
+
+		// 4. 메트릭 계산 후 일괄 저장 (같은 키워드가 여러 번 오면 마지막 값으로 저장)
+		List<Keyword> trendingKeywords = new ArrayList<>();
+		Map<Long, KeywordMetricHourly> metrics = new LinkedHashMap<>();
 		for (KeywordInfo keywordInfo : trendingKeywordsInfo) {
-			saveKeywordMetric(keywordInfo, trendingKeywords, bucketAt);
+			Keyword keyword = keywordsByText.get(keywordInfo.getText());
+			if (keyword == null) {
+				log.warn("저장된 키워드를 찾지 못했습니다. text={}", keywordInfo.getText());
+				continue;
+			}
+			trendingKeywords.add(keyword);
+			metrics.put(keyword.getId(),
+				toMetric(keywordInfo, keyword, previousMetrics.get(keyword.getId()), bucketAt));
 		}
+		keywordMetricHourlyRepository.upsertAll(new ArrayList<>(metrics.values()));
 		return trendingKeywords;
 	}
 
-	public void saveKeywordMetric(KeywordInfo keywordInfo, List<Keyword> trendingKeywords, LocalDateTime bucketAt) {
-		Keyword keyword = keywordService.createKeyword(
-			Keyword.builder().text(keywordInfo.getText()).build()
-		);
-		trendingKeywords.add(keyword);
-
+	private KeywordMetricHourly toMetric(KeywordInfo keywordInfo, Keyword keyword, KeywordMetricHourly previousMetric,
+		LocalDateTime bucketAt) {
 		KeywordMetricHourlyId id = KeywordMetricHourlyId.builder()
 			.keywordId(keyword.getId())
 			.bucketAt(bucketAt)
 			.platform(platform)
 			.build();
 
-		// 이전 시간의 메트릭 조회
-		KeywordMetricHourly previousMetric = keywordMetricHourlyRepository
-			.findTop1ById_KeywordIdAndId_BucketAtLessThanOrderById_BucketAtDesc(keyword.getId(), bucketAt).orElse(null);
-
 		double rankDelta = 0.0;
 		double noveltyRatio = 1.0;
 		int noPostStreak = 0;
@@ -69,7 +159,7 @@ public class TrendsService {
 			noPostStreak = previousMetric.getNoPostStreak();
 
 			// 이전 시간의 메트릭과의 시간 간격이 클수록 높은 신규성
-			long hoursDifference = java.time.Duration.between(previousMetric.getId().getBucketAt(), bucketAt).toHours();
+			long hoursDifference = Duration.between(previousMetric.getId().getBucketAt(), bucketAt).toHours();
 			if (hoursDifference > 24)
 				noveltyRatio = 1.0;
 			else if (hoursDifference > 12)
@@ -82,7 +172,7 @@ public class TrendsService {
 
 		int score = (((int)(noveltyRatio * 10) + noPostStreak) * 1000) + keywordInfo.getVolume();
 
-		KeywordMetricHourly metric = KeywordMetricHourly.builder()
+		return KeywordMetricHourly.builder()
 			.id(id)
 			.keyword(keyword)
 			.volume(keywordInfo.getVolume())
@@ -92,7 +182,5 @@ public class TrendsService {
 			.noveltyRatio(noveltyRatio)
 			.weightedNovelty(noveltyRatio * 10)
 			.build();
-
-		keywordMetricHourlyService.createKeywordMetricHourly(metric);
 	}
 }
@@ -19,14 +19,17 @@ import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import site.kkokkio.domain.keyword.service.KeywordService;
+import site.kkokkio.domain.post.controller.dto.PostCardResponse;
 import site.kkokkio.domain.post.controller.dto.PostDetailResponse;
 import site.kkokkio.domain.post.controller.dto.PostListResponse;
 import site.kkokkio.domain.post.controller.dto.PostSearchSourceListResponse;
 import site.kkokkio.domain.post.controller.dto.TopPostResponse;
 import site.kkokkio.domain.post.dto.PostDto;
 import site.kkokkio.domain.post.service.PostService;
+import site.kkokkio.domain.post.service.PostViewCounter;
 import site.kkokkio.domain.source.dto.SourceDto;
 import site.kkokkio.domain.source.service.SourceService;
 import site.kkokkio.global.dto.RsData;
@@ -41,15 +44,20 @@ public class PostControllerV1 {
 	private final PostService postService;
 	private final KeywordService keywordService;
 	private final SourceService sourceService;
+	private final PostViewCounter postViewCounter;
 
 	@Operation(summary = "포스트 조회")
 	@ApiErrorCodeExamples({ErrorCode.POST_NOT_FOUND_2})
 	@GetMapping("/{postId}")
 	public RsData<PostDetailResponse> getPostById(
 		@PathVariable("postId") Long postId,
-		@AuthenticationPrincipal UserDetails userDetails
+		@AuthenticationPrincipal UserDetails userDetails,
+		HttpServletRequest request
 	) {
 		PostDto postDto = postService.getPostWithKeywordById(postId, userDetails);
+		// 조회수는 메모리에만 기록하고 주기적으로 post_metric_hourly 에 일괄 반영
+		// 비로그인 사용자는 IP 로 구분 (프록시 헤더는 server.forward-headers-strategy 가 신뢰 프록시에서 온 것만 반영)
+		postViewCounter.recordView(postId, userDetails != null ? userDetails.getUsername() : request.getRemoteAddr());
 		PostDetailResponse data = PostDetailResponse.builder()
 			.postId(postDto.postId())
 			.keyword(postDto.keyword())
@@ -66,6 +74,24 @@ public class PostControllerV1 {
 		);
 	}
 
+	@Operation(
+		summary = "포스트 카드 일괄 조회",
+		description = "ids로 전달한 포스트 카드를 요청 순서대로 조회합니다. (존재하지 않거나 숨김 처리된 포스트는 제외)"
+	)
+	@ApiErrorCodeExamples({ErrorCode.POST_IDS_NOT_PROVIDED, ErrorCode.POST_IDS_TOO_MANY})
+	@GetMapping(params = "ids")
+	public RsData<List<PostCardResponse>> getPostCards(@RequestParam List<Long> ids) {
+		List<PostCardResponse> data = postService.getPostCardsByIds(ids).stream()
+			.map(PostCardResponse::from)
+			.toList();
+
+		return new RsData<>(
+			"200",
+			"정상적으로 호출되었습니다.",
+			data
+		);
+	}
+
 	@GetMapping("/search")
 	@ApiErrorCodeExamples({ErrorCode.POST_NOT_FOUND_3})
 	@Operation(summary = "키워드 기반 Post 검색")
@@ -128,6 +154,26 @@ public class PostControllerV1 {
 		);
 	}
 
+	@Operation(
+		summary = "트렌딩 포스트 조회",
+		description = "조회수, 댓글, 댓글 좋아요, 키워드 점수를 시간 감쇠해 합산한 점수 순으로 포스트 카드를 조회합니다."
+	)
+	@ApiErrorCodeExamples({ErrorCode.BAD_CURSOR_SIZE})
+	@GetMapping("/trending")
+	public RsData<List<PostCardResponse>> getTrendingPosts(
+		@RequestParam(value = "size", required = false, defaultValue = "10") int size
+	) {
+		List<PostCardResponse> data = postService.getTrendingPosts(size).stream()
+			.map(PostCardResponse::from)
+			.toList();
+
+		return new RsData<>(
+			"200",
+			"정상적으로 호출되었습니다.",
+			data
+		);
+	}
+
 	@Operation(summary = "실시간 키워드에 해당하는 포스트 리스트 조회")
 	@ApiErrorCodeExamples({ErrorCode.POST_NOT_FOUND_2})
 	@GetMapping("/top")
@@ -149,5 +195,4 @@ public class PostControllerV1 {
 			data
 		);
 	}
-
 }
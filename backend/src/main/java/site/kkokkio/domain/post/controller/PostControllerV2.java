@@ -22,13 +22,18 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import site.kkokkio.domain.keyword.service.KeywordService;
+import site.kkokkio.domain.post.controller.dto.PostCursorListResponse;
 import site.kkokkio.domain.post.controller.dto.PostReportRequest;
 import site.kkokkio.domain.post.controller.dto.ReportedPostHideRequest;
 import site.kkokkio.domain.post.controller.dto.ReportedPostListResponse;
+import site.kkokkio.domain.post.dto.PostDto;
 import site.kkokkio.domain.post.dto.ReportedPostSummary;
 import site.kkokkio.domain.post.service.PostService;
 import site.kkokkio.global.auth.CustomUserDetails;
 import site.kkokkio.global.auth.annotations.IsAdmin;
+import site.kkokkio.global.dto.Cursor;
+import site.kkokkio.global.dto.CursorSlice;
 import site.kkokkio.global.dto.RsData;
 import site.kkokkio.global.exception.doc.ApiErrorCodeExamples;
 import site.kkokkio.global.exception.doc.ErrorCode;
@@ -39,6 +44,29 @@ import site.kkokkio.global.exception.doc.ErrorCode;
 @Tag(name = "Post API V2", description = "포스트 관련 API 엔드포인트 V2")
 public class PostControllerV2 {
 	private final PostService postService;
+	private final KeywordService keywordService;
+
+	@Operation(
+		summary = "키워드 기반 Post 검색 (커서)",
+		description = "키워드의 포스트를 최신순으로 커서 기반 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다."
+	)
+	@ApiErrorCodeExamples({ErrorCode.BAD_CURSOR, ErrorCode.BAD_CURSOR_SIZE})
+	@GetMapping("/posts/search")
+	public RsData<PostCursorListResponse> getPostListByKeyword(
+		@RequestParam String keyword,
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+		@RequestParam(value = "cursor", required = false) String cursor,
+		@Parameter(description = "조회 크기 (최대 " + Cursor.MAX_SIZE + ")")
+		@RequestParam(value = "size", defaultValue = "" + Cursor.DEFAULT_SIZE) int size
+	) {
+		CursorSlice<PostDto> posts = keywordService.getPostSliceByKeyword(keyword, cursor, size);
+
+		return new RsData<>(
+			"200",
+			"키워드의 포스트를 불러왔습니다.",
+			PostCursorListResponse.from(posts)
+		);
+	}
 
 	@Operation(
 		summary = "포스트 신고",
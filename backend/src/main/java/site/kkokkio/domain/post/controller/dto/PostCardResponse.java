@@ -0,0 +1,23 @@
+package site.kkokkio.domain.post.controller.dto;
+
+import lombok.Builder;
+import site.kkokkio.domain.post.dto.PostDto;
+
+@Builder
+public record PostCardResponse(
+	Long postId,
+	String keyword,
+	String title,
+	String summary,
+	String thumbnailUrl
+) {
+	public static PostCardResponse from(PostDto postDto) {
+		return PostCardResponse.builder()
+			.postId(postDto.postId())
+			.keyword(postDto.keyword())
+			.title(postDto.title())
+			.summary(postDto.summary())
+			.thumbnailUrl(postDto.thumbnailUrl())
+			.build();
+	}
+}
@@ -0,0 +1,21 @@
+package site.kkokkio.domain.post.controller.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import site.kkokkio.domain.post.dto.PostDto;
+import site.kkokkio.global.dto.CursorMeta;
+import site.kkokkio.global.dto.CursorSlice;
+
+@Builder
+public record PostCursorListResponse(
+	List<PostDto> list,
+	CursorMeta meta
+) {
+	public static PostCursorListResponse from(CursorSlice<PostDto> posts) {
+		return PostCursorListResponse.builder()
+			.list(posts.list())
+			.meta(posts.meta())
+			.build();
+	}
+}
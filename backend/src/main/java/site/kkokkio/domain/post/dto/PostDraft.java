@@ -0,0 +1,37 @@
+package site.kkokkio.domain.post.dto;
+
+import java.util.List;
+
+import site.kkokkio.domain.keyword.dto.KeywordMetricHourlyDto;
+import site.kkokkio.domain.source.entity.Source;
+
+/**
+ * 저장 전 포스트 초안
+ * - low_variation 키워드는 제목/요약 없이 기존 포스트에 연결만 한다.
+ */
+public record PostDraft(
+	KeywordMetricHourlyDto metric,
+	List<Source> sources,
+	String title,
+	String summary
+) {
+	public static PostDraft link(PostGenerationTarget target) {
+		return new PostDraft(target.metric(), target.sources(), null, null);
+	}
+
+	public static PostDraft of(PostGenerationTarget target, String title, String summary) {
+		return new PostDraft(target.metric(), target.sources(), title, summary);
+	}
+
+	/**
+	 * AI 요약을 쓸 수 없을 때 첫 번째 소스의 제목과 설명으로 대체
+	 */
+	public static PostDraft fallback(PostGenerationTarget target) {
+		Source first = target.sources().getFirst();
+		return of(target, first.getTitle(), first.getDescription());
+	}
+
+	public boolean linkOnly() {
+		return metric.lowVariation();
+	}
+}
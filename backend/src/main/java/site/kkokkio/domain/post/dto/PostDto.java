@@ -34,4 +34,11 @@ public record PostDto(
 			.reportedByMe(reportedByMe)
 			.build();
 	}
+
+	/**
+	 * 공용 카드에 사용자별 신고 여부만 덧씌운다.
+	 */
+	public PostDto withReportedByMe(Boolean reportedByMe) {
+		return new PostDto(postId, keyword, title, summary, thumbnailUrl, reportedByMe);
+	}
 }
@@ -0,0 +1,20 @@
+package site.kkokkio.domain.post.dto;
+
+import java.util.List;
+
+import site.kkokkio.domain.keyword.dto.KeywordMetricHourlyDto;
+import site.kkokkio.domain.source.entity.Source;
+
+/**
+ * 포스트 생성/연결 대상 키워드
+ * @param userContent AI 요약 요청에 사용할 소스 내용
+ */
+public record PostGenerationTarget(
+	KeywordMetricHourlyDto metric,
+	List<Source> sources,
+	String userContent
+) {
+	public Long keywordId() {
+		return metric.keywordId();
+	}
+}
@@ -10,4 +10,11 @@ public interface AiSummaryPort {
 	 * 비동기로 전환
 	 * **/
 	CompletableFuture<String> summarize(AiType aiType, String content);
+
+	/**
+	 * 여러 키워드의 소스 묶음을 한 번에 요청하고, 키워드별 요약 JSON 배열 문자열을 반환한다.
+	 * 실패하면 호출한 쪽은 키워드별 요약으로 대체한다.
+	 * @param size 요청에 포함된 키워드 수
+	 */
+	CompletableFuture<String> summarizeBatch(AiType aiType, String content, int size);
 }
@@ -5,6 +5,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -33,6 +34,35 @@ public interface PostKeywordRepository extends JpaRepository<PostKeyword, Long>,
 			""")
 	Page<PostKeyword> findByKeywordTextWithPostAndKeyword(@Param("keywordText") String keywordText, Pageable pageable);
 
+	// 키셋 페이지네이션 첫 페이지 (COUNT 없이 size + 1건 조회)
+	// post_id 는 생성 순서대로 증가하므로 post_id 역순이 최신순이고, (keyword_id, post_id) 인덱스를 역순으로 탐색한다
+	@Query("""
+		SELECT pk
+		FROM PostKeyword pk
+		JOIN FETCH pk.post p
+		JOIN FETCH pk.keyword k
+		WHERE k.text = :keywordText
+			AND p.deletedAt IS NULL
+		ORDER BY pk.post.id DESC
+		""")
+	Slice<PostKeyword> findSliceByKeywordText(@Param("keywordText") String keywordText, Pageable pageable);
+
+	// 키셋 페이지네이션 다음 페이지 - 커서 post_id 이전 포스트부터 조회
+	@Query("""
+		SELECT pk
+		FROM PostKeyword pk
+		JOIN FETCH pk.post p
+		JOIN FETCH pk.keyword k
+		WHERE k.text = :keywordText
+			AND p.deletedAt IS NULL
+			AND pk.post.id < :postId
+		ORDER BY pk.post.id DESC
+		""")
+	Slice<PostKeyword> findSliceByKeywordTextAfterCursor(
+		@Param("keywordText") String keywordText,
+		@Param("postId") Long postId,
+		Pageable pageable);
+
 	Optional<PostKeyword> findByPost_Id(Long postId);
 
 	Optional<PostKeyword> findTopByKeywordIdOrderByPost_BucketAtDesc(Long keywordId);
@@ -1,6 +1,7 @@
 package site.kkokkio.domain.post.repository;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +21,10 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
 	// 특정 사용자가 특정 포스트를 이미 신고했는지 확인하는 메소드
 	boolean existsByPostAndReporter(Post post, Member reporter);
 
+	// 회원이 신고한 포스트 ID 목록 (신고 여부 캐시 적재용)
+	@Query("SELECT pr.post.id FROM PostReport pr WHERE pr.reporter.email = :email")
+	List<Long> findPostIdsByReporterEmail(@Param("email") String email);
+
 	// 관리자용 신고된 포스트 목록 집계 조회 메서드
 	@Query(value = """
 		SELECT
@@ -0,0 +1,261 @@
+package site.kkokkio.domain.post.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import site.kkokkio.domain.post.dto.PostDto;
+
+/**
+ * 포스트 카드 캐시 (로컬 → Redis 2단계)
+ * - POST_CARD:{postId} : 포스트 카드 JSON
+ * - POST_TOP : Top 포스트 ID 목록 (순서 유지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCacheService {
+	public static final String POST_CARD_KEY_PREFIX = "POST_CARD:";
+	public static final String TOP_POST_KEY = "POST_TOP";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+
+	// 인스턴스 로컬 Top 포스트 스냅샷 (배치 종료 시 통째로 교체)
+	private final AtomicReference<TopPostSnapshot> topPostSnapshot = new AtomicReference<>();
+
+	@Value("${cache.post.card-ttl:24h}")
+	private Duration cardTtl;
+
+	@Value("${cache.post.top-local-ttl:30s}")
+	private Duration topLocalTtl;
+
+	/**
+	 * Top 포스트 목록을 로컬 캐시 → Redis 순으로 조회한다.
+	 * 두 계층 모두 미스이거나 카드가 하나라도 만료되었다면 빈 값을 반환한다.
+	 */
+	public Optional<List<PostDto>> getTopPosts() {
+		// 1. 로컬 캐시
+		TopPostSnapshot snapshot = topPostSnapshot.get();
+		if (snapshot != null && !snapshot.isExpired(topLocalTtl)) {
+			return Optional.of(snapshot.posts());
+		}
+
+		// 2. Redis - 정렬된 ID 목록 + POST_CARD MGET
+		try {
+			List<String> postIds = redisTemplate.opsForList().range(TOP_POST_KEY, 0, -1);
+			if (postIds == null || postIds.isEmpty()) {
+				return Optional.empty();
+			}
+
+			List<PostDto> posts = multiGetCards(postIds);
+			if (posts.contains(null)) {
+				return Optional.empty();
+			}
+
+			swapLocalTopPosts(posts);
+			return Optional.of(posts);
+		} catch (DataAccessException e) {
+			log.warn("Top 포스트 Redis 조회 실패 → DB 조회로 대체", e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Top 포스트 목록을 Redis와 로컬 캐시에 교체한다.
+	 * 카드와 ID 목록은 파이프라인으로 기록하고, 임시 키를 RENAME 하여 목록을 원자적으로 바꾼다.
+	 * 빈 목록이면 이전 Top 목록이 남지 않도록 POST_TOP 과 로컬 스냅샷을 비운다.
+	 */
+	public void replaceTopPosts(List<PostDto> posts) {
+		if (posts.isEmpty()) {
+			topPostSnapshot.set(null);
+			try {
+				redisTemplate.delete(TOP_POST_KEY);
+			} catch (DataAccessException e) {
+				log.warn("POST_TOP Redis 삭제 실패", e);
+			}
+			return;
+		}
+
+		Map<String, String> cards = serializeCards(posts);
+		// 직렬화 실패가 있으면 불완전한 목록을 올리지 않는다
+		if (cards.size() != posts.size()) {
+			return;
+		}
+
+		String tempKey = TOP_POST_KEY + ":" + UUID.randomUUID();
+		String[] postIds = posts.stream()
+			.map(post -> String.valueOf(post.postId()))
+			.toArray(String[]::new);
+		long ttlSeconds = cardTtl.toSeconds();
+
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection conn = (StringRedisConnection)connection;
+				cards.forEach((key, json) -> conn.setEx(key, ttlSeconds, json));
+				conn.rPush(tempKey, postIds);
+				conn.expire(tempKey, ttlSeconds);
+				conn.rename(tempKey, TOP_POST_KEY);
+				return null;
+			});
+		} catch (DataAccessException e) {
+			log.warn("Top 포스트 Redis 갱신 실패 → 로컬 캐시만 교체", e);
+		}
+
+		swapLocalTopPosts(posts);
+	}
+
+	/**
+	 * 포스트 카드 단건 조회. Redis 장애 시에도 미스로 취급한다.
+	 */
+	public Optional<PostDto> getCard(Long postId) {
+		try {
+			String json = redisTemplate.opsForValue().get(POST_CARD_KEY_PREFIX + postId);
+			return json == null ? Optional.empty() : Optional.ofNullable(deserializeCard(json));
+		} catch (DataAccessException e) {
+			log.warn("POST_CARD Redis 조회 실패. postId={}", postId, e);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 포스트 카드 여러 개를 MGET 한 번으로 조회한다.
+	 * @return 캐시에 존재하는 카드만 담은 postId → 카드 맵
+	 */
+	public Map<Long, PostDto> getCards(List<Long> postIds) {
+		Map<Long, PostDto> cards = new HashMap<>();
+		if (postIds.isEmpty()) {
+			return cards;
+		}
+
+		try {
+			List<PostDto> posts = multiGetCards(postIds.stream().map(String::valueOf).toList());
+			for (int i = 0; i < postIds.size(); i++) {
+				if (posts.get(i) != null) {
+					cards.put(postIds.get(i), posts.get(i));
+				}
+			}
+		} catch (DataAccessException e) {
+			log.warn("POST_CARD Redis 일괄 조회 실패 → 전체 미스로 처리", e);
+		}
+		return cards;
+	}
+
+	public void putCard(PostDto post) {
+		putCards(List.of(post));
+	}
+
+	/**
+	 * 포스트 카드들을 파이프라인으로 한 번에 기록한다.
+	 */
+	public void putCards(List<PostDto> posts) {
+		Map<String, String> cards = serializeCards(posts);
+		if (cards.isEmpty()) {
+			return;
+		}
+
+		long ttlSeconds = cardTtl.toSeconds();
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection conn = (StringRedisConnection)connection;
+				cards.forEach((key, json) -> conn.setEx(key, ttlSeconds, json));
+				return null;
+			});
+		} catch (DataAccessException e) {
+			log.warn("POST_CARD Redis 기록 실패", e);
+		}
+	}
+
+	/**
+	 * 포스트 카드와 로컬 Top 스냅샷을 무효화한다.
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 지워, 커밋 전 값이 다시 캐싱되지 않도록 한다.
+	 */
+	public void evictCards(List<Long> postIds) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					deleteCards(postIds);
+				}
+			});
+			return;
+		}
+		deleteCards(postIds);
+	}
+
+	private void deleteCards(List<Long> postIds) {
+		// Top 목록에 숨김 포스트가 있으면 다음 조회 시 카드 미스 → DB 재조회로 정리된다
+		topPostSnapshot.set(null);
+		try {
+			redisTemplate.delete(postIds.stream().map(id -> POST_CARD_KEY_PREFIX + id).toList());
+		} catch (DataAccessException e) {
+			log.warn("POST_CARD Redis 삭제 실패. postIds={}", postIds, e);
+		}
+	}
+
+	private void swapLocalTopPosts(List<PostDto> posts) {
+		topPostSnapshot.set(new TopPostSnapshot(List.copyOf(posts), System.currentTimeMillis()));
+	}
+
+	/**
+	 * POST_CARD 여러 개를 MGET 한 번으로 조회한다. 순서는 요청 순서를 따르며, 미스는 null로 채운다.
+	 */
+	private List<PostDto> multiGetCards(List<String> postIds) {
+		List<String> keys = postIds.stream().map(id -> POST_CARD_KEY_PREFIX + id).toList();
+		List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+		List<PostDto> posts = new ArrayList<>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			String json = values == null ? null : values.get(i);
+			posts.add(json == null ? null : deserializeCard(json));
+		}
+		return posts;
+	}
+
+	private Map<String, String> serializeCards(List<PostDto> posts) {
+		Map<String, String> cards = new LinkedHashMap<>();
+		for (PostDto post : posts) {
+			try {
+				cards.put(POST_CARD_KEY_PREFIX + post.postId(), objectMapper.writeValueAsString(post));
+			} catch (JsonProcessingException e) {
+				log.error("Redis 캐싱 직렬화 실패. postId={}", post.postId(), e);
+			}
+		}
+		return cards;
+	}
+
+	private PostDto deserializeCard(String json) {
+		try {
+			return objectMapper.readValue(json, PostDto.class);
+		} catch (JsonProcessingException e) {
+			log.warn("POST_CARD 역직렬화 실패 → 미스로 처리", e);
+			return null;
+		}
+	}
+
+	private record TopPostSnapshot(List<PostDto> posts, long cachedAtMillis) {
+		boolean isExpired(Duration ttl) {
+			return System.currentTimeMillis() - cachedAtMillis > ttl.toMillis();
+		}
+	}
+}
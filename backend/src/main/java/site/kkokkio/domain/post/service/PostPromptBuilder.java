@@ -0,0 +1,182 @@
+package site.kkokkio.domain.post.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import site.kkokkio.domain.source.entity.Source;
+import site.kkokkio.global.enums.Platform;
+import site.kkokkio.infra.ai.prompt.AiTokenEstimator;
+
+/**
+ * AI 요약 입력(userContent) 구성
+ * - 제목+설명의 SimHash 가 가까운 소스(같은 기사 전재 등)는 최신 소스 하나만 남긴다.
+ * - 최신순으로 정렬한 뒤 플랫폼을 번갈아 배치하고, 추정 토큰 수가 max-input-tokens 를 넘지 않도록 앞에서부터 담는다.
+ * - 압축 전/후 추정 토큰 수를 ai.prompt.tokens{stage=raw|compacted} 로 기록한다.
+ */
+@Slf4j
+@Component
+public class PostPromptBuilder {
+	public static final String TOKENS_METRIC = "ai.prompt.tokens";
+	public static final String DROPPED_METRIC = "ai.prompt.sources.dropped";
+	private static final int SHINGLE_SIZE = 3;
+
+	private final DistributionSummary rawTokens;
+	private final DistributionSummary compactedTokens;
+	private final Counter duplicateCounter;
+	private final Counter budgetCounter;
+
+	// 키워드 1건 입력의 추정 토큰 상한 (첫 번째 소스는 넘더라도 포함)
+	@Value("${ai.prompt.max-input-tokens:1500}")
+	private int maxInputTokens;
+
+	// 64비트 SimHash 해밍 거리가 이 값 이하면 중복 소스
+	@Value("${ai.prompt.simhash-distance:3}")
+	private int simHashDistance;
+
+	public PostPromptBuilder(MeterRegistry meterRegistry) {
+		this.rawTokens = tokensSummary(meterRegistry, "raw");
+		this.compactedTokens = tokensSummary(meterRegistry, "compacted");
+		this.duplicateCounter = droppedCounter(meterRegistry, "duplicate");
+		this.budgetCounter = droppedCounter(meterRegistry, "budget");
+	}
+
+	/**
+	 * 키워드의 소스 목록으로 AI 요약 입력을 만든다.
+	 */
+	public String build(Long keywordId, List<Source> sources) {
+		// 1. 최신순 정렬 후 중복 소스 제거 (먼저 나온 최신 소스를 남긴다)
+		List<Source> unique = new ArrayList<>();
+		List<Long> hashes = new ArrayList<>();
+		for (Source source : sources.stream().sorted(recency()).toList()) {
+			long hash = simHash(
+				Objects.toString(source.getTitle(), "") + " " + Objects.toString(source.getDescription(), ""));
+			if (hashes.stream().anyMatch(kept -> Long.bitCount(kept ^ hash) <= simHashDistance)) {
+				continue;
+			}
+			hashes.add(hash);
+			unique.add(source);
+		}
+
+		// 2. 플랫폼 다양성 배치 → 3. 토큰 예산 안에서 담기
+		StringBuilder sb = new StringBuilder();
+		int tokens = 0;
+		int kept = 0;
+		for (Source source : diversify(unique)) {
+			String block = format(source);
+			int blockTokens = AiTokenEstimator.estimateMax(block);
+			if (kept > 0 && tokens + blockTokens > maxInputTokens) {
+				continue;
+			}
+			sb.append(block);
+			tokens += blockTokens;
+			kept++;
+		}
+
+		// 4. 절감량 기록 (압축 전 = 모든 소스를 그대로 이어 붙인 입력)
+		int raw = sources.stream().mapToInt(source -> AiTokenEstimator.estimateMax(format(source))).sum();
+		rawTokens.record(raw);
+		compactedTokens.record(tokens);
+		duplicateCounter.increment(sources.size() - unique.size());
+		budgetCounter.increment(unique.size() - kept);
+		log.info("AI 요약 입력 구성. keyword={}, sources={}→{} (duplicates={}), tokens≈{}→{}",
+			keywordId, sources.size(), kept, sources.size() - unique.size(), raw, tokens);
+		return sb.toString();
+	}
+
+	/**
+	 * 플랫폼별 최신순 큐를 번갈아 꺼낸다. (가장 최신 소스가 있는 플랫폼부터)
+	 */
+	static List<Source> diversify(List<Source> recencyOrdered) {
+		Map<Platform, Deque<Source>> byPlatform = new LinkedHashMap<>();
+		recencyOrdered.forEach(source ->
+			byPlatform.computeIfAbsent(source.getPlatform(), platform -> new ArrayDeque<>()).add(source));
+
+		List<Source> result = new ArrayList<>(recencyOrdered.size());
+		while (result.size() < recencyOrdered.size()) {
+			for (Deque<Source> queue : byPlatform.values()) {
+				if (!queue.isEmpty()) {
+					result.add(queue.poll());
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 글자/숫자만 남긴 문자열의 3글자 shingle 로 만든 64비트 SimHash
+	 */
+	static long simHash(String text) {
+		String normalized = text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]", "");
+		int[] weights = new int[Long.SIZE];
+		int shingles = Math.max(1, normalized.length() - SHINGLE_SIZE + 1);
+		for (int i = 0; i < shingles; i++) {
+			long hash = hash64(normalized.substring(i, Math.min(normalized.length(), i + SHINGLE_SIZE)));
+			for (int bit = 0; bit < Long.SIZE; bit++) {
+				weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+			}
+		}
+		long result = 0L;
+		for (int bit = 0; bit < Long.SIZE; bit++) {
+			if (weights[bit] > 0) {
+				result |= 1L << bit;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * FNV-1a 64 + MurmurHash3 fmix64 (짧은 shingle 도 비트가 고르게 섞이도록)
+	 */
+	private static long hash64(String value) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+
+	private static String format(Source source) {
+		return "제목: " + source.getTitle() + "\n"
+			+ "설명: " + source.getDescription() + "\n"
+			+ "URL: " + source.getNormalizedUrl() + "\n"
+			+ "플랫폼: " + source.getPlatform() + "\n\n";
+	}
+
+	private static Comparator<Source> recency() {
+		return Comparator.comparing(Source::getPublishedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+	}
+
+	private static DistributionSummary tokensSummary(MeterRegistry meterRegistry, String stage) {
+		return DistributionSummary.builder(TOKENS_METRIC)
+			.description("키워드별 AI 요약 입력 추정 토큰 수 (제공자 중 최대 추정값)")
+			.tag("stage", stage)
+			.register(meterRegistry);
+	}
+
+	private static Counter droppedCounter(MeterRegistry meterRegistry, String reason) {
+		return Counter.builder(DROPPED_METRIC)
+			.description("AI 요약 입력에서 뺀 소스 수")
+			.tag("reason", reason)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,146 @@
+package site.kkokkio.domain.post.service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import site.kkokkio.domain.post.repository.PostReportRepository;
+import site.kkokkio.global.util.TtlLruCache;
+
+/**
+ * 회원별 신고한 포스트 ID 인덱스 (로컬 → Redis Set → DB)
+ * - POST_REPORTED:{email} : 신고한 포스트 ID Set, 적재 완료 표시값("0")을 함께 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostReportCacheService {
+	public static final String REPORTED_POST_KEY_PREFIX = "POST_REPORTED:";
+	// 신고 이력이 없는 회원도 적재 완료로 구분하기 위한 표시값 (post_id는 1부터 시작)
+	private static final String LOADED_MARKER = "0";
+	private static final int LOCAL_MAX_SIZE = 10_000;
+
+	private final StringRedisTemplate redisTemplate;
+	private final PostReportRepository postReportRepository;
+
+	@Value("${cache.post.reported-ttl:24h}")
+	private Duration reportedTtl;
+
+	@Value("${cache.post.reported-local-ttl:10s}")
+	private Duration reportedLocalTtl;
+
+	// 회원 이메일 → 신고한 포스트 ID 로컬 미러
+	private TtlLruCache<String, Set<Long>> localCache;
+
+	@PostConstruct
+	void init() {
+		localCache = new TtlLruCache<>(LOCAL_MAX_SIZE, reportedLocalTtl);
+	}
+
+	public boolean isReportedBy(String email, Long postId) {
+		return getReportedPostIds(email).contains(postId);
+	}
+
+	/**
+	 * 회원이 신고한 포스트 ID 목록을 로컬 → Redis → DB 순으로 조회한다.
+	 */
+	public Set<Long> getReportedPostIds(String email) {
+		// 1. 로컬 미러
+		Set<Long> cached = localCache.get(email);
+		if (cached != null) {
+			return cached;
+		}
+
+		// 2. Redis Set → 3. DB (적재 후 Redis 채움)
+		Set<Long> postIds = loadFromRedis(email).orElseGet(() -> loadFromDatabase(email));
+		localCache.put(email, postIds);
+		return postIds;
+	}
+
+	/**
+	 * 신고 직후 인덱스에 포스트를 추가한다.
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 반영해, 롤백된 신고가 남지 않도록 한다.
+	 */
+	public void addReportedPost(String email, Long postId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					addToIndex(email, postId);
+				}
+			});
+			return;
+		}
+		addToIndex(email, postId);
+	}
+
+	private void addToIndex(String email, Long postId) {
+		localCache.computeIfPresent(email, postIds -> {
+			Set<Long> updated = new HashSet<>(postIds);
+			updated.add(postId);
+			return Set.copyOf(updated);
+		});
+
+		// 적재 전 Set에 추가되더라도 표시값이 없으므로 다음 조회 시 DB에서 다시 적재된다
+		String key = REPORTED_POST_KEY_PREFIX + email;
+		try {
+			redisTemplate.opsForSet().add(key, String.valueOf(postId));
+			redisTemplate.expire(key, reportedTtl);
+		} catch (DataAccessException e) {
+			log.warn("신고 인덱스 Redis 갱신 실패. email={}, postId={}", email, postId, e);
+		}
+	}
+
+	private Optional<Set<Long>> loadFromRedis(String email) {
+		try {
+			Set<String> members = redisTemplate.opsForSet().members(REPORTED_POST_KEY_PREFIX + email);
+			if (members == null || !members.contains(LOADED_MARKER)) {
+				return Optional.empty();
+			}
+
+			return Optional.of(members.stream()
+				.filter(member -> !LOADED_MARKER.equals(member))
+				.map(Long::valueOf)
+				.collect(Collectors.toUnmodifiableSet()));
+		} catch (DataAccessException e) {
+			log.warn("신고 인덱스 Redis 조회 실패 → DB 조회로 대체. email={}", email, e);
+			return Optional.empty();
+		}
+	}
+
+	private Set<Long> loadFromDatabase(String email) {
+		Set<Long> postIds = Set.copyOf(postReportRepository.findPostIdsByReporterEmail(email));
+
+		String key = REPORTED_POST_KEY_PREFIX + email;
+		String[] members = Stream.concat(Stream.of(LOADED_MARKER), postIds.stream().map(String::valueOf))
+			.toArray(String[]::new);
+		long ttlSeconds = reportedTtl.toSeconds();
+
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection conn = (StringRedisConnection)connection;
+				conn.sAdd(key, members);
+				conn.expire(key, ttlSeconds);
+				return null;
+			});
+		} catch (DataAccessException e) {
+			log.warn("신고 인덱스 Redis 적재 실패. email={}", email, e);
+		}
+		return postIds;
+	}
+}
@@ -10,18 +10,23 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -31,6 +36,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import site.kkokkio.domain.keyword.dto.KeywordMetricHourlyDto;
 import site.kkokkio.domain.keyword.entity.Keyword;
 import site.kkokkio.domain.keyword.entity.KeywordMetricHourly;
@@ -41,7 +48,9 @@ import site.kkokkio.domain.keyword.service.KeywordMetricHourlyService;
 import site.kkokkio.domain.member.entity.Member;
 import site.kkokkio.domain.member.service.MemberService;
 import site.kkokkio.domain.post.controller.dto.PostReportRequest;
+import site.kkokkio.domain.post.dto.PostDraft;
 import site.kkokkio.domain.post.dto.PostDto;
+import site.kkokkio.domain.post.dto.PostGenerationTarget;
 import site.kkokkio.domain.post.dto.ReportedPostSummary;
 import site.kkokkio.domain.post.entity.Post;
 import site.kkokkio.domain.post.entity.PostKeyword;
@@ -52,6 +61,7 @@ import site.kkokkio.domain.post.repository.PostKeywordRepository;
 import site.kkokkio.domain.post.repository.PostMetricHourlyRepository;
 import site.kkokkio.domain.post.repository.PostReportRepository;
 import site.kkokkio.domain.post.repository.PostRepository;
+import site.kkokkio.domain.post.service.PostTrendingService.TrendingEvent;
 import site.kkokkio.domain.source.entity.KeywordSource;
 import site.kkokkio.domain.source.entity.PostSource;
 import site.kkokkio.domain.source.entity.Source;
@@ -61,11 +71,15 @@ import site.kkokkio.global.enums.Platform;
 import site.kkokkio.global.enums.ReportProcessingStatus;
 import site.kkokkio.global.enums.ReportReason;
 import site.kkokkio.global.exception.ServiceException;
+import site.kkokkio.infra.common.exception.RetryableExternalApiException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
+	private static final int MAX_CARD_BULK_SIZE = 50;
+	private static final String AI_SUMMARY_SUFFIX = "\n\nGenerated By AI";
+
 	private final PostRepository postRepository;
 	private final KeywordRepository keywordRepository;
 	private final KeywordMetricHourlyRepository keywordMetricHourlyRepository;
@@ -79,36 +93,167 @@ public class PostService {
 	private final ObjectMapper objectMapper;
 	private final AiSummaryPort aiSummaryPort;
 	private final MemberService memberService;
+	private final PostCacheService postCacheService;
+	private final PostReportCacheService postReportCacheService;
+	private final PostTrendingService postTrendingService;
+	private final PostSummaryCache postSummaryCache;
+	private final PostPromptBuilder postPromptBuilder;
+
+	// 동시에 보내는 일괄 요약 요청 수 (prefetchSummaries 에만 적용, 키워드별 요약은 청크 스텝이 파티션마다 순서대로 요청)
+	@Value("${ai.summary.concurrency:4}")
+	private int summaryConcurrency;
+
+	@Value("${ai.summary.timeout:60s}")
+	private Duration summaryTimeout;
+
+	// 한 번의 AI 요청으로 요약할 키워드 수 (1 이하면 일괄 요약을 하지 않는다)
+	@Value("${ai.summary.batch.size:1}")
+	private int summaryBatchSize;
+
+	@Value("${ai.summary.batch.timeout:120s}")
+	private Duration summaryBatchTimeout;
 
 	public Post getPostById(Long id) {
 		return postRepository.findById(id)
 			.orElseThrow(() -> new ServiceException("404", "해당 포스트를 찾을 수 없습니다."));
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * 포스트 단건 조회 (POST_CARD 캐시 → DB)
+	 * 캐시 미스 시 DB에서 카드를 만들어 채우고, 사용자별 신고 여부는 카드 위에 덧씌운다.
+	 */
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 	public PostDto getPostWithKeywordById(Long id, UserDetails userDetails) {
+		PostDto card = postCacheService.getCard(id)
+			.orElseGet(() -> loadPostCard(id));
+
+		return card.withReportedByMe(isReportedByMe(userDetails, id));
+	}
+
+	private PostDto loadPostCard(Long id) {
 		Post post = postRepository.findByIdAndDeletedAtIsNull(id)
 			.orElseThrow(() -> new ServiceException("404", "포스트를 불러오지 못했습니다."));
 
 		PostKeyword postKeyword = postKeywordRepository.findByPost_Id(id)
 			.orElseThrow(() -> new ServiceException("404", "포스트를 불러오지 못했습니다."));
 
-		String keywordText = postKeyword.getKeyword().getText();
-
-		return PostDto.from(post, keywordText, isReportedByMe(userDetails, post));
+		PostDto card = PostDto.from(post, postKeyword.getKeyword().getText());
+		postCacheService.putCard(card);
+		return card;
 	}
 
-	private Boolean isReportedByMe(UserDetails userDetails, Post post) {
+	private Boolean isReportedByMe(UserDetails userDetails, Long postId) {
 		if (userDetails == null) {
 			return null;
 		}
-		Member member = memberService.findByEmail(userDetails.getUsername());
+		// 회원별 신고 인덱스 조회 (회원/신고 테이블 조회 없음)
+		return postReportCacheService.isReportedBy(userDetails.getUsername(), postId);
+	}
+
+	/**
+	 * 포스트 카드 일괄 조회
+	 * POST_CARD MGET 한 번으로 조회하고, 미스난 카드만 IN 쿼리 한 번으로 채운다.
+	 * @param postIds 조회할 포스트 ID 목록 (요청 순서 유지, 없는 포스트는 제외)
+	 */
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	public List<PostDto> getPostCardsByIds(List<Long> postIds) {
+		// 1. 요청 검증
+		if (postIds == null || postIds.isEmpty()) {
+			throw new ServiceException("400", "포스트가 선택되지 않았습니다.");
+		}
+		List<Long> distinctIds = postIds.stream().filter(Objects::nonNull).distinct().toList();
+		if (distinctIds.size() > MAX_CARD_BULK_SIZE) {
+			throw new ServiceException("400", "한 번에 조회할 수 있는 포스트 수를 초과했습니다.");
+		}
+
+		// 2. Redis MGET
+		Map<Long, PostDto> cards = new HashMap<>(postCacheService.getCards(distinctIds));
 
-		return postReportRepository.existsByPostAndReporter(post, member);
+		// 3. 미스난 카드만 DB 조회 후 캐시 채움
+		List<Long> missedIds = distinctIds.stream()
+			.filter(id -> !cards.containsKey(id))
+			.toList();
+		if (!missedIds.isEmpty()) {
+			List<PostDto> loaded = postKeywordRepository.findAllByPostIdIn(missedIds).stream()
+				.filter(pk -> !pk.getPost().isDeleted())
+				.map(pk -> PostDto.from(pk.getPost(), pk.getKeyword().getText()))
+				.toList();
+			postCacheService.putCards(loaded);
+			loaded.forEach(card -> cards.put(card.postId(), card));
+		}
+
+		// 4. 요청 순서대로 반환
+		return distinctIds.stream()
+			.map(cards::get)
+			.filter(Objects::nonNull)
+			.toList();
 	}
 
-	@Transactional(readOnly = true)
+	/**
+	 * Top 포스트 조회 (로컬 캐시 → Redis → DB)
+	 * 캐시 히트 시에는 커넥션을 잡지 않도록 트랜잭션을 SUPPORTS로 둔다.
+	 */
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 	public List<PostDto> getTopPostsWithKeyword() {
+		Optional<List<PostDto>> cached = postCacheService.getTopPosts();
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		List<PostDto> topPosts = findTopPostsWithKeyword();
+		postCacheService.replaceTopPosts(topPosts);
+		return topPosts;
+	}
+
+	/**
+	 * 배치 종료 시 Top 포스트 캐시를 DB 기준으로 교체한다. (정각 전체 실행, 증분 갱신 모두)
+	 * @return 캐싱된 Top 포스트 수
+	 */
+	@Transactional(readOnly = true)
+	public int refreshTopPostCache() {
+		List<PostDto> topPosts = findTopPostsWithKeyword();
+		postCacheService.replaceTopPosts(topPosts);
+		return topPosts.size();
+	}
+
+	/**
+	 * 이번 시간 Top 키워드 점수를 포스트 트렌딩 점수에 적립한다.
+	 * 시간당 한 번만 적립해야 하므로 정각 전체 실행에서만 호출한다. (증분 갱신은 캐시만 교체)
+	 * @return 점수를 적립한 포스트 수
+	 */
+	@Transactional(readOnly = true)
+	public int creditTopKeywordScores() {
+		Map<Long, Integer> keywordScores = new HashMap<>();
+		findTopKeywordMetricsWithPost().forEach(
+			metric -> keywordScores.merge(metric.getPost().getId(), metric.getScore(), Integer::sum));
+		postTrendingService.recordAll(TrendingEvent.KEYWORD, keywordScores);
+		return keywordScores.size();
+	}
+
+	/**
+	 * 트렌딩 포스트 조회
+	 * 감쇠 점수 상위 ID를 ZREVRANGE 로 읽고 카드 캐시로 채운다. (숨김 처리된 포스트는 제외)
+	 * @param size 조회할 포스트 수 (1 ~ 50)
+	 */
+	@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+	public List<PostDto> getTrendingPosts(int size) {
+		if (size < 1 || size > MAX_CARD_BULK_SIZE) {
+			throw new ServiceException("400", "조회 크기는 1 이상 50 이하여야 합니다.");
+		}
+		List<Long> postIds = postTrendingService.getTrendingPostIds(size);
+		if (postIds.isEmpty()) {
+			return List.of();
+		}
+		return getPostCardsByIds(postIds);
+	}
+
+	private List<PostDto> findTopPostsWithKeyword() {
+		return findTopKeywordMetricsWithPost().stream()
+			.map(metric -> PostDto.from(metric.getPost(), metric.getKeyword().getText()))
+			.toList();
+	}
+
+	private List<KeywordMetricHourly> findTopKeywordMetricsWithPost() {
 		LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC"));
 		String formattedNow = now.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS"));
 		List<KeywordMetricHourly> topKeywordMetrics =
@@ -124,18 +269,9 @@ public class PostService {
 				}
 				return true;
 			}) // post_id가 null인 키워드 발견 시 서버 문제 예외처리
-			.map(metric -> PostDto.from(metric.getPost(), metric.getKeyword().getText()))
 			.toList();
 	}
 
-	/**
-	 * 비동기로 요약을 요청한다.
-	 */
-	@Async
-	public CompletableFuture<String> summarizeAsync(String content) {
-		return aiSummaryPort.summarize(null, content);
-	}
-
 	/**
 	 * 중복 제거를 위해 분리
 	 */
@@ -198,116 +334,241 @@ public class PostService {
 	}
 
 	/**
-	 * 신규 키워드에 대해서 포스트를 생성한다.
+	 * 키워드별 생성/연결 대상과 AI 요약 입력을 만든다. (소스가 없는 키워드는 제외)
 	 */
-	@Transactional
-	public List<Long> generatePosts(List<Long> keywordIds) {
-		// Step 1. 현재 Top10 키워드 전체 조회
-		List<KeywordMetricHourlyDto> allTopKeywords = keywordMetricHourlyService.findHourlyMetrics();
-		// List<Long> keywordIds = allTopKeywords.stream().map(KeywordMetricHourlyDto::keywordId).toList();
+	@Transactional(readOnly = true)
+	public List<PostGenerationTarget> findGenerationTargets(List<Long> keywordIds) {
+		// 요청한 키워드의 최근 버킷 메트릭만 조회 (증분 갱신 키워드는 Top10 밖일 수 있다)
+		List<KeywordMetricHourlyDto> metrics = keywordMetricHourlyService.findHourlyMetrics(keywordIds);
 
-		// Step 2. Top10 keywords → sources 맵 조회
+		// keywords → sources 맵 조회
 		// TODO: executionContext로 수집한 new Source Url 리스트로 대체
 		List<KeywordSource> keywordSources = keywordSourceRepository.findTopSourcesByKeywordIdsLimited(keywordIds, 10);
 		Map<Long, List<Source>> keywordToSources = KeywordSource.groupByKeywordId(keywordSources);
 
-		List<Long> newPostIds = new ArrayList<>();
+		List<PostGenerationTarget> targets = new ArrayList<>();
+		for (KeywordMetricHourlyDto metric : metrics) {
+			List<Source> sources = keywordToSources.getOrDefault(metric.keywordId(), List.of());
+			if (sources.isEmpty()) {
+				log.warn("Source 없음 → keyword={} 스킵", metric.keywordId());
+				continue;
+			}
+
+			// 여러 소스 내용을 하나의 userContent로 합치기 (중복 소스 제거, 토큰 예산 적용)
+			String userContent = postPromptBuilder.build(metric.keywordId(), sources);
+			targets.add(new PostGenerationTarget(metric, sources, userContent));
+		}
+		return targets;
+	}
+
+	/**
+	 * 신규 포스트 대상의 AI 요약을 summaryBatchSize 건씩 묶어 한 번에 요청하고, 결과를 요약 캐시에 채운다.
+	 * 이후 키워드별 요약 요청은 캐시에서 가져가므로, 일괄 요청이 실패했거나 응답에서 빠진 키워드만 AI 를 다시 호출한다.
+	 * @return 일괄 요약으로 채운 키워드 수
+	 */
+	public int prefetchSummaries(List<PostGenerationTarget> targets) {
+		if (summaryBatchSize <= 1) {
+			return 0;
+		}
+
+		// 1. 요약이 필요한데 캐시에 없는 대상만
+		List<PostGenerationTarget> pending = targets.stream()
+			.filter(target -> !target.metric().lowVariation())
+			.filter(target -> !postSummaryCache.contains(target))
+			.toList();
+
+		// 2. summaryBatchSize 건씩 묶어 동시에 최대 summaryConcurrency 건 요청 (1건짜리 묶음은 키워드별 요청에 맡긴다)
+		List<List<PostGenerationTarget>> batches = IntStream.iterate(0, i -> i < pending.size(),
+				i -> i + summaryBatchSize)
+			.mapToObj(i -> pending.subList(i, Math.min(i + summaryBatchSize, pending.size())))
+			.filter(batch -> batch.size() > 1)
+			.toList();
+		if (batches.isEmpty()) {
+			return 0;
+		}
+
+		return Flux.fromIterable(batches)
+			.flatMap(batch -> requestBatchSummary(batch)
+				.onErrorResume(e -> {
+					log.warn("AI 일괄 요약 실패 → 키워드별 요약으로 대체. keywords={}", keywordIdsOf(batch), e);
+					return Mono.just(0);
+				}), summaryConcurrency)
+			.reduce(0, Integer::sum)
+			.blockOptional()
+			.orElse(0);
+	}
 
-		for (KeywordMetricHourlyDto metric : allTopKeywords) {
+	/**
+	 * 대상 1건의 포스트 초안을 만든다. (청크 스텝에서 키워드 단위로 호출)
+	 * 재시도 가능한 외부 API 오류와 제한 시간 초과는 호출한 쪽의 재시도/스킵 정책에 맡기고,
+	 * 그 외 실패는 첫 번째 소스로 대체한다.
+	 */
+	public PostDraft draftPost(PostGenerationTarget target) {
+		if (target.metric().lowVariation()) {
+			return PostDraft.link(target);
+		}
+		return requestSummary(target)
+			.onErrorResume(e -> !(e instanceof RetryableExternalApiException), e -> {
+				log.error("AI 요약 실패, keyword={} → fallback 사용", target.keywordId(), e);
+				return Mono.just(PostDraft.fallback(target));
+			})
+			.block();
+	}
+
+	/**
+	 * 포스트 초안을 저장한다.
+	 * low_variation 초안은 기존 포스트에 연결하고, 나머지는 신규 포스트와 연관 관계를 만든다.
+	 * @return 신규 포스트 ID 목록
+	 */
+	@Transactional
+	public List<Long> savePostDrafts(List<? extends PostDraft> drafts) {
+		List<Long> newPostIds = new ArrayList<>();
+		for (PostDraft draft : drafts) {
+			KeywordMetricHourlyDto metric = draft.metric();
 			Long keywordId = metric.keywordId();
-			// String keywordText = metric.text();
 			LocalDateTime bucketAt = metric.bucketAt();
 
-			List<Source> sources = keywordToSources.getOrDefault(keywordId, List.of());
-			if (sources.isEmpty()) {
-				log.warn("Source 없음 → keyword={} 스킵", keywordId);
+			// low_variation=true → 포스트 생성 스킵 + 기존 포스트 연결
+			if (draft.linkOnly()) {
+				linkExistingPost(keywordId, bucketAt, draft.sources());
 				continue;
 			}
 
-			// Step 3A. low_variation=true → 포스트 생성 스킵 + 기존 포스트 연결
-			if (metric.lowVariation()) {
-				Post existingPost = getMostRecentPostByKeyword(keywordId);
-				if (existingPost == null) {
-					log.warn("기존 포스트 없음 → keyword={} 스킵", keywordId);
-					continue;
-				}
+			// low_variation=false → 신규 Post 생성
+			Long postId = createPostAndRelations(draft.title(), draft.summary(), draft.sources(), bucketAt, keywordId);
+			newPostIds.add(postId);
+		}
+		return newPostIds;
+	}
 
-				// KeywordMetricHourly ↔ Post 연결
-				KeywordMetricHourlyId keywordMetricHourlyId = new KeywordMetricHourlyId(bucketAt, Platform.GOOGLE_TREND,
-					keywordId);
-				KeywordMetricHourly keywordMetricHourly = keywordMetricHourlyRepository.findById(keywordMetricHourlyId)
-					.orElseThrow(() -> new ServiceException("404", "KeywordMetricHourly를 찾을 수 없습니다."));
+	/**
+	 * AI 요약 1건 요청 (제한 시간 초과는 재시도 가능한 외부 API 오류로 변환)
+	 * 같은 소스 조합과 프롬프트로 만든 요약이 캐시에 있으면 AI 를 호출하지 않는다.
+	 */
+	private Mono<PostDraft> requestSummary(PostGenerationTarget target) {
+		return Mono.defer(() -> postSummaryCache.get(target)
+			.map(cached -> Mono.just(PostDraft.of(target, cached.title(), cached.summary())))
+			.orElseGet(() -> requestAiSummary(target)));
+	}
 
-				keywordMetricHourly.setPost(existingPost);
+	private Mono<PostDraft> requestAiSummary(PostGenerationTarget target) {
+		return Mono.fromFuture(() -> aiSummaryPort.summarize(null, target.userContent()))
+			.timeout(summaryTimeout)
+			.onErrorMap(TimeoutException.class,
+				e -> new RetryableExternalApiException(504, "AI 요약 제한 시간을 초과했습니다."))
+			.doOnNext(aiResponse -> log.info("[AI 응답(raw)] {}", aiResponse))
+			.map(aiResponse -> parseSummary(target, aiResponse));
+	}
 
-				// Source ↔ Post 매핑
-				linkSourcesToPost(existingPost, sources);
+	private PostDraft parseSummary(PostGenerationTarget target, String aiResponse) {
+		// 1) 마크다운 펜스 제거
+		String jsonResponse = stripCodeFence(aiResponse);
 
-				continue;
+		// 2) JSON 파싱
+		try {
+			JsonNode root = objectMapper.readTree(jsonResponse);
+
+			String rawTitle = root.path("title").asText(null);
+			String rawSummary = root.path("summary").asText(null);
+
+			if (rawTitle == null || rawSummary == null) {
+				//키 누락 시 폴백 처리 - 첫 소스의 제목과 요약을 사용
+				log.info("AI 응답 누락, 포스트 작성에 첫 번째 소스 사용");
+				return PostDraft.fallback(target);
 			}
+			String summary = rawSummary + AI_SUMMARY_SUFFIX;
+			postSummaryCache.put(target, rawTitle, summary);
+			return PostDraft.of(target, rawTitle, summary);
+		} catch (IOException | JsonProcessingException e) {
+			log.error("AI 응답 파싱 실패, keyword={} → fallback 사용", target.keywordId(), e);
+			return PostDraft.fallback(target);
+		}
+	}
 
-			// Step 3B. low_variation=false → 신규 Post 생성
+	/**
+	 * AI 일괄 요약 1건 요청. 키워드마다 "### keyword_id: {ID}" 머리글 아래 소스 내용을 붙인다.
+	 */
+	private Mono<Integer> requestBatchSummary(List<PostGenerationTarget> batch) {
+		String content = batch.stream()
+			.map(target -> "### keyword_id: " + target.keywordId() + "\n"
+				+ "키워드: " + target.metric().text() + "\n\n"
+				+ target.userContent())
+			.collect(Collectors.joining("\n"));
+		return Mono.fromFuture(() -> aiSummaryPort.summarizeBatch(null, content, batch.size()))
+			.timeout(summaryBatchTimeout)
+			.map(aiResponse -> parseBatchSummary(batch, aiResponse));
+	}
 
-			// 1) 여러 소스 내용을 하나의 userContent로 합치기
-			StringBuilder sb = new StringBuilder();
-			for (Source src : sources) {
-				sb.append("제목: ").append(src.getTitle()).append("\n")
-					.append("설명: ").append(src.getDescription()).append("\n")
-					.append("URL: ").append(src.getNormalizedUrl()).append("\n")
-					.append("플랫폼: ").append(src.getPlatform()).append("\n\n");
+	/**
+	 * 일괄 요약 응답(JSON 배열)에서 요청한 키워드와 keyword_id 가 맞고 제목/요약이 모두 있는 항목만 캐시에 넣는다.
+	 * 같은 키워드의 항목이 여러 개면 먼저 나온 유효한 항목만 쓰고, 요청하지 않은 keyword_id 는 버린다.
+	 * @return 캐시에 넣은 키워드 수
+	 */
+	int parseBatchSummary(List<PostGenerationTarget> batch, String aiResponse) {
+		Map<Long, PostGenerationTarget> remaining = batch.stream()
+			.collect(Collectors.toMap(PostGenerationTarget::keywordId, Function.identity(), (a, b) -> a, HashMap::new));
+
+		JsonNode root;
+		try {
+			root = objectMapper.readTree(stripCodeFence(aiResponse));
+		} catch (JsonProcessingException e) {
+			log.warn("AI 일괄 요약 파싱 실패 → 키워드별 요약으로 대체. keywords={}", remaining.keySet(), e);
+			return 0;
+		}
+		if (root == null || !root.isArray()) {
+			log.warn("AI 일괄 요약 응답이 배열이 아님 → 키워드별 요약으로 대체. keywords={}", remaining.keySet());
+			return 0;
+		}
+
+		int filled = 0;
+		for (JsonNode entry : root) {
+			PostGenerationTarget target = remaining.remove(entry.path("keyword_id").asLong(-1L));
+			if (target == null) {
+				continue;
 			}
-			String userContent = sb.toString();
-
-			String aiResponse = null;
-			String postTitle;
-			String postSummary;
-
-			try {
-				aiResponse = summarizeAsync(userContent).get();
-				log.info("[AI 응답(raw)] {}", aiResponse);
-			} catch (Exception e) {
-				log.error("AI 요약 실패, keyword={} → fallback 사용", keywordId, e);
-				postTitle = sources.getFirst().getTitle();
-				postSummary = sources.getFirst().getDescription();
-				// 포스트 생성 및 관련 링크 생성
-				Long postId = createPostAndRelations(postTitle, postSummary, sources, bucketAt, keywordId);
-				newPostIds.add(postId);
+			String rawTitle = entry.path("title").asText(null);
+			String rawSummary = entry.path("summary").asText(null);
+			if (rawTitle == null || rawTitle.isBlank() || rawSummary == null || rawSummary.isBlank()) {
+				remaining.put(target.keywordId(), target);
 				continue;
 			}
+			postSummaryCache.putPrefetched(target, rawTitle, rawSummary + AI_SUMMARY_SUFFIX);
+			filled++;
+		}
+		if (!remaining.isEmpty()) {
+			log.info("AI 일괄 요약 누락 → 키워드별 요약으로 대체. keywords={}", remaining.keySet());
+		}
+		return filled;
+	}
 
-			// 2) 마크다운 펜스 제거
-			String jsonResponse = aiResponse
-				.replaceAll("(?m)^```(?:json)?\\s*", "")
-				.replaceAll("(?m)```\\s*$", "")
-				.trim();
-
-			// 3) JSON 파싱
-			try {
-				JsonNode root = objectMapper.readTree(jsonResponse);
-
-				String rawTitle = root.path("title").asText(null);
-				String rawSummary = root.path("summary").asText(null);
-
-				if (rawTitle == null || rawSummary == null) {
-					//키 누락 시 폴백 처리 - 첫 소스의 제목과 요약을 사용
-					log.info("AI 응답 누락, 포스트 작성에 첫 번째 소스 사용");
-					postTitle = sources.get(0).getTitle();
-					postSummary = sources.get(0).getDescription();
-				} else {
-					postTitle = rawTitle;
-					postSummary = rawSummary + "\n\nGenerated By AI";
-				}
+	private static String stripCodeFence(String aiResponse) {
+		return aiResponse
+			.replaceAll("(?m)^```(?:json)?\\s*", "")
+			.replaceAll("(?m)```\\s*$", "")
+			.trim();
+	}
 
-			} catch (IOException | JsonProcessingException e) {
-				log.error("AI 응답 파싱 실패, keyword={} → fallback 사용", keywordId, e);
-				postTitle = sources.get(0).getTitle();
-				postSummary = sources.get(0).getDescription();
-			}
-			// 4) 포스트 생성 및 관련 링크 생성
-			Long postId = createPostAndRelations(postTitle, postSummary, sources, bucketAt, keywordId);
-			newPostIds.add(postId);
+	private static List<Long> keywordIdsOf(List<PostGenerationTarget> targets) {
+		return targets.stream().map(PostGenerationTarget::keywordId).toList();
+	}
+
+	private void linkExistingPost(Long keywordId, LocalDateTime bucketAt, List<Source> sources) {
+		Post existingPost = getMostRecentPostByKeyword(keywordId);
+		if (existingPost == null) {
+			log.warn("기존 포스트 없음 → keyword={} 스킵", keywordId);
+			return;
 		}
-		return newPostIds;
+
+		// KeywordMetricHourly ↔ Post 연결
+		KeywordMetricHourlyId keywordMetricHourlyId = new KeywordMetricHourlyId(bucketAt, Platform.GOOGLE_TREND,
+			keywordId);
+		KeywordMetricHourly keywordMetricHourly = keywordMetricHourlyRepository.findById(keywordMetricHourlyId)
+			.orElseThrow(() -> new ServiceException("404", "KeywordMetricHourly를 찾을 수 없습니다."));
+
+		keywordMetricHourly.setPost(existingPost);
+
+		// Source ↔ Post 매핑
+		linkSourcesToPost(existingPost, sources);
 	}
 
 	// 가장 최근 생성된 포스트 반환
@@ -350,7 +611,7 @@ public class PostService {
 
 	public boolean cachePostCardView(Post post, String keyword, Duration ttl) {
 		ValueOperations<String, String> values = redisTemplate.opsForValue();
-		String key = "POST_CARD:" + post.getId();
+		String key = PostCacheService.POST_CARD_KEY_PREFIX + post.getId();
 
 		try {
 			PostDto dto = PostDto.from(post, keyword);
@@ -412,6 +673,9 @@ public class PostService {
 		// 7. 포스트의 신고 카운트 증가 및 저장
 		post.incrementReportCount();
 		postRepository.save(post);
+
+		// 8. 회원별 신고 인덱스 갱신 (커밋 이후)
+		postReportCacheService.addReportedPost(userDetails.getUsername(), postId);
 	}
 
 	/**
@@ -547,6 +811,12 @@ public class PostService {
 
 		// 6. 요청된 포스트 ID들에 해당하는 모든 신고 엔티티의 상태를 ACCEPTED로 업데이트
 		postReportRepository.updateStatusByPostIdIn(postIds, ReportProcessingStatus.ACCEPTED);
+
+		// 7. 숨김 처리된 포스트 카드 캐시 무효화 (커밋 이후)
+		postCacheService.evictCards(postIds);
+
+		// 8. 트렌딩 순위에서 제외 (커밋 이후)
+		postTrendingService.remove(postIds);
 	}
 
 	/**
@@ -0,0 +1,196 @@
+package site.kkokkio.domain.post.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import site.kkokkio.domain.post.dto.PostGenerationTarget;
+import site.kkokkio.domain.source.entity.Source;
+import site.kkokkio.global.util.HashUtils;
+import site.kkokkio.global.util.TtlLruCache;
+import site.kkokkio.infra.ai.prompt.AiSystemPromptResolver;
+import site.kkokkio.infra.common.metrics.HitRatioMetrics;
+import site.kkokkio.infra.common.metrics.HitRatioMetrics.HitRatio;
+
+/**
+ * AI 요약 캐시 (로컬 LRU → Redis 2단계)
+ * - POST_SUMMARY:{hash} : 요약 제목/본문 JSON, hash 는 프롬프트 버전 + 키워드 + 소스 fingerprint 목록 + 요청 내용 해시의 SHA-256
+ * - 신규성 평가에서 높은 변동성으로 판정되어도 같은 키워드의 요청 내용이 직전과 같으면 같은 입력이므로 AI 를 호출하지 않고 재사용한다.
+ * - 요청 내용은 소스 압축/토큰 예산이 적용된 결과이므로, 해당 설정이 바뀌면 키도 바뀐다.
+ * - 적중 시 AI 호출 1건을 아낀 것이므로 ai.summary.cache.lookup{result=local_hit|redis_hit} 의 증가량이 실행별 절약 호출 수다.
+ * - 일괄 요약(prefetch)으로 채운 요약의 첫 조회는 이미 일괄 요청으로 AI 를 호출한 것이므로 result=prefetch_hit 로 따로 세고,
+ *   적중률에서도 뺀다. (이후 조회는 재사용이므로 local_hit)
+ * - ai.summary.cache.hit.ratio 는 마지막으로 끝난 Job 실행 동안의 적중률이다.
+ */
+@Slf4j
+@Component
+public class PostSummaryCache {
+	public static final String SUMMARY_KEY_PREFIX = "POST_SUMMARY:";
+	public static final String LOOKUP_METRIC = "ai.summary.cache.lookup";
+	public static final String HIT_RATIO_METRIC = "ai.summary.cache.hit.ratio";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final AiSystemPromptResolver promptResolver;
+
+	// 실행별 조회 수 / 적중 수 (prefetch 적중 제외)
+	private final HitRatio hitRatio;
+	private final Counter localHitCounter;
+	private final Counter redisHitCounter;
+	private final Counter prefetchHitCounter;
+	private final Counter missCounter;
+
+	@Value("${ai.summary.cache.ttl:24h}")
+	private Duration ttl;
+
+	@Value("${ai.summary.cache.local-size:1000}")
+	private int localSize;
+
+	// 캐시 키 → 요약 (저장 시각 기준 만료)
+	private TtlLruCache<String, CachedSummary> localCache;
+
+	public PostSummaryCache(
+		StringRedisTemplate redisTemplate,
+		ObjectMapper objectMapper,
+		AiSystemPromptResolver promptResolver,
+		HitRatioMetrics hitRatioMetrics
+	) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.promptResolver = promptResolver;
+		this.hitRatio = hitRatioMetrics.register(LOOKUP_METRIC, "AI 요약 캐시 조회 결과 수",
+			HIT_RATIO_METRIC, "AI 요약 캐시 적중률 (적중 시 AI 호출 생략, Job 실행 단위)");
+		this.localHitCounter = hitRatio.counter("local_hit");
+		this.redisHitCounter = hitRatio.counter("redis_hit");
+		this.prefetchHitCounter = hitRatio.counter("prefetch_hit");
+		this.missCounter = hitRatio.counter("miss");
+	}
+
+	@PostConstruct
+	void init() {
+		localCache = new TtlLruCache<>(localSize, ttl);
+	}
+
+	/**
+	 * 같은 키워드, 같은 요청 내용과 프롬프트로 만든 요약을 로컬 → Redis 순으로 조회한다. Redis 장애 시 미스로 처리한다.
+	 */
+	public Optional<CachedSummary> get(PostGenerationTarget target) {
+		String key = cacheKey(target);
+
+		// 1. 로컬 LRU (prefetch 로 채운 요약의 첫 조회는 prefetch 적중으로 따로 센다)
+		CachedSummary local = localCache.get(key);
+		if (local != null) {
+			if (local.prefetched() && localCache.replace(key, local, local.reused())) {
+				prefetchHitCounter.increment();
+				log.info("AI 일괄 요약 결과 사용. keyword={}", target.keywordId());
+				return Optional.of(local);
+			}
+			hit(localHitCounter, target);
+			return Optional.of(local);
+		}
+
+		// 2. Redis
+		try {
+			String json = redisTemplate.opsForValue().get(SUMMARY_KEY_PREFIX + key);
+			if (json != null) {
+				CachedSummary cached = objectMapper.readValue(json, CachedSummary.class);
+				localCache.put(key, cached, cached.cachedAtMillis());
+				hit(redisHitCounter, target);
+				return Optional.of(cached);
+			}
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("AI 요약 캐시 조회 실패 → AI 호출. keyword={}", target.keywordId(), e);
+		}
+		missCounter.increment();
+		hitRatio.record(1, 0);
+		return Optional.empty();
+	}
+
+	/**
+	 * 요약이 캐시에 있는지만 확인한다. (적중률 지표에 넣지 않는다, Redis 장애 시 없음으로 처리)
+	 */
+	public boolean contains(PostGenerationTarget target) {
+		String key = cacheKey(target);
+		if (localCache.get(key) != null) {
+			return true;
+		}
+		try {
+			return Boolean.TRUE.equals(redisTemplate.hasKey(SUMMARY_KEY_PREFIX + key));
+		} catch (DataAccessException e) {
+			log.warn("AI 요약 캐시 확인 실패. keyword={}", target.keywordId(), e);
+			return false;
+		}
+	}
+
+	/**
+	 * AI 가 만든 요약만 저장한다. (소스로 대체한 요약은 저장하지 않는다)
+	 */
+	public void put(PostGenerationTarget target, String title, String summary) {
+		put(target, new CachedSummary(title, summary, System.currentTimeMillis()));
+	}
+
+	/**
+	 * 일괄 요약(prefetch)으로 만든 요약을 저장한다. 첫 조회는 절약 호출 수에 넣지 않는다.
+	 */
+	public void putPrefetched(PostGenerationTarget target, String title, String summary) {
+		put(target, new CachedSummary(title, summary, System.currentTimeMillis(), true));
+	}
+
+	private void put(PostGenerationTarget target, CachedSummary cached) {
+		String key = cacheKey(target);
+		localCache.put(key, cached);
+		try {
+			redisTemplate.opsForValue().set(SUMMARY_KEY_PREFIX + key, objectMapper.writeValueAsString(cached), ttl);
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("AI 요약 캐시 저장 실패. keyword={}", target.keywordId(), e);
+		}
+	}
+
+	/**
+	 * 프롬프트 버전 + 키워드 ID/텍스트 + 순서가 있는 소스 fingerprint 목록 + 요청 내용 해시의 해시
+	 * (소스가 같아도 키워드가 다르면 요약 관점이 다르므로 공유하지 않는다)
+	 */
+	String cacheKey(PostGenerationTarget target) {
+		String fingerprints = target.sources().stream()
+			.map(Source::getFingerprint)
+			.collect(Collectors.joining(","));
+		return HashUtils.sha256Hex(String.join("\n",
+			promptResolver.getPromptVersion(),
+			String.valueOf(target.keywordId()),
+			target.metric().text(),
+			fingerprints,
+			HashUtils.sha256Hex(target.userContent())));
+	}
+
+	private void hit(Counter counter, PostGenerationTarget target) {
+		counter.increment();
+		hitRatio.record(1, 1);
+		log.info("AI 요약 캐시 적중 → AI 호출 생략. keyword={}", target.keywordId());
+	}
+
+	/**
+	 * @param cachedAtMillis 저장 시각. Redis 에서 가져온 요약도 저장 시각 기준으로 로컬에서 만료된다.
+	 * @param prefetched     일괄 요약으로 채운 뒤 아직 조회되지 않았는지 (로컬 전용, Redis 에는 저장하지 않음)
+	 */
+	public record CachedSummary(String title, String summary, long cachedAtMillis, @JsonIgnore boolean prefetched) {
+		public CachedSummary(String title, String summary, long cachedAtMillis) {
+			this(title, summary, cachedAtMillis, false);
+		}
+
+		CachedSummary reused() {
+			return new CachedSummary(title, summary, cachedAtMillis);
+		}
+	}
+}
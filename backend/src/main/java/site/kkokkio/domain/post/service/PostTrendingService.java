@@ -0,0 +1,181 @@
+package site.kkokkio.domain.post.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포스트 트렌딩 점수 (Redis ZSET)
+ * - POST_TRENDING : postId → ln(Σ 가중치 · e^((이벤트 시각 - 기준 시각) / τ))
+ * - 감쇠를 시간이 지날수록 커지는 로그 오프셋으로 표현해, 이벤트마다 해당 멤버만 O(log n) 으로 갱신한다.
+ *   모든 멤버가 같은 비율로 감쇠하므로 저장된 점수 순서가 곧 현재 시점의 감쇠 점수 순서다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostTrendingService {
+	public static final String TRENDING_KEY = "POST_TRENDING";
+	// 로그 오프셋 기준 시각 (점수가 너무 커지지 않도록 서비스 시작 무렵으로 고정)
+	static final long EPOCH_SECONDS = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond();
+	private static final RedisScript<Long> ADD_SCRIPT = addScript();
+
+	private final StringRedisTemplate redisTemplate;
+
+	@Value("${trending.half-life:6h}")
+	private Duration halfLife;
+
+	@Value("${trending.max-size:1000}")
+	private long maxSize;
+
+	@Value("${trending.weight.view:1}")
+	private double viewWeight;
+
+	@Value("${trending.weight.comment:5}")
+	private double commentWeight;
+
+	@Value("${trending.weight.comment-like:2}")
+	private double commentLikeWeight;
+
+	@Value("${trending.weight.keyword:0.01}")
+	private double keywordWeight;
+
+	/**
+	 * 트렌딩 점수에 반영하는 이벤트 종류
+	 */
+	public enum TrendingEvent {
+		VIEW, COMMENT, COMMENT_LIKE, KEYWORD
+	}
+
+	/**
+	 * 포스트 1건의 이벤트를 적립한다.
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 적립해, 롤백된 댓글/좋아요가 집계되지 않도록 한다.
+	 */
+	public void record(TrendingEvent event, Long postId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					recordAll(event, Map.of(postId, 1.0));
+				}
+			});
+			return;
+		}
+		recordAll(event, Map.of(postId, 1.0));
+	}
+
+	/**
+	 * 여러 포스트의 이벤트를 스크립트 한 번으로 적립한다.
+	 * @param amounts postId → 이벤트 양 (조회수, 키워드 점수 등)
+	 */
+	public void recordAll(TrendingEvent event, Map<Long, ? extends Number> amounts) {
+		double weight = weightOf(event);
+		double offset = decayOffset(Instant.now().getEpochSecond());
+
+		// 1. (postId, 로그 가중치) 인자 구성 (양이 0 이하인 이벤트는 제외)
+		List<String> args = new ArrayList<>(amounts.size() * 2 + 1);
+		args.add(String.valueOf(maxSize));
+		amounts.forEach((postId, amount) -> {
+			double value = weight * amount.doubleValue();
+			if (postId != null && value > 0) {
+				args.add(String.valueOf(postId));
+				args.add(String.valueOf(Math.log(value) + offset));
+			}
+		});
+		if (args.size() == 1) {
+			return;
+		}
+
+		// 2. ZSCORE + log-sum-exp + ZADD 를 원자적으로 실행
+		try {
+			redisTemplate.execute(ADD_SCRIPT, List.of(TRENDING_KEY), args.toArray());
+		} catch (DataAccessException e) {
+			// 트렌딩 점수는 근사치이므로 재시도하지 않는다
+			log.warn("트렌딩 점수 반영 실패. event={}, posts={}", event, (args.size() - 1) / 2, e);
+		}
+	}
+
+	/**
+	 * 감쇠 점수 상위 포스트 ID (ZREVRANGE)
+	 */
+	public List<Long> getTrendingPostIds(int size) {
+		try {
+			Set<String> postIds = redisTemplate.opsForZSet().reverseRange(TRENDING_KEY, 0, size - 1);
+			if (postIds == null) {
+				return List.of();
+			}
+			return postIds.stream().map(Long::valueOf).toList();
+		} catch (DataAccessException e) {
+			log.warn("트렌딩 포스트 조회 실패", e);
+			return List.of();
+		}
+	}
+
+	/**
+	 * 숨김 처리된 포스트를 트렌딩에서 제외한다.
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 제외해, 롤백된 숨김 처리로 순위에서 빠지지 않도록 한다.
+	 */
+	public void remove(Collection<Long> postIds) {
+		if (postIds == null || postIds.isEmpty()) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					removeFromTrending(postIds);
+				}
+			});
+			return;
+		}
+		removeFromTrending(postIds);
+	}
+
+	private void removeFromTrending(Collection<Long> postIds) {
+		try {
+			redisTemplate.opsForZSet().remove(TRENDING_KEY, postIds.stream().map(String::valueOf).toArray());
+		} catch (DataAccessException e) {
+			log.warn("트렌딩 포스트 제거 실패. postIds={}", postIds, e);
+		}
+	}
+
+	/**
+	 * 이벤트 시각의 로그 오프셋 (t - 기준 시각) / τ, τ = 반감기 / ln 2
+	 */
+	double decayOffset(long epochSeconds) {
+		double tau = halfLife.toSeconds() / Math.log(2);
+		return (epochSeconds - EPOCH_SECONDS) / tau;
+	}
+
+	private static RedisScript<Long> addScript() {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource("redis/post_trending_add.lua"));
+		script.setResultType(Long.class);
+		return script;
+	}
+
+	private double weightOf(TrendingEvent event) {
+		return switch (event) {
+			case VIEW -> viewWeight;
+			case COMMENT -> commentWeight;
+			case COMMENT_LIKE -> commentLikeWeight;
+			case KEYWORD -> keywordWeight;
+		};
+	}
+}
@@ -0,0 +1,201 @@
+package site.kkokkio.domain.post.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import site.kkokkio.global.jdbc.BulkUpsertStatement;
+import site.kkokkio.global.jdbc.BulkUpsertWriter;
+
+/**
+ * 포스트 조회수 집계기
+ * - 요청 스레드는 (postId, 시간 버킷)별 LongAdder와 순방문자 버퍼에만 기록하고 DB/Redis에 접근하지 않는다.
+ * - 주기적으로 조회수는 post_metric_hourly.click_count 에 고정 형태 UPSERT 배치 한 번으로 (BulkUpsertWriter),
+ *   순방문자는 POST_VIEWERS:{postId}:{yyyyMMddHH} HyperLogLog 에 파이프라인 PFADD 로 반영한다.
+ * - 반영된 조회수는 트렌딩 점수에도 한 번에 적립한다.
+ * - 반영에 실패한 조회수는 다시 적립해 재시도하되, 버킷별로 max-flush-attempts 번 실패하면 버린다. (DB 장애가 길어져도 메모리가 계속 늘지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+	public static final String VIEWER_KEY_PREFIX = "POST_VIEWERS:";
+	private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+	static final BulkUpsertStatement<Map.Entry<ViewBucket, Long>> UPSERT = BulkUpsertStatement.upsert(
+		"post_metric_hourly",
+		List.of("post_id", "bucket_at", "click_count", "like_count"),
+		List.of("click_count = click_count + VALUES(click_count)"),
+		row -> new Object[] {row.getKey().postId(), row.getKey().bucketAt(), row.getValue(), 0});
+
+	private final BulkUpsertWriter bulkUpsertWriter;
+	private final TransactionTemplate transactionTemplate;
+	private final StringRedisTemplate redisTemplate;
+	private final PostTrendingService postTrendingService;
+
+	// 아직 반영되지 않은 (postId, 버킷)별 조회수
+	private final Map<ViewBucket, LongAdder> pendingViews = new ConcurrentHashMap<>();
+	// 아직 PFADD 하지 않은 (postId, 버킷)별 방문자 식별자
+	private final Map<ViewBucket, Set<String>> pendingViewers = new ConcurrentHashMap<>();
+	// 반영에 실패한 (postId, 버킷)별 연속 실패 횟수 (flush 는 synchronized)
+	private final Map<ViewBucket, Integer> failedAttempts = new HashMap<>();
+
+	@Value("${post.view.viewer-ttl:48h}")
+	private Duration viewerTtl;
+
+	@Value("${post.view.max-flush-attempts:5}")
+	private int maxFlushAttempts;
+
+	/**
+	 * 조회 1건을 현재 시간 버킷에 기록한다. (메모리만 사용)
+	 * @param viewerId 순방문자 식별자 (회원 이메일 또는 클라이언트 IP)
+	 */
+	public void recordView(Long postId, String viewerId) {
+		ViewBucket bucket = new ViewBucket(postId, currentBucket());
+		pendingViews.computeIfAbsent(bucket, key -> new LongAdder()).increment();
+		if (viewerId != null) {
+			pendingViewers.computeIfAbsent(bucket, key -> ConcurrentHashMap.newKeySet()).add(viewerId);
+		}
+	}
+
+	/**
+	 * 시간 버킷의 순방문자 수 추정값 (HyperLogLog, 오차 약 0.81%)
+	 */
+	public long countUniqueViewers(Long postId, LocalDateTime bucketAt) {
+		try {
+			Long count = redisTemplate.opsForHyperLogLog().size(viewerKey(new ViewBucket(postId, bucketAt)));
+			return count == null ? 0 : count;
+		} catch (DataAccessException e) {
+			log.warn("순방문자 수 조회 실패. postId={}, bucketAt={}", postId, bucketAt, e);
+			return 0;
+		}
+	}
+
+	/**
+	 * 모인 조회수와 방문자를 반영한다. 조회수 실패분은 max-flush-attempts 번까지 다시 적립해 다음 주기에 재시도한다.
+	 */
+	@Scheduled(fixedDelayString = "${post.view.flush-interval-ms:5000}")
+	public synchronized void flush() {
+		flushViewers();
+		flushViews();
+	}
+
+	/**
+	 * 종료 시 메모리에 남은 조회수를 반영해 재시작으로 유실되지 않도록 한다.
+	 */
+	@PreDestroy
+	public void drainOnShutdown() {
+		flush();
+	}
+
+	private void flushViews() {
+		// 1. 버킷별 카운터 비우기 (맵에서 제거하지 않고 sumThenReset 으로 동시 증가분 보존)
+		Map<ViewBucket, Long> views = new HashMap<>();
+		pendingViews.forEach((bucket, adder) -> {
+			long count = adder.sumThenReset();
+			if (count > 0) {
+				views.put(bucket, count);
+			}
+		});
+		// 지난 시간 버킷의 빈 카운터 정리 (경계 직전 요청의 늦은 기록을 고려해 한 버킷 여유를 둔다)
+		LocalDateTime expiredBefore = currentBucket().minusHours(1);
+		pendingViews.entrySet().removeIf(entry ->
+			entry.getKey().bucketAt().isBefore(expiredBefore) && entry.getValue().sum() == 0);
+		if (views.isEmpty()) {
+			return;
+		}
+
+		// 2. 고정 형태 UPSERT 배치 (청크 크기는 BulkUpsertWriter 설정)
+		try {
+			transactionTemplate.executeWithoutResult(status -> bulkUpsertWriter.write(UPSERT, views.entrySet()));
+			log.debug("포스트 조회수 반영 완료. buckets={}", views.size());
+		} catch (DataAccessException | TransactionException e) {
+			log.warn("포스트 조회수 반영 실패 → 다음 주기에 재시도. buckets={}", views.size(), e);
+			requeue(views);
+			return;
+		}
+		views.keySet().forEach(failedAttempts::remove);
+
+		// 3. 반영된 조회수를 포스트별로 합쳐 트렌딩 점수에 적립 (스크립트 한 번)
+		Map<Long, Long> viewsByPost = new HashMap<>();
+		views.forEach((bucket, count) -> viewsByPost.merge(bucket.postId(), count, Long::sum));
+		postTrendingService.recordAll(PostTrendingService.TrendingEvent.VIEW, viewsByPost);
+	}
+
+	/**
+	 * 실패한 조회수를 다시 적립한다. 같은 버킷이 max-flush-attempts 번 연속 실패하면 버린다.
+	 */
+	private void requeue(Map<ViewBucket, Long> views) {
+		views.forEach((bucket, count) -> {
+			int attempts = failedAttempts.merge(bucket, 1, Integer::sum);
+			if (attempts >= maxFlushAttempts) {
+				failedAttempts.remove(bucket);
+				log.error("포스트 조회수 반영이 {}번 실패해 버립니다. postId={}, bucketAt={}, views={}", attempts,
+					bucket.postId(), bucket.bucketAt(), count);
+				return;
+			}
+			pendingViews.computeIfAbsent(bucket, key -> new LongAdder()).add(count);
+		});
+	}
+
+	private void flushViewers() {
+		// 버킷별 방문자 버퍼를 통째로 분리 (분리 이후 추가분은 새 버퍼에 쌓인다)
+		Map<ViewBucket, Set<String>> viewers = new HashMap<>();
+		for (ViewBucket bucket : pendingViewers.keySet()) {
+			Set<String> ids = pendingViewers.remove(bucket);
+			if (ids != null && !ids.isEmpty()) {
+				viewers.put(bucket, ids);
+			}
+		}
+		if (viewers.isEmpty()) {
+			return;
+		}
+
+		long ttlSeconds = viewerTtl.toSeconds();
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection conn = (StringRedisConnection)connection;
+				viewers.forEach((bucket, ids) -> {
+					String key = viewerKey(bucket);
+					conn.pfAdd(key, ids.toArray(String[]::new));
+					conn.expire(key, ttlSeconds);
+				});
+				return null;
+			});
+		} catch (DataAccessException e) {
+			// 순방문자는 추정치이므로 재시도하지 않는다
+			log.warn("순방문자 HyperLogLog 반영 실패. buckets={}", viewers.size(), e);
+		}
+	}
+
+	private static String viewerKey(ViewBucket bucket) {
+		return VIEWER_KEY_PREFIX + bucket.postId() + ":" + bucket.bucketAt().format(BUCKET_FORMAT);
+	}
+
+	static LocalDateTime currentBucket() {
+		return LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+	}
+
+	record ViewBucket(Long postId, LocalDateTime bucketAt) {
+	}
+}
@@ -1,4 +1,34 @@
 package site.kkokkio.domain.source.dto;
 
-public record SearchStatsDto(int fetched, int failed) {
-}
\ No newline at end of file
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 소스 검색 결과 통계
+ * @param failedKeywords 검색에 실패했거나 결과가 비어 있던 키워드
+ * @param latencyMsByKeyword 키워드별 API 응답 시간 (ms)
+ */
+public record SearchStatsDto(
+	int fetched,
+	int failed,
+	List<String> failedKeywords,
+	Map<String, Long> latencyMsByKeyword
+) {
+	public SearchStatsDto(int fetched, int failed) {
+		this(fetched, failed, List.of(), Map.of());
+	}
+
+	/**
+	 * 가장 느린 키워드의 응답 시간 (병렬 검색 시 스텝 소요 시간에 근접)
+	 */
+	public long maxLatencyMs() {
+		return latencyMsByKeyword.values().stream().mapToLong(Long::longValue).max().orElse(0);
+	}
+
+	/**
+	 * 키워드별 응답 시간의 합 (순차 검색이었다면 걸렸을 시간)
+	 */
+	public long totalLatencyMs() {
+		return latencyMsByKeyword.values().stream().mapToLong(Long::longValue).sum();
+	}
+}
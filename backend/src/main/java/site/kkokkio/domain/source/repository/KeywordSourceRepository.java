@@ -1,5 +1,6 @@
 package site.kkokkio.domain.source.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -28,4 +29,13 @@ public interface KeywordSourceRepository extends JpaRepository<KeywordSource, Lo
 		@Param("keywordIds") List<Long> keywordIds,
 		@Param("limit") int limit
 	);
+
+	/**
+	 * 이번 수집 대상 키워드와 이미 저장된 Source 사이의 기존 연결 조회
+	 * - 두 조건을 함께 걸어 UNIQUE KEY (keyword_id, fingerprint) 범위로만 읽는다.
+	 */
+	List<KeywordSource> findAllByKeyword_IdInAndSource_FingerprintIn(
+		Collection<Long> keywordIds,
+		Collection<String> fingerprints
+	);
 }
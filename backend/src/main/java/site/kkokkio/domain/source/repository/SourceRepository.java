@@ -1,5 +1,6 @@
 package site.kkokkio.domain.source.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Pageable;
@@ -19,4 +20,16 @@ public interface SourceRepository extends JpaRepository<Source, String>, SourceR
 		ORDER BY ps.source.publishedAt DESC
 		""")
 	List<Source> findByPostIdsOrderByPublishedAtDesc(@Param("postIds") List<Long> postIds, Pageable pageable);
+
+	/**
+	 * 이미 저장된 fingerprint 만 조회 (Bloom filter 후보의 정확 확인용)
+	 */
+	@Query("SELECT s.fingerprint FROM Source s WHERE s.fingerprint IN :fingerprints")
+	List<String> findExistingFingerprints(@Param("fingerprints") Collection<String> fingerprints);
+
+	/**
+	 * fingerprint 중 thumbnail_url 이 아직 없는 것만 조회 (OpenGraph 보강 재시도 대상)
+	 */
+	@Query("SELECT s.fingerprint FROM Source s WHERE s.fingerprint IN :fingerprints AND s.thumbnailUrl IS NULL")
+	List<String> findFingerprintsWithoutThumbnail(@Param("fingerprints") Collection<String> fingerprints);
 }
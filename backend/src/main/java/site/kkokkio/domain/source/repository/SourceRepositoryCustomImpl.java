@@ -5,46 +5,32 @@ import java.util.List;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import site.kkokkio.domain.source.entity.Source;
+import site.kkokkio.global.jdbc.BulkUpsertStatement;
+import site.kkokkio.global.jdbc.BulkUpsertWriter;
 
 @Repository
 @RequiredArgsConstructor
 public class SourceRepositoryCustomImpl implements SourceRepositoryCustom {
 
-    private final EntityManager em;
+    private static final String TABLE = "source";
+    private static final List<String> COLUMNS = List.of(
+        "fingerprint", "normalized_url", "title", "description", "thumbnail_url", "published_at", "platform");
+
+    private static final BulkUpsertStatement<Source> INSERT_IGNORE =
+        BulkUpsertStatement.insertIgnore(TABLE, COLUMNS, SourceRepositoryCustomImpl::values);
+
+    private final BulkUpsertWriter bulkUpsertWriter;
 
     @Transactional
     @Override
     public void insertIgnoreAll(List<Source> sources) {
-        if (sources.isEmpty()) return;
-
-        StringBuilder sql = new StringBuilder("""
-            INSERT IGNORE INTO source
-            (fingerprint, normalized_url, title, description, thumbnail_url, published_at, platform, created_at, updated_at)
-            VALUES
-        """);
-
-        for (int i = 0; i < sources.size(); i++) {
-            sql.append("(?, ?, ?, ?, ?, ?, ?, NOW(), NOW())");
-            if (i < sources.size() - 1) sql.append(", ");
-        }
-
-        Query query = em.createNativeQuery(sql.toString());
-
-        int index = 1;
-        for (Source s : sources) {
-            query.setParameter(index++, s.getFingerprint());
-            query.setParameter(index++, s.getNormalizedUrl());
-            query.setParameter(index++, s.getTitle());
-            query.setParameter(index++, s.getDescription());
-            query.setParameter(index++, s.getThumbnailUrl());
-            query.setParameter(index++, s.getPublishedAt());
-            query.setParameter(index++, s.getPlatform().name());
-        }
-
-        query.executeUpdate();
+        bulkUpsertWriter.write(INSERT_IGNORE, sources);
+    }
+
+    private static Object[] values(Source s) {
+        return new Object[] {s.getFingerprint(), s.getNormalizedUrl(), s.getTitle(), s.getDescription(),
+            s.getThumbnailUrl(), s.getPublishedAt(), s.getPlatform().name()};
     }
 }
@@ -1,46 +1,252 @@
 package site.kkokkio.domain.source.service;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.jsoup.Connection;
 import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import site.kkokkio.domain.source.entity.Source;
-import site.kkokkio.domain.source.repository.SourceRepository;
+import site.kkokkio.global.util.TtlLruCache;
+import site.kkokkio.infra.common.metrics.ExternalCallMetrics;
 
+/**
+ * OpenGraph 썸네일 보강 파이프라인
+ * - 썸네일이 없는 소스만 대상으로, 호스트별 동시 요청 수와 전체 동시 요청 수(전용 스케줄러 스레드 수)를 제한한다.
+ * - 페이지 전체가 아니라 &lt;/head&gt; 까지만 최대 maxHeadBytes 읽어 og:image 를 추출한다.
+ * - 추출 결과는 fingerprint 별로 캐시하고, thumbnail_url 은 모아서 배치 UPDATE 한다.
+ * - 추출이나 UPDATE 에 실패한 소스는 다시 수집될 때(썸네일이 아직 없는 기존 소스) max-attempts 번까지 다시 시도한다.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class OpenGraphService {
+	static final String UPDATE_THUMBNAIL_SQL =
+		"UPDATE source SET thumbnail_url = ?, updated_at = NOW() WHERE fingerprint = ?";
+	private static final String HEAD_END = "</head";
+	private static final int READ_BUFFER_SIZE = 4 * 1024;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final ExternalCallMetrics externalCallMetrics;
 
-    @Value("${mock.enabled}")
+	@Value("${mock.enabled}")
 	private Boolean mockEnabled;
 
-    private final SourceRepository sourceRepository;
-
-    /**
-     * 비동기로 OpenGraph 정보 보강 (현재는 thumbnail 정보만 가공)
-     */
-    @Async("asyncExecutor")
-    @Transactional
-    public void enrichAsync(Source source) {
-        if (!mockEnabled) {
-            try {
-                Document doc = Jsoup.connect(source.getNormalizedUrl()).timeout(2000).get();
-
-                String thumbnail = doc.select("meta[property=og:image]").attr("content");
-                if (!thumbnail.isBlank()) {
-                    source.setThumbnailUrl(thumbnail);
-                }
-
-                sourceRepository.save(source);
-            } catch (Exception e) {
-                log.warn("OpenGraph 정보 추출 실패: {}", source.getNormalizedUrl());
-            }
-        }
-    }
+	// 전체 동시 요청 수 (전용 스케줄러 스레드 수)
+	@Value("${source.open-graph.max-in-flight:16}")
+	private int maxInFlight;
+
+	// 호스트별 동시 요청 수
+	@Value("${source.open-graph.per-host-concurrency:2}")
+	private int perHostConcurrency;
+
+	// 페이지에서 읽는 최대 바이트 수 (&lt;/head&gt; 를 찾지 못해도 여기서 멈춘다)
+	@Value("${source.open-graph.max-head-bytes:65536}")
+	private int maxHeadBytes;
+
+	@Value("${source.open-graph.timeout:2s}")
+	private Duration timeout;
+
+	// thumbnail_url 배치 UPDATE 단위와 최대 대기 시간
+	@Value("${source.open-graph.batch-size:100}")
+	private int batchSize;
+
+	@Value("${source.open-graph.batch-wait:2s}")
+	private Duration batchWait;
+
+	@Value("${source.open-graph.cache-size:10000}")
+	private int cacheSize;
+
+	@Value("${source.open-graph.cache-ttl:6h}")
+	private Duration cacheTtl;
+
+	// 소스별 추출/UPDATE 최대 시도 횟수 (실패 횟수는 캐시 항목에 기록하므로 캐시에서 밀려나거나 만료되면 다시 센다)
+	@Value("${source.open-graph.max-attempts:3}")
+	private int maxAttempts;
+
+	private Scheduler scheduler;
+	// fingerprint → 추출 결과 (og:image 가 없으면 빈 문자열, 추출 실패면 null) 와 실패 횟수
+	private TtlLruCache<String, CachedThumbnail> thumbnailCache;
+
+	@PostConstruct
+	void init() {
+		scheduler = Schedulers.newBoundedElastic(maxInFlight, Integer.MAX_VALUE, "KK-OpenGraph");
+		thumbnailCache = new TtlLruCache<>(cacheSize, cacheTtl);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		scheduler.dispose();
+	}
+
+	/**
+	 * 소스 목록의 썸네일을 비동기로 보강한다. 호출 스레드(배치 스레드)는 기다리지 않는다.
+	 */
+	public void enrichAll(List<Source> sources) {
+		if (mockEnabled || sources.isEmpty()) {
+			return;
+		}
+		enrich(sources).subscribe(
+			updated -> log.info("OpenGraph 보강 완료. sources={}, updated={}", sources.size(), updated),
+			error -> log.warn("OpenGraph 보강 실패. sources={}", sources.size(), error));
+	}
+
+	/**
+	 * 보강 파이프라인. 완료 시 thumbnail_url 을 갱신한 소스 수를 방출한다.
+	 */
+	Mono<Integer> enrich(List<Source> sources) {
+		// 1. 썸네일이 없는 소스만 호스트별로 묶기
+		Map<String, List<Source>> byHost = sources.stream()
+			.filter(source -> source.getThumbnailUrl() == null || source.getThumbnailUrl().isBlank())
+			.collect(Collectors.groupingBy(source -> hostOf(source.getNormalizedUrl()), LinkedHashMap::new,
+				Collectors.toList()));
+		if (byHost.isEmpty()) {
+			return Mono.just(0);
+		}
+
+		// 2. 호스트 간에는 동시에, 호스트 안에서는 perHostConcurrency 건까지 추출
+		// 3. 추출 결과를 batchSize 건 또는 batchWait 단위로 모아 배치 UPDATE
+		return Flux.fromIterable(byHost.values())
+			.flatMap(hostSources -> Flux.fromIterable(hostSources)
+				.flatMap(this::resolveThumbnail, perHostConcurrency), byHost.size())
+			.bufferTimeout(batchSize, batchWait)
+			.concatMap(batch -> Mono.fromCallable(() -> updateThumbnails(batch)).subscribeOn(scheduler))
+			.reduce(0, Integer::sum);
+	}
+
+	/**
+	 * 캐시에 있으면 캐시 결과를, 없으면 페이지 head 에서 og:image 를 추출한다.
+	 * 실패는 결과 없이 실패 횟수만 캐시하고, max-attempts 번 실패한 소스는 더 이상 시도하지 않는다.
+	 */
+	private Mono<Thumbnail> resolveThumbnail(Source source) {
+		String fingerprint = source.getFingerprint();
+		CachedThumbnail cached = thumbnailCache.get(fingerprint);
+		if (cached != null && cached.failedAttempts() >= maxAttempts) {
+			return Mono.empty();
+		}
+		if (cached != null && cached.url() != null) {
+			return cached.url().isBlank() ? Mono.empty() : Mono.just(new Thumbnail(fingerprint, cached.url()));
+		}
+
+		int failedAttempts = cached == null ? 0 : cached.failedAttempts();
+		return externalCallMetrics.time(ExternalCallMetrics.TARGET_OPEN_GRAPH,
+				Mono.fromCallable(() -> fetchThumbnail(source.getNormalizedUrl())))
+			.subscribeOn(scheduler)
+			.doOnNext(url -> thumbnailCache.put(fingerprint, new CachedThumbnail(url, failedAttempts)))
+			.filter(url -> !url.isBlank())
+			.map(url -> new Thumbnail(fingerprint, url))
+			.onErrorResume(e -> {
+				log.warn("OpenGraph 정보 추출 실패: {}, error={}", source.getNormalizedUrl(), e.toString());
+				recordFailure(fingerprint);
+				return Mono.empty();
+			});
+	}
+
+	/**
+	 * 페이지 head 만 읽어 og:image 를 추출한다. 없으면 빈 문자열.
+	 */
+	String fetchThumbnail(String url) throws IOException {
+		Connection.Response response = Jsoup.connect(url)
+			.timeout((int)timeout.toMillis())
+			.maxBodySize(maxHeadBytes)
+			.execute();
+		Charset charset = response.charset() != null ? Charset.forName(response.charset()) : StandardCharsets.UTF_8;
+		String head;
+		try (InputStream in = response.bodyStream()) {
+			head = readHead(in, maxHeadBytes, charset);
+		}
+		return Jsoup.parse(head, url).select("meta[property=og:image]").attr("content");
+	}
+
+	/**
+	 * 스트림을 &lt;/head 가 나오거나 maxBytes 에 도달할 때까지만 읽는다.
+	 */
+	static String readHead(InputStream in, int maxBytes, Charset charset) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(maxBytes, READ_BUFFER_SIZE * 4));
+		byte[] buffer = new byte[READ_BUFFER_SIZE];
+		int searchFrom = 0;
+		int read;
+		while (out.size() < maxBytes
+			&& (read = in.read(buffer, 0, Math.min(buffer.length, maxBytes - out.size()))) != -1) {
+			out.write(buffer, 0, read);
+			// 바이트를 그대로 문자로 옮겨(ISO-8859-1) 인코딩과 무관하게 태그 위치를 찾는다
+			String scanned = out.toString(StandardCharsets.ISO_8859_1).toLowerCase(Locale.ROOT);
+			int end = scanned.indexOf(HEAD_END, searchFrom);
+			if (end >= 0) {
+				return new String(out.toByteArray(), 0, end, charset);
+			}
+			searchFrom = Math.max(0, scanned.length() - HEAD_END.length());
+		}
+		return out.toString(charset);
+	}
+
+	/**
+	 * thumbnail_url 을 배치 UPDATE 하고 실제로 반영된 행 수를 반환한다.
+	 * - 해당 fingerprint 행이 없으면 0 으로 집계된다.
+	 * - 드라이버가 행 수를 알려주지 않으면(SUCCESS_NO_INFO) 1 건으로 본다.
+	 * - 실패한 배치는 소스마다 실패 횟수를 늘린다. 추출 결과는 캐시에 남으므로 다음 시도는 UPDATE 만 다시 한다.
+	 */
+	private int updateThumbnails(List<Thumbnail> thumbnails) {
+		List<Object[]> batchArgs = thumbnails.stream()
+			.map(thumbnail -> new Object[] {thumbnail.url(), thumbnail.fingerprint()})
+			.toList();
+		try {
+			int[] counts = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(UPDATE_THUMBNAIL_SQL, batchArgs));
+			return Arrays.stream(counts)
+				.map(count -> count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0))
+				.sum();
+		} catch (DataAccessException | TransactionException e) {
+			log.warn("썸네일 반영 실패. sources={}", thumbnails.size(), e);
+			thumbnails.forEach(thumbnail -> recordFailure(thumbnail.fingerprint()));
+			return 0;
+		}
+	}
+
+	private void recordFailure(String fingerprint) {
+		thumbnailCache.compute(fingerprint, (key, cached) -> cached == null
+			? new CachedThumbnail(null, 1)
+			: new CachedThumbnail(cached.url(), cached.failedAttempts() + 1));
+	}
+
+	private static String hostOf(String url) {
+		try {
+			String host = URI.create(url).getHost();
+			return host == null ? "" : host.toLowerCase(Locale.ROOT);
+		} catch (IllegalArgumentException e) {
+			return "";
+		}
+	}
+
+	private record Thumbnail(String fingerprint, String url) {
+	}
+
+	private record CachedThumbnail(String url, int failedAttempts) {
+	}
 }
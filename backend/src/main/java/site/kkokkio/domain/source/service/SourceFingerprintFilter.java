@@ -0,0 +1,182 @@
+package site.kkokkio.domain.source.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import site.kkokkio.domain.source.repository.SourceRepository;
+import site.kkokkio.global.util.HashUtils;
+import site.kkokkio.infra.common.metrics.HitRatioMetrics;
+import site.kkokkio.infra.common.metrics.HitRatioMetrics.HitRatio;
+
+/**
+ * 소스 fingerprint 신규/기존 판별기
+ * - SOURCE_FINGERPRINT_BLOOM : Redis 비트맵에 저장한 Bloom filter (재시작/인스턴스 간 공유)
+ * - Bloom filter 에 없으면 확실히 신규이고, 있으면 source 테이블에서 정확히 확인해 오탐을 걸러낸다.
+ * - 비트맵이 없거나 Redis 장애 시에는 전부 정확 확인으로 판별하므로 결과는 항상 정확하다.
+ * - source.fingerprint.hit.ratio 는 마지막으로 끝난 Job 실행 동안 기존 소스로 판별된 비율이다.
+ */
+@Slf4j
+@Component
+public class SourceFingerprintFilter {
+	public static final String BLOOM_KEY = "SOURCE_FINGERPRINT_BLOOM";
+	public static final String LOOKUP_METRIC = "source.fingerprint.lookup";
+	public static final String HIT_RATIO_METRIC = "source.fingerprint.hit.ratio";
+	static final RedisScript<List> CHECK_SCRIPT = script("redis/source_fingerprint_check.lua", List.class);
+	static final RedisScript<Long> ADD_SCRIPT = script("redis/source_fingerprint_add.lua", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final SourceRepository sourceRepository;
+
+	// 실행별 조회 수 / 기존 소스 수
+	private final HitRatio hitRatio;
+	private final Counter knownCounter;
+	private final Counter newCounter;
+	private final Counter falsePositiveCounter;
+
+	// 비트맵 크기 m (기본 2^24 비트 = 2MB, 100만 건 기준 오탐률 약 0.1%)
+	@Value("${source.fingerprint.bloom-bits:16777216}")
+	private long bloomBits;
+
+	// 해시 함수 수 k
+	@Value("${source.fingerprint.hash-count:7}")
+	private int hashCount;
+
+	public SourceFingerprintFilter(
+		StringRedisTemplate redisTemplate,
+		SourceRepository sourceRepository,
+		HitRatioMetrics hitRatioMetrics
+	) {
+		this.redisTemplate = redisTemplate;
+		this.sourceRepository = sourceRepository;
+		this.hitRatio = hitRatioMetrics.register(LOOKUP_METRIC, "소스 fingerprint 판별 결과 수",
+			HIT_RATIO_METRIC, "이미 저장된 소스로 판별된 fingerprint 비율 (Job 실행 단위)");
+		this.knownCounter = hitRatio.counter("known");
+		this.newCounter = hitRatio.counter("new");
+		this.falsePositiveCounter = hitRatio.counter("false_positive");
+	}
+
+	/**
+	 * 이미 저장된 fingerprint 만 골라낸다. 반환되지 않은 fingerprint 는 신규다.
+	 */
+	public Set<String> findKnown(Collection<String> fingerprints) {
+		List<String> distinct = List.copyOf(new LinkedHashSet<>(fingerprints));
+		if (distinct.isEmpty()) {
+			return Set.of();
+		}
+
+		// 1. Bloom filter 로 기존 후보 추리기 (판단 불가 시 전부 후보)
+		BloomResult bloom = mightContain(distinct);
+
+		// 2. 후보만 source 테이블에서 정확 확인
+		Set<String> known = bloom.candidates().isEmpty()
+			? Set.of()
+			: new HashSet<>(sourceRepository.findExistingFingerprints(bloom.candidates()));
+
+		// 3. 비트맵이 비어 있던 경우 확인된 기존 fingerprint 로 다시 채운다
+		if (!bloom.reliable() && !known.isEmpty()) {
+			markKnown(known);
+		}
+
+		// 4. 지표 기록 (오탐은 비트맵으로 판단한 경우만 집계)
+		int falsePositives = bloom.reliable() ? bloom.candidates().size() - known.size() : 0;
+		knownCounter.increment(known.size());
+		newCounter.increment(distinct.size() - known.size());
+		falsePositiveCounter.increment(falsePositives);
+		hitRatio.record(distinct.size(), known.size());
+		log.debug("소스 fingerprint 판별. total={}, known={}, candidates={}, falsePositives={}",
+			distinct.size(), known.size(), bloom.candidates().size(), falsePositives);
+		return known;
+	}
+
+	/**
+	 * 저장된 fingerprint 를 Bloom filter 에 등록한다. 실패해도 다음 실행에서 정확 확인으로 판별되므로 무시한다.
+	 */
+	public void markKnown(Collection<String> fingerprints) {
+		if (fingerprints.isEmpty()) {
+			return;
+		}
+		List<String> args = new ArrayList<>(fingerprints.size() * hashCount);
+		fingerprints.forEach(fingerprint -> {
+			for (long offset : offsets(fingerprint)) {
+				args.add(String.valueOf(offset));
+			}
+		});
+		try {
+			redisTemplate.execute(ADD_SCRIPT, List.of(BLOOM_KEY), args.toArray());
+		} catch (DataAccessException e) {
+			log.warn("소스 fingerprint Bloom filter 등록 실패. count={}", fingerprints.size(), e);
+		}
+	}
+
+	/**
+	 * fingerprint 의 k 개 비트 오프셋 (SHA-256 앞 128비트로 이중 해싱)
+	 */
+	long[] offsets(String fingerprint) {
+		String hash = HashUtils.sha256Hex(fingerprint);
+		long h1 = Long.parseUnsignedLong(hash.substring(0, 16), 16);
+		long h2 = Long.parseUnsignedLong(hash.substring(16, 32), 16) | 1;
+		long[] offsets = new long[hashCount];
+		for (int i = 0; i < hashCount; i++) {
+			offsets[i] = Math.floorMod(h1 + i * h2, bloomBits);
+		}
+		return offsets;
+	}
+
+	@SuppressWarnings("unchecked")
+	private BloomResult mightContain(List<String> fingerprints) {
+		List<String> args = new ArrayList<>(fingerprints.size() * hashCount + 1);
+		args.add(String.valueOf(hashCount));
+		fingerprints.forEach(fingerprint -> {
+			for (long offset : offsets(fingerprint)) {
+				args.add(String.valueOf(offset));
+			}
+		});
+
+		List<Long> flags;
+		try {
+			flags = redisTemplate.execute(CHECK_SCRIPT, List.of(BLOOM_KEY), args.toArray());
+		} catch (DataAccessException e) {
+			log.warn("소스 fingerprint Bloom filter 조회 실패 → 전체 정확 확인. count={}", fingerprints.size(), e);
+			return new BloomResult(false, fingerprints);
+		}
+		if (flags == null || flags.isEmpty() || flags.getFirst() == 0L) {
+			return new BloomResult(false, fingerprints);
+		}
+
+		List<String> candidates = new ArrayList<>();
+		for (int i = 0; i < fingerprints.size(); i++) {
+			if (flags.get(i + 1) == 1L) {
+				candidates.add(fingerprints.get(i));
+			}
+		}
+		return new BloomResult(true, candidates);
+	}
+
+	private static <T> RedisScript<T> script(String location, Class<T> resultType) {
+		DefaultRedisScript<T> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource(location));
+		script.setResultType(resultType);
+		return script;
+	}
+
+	/**
+	 * @param reliable   비트맵으로 판단했는지 여부 (false 면 전부 후보)
+	 * @param candidates 정확 확인이 필요한 fingerprint
+	 */
+	private record BloomResult(boolean reliable, List<String> candidates) {
+	}
+}
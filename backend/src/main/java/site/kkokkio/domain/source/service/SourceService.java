@@ -1,12 +1,20 @@
 package site.kkokkio.domain.source.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +24,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import site.kkokkio.domain.batch.metrics.BatchMetrics;
 import site.kkokkio.domain.keyword.dto.KeywordMetricHourlyDto;
 import site.kkokkio.domain.keyword.entity.Keyword;
 import site.kkokkio.domain.keyword.service.KeywordMetricHourlyService;
@@ -44,14 +55,22 @@ public class SourceService {
 	private final PostService postService;
 	private final KeywordMetricHourlyService keywordMetricHourlyService;
 	private final OpenGraphService openGraphService;
+	private final SourceFingerprintFilter sourceFingerprintFilter;
 	private final NewsApiPort newsApi;
 	private final VideoApiPort videoApi;
+	private final BatchMetrics batchMetrics;
 
 	private static final int MAX_SOURCE_COUNT_PER_POST = 10;
 	private final Platform NEWS_PLATFORM = Platform.NAVER_NEWS;
 	private final Platform VIDEO_PLATFORM = Platform.YOUTUBE;
 	private final KeywordSourceRepository keywordSourceRepository;
 
+	@Value("${source.search.concurrency:4}")
+	private int searchConcurrency;
+
+	@Value("${source.search.timeout:15s}")
+	private Duration searchTimeout;
+
 	@Transactional(readOnly = true)
 	public List<SourceDto> getTop10NewsSourcesByPostId(Long postId) {
 		postService.getPostById(postId);
@@ -128,13 +147,15 @@ public class SourceService {
 	 */
 	@Transactional
 	public SearchStatsDto searchNews() {
-		return searchSource(
-			text -> Optional.ofNullable(
-				newsApi.fetchNews(text, MAX_SOURCE_COUNT_PER_POST, 1, "sim").block()
-			).orElseGet(Collections::emptyList),
-			newsDto -> newsDto.toEntity(NEWS_PLATFORM),
-			"Naver News API"
-		);
+		return searchNewsFor(keywordMetricHourlyService.findHourlyMetrics());
+	}
+
+	/**
+	 * 증분 갱신 대상 키워드에 대해서만 뉴스 소스를 검색하고, DB에 저장합니다.
+	 */
+	@Transactional
+	public SearchStatsDto searchNews(List<Long> keywordIds) {
+		return searchNewsFor(keywordMetricHourlyService.findHourlyMetrics(keywordIds));
 	}
 
 	/**
@@ -142,54 +163,81 @@ public class SourceService {
 	 */
 	@Transactional
 	public SearchStatsDto searchYoutube() {
+		return searchYoutubeFor(keywordMetricHourlyService.findHourlyMetrics());
+	}
+
+	/**
+	 * 증분 갱신 대상 키워드에 대해서만 영상 소스를 검색하고, DB에 저장합니다.
+	 */
+	@Transactional
+	public SearchStatsDto searchYoutube(List<Long> keywordIds) {
+		return searchYoutubeFor(keywordMetricHourlyService.findHourlyMetrics(keywordIds));
+	}
+
+	private SearchStatsDto searchNewsFor(List<KeywordMetricHourlyDto> targetKeywords) {
+		return searchSource(
+			targetKeywords,
+			text -> newsApi.fetchNews(text, MAX_SOURCE_COUNT_PER_POST, 1, "sim"),
+			newsDto -> newsDto.toEntity(NEWS_PLATFORM),
+			NEWS_PLATFORM,
+			BatchMetrics.STAGE_NEWS_SEARCH,
+			"Naver News API"
+		);
+	}
+
+	private SearchStatsDto searchYoutubeFor(List<KeywordMetricHourlyDto> targetKeywords) {
 		return searchSource(
-			text -> Optional.ofNullable(
-				videoApi.fetchVideos(text, MAX_SOURCE_COUNT_PER_POST).block()
-			).orElseGet(Collections::emptyList),
+			targetKeywords,
+			text -> videoApi.fetchVideos(text, MAX_SOURCE_COUNT_PER_POST),
 			videoDto -> videoDto.toEntity(VIDEO_PLATFORM),
+			VIDEO_PLATFORM,
+			BatchMetrics.STAGE_VIDEO_SEARCH,
 			"Youtube API"
 		);
 	}
 
 	private <T> SearchStatsDto searchSource(
-		Function<String, List<T>> fetchFunction,
+		List<KeywordMetricHourlyDto> topKeywords,
+		Function<String, Mono<List<T>>> fetchFunction,
 		Function<T, Source> toEntityFunction,
+		Platform platform,
+		String stage,
 		String apiName
 	) {
 
-		// 1. 최신 Top10 키워드 조회
-		List<KeywordMetricHourlyDto> topKeywords = keywordMetricHourlyService.findHourlyMetrics();
+		// 1. 검색 대상 키워드는 호출부에서 조회 (최신 Top10 또는 증분 갱신 대상)
+		// 2. 키워드별 검색을 동시에 최대 searchConcurrency 건까지 실행 (키워드 순서 유지)
+		//    어댑터의 RateLimiter 는 구독 시점에 허가를 받으므로 동시 실행 수를 초당 허용량 이하로 둔다.
+		List<KeywordSearchResult<T>> results = Optional.ofNullable(Flux.fromIterable(topKeywords)
+			.flatMapSequential(metric -> fetchKeyword(metric, fetchFunction, apiName), searchConcurrency)
+			.collectList()
+			.block()).orElseGet(Collections::emptyList);
+
 		int totalFetched = 0;
-		int totalFailed = 0;
+		List<String> failedKeywords = new ArrayList<>();
+		Map<String, Long> latencyMsByKeyword = new LinkedHashMap<>();
 
 		List<Source> sources = new ArrayList<>();
 		List<KeywordSource> mappings = new ArrayList<>();
 
-		// 2. 키워드별 뉴스 검색 및 Entity 변환
-		for (KeywordMetricHourlyDto metric : topKeywords) {
-			String text = metric.text();
-			Keyword keywordRef = Keyword.builder().id(metric.keywordId()).build();
-
-			List<T> items;
-			try {
-				items = fetchFunction.apply(text);
-			} catch (Exception e) {
-				log.error("{} 실패. keyword={}, error={}", apiName, text, e.toString(), e);
-				totalFailed++;
-				continue; // 다음 키워드로 넘어감
-			}
+		// 3. 키워드별 결과 집계 및 Entity 변환
+		for (KeywordSearchResult<T> result : results) {
+			String text = result.metric().text();
+			latencyMsByKeyword.put(text, result.latencyMs());
+			batchMetrics.recordKeyword(stage, TimeUnit.MILLISECONDS.toNanos(result.latencyMs()),
+				!result.items().isEmpty());
+			batchMetrics.recordSourcesPerKeyword(platform, result.items().size());
 
-			if (items.isEmpty()) {
-				log.warn("{} 응답이 비어있음. keyword={}", apiName, text);
-				totalFailed++;
+			if (result.items().isEmpty()) {
+				failedKeywords.add(text);
 				continue; // 다음 키워드로 넘어감
 			}
 
-			totalFetched += items.size();
+			totalFetched += result.items().size();
+			Keyword keywordRef = Keyword.builder().id(result.metric().keywordId()).build();
 
 			// Source <-> Keyword 매핑 및 Entity 변환
-			for (T item : items) {
-				// VideoDto를 Source 엔티티로 변환
+			for (T item : result.items()) {
 				Source src = toEntityFunction.apply(item);
 				sources.add(src); // Source 리스트에 추가
 				// Keyword와 Source 연결하는 KeywordSource 엔티티 생성
@@ -200,21 +248,117 @@ public class SourceService {
 			}
 		}
 
+		SearchStatsDto stats = new SearchStatsDto(totalFetched, failedKeywords.size(), failedKeywords,
+			latencyMsByKeyword);
+		log.info("{} 검색 완료. keywords={}, fetched={}, failed={}, maxLatencyMs={}, totalLatencyMs={}",
+			apiName, results.size(), stats.fetched(), stats.failed(), stats.maxLatencyMs(), stats.totalLatencyMs());
+
 		if (sources.isEmpty()) {
 			log.info("저장할 {} Source가 없습니다.", apiName);
-			return new SearchStatsDto(totalFetched, totalFailed);
+			return stats;
 		}
 
-		// 중복 제거 및 저장
+		// 4. 중복 제거 후 이미 저장된 Source 판별 (Bloom filter + 정확 확인)
 		List<Source> distinctSources = sources.stream().distinct().toList();
-		// Source 저장 (INSERT IGNORE 사용)
-		sourceRepository.insertIgnoreAll(distinctSources);
-		// KeywordSource 저장 (INSERT IGNORE 사용)
-		keywordSourceRepository.insertIgnoreAll(mappings);
+		Set<String> knownFingerprints = sourceFingerprintFilter.findKnown(
+			distinctSources.stream().map(Source::getFingerprint).toList());
+		List<Source> newSources = distinctSources.stream()
+			.filter(source -> !knownFingerprints.contains(source.getFingerprint()))
+			.toList();
+
+		// 5. 신규 Source 만 저장 (INSERT IGNORE 사용)
+		if (!newSources.isEmpty()) {
+			sourceRepository.insertIgnoreAll(newSources);
+			sourceFingerprintFilter.markKnown(newSources.stream().map(Source::getFingerprint).toList());
+		}
+
+		// 6. 아직 없는 KeywordSource 만 저장 (INSERT IGNORE 사용)
+		List<KeywordSource> newMappings = excludeLinkedMappings(mappings, knownFingerprints);
+		if (!newMappings.isEmpty()) {
+			keywordSourceRepository.insertIgnoreAll(newMappings);
+		}
+		log.info("{} Source 저장. distinct={}, new={}, newMappings={}",
+			apiName, distinctSources.size(), newSources.size(), newMappings.size());
+
+		// 비동기 OpenGraph 보강: 신규 Source 와 썸네일을 아직 채우지 못한 기존 Source (재시도 횟수는 OpenGraphService 가 제한)
+		openGraphService.enrichAll(enrichTargets(distinctSources, newSources, knownFingerprints));
 
-		// 비동기 OpenGraph 보강 (Source 엔티티에 URL 필드 필요)
-		distinctSources.forEach(openGraphService::enrichAsync);
+		return stats;
+	}
+
+	/**
+	 * OpenGraph 보강 대상: 신규 Source 전부 + 기존 Source 중 DB 에 thumbnail_url 이 아직 없는 것
+	 * (이전 추출이나 반영이 실패한 Source 를 다시 수집될 때 재시도한다)
+	 */
+	private List<Source> enrichTargets(List<Source> distinctSources, List<Source> newSources,
+		Set<String> knownFingerprints) {
+		if (knownFingerprints.isEmpty()) {
+			return newSources;
+		}
+		Set<String> withoutThumbnail = new HashSet<>(
+			sourceRepository.findFingerprintsWithoutThumbnail(knownFingerprints));
+		if (withoutThumbnail.isEmpty()) {
+			return newSources;
+		}
+		List<Source> targets = new ArrayList<>(newSources);
+		distinctSources.stream()
+			.filter(source -> withoutThumbnail.contains(source.getFingerprint()))
+			.forEach(targets::add);
+		return targets;
+	}
+
+	/**
+	 * 기존 Source 의 매핑 중 이미 같은 키워드와 연결된 것을 제외한다. 신규 Source 의 매핑은 모두 유지한다.
+	 * 기존 연결은 이번 수집 키워드로 한정해 조회하므로, 인기 Source 에 연결된 다른 키워드는 읽지 않는다.
+	 */
+	private List<KeywordSource> excludeLinkedMappings(List<KeywordSource> mappings, Set<String> knownFingerprints) {
+		if (knownFingerprints.isEmpty()) {
+			return mappings;
+		}
+		Set<Long> keywordIds = mappings.stream()
+			.map(ks -> ks.getKeyword().getId())
+			.collect(Collectors.toSet());
+		Set<String> linked = keywordSourceRepository
+			.findAllByKeyword_IdInAndSource_FingerprintIn(keywordIds, knownFingerprints).stream()
+			.map(ks -> mappingKey(ks.getKeyword().getId(), ks.getSource().getFingerprint()))
+			.collect(Collectors.toSet());
+		return mappings.stream()
+			.filter(ks -> !linked.contains(mappingKey(ks.getKeyword().getId(), ks.getSource().getFingerprint())))
+			.toList();
+	}
+
+	private static String mappingKey(Long keywordId, String fingerprint) {
+		return keywordId + ":" + fingerprint;
+	}
+
+	/**
+	 * 키워드 1건 검색. 실패/빈 응답/타임아웃은 빈 목록으로 바꿔 다른 키워드 검색을 막지 않는다.
+	 */
+	private <T> Mono<KeywordSearchResult<T>> fetchKeyword(
+		KeywordMetricHourlyDto metric,
+		Function<String, Mono<List<T>>> fetchFunction,
+		String apiName
+	) {
+		String text = metric.text();
+		return Mono.defer(() -> {
+			long startedAt = System.nanoTime();
+			return Mono.defer(() -> fetchFunction.apply(text))
+				.timeout(searchTimeout)
+				.defaultIfEmpty(List.of())
+				.doOnNext(items -> {
+					if (items.isEmpty()) {
+						log.warn("{} 응답이 비어있음. keyword={}", apiName, text);
+					}
+				})
+				.onErrorResume(e -> {
+					log.error("{} 실패. keyword={}, error={}", apiName, text, e.toString(), e);
+					return Mono.just(List.of());
+				})
+				.map(items -> new KeywordSearchResult<>(metric, items,
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)));
+		});
+	}
 
-		return new SearchStatsDto(totalFetched, totalFailed);
+	private record KeywordSearchResult<T>(KeywordMetricHourlyDto metric, List<T> items, long latencyMs) {
 	}
 }
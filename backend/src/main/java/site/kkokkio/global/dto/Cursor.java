@@ -0,0 +1,48 @@
+package site.kkokkio.global.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import site.kkokkio.global.exception.ServiceException;
+
+/**
+ * 키셋 페이지네이션 커서 (createdAt, id)
+ * 클라이언트에는 내부 구조를 알 수 없는 Base64(URL-safe) 문자열로만 노출한다.
+ */
+public record Cursor(LocalDateTime createdAt, Long id) {
+	public static final int DEFAULT_SIZE = 10;
+	public static final int MAX_SIZE = 50;
+	private static final String DELIMITER = "|";
+
+	public String encode() {
+		String raw = createdAt + DELIMITER + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static Cursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int delimiterIndex = raw.lastIndexOf(DELIMITER);
+			return new Cursor(
+				LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+				Long.valueOf(raw.substring(delimiterIndex + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+			throw new ServiceException("400", "잘못된 커서입니다.");
+		}
+	}
+
+	/**
+	 * 조회 크기를 검증하고 COUNT 없이 size + 1건만 읽는 Slice 요청을 만든다.
+	 */
+	public static Pageable sliceRequest(int size) {
+		if (size < 1 || size > MAX_SIZE) {
+			throw new ServiceException("400", "조회 크기는 1 이상 " + MAX_SIZE + " 이하여야 합니다.");
+		}
+		return PageRequest.ofSize(size);
+	}
+}
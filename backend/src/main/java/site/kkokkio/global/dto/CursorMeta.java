@@ -0,0 +1,18 @@
+package site.kkokkio.global.dto;
+
+import lombok.Builder;
+
+@Builder
+public record CursorMeta(
+	int size,
+	boolean hasNext,
+	String nextCursor
+) {
+	public static CursorMeta of(int size, boolean hasNext, String nextCursor) {
+		return CursorMeta.builder()
+			.size(size)
+			.hasNext(hasNext)
+			.nextCursor(nextCursor)
+			.build();
+	}
+}
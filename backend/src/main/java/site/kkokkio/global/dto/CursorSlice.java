@@ -0,0 +1,32 @@
+package site.kkokkio.global.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Slice;
+
+/**
+ * 키셋 페이지네이션 조회 결과 (전체 개수 없이 다음 커서만 제공)
+ */
+public record CursorSlice<T>(
+	List<T> list,
+	boolean hasNext,
+	String nextCursor
+) {
+	/**
+	 * @param slice 조회된 엔티티 Slice
+	 * @param list 응답용으로 변환된 목록
+	 * @param cursorOf 마지막 엔티티에서 다음 커서를 만드는 함수
+	 */
+	public static <E, T> CursorSlice<T> of(Slice<E> slice, List<T> list, Function<E, Cursor> cursorOf) {
+		if (!slice.hasNext() || slice.getContent().isEmpty()) {
+			return new CursorSlice<>(list, false, null);
+		}
+		E last = slice.getContent().get(slice.getContent().size() - 1);
+		return new CursorSlice<>(list, true, cursorOf.apply(last).encode());
+	}
+
+	public CursorMeta meta() {
+		return CursorMeta.of(list.size(), hasNext, nextCursor);
+	}
+}
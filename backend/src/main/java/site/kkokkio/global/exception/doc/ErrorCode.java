@@ -48,7 +48,10 @@ public enum ErrorCode {
 	COMMENT_IDS_NOT_PROVIDED("400", "댓글이 선택되지 않았습니다."),
 	COMMENT_NOT_INCLUDE("404", "존재하지 않는 댓글이 포함되어 있습니다."),
 	POST_IDS_NOT_PROVIDED("400", "포스트가 선택되지 않았습니다."),
-	POST_NOT_INCLUDE("404", "존재하지 않는 포스트가 포함되어 있습니다.");
+	POST_IDS_TOO_MANY("400", "한 번에 조회할 수 있는 포스트 수를 초과했습니다."),
+	POST_NOT_INCLUDE("404", "존재하지 않는 포스트가 포함되어 있습니다."),
+	BAD_CURSOR("400", "잘못된 커서입니다."),
+	BAD_CURSOR_SIZE("400", "조회 크기는 1 이상 50 이하여야 합니다.");
 
 	private final String code;
 	private final String message;
@@ -5,13 +5,8 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobExecutionException;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.JobParametersInvalidException;
-import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
-import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
-import org.springframework.batch.core.repository.JobRestartException;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
@@ -25,6 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import site.kkokkio.domain.member.entity.Member;
 import site.kkokkio.domain.member.repository.MemberRepository;
 import site.kkokkio.global.enums.MemberRole;
+import site.kkokkio.global.scheduler.LeaderJobLauncher;
 
 @Slf4j
 @Component
@@ -35,8 +31,8 @@ public class BaseInitData implements CommandLineRunner {
 	private final MemberRepository memberRepository;
 	private final PasswordEncoder passwordEncoder;
 
-	private final JobLauncher jobLauncher;
-	private final Job trendingKeywordsJob;
+	private final LeaderJobLauncher leaderJobLauncher;
+	private final Job trendToPostJob;
 
 	@Override
 	public void run(String... args) throws Exception {
@@ -102,19 +98,14 @@ public class BaseInitData implements CommandLineRunner {
 	}
 
 	@EventListener(ApplicationReadyEvent.class)
-	public void launchOnceOnStartup() throws
-		JobExecutionAlreadyRunningException,
-		JobRestartException,
-		JobInstanceAlreadyCompleteException,
-		JobParametersInvalidException {
+	public void launchOnceOnStartup() throws JobExecutionException {
 
 		LocalDateTime bucketAt = LocalDateTime.now(ZoneId.of("UTC"))
 			.withSecond(0).withNano(0);
-		JobParameters params = new JobParametersBuilder()
-			.addString("runTime", bucketAt.toString())
-			.toJobParameters();
+		JobParametersBuilder params = new JobParametersBuilder()
+			.addString("runTime", bucketAt.toString());
 
-		log.info("Application ready — launching trendingKeywordsJob with runTime={}", bucketAt);
-		jobLauncher.run(trendingKeywordsJob, params);
+		log.info("Application ready — launching trendToPostJob with runTime={}", bucketAt);
+		leaderJobLauncher.runIfLeader(trendToPostJob, params);
 	}
 }
@@ -0,0 +1,39 @@
+package site.kkokkio.global.jdbc;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 단일 행 INSERT 문과 행 → 파라미터 변환 함수
+ * - 행 수와 무관하게 문장 형태가 고정되므로 PreparedStatement 를 재사용하고,
+ *   MySQL 드라이버의 rewriteBatchedStatements 가 배치를 다중 행 INSERT 로 합쳐 전송한다.
+ * - 모든 대상 테이블은 BaseTimeEntity 를 상속하므로 created_at / updated_at 은 NOW() 로 채운다.
+ *
+ * @param sql    단일 행 INSERT 문
+ * @param binder 행 → columns 순서의 파라미터
+ */
+public record BulkUpsertStatement<T>(String sql, Function<T, Object[]> binder) {
+
+	/**
+	 * INSERT IGNORE (중복 키는 건너뜀)
+	 */
+	public static <T> BulkUpsertStatement<T> insertIgnore(String table, List<String> columns,
+		Function<T, Object[]> binder) {
+		return new BulkUpsertStatement<>("INSERT IGNORE INTO " + table + values(columns), binder);
+	}
+
+	/**
+	 * INSERT ... ON DUPLICATE KEY UPDATE (중복 키는 assignments 로 갱신)
+	 * @param assignments 갱신식 (예: "title = VALUES(title)")
+	 */
+	public static <T> BulkUpsertStatement<T> upsert(String table, List<String> columns, List<String> assignments,
+		Function<T, Object[]> binder) {
+		return new BulkUpsertStatement<>("INSERT INTO " + table + values(columns)
+			+ " ON DUPLICATE KEY UPDATE " + String.join(", ", assignments) + ", updated_at = NOW()", binder);
+	}
+
+	private static String values(List<String> columns) {
+		return " (" + String.join(", ", columns) + ", created_at, updated_at) VALUES ("
+			+ "?, ".repeat(columns.size()) + "NOW(), NOW())";
+	}
+}
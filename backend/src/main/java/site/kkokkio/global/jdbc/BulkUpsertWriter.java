@@ -0,0 +1,38 @@
+package site.kkokkio.global.jdbc;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 고정 크기 청크 단위 JDBC 배치 INSERT
+ * - 청크마다 같은 PreparedStatement 에 addBatch 후 한 번에 실행한다. (파라미터 수 상한 = 청크 크기 × 컬럼 수)
+ * - 호출 측 트랜잭션이 있으면 같은 커넥션으로 참여한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkUpsertWriter {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Value("${jdbc.bulk.chunk-size:500}")
+	private int chunkSize;
+
+	public <T> void write(BulkUpsertStatement<T> statement, Collection<? extends T> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+		List<T> batch = List.copyOf(rows);
+		jdbcTemplate.batchUpdate(statement.sql(), batch, chunkSize, (ps, row) -> {
+			Object[] values = statement.binder().apply(row);
+			for (int i = 0; i < values.length; i++) {
+				ps.setObject(i + 1, values[i]);
+			}
+		});
+	}
+}
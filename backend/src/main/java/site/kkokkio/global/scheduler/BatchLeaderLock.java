@@ -0,0 +1,162 @@
+package site.kkokkio.global.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * lease 이름별 배치 리더 lease (같은 데이터를 쓰는 Job 끼리는 이름을 공유한다)
+ * - BATCH_LEADER_LOCK:{lease} : 리더 노드 ID:fencing token (PX 로 만료)
+ * - BATCH_LEADER_FENCE:{lease} : 획득할 때마다 1씩 증가하는 fencing token 카운터
+ * - Job 이 도는 동안에는 리더가 renew 로 lease 를 주기적으로 갱신한다. (LeaderJobLauncher heartbeat)
+ * - lease 가 만료된 뒤 다른 노드가 다시 획득하면 token 이 커지므로, 이전 리더는 isCurrent 로 자신이 밀려났음을 알 수 있다.
+ * - Redis 장애 시에는 획득하지 못한 것으로 보고 실행하지 않는다. (중복 실행보다 한 번 건너뛰는 편이 낫다)
+ */
+@Slf4j
+@Component
+public class BatchLeaderLock {
+	public static final String LOCK_KEY_PREFIX = "BATCH_LEADER_LOCK:";
+	public static final String FENCE_KEY_PREFIX = "BATCH_LEADER_FENCE:";
+	public static final String LEADER_METRIC = "batch.scheduler.leader";
+	static final RedisScript<Long> ACQUIRE_SCRIPT = script("redis/batch_leader_acquire.lua");
+	static final RedisScript<Long> RELEASE_SCRIPT = script("redis/batch_leader_release.lua");
+	static final RedisScript<Long> RENEW_SCRIPT = script("redis/batch_leader_renew.lua");
+
+	private final StringRedisTemplate redisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final String nodeId;
+	// lease 이름 → 이 노드가 lease 를 가지고 있는지 (1/0)
+	private final Map<String, AtomicInteger> leaderFlags = new ConcurrentHashMap<>();
+
+	// Job 이 도는 동안 heartbeat 가 갱신하므로 갱신 간격보다 충분히 길게 둔다. 실행이 끝나면 바로 반납한다.
+	@Value("${batch.leader.lease-ttl:5m}")
+	private Duration leaseTtl;
+
+	public BatchLeaderLock(
+		StringRedisTemplate redisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${batch.leader.node-id:${HOSTNAME:node}}") String nodeName
+	) {
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+		// 같은 호스트 이름으로 재시작한 노드와도 구분되도록 인스턴스마다 접미사를 붙인다
+		this.nodeId = nodeName + "-" + UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	/**
+	 * lease 획득을 시도한다. 다른 노드가 리더이거나 Redis 장애 시 빈 값.
+	 */
+	public Optional<Lease> tryAcquire(String leaseName) {
+		Long token;
+		try {
+			token = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(LOCK_KEY_PREFIX + leaseName, FENCE_KEY_PREFIX + leaseName),
+				nodeId, String.valueOf(leaseTtl.toMillis()));
+		} catch (DataAccessException e) {
+			log.warn("배치 리더 lease 획득 실패 → 실행하지 않음. lease={}", leaseName, e);
+			leaderFlag(leaseName).set(0);
+			return Optional.empty();
+		}
+		if (token == null || token == 0L) {
+			log.info("다른 노드가 배치 리더이므로 건너뜁니다. lease={}, node={}", leaseName, nodeId);
+			leaderFlag(leaseName).set(0);
+			return Optional.empty();
+		}
+		leaderFlag(leaseName).set(1);
+		log.info("배치 리더 lease 획득. lease={}, node={}, fencingToken={}", leaseName, nodeId, token);
+		return Optional.of(new Lease(leaseName, nodeId, token));
+	}
+
+	/**
+	 * lease 를 반납한다. 이미 만료되어 다른 노드가 가져간 lease 는 건드리지 않는다.
+	 */
+	public void release(Lease lease) {
+		leaderFlag(lease.name()).set(0);
+		try {
+			redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY_PREFIX + lease.name()), lease.value());
+		} catch (DataAccessException e) {
+			log.warn("배치 리더 lease 반납 실패 (만료 시 해제). lease={}", lease.name(), e);
+		}
+	}
+
+	/**
+	 * 아직 이 노드의 lease 이면 만료 시간을 lease-ttl 만큼 다시 늘린다. 만료되었거나 다른 노드가 가져갔으면 false.
+	 * Redis 장애로 갱신할 수 없으면 isCurrent 와 같이 이미 받은 lease 를 믿고 true.
+	 * (장애 중에는 다른 노드도 lease 를 얻지 못하고, 복구 뒤 다른 노드가 가져갔다면 다음 갱신에서 false)
+	 */
+	public boolean renew(Lease lease) {
+		Long renewed;
+		try {
+			renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LOCK_KEY_PREFIX + lease.name()), lease.value(),
+				String.valueOf(leaseTtl.toMillis()));
+		} catch (DataAccessException e) {
+			log.warn("배치 리더 lease 갱신 실패 → 현재 lease 로 간주. lease={}, fencingToken={}", lease.name(),
+				lease.fencingToken(), e);
+			return true;
+		}
+		if (renewed == null || renewed == 0L) {
+			leaderFlag(lease.name()).set(0);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * fencing token 이 가장 최근에 발급된 token 인지 확인한다. 이후 다른 노드가 lease 를 받았다면 false.
+	 * Redis 장애로 확인할 수 없으면 이미 받은 lease 를 믿고 true.
+	 */
+	public boolean isCurrent(String leaseName, long fencingToken) {
+		String latest;
+		try {
+			latest = redisTemplate.opsForValue().get(FENCE_KEY_PREFIX + leaseName);
+		} catch (DataAccessException e) {
+			log.warn("fencing token 확인 실패 → 현재 lease 로 간주. lease={}, fencingToken={}", leaseName, fencingToken, e);
+			return true;
+		}
+		return latest == null || Long.parseLong(latest) == fencingToken;
+	}
+
+	private AtomicInteger leaderFlag(String leaseName) {
+		return leaderFlags.computeIfAbsent(leaseName, name -> {
+			AtomicInteger flag = new AtomicInteger();
+			Gauge.builder(LEADER_METRIC, flag, AtomicInteger::get)
+				.description("이 노드가 배치 리더 lease 를 가지고 있는지 (1/0)")
+				.tag("lease", name)
+				.register(meterRegistry);
+			return flag;
+		});
+	}
+
+	private static RedisScript<Long> script(String location) {
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setLocation(new ClassPathResource(location));
+		script.setResultType(Long.class);
+		return script;
+	}
+
+	/**
+	 * @param name         lease 이름
+	 * @param owner        획득한 노드 ID
+	 * @param fencingToken 획득 순서대로 증가하는 token
+	 */
+	public record Lease(String name, String owner, long fencingToken) {
+		String value() {
+			return owner + ":" + fencingToken;
+		}
+	}
+}
@@ -1,38 +1,55 @@
 package site.kkokkio.global.scheduler;
 
+import static site.kkokkio.domain.batch.context.JobParameterKeys.*;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
 import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobExecutionException;
 import org.springframework.batch.core.JobParametersBuilder;
-import org.springframework.batch.core.JobParametersInvalidException;
-import org.springframework.batch.core.launch.JobLauncher;
-import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
-import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
-import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 배치 스케줄러. 모든 노드에서 실행되지만 배치 리더 lease 를 얻은 노드만 Job 을 실행한다.
+ * 두 트렌드 Job 은 lease 를 공유하므로 어느 노드에서든 동시에 돌지 않는다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class HourScheduler {
-	private final JobLauncher jobLauncher;
-	private final Job trendingKeywordsJob;
+	private final LeaderJobLauncher leaderJobLauncher;
+	private final Job trendToPostJob;
+	private final Job trendDeltaJob;
+
+	// 정각 전체 실행이 증분 갱신의 lease 반납을 기다리는 최대 시간 (증분 갱신 때문에 한 시간을 통째로 건너뛰지 않도록)
+	@Value("${schedule.lease-wait:5m}")
+	private Duration leaseWait;
 
 	@Scheduled(cron = "${schedule.cron}")
-	public void runTrendingKeywordsJob() throws
-		JobExecutionAlreadyRunningException,
-		JobRestartException, JobInstanceAlreadyCompleteException, JobParametersInvalidException {
+	public void runTrendingKeywordsJob() throws JobExecutionException {
 		LocalDateTime bucketAt = LocalDateTime.now(ZoneId.of("UTC"))
 			.withSecond(0).withNano(0); // bucketAt 매시 정각 설정
-		JobParameters jobParameters = new JobParametersBuilder()
-			.addString("runTime", bucketAt.toString())
-			.toJobParameters();
-		jobLauncher.run(trendingKeywordsJob, jobParameters);
+		JobParametersBuilder jobParameters = new JobParametersBuilder()
+			.addString(JP_RUNTIME, bucketAt.toString());
+		leaderJobLauncher.runIfLeader(trendToPostJob, jobParameters, leaseWait);
+	}
+
+	/**
+	 * 정각 전체 실행 사이의 증분 갱신. 다른 노드에서라도 트렌드 Job 이 실행 중이면 lease 를 얻지 못해 건너뛴다. (기본값 "-" 는 비활성)
+	 */
+	@Scheduled(cron = "${schedule.delta-cron:-}")
+	public void runTrendDeltaJob() throws JobExecutionException {
+		LocalDateTime runAt = LocalDateTime.now(ZoneId.of("UTC"))
+			.withSecond(0).withNano(0);
+		JobParametersBuilder jobParameters = new JobParametersBuilder()
+			.addString(JP_RUNTIME, runAt.toString());
+		leaderJobLauncher.runIfLeader(trendDeltaJob, jobParameters);
 	}
 }
@@ -0,0 +1,155 @@
+package site.kkokkio.global.scheduler;
+
+import static site.kkokkio.domain.batch.context.BatchConstants.*;
+import static site.kkokkio.domain.batch.context.JobParameterKeys.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import site.kkokkio.global.scheduler.BatchLeaderLock.Lease;
+
+/**
+ * 배치 리더 lease 를 가진 노드에서만 Job 을 실행한다.
+ * - 스케줄러와 관리자 API 가 모두 이 경로로 실행하므로, 인스턴스를 늘려도 Job 은 한 노드에서만 돈다.
+ * - 정각 전체 실행과 증분 갱신은 하나의 lease(TREND_JOB_LEASE)를 나눠 써서, 노드가 달라도 서로 겹쳐 돌지 않는다.
+ * - fencing token 은 Job 파라미터로 넘겨 쓰기 직전에 lease 가 유효한지 확인하는 데 쓴다.
+ * - Job 이 도는 동안 renew-interval 마다 lease 를 갱신하고, 갱신에 실패하면(다른 노드가 가져갔으면) 실행 중인 Job 을 중지한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderJobLauncher {
+
+	private final JobLauncher jobLauncher;
+	private final JobRepository jobRepository;
+	private final BatchLeaderLock batchLeaderLock;
+	private final JobExplorer jobExplorer;
+	private final JobOperator jobOperator;
+	// lease 갱신 전용 스레드 (스케줄러 스레드는 Job 실행 동안 막혀 있다)
+	private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+		Thread.ofPlatform().name("batch-lease-heartbeat").daemon().factory());
+
+	// lease 를 기다릴 때 다시 시도하는 간격
+	@Value("${batch.leader.acquire-interval:5s}")
+	private Duration acquireInterval;
+
+	// Job 실행 중 lease 갱신 간격 (batch.leader.lease-ttl 보다 충분히 짧게)
+	@Value("${batch.leader.renew-interval:1m}")
+	private Duration renewInterval;
+
+	/**
+	 * lease 를 얻으면 Job 을 실행하고 반납한다. 리더가 아니면 실행하지 않고 빈 값.
+	 */
+	public Optional<JobExecution> runIfLeader(Job job, JobParametersBuilder parameters) throws JobExecutionException {
+		return runIfLeader(job, parameters, Duration.ZERO);
+	}
+
+	/**
+	 * lease 를 최대 maxWait 동안 기다려 얻으면 Job 을 실행하고 반납한다.
+	 * 기다리는 사이 다른 노드가 같은 파라미터로 이미 실행했다면 다시 실행하지 않는다.
+	 */
+	public Optional<JobExecution> runIfLeader(Job job, JobParametersBuilder parameters, Duration maxWait)
+		throws JobExecutionException {
+		String leaseName = leaseName(job.getName());
+		Optional<Lease> lease = batchLeaderLock.tryAcquire(leaseName);
+		boolean waited = false;
+		long deadline = System.nanoTime() + maxWait.toNanos();
+		while (lease.isEmpty() && System.nanoTime() < deadline && pause()) {
+			waited = true;
+			lease = batchLeaderLock.tryAcquire(leaseName);
+		}
+		if (lease.isEmpty()) {
+			return Optional.empty();
+		}
+		Lease acquired = lease.get();
+		try {
+			JobParameters identifying = parameters.toJobParameters();
+			if (waited && jobRepository.isJobInstanceExists(job.getName(), identifying)) {
+				log.info("lease 를 기다리는 동안 다른 노드가 실행했으므로 건너뜁니다. job={}, params={}", job.getName(),
+					identifying);
+				return Optional.empty();
+			}
+			ScheduledFuture<?> heartbeat = heartbeatExecutor.scheduleWithFixedDelay(
+				() -> renewOrStop(job.getName(), acquired), renewInterval.toMillis(), renewInterval.toMillis(),
+				TimeUnit.MILLISECONDS);
+			try {
+				// JobLauncher 는 동기 실행이므로 반환 시점에 Job 이 끝난다
+				return Optional.of(jobLauncher.run(job, parameters
+					.addLong(JP_FENCING_TOKEN, acquired.fencingToken(), false)
+					.addString(JP_LEASE_NAME, leaseName, false)
+					.toJobParameters()));
+			} finally {
+				heartbeat.cancel(false);
+			}
+		} finally {
+			batchLeaderLock.release(acquired);
+		}
+	}
+
+	@PreDestroy
+	void shutdownHeartbeat() {
+		heartbeatExecutor.shutdownNow();
+	}
+
+	/**
+	 * lease 를 갱신하고, 실패하면 이 lease 의 fencing token 으로 실행 중인 Job 을 중지한다.
+	 * (GeneratedPostWriter 의 fencing 확인은 포스트 쓰기만 막으므로, 나머지 스텝도 멈추도록)
+	 */
+	void renewOrStop(String jobName, Lease lease) {
+		if (batchLeaderLock.renew(lease)) {
+			return;
+		}
+		log.error("배치 리더 lease 를 잃었으므로 Job 을 중지합니다. job={}, lease={}, fencingToken={}", jobName,
+			lease.name(), lease.fencingToken());
+		for (JobExecution execution : jobExplorer.findRunningJobExecutions(jobName)) {
+			Long fencingToken = execution.getJobParameters().getLong(JP_FENCING_TOKEN);
+			if (fencingToken == null || fencingToken != lease.fencingToken()) {
+				continue;
+			}
+			try {
+				jobOperator.stop(execution.getId());
+			} catch (JobExecutionException e) {
+				log.warn("Job 중지 요청 실패. job={}, executionId={}", jobName, execution.getId(), e);
+			}
+		}
+	}
+
+	/**
+	 * Job 이 쓰는 lease 이름. 트렌드 Job 끼리는 하나의 lease 를 공유하고, 나머지는 Job 이름을 그대로 쓴다.
+	 */
+	static String leaseName(String jobName) {
+		return switch (jobName) {
+			case TREND_TO_POST_JOB, TREND_DELTA_JOB -> TREND_JOB_LEASE;
+			default -> jobName;
+		};
+	}
+
+	private boolean pause() {
+		try {
+			Thread.sleep(acquireInterval);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package site.kkokkio.global.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * 인스턴스 로컬 캐시 (접근 순서 기반 LRU + 저장 시각 기준 TTL)
+ * - maxSize 를 넘으면 가장 오래 접근하지 않은 항목부터 밀어낸다.
+ * - 만료된 항목은 조회 시 없는 것으로 보고 지운다.
+ */
+public class TtlLruCache<K, V> {
+
+	private final Duration ttl;
+	private final Map<K, Entry<V>> entries;
+
+	public TtlLruCache(int maxSize, Duration ttl) {
+		this.ttl = ttl;
+		this.entries = new LinkedHashMap<>(Math.min(maxSize, 256), 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * 만료되지 않은 값을 반환한다. 없거나 만료되었으면 null.
+	 */
+	public synchronized V get(K key) {
+		Entry<V> entry = live(key);
+		return entry == null ? null : entry.value();
+	}
+
+	public void put(K key, V value) {
+		put(key, value, System.currentTimeMillis());
+	}
+
+	/**
+	 * 저장 시각을 지정해 넣는다. (다른 계층에서 가져온 값은 원래 저장 시각 기준으로 만료)
+	 */
+	public synchronized void put(K key, V value, long storedAtMillis) {
+		entries.put(key, new Entry<>(value, storedAtMillis));
+	}
+
+	/**
+	 * 현재 값이 expected 와 같을 때만 바꾼다. 저장 시각은 유지한다.
+	 */
+	public synchronized boolean replace(K key, V expected, V value) {
+		Entry<V> entry = live(key);
+		if (entry == null || !entry.value().equals(expected)) {
+			return false;
+		}
+		entries.put(key, new Entry<>(value, entry.storedAtMillis()));
+		return true;
+	}
+
+	/**
+	 * 만료되지 않은 값이 있을 때만 바꾼다. 저장 시각은 유지한다.
+	 */
+	public synchronized void computeIfPresent(K key, UnaryOperator<V> remapping) {
+		Entry<V> entry = live(key);
+		if (entry != null) {
+			entries.put(key, new Entry<>(remapping.apply(entry.value()), entry.storedAtMillis()));
+		}
+	}
+
+	/**
+	 * 현재 값(없거나 만료되었으면 null)으로 새 값을 만들어 넣는다.
+	 * 기존 값이 있으면 저장 시각을 유지하고, 없으면 지금 시각으로 넣는다.
+	 */
+	public synchronized void compute(K key, BiFunction<K, V, V> remapping) {
+		Entry<V> entry = live(key);
+		V value = remapping.apply(key, entry == null ? null : entry.value());
+		entries.put(key, new Entry<>(value, entry == null ? System.currentTimeMillis() : entry.storedAtMillis()));
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private Entry<V> live(K key) {
+		Entry<V> entry = entries.get(key);
+		if (entry != null && System.currentTimeMillis() - entry.storedAtMillis() > ttl.toMillis()) {
+			entries.remove(key);
+			return null;
+		}
+		return entry;
+	}
+
+	private record Entry<V>(V value, long storedAtMillis) {
+	}
+}
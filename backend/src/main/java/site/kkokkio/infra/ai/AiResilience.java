@@ -0,0 +1,51 @@
+package site.kkokkio.infra.ai;
+
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.retry.RetryRegistry;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * AI 호출 Mono 에 Resilience4j 연산자를 적용한다.
+ * - 애노테이션(AOP)은 CompletableFuture 를 새 future 로 감싸 취소가 실제 요청까지 전달되지 않으므로 연산자로 직접 감싼다.
+ * - 적용 순서는 애노테이션 기본 순서와 같다. Retry( CircuitBreaker( RateLimiter( 호출 ) ) )
+ * - 인스턴스 이름 : 키워드별 요약 {AiType}_AI_CIRCUIT_BREAKER / _RETRY / _RATE_LIMITER
+ * - 일괄 요약은 {AiType}_AI_BATCH_CIRCUIT_BREAKER / _RETRY / _RATE_LIMITER 를 따로 쓴다.
+ *   (큰 요청을 재시도하지 않고, 일괄 요약 실패로 서킷이 열려도 키워드별 요약 폴백은 막지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class AiResilience {
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final RetryRegistry retryRegistry;
+	private final RateLimiterRegistry rateLimiterRegistry;
+
+	public static String circuitBreakerName(AiType aiType) {
+		return aiType.name() + "_AI_CIRCUIT_BREAKER";
+	}
+
+	public static String batchCircuitBreakerName(AiType aiType) {
+		return aiType.name() + "_AI_BATCH_CIRCUIT_BREAKER";
+	}
+
+	public <T> Mono<T> decorate(AiType aiType, Mono<T> call) {
+		return decorate(aiType.name() + "_AI_", call);
+	}
+
+	public <T> Mono<T> decorateBatch(AiType aiType, Mono<T> call) {
+		return decorate(aiType.name() + "_AI_BATCH_", call);
+	}
+
+	private <T> Mono<T> decorate(String prefix, Mono<T> call) {
+		return call
+			.transformDeferred(RateLimiterOperator.of(rateLimiterRegistry.rateLimiter(prefix + "RATE_LIMITER")))
+			.transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(prefix + "CIRCUIT_BREAKER")))
+			.transformDeferred(RetryOperator.of(retryRegistry.retry(prefix + "RETRY")));
+	}
+}
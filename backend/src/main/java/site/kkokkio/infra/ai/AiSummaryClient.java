@@ -0,0 +1,21 @@
+package site.kkokkio.infra.ai;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * AI 제공자별 요약 어댑터
+ * - 구독을 취소하면 진행 중인 HTTP 요청도 취소되도록 Mono 로 반환한다. (헤지에서 진 요청, 제한 시간 초과)
+ * - 라우팅/폴백/헤지는 AiSummaryPortRouter 가 맡는다.
+ */
+public interface AiSummaryClient {
+	/**
+	 * 텍스트를 AI에게 요청하고 요약 문자열 반환
+	 */
+	Mono<String> summarize(AiType aiType, String content);
+
+	/**
+	 * 여러 키워드의 소스 묶음을 한 번에 요청하고, 키워드별 요약 JSON 배열 문자열을 반환한다.
+	 * @param size 요청에 포함된 키워드 수
+	 */
+	Mono<String> summarizeBatch(AiType aiType, String content, int size);
+}
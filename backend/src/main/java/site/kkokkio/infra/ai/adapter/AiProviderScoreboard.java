@@ -0,0 +1,202 @@
+package site.kkokkio.infra.ai.adapter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import site.kkokkio.infra.ai.AiResilience;
+import site.kkokkio.infra.ai.AiType;
+
+/**
+ * AI 제공자별 실시간 점수판
+ * - 제공자별 응답 시간과 오류율을 지수 가중 이동 평균(EWMA)으로 유지한다.
+ * - 점수 = EWMA 응답 시간 + 오류율 × error-penalty (낮을수록 좋음)
+ * - 서킷 브레이커가 OPEN 인 제공자는 맨 뒤로 보내고, 요청의 exploration-rate 만큼은 다른 제공자를 1순위로 시험한다.
+ * - 헤지에서 져서 취소된 호출은 경과 시간을 응답 시간의 하한으로 반영한다. (느려진 제공자가 좋은 점수를 유지하지 않도록)
+ */
+@Slf4j
+@Component
+public class AiProviderScoreboard {
+	public static final String SCORE_METRIC = "ai.routing.score";
+
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final Map<AiType, ProviderStats> stats = new EnumMap<>(AiType.class);
+
+	// 최근 표본 가중치 (클수록 최근 상태를 빨리 반영)
+	@Value("${ai.routing.ewma-alpha:0.2}")
+	private double alpha;
+
+	// 오류율 1.0 에 해당하는 응답 시간 벌점
+	@Value("${ai.routing.error-penalty:5s}")
+	private Duration errorPenalty;
+
+	// 표본이 없는 제공자의 가정 응답 시간
+	@Value("${ai.routing.initial-latency:2s}")
+	private Duration initialLatency;
+
+	// 점수가 낮은 제공자를 1순위로 시험하는 요청 비율
+	@Value("${ai.routing.exploration-rate:0.05}")
+	private double explorationRate;
+
+	// 호출 스레드의 난수 생성기 (싱글톤에 특정 스레드의 ThreadLocalRandom 을 담지 않도록 매번 가져온다)
+	private Supplier<RandomGenerator> random = ThreadLocalRandom::current;
+
+	public AiProviderScoreboard(CircuitBreakerRegistry circuitBreakerRegistry, MeterRegistry meterRegistry) {
+		this.circuitBreakerRegistry = circuitBreakerRegistry;
+		for (AiType aiType : AiType.values()) {
+			stats.put(aiType, new ProviderStats());
+			Gauge.builder(SCORE_METRIC, this, scoreboard -> scoreboard.score(aiType))
+				.description("AI 제공자 라우팅 점수 (ms, 낮을수록 우선)")
+				.tag("provider", aiType.name())
+				.register(meterRegistry);
+		}
+	}
+
+	/**
+	 * 요약 호출 결과를 반영한다.
+	 */
+	public void record(AiType aiType, long latencyNanos, boolean success) {
+		stats.get(aiType).update(alpha, latencyNanos / 1_000_000.0, success);
+	}
+
+	/**
+	 * 응답 전에 취소된 호출을 반영한다. 실제 응답 시간은 경과 시간 이상이므로, 현재 EWMA 보다 길 때만 응답 시간 표본으로 쓴다.
+	 * 오류가 아니므로 오류율은 바꾸지 않는다.
+	 */
+	public void recordCancelled(AiType aiType, long elapsedNanos) {
+		stats.get(aiType).updateLowerBound(alpha, elapsedNanos / 1_000_000.0);
+	}
+
+	/**
+	 * 후보 제공자를 호출 순서대로 정렬한다. 점수가 같으면 후보 순서(정적 설정 순서)를 유지한다.
+	 */
+	public List<AiType> rank(List<AiType> candidates) {
+		// 1. 서킷이 열린 제공자는 뒤로, 나머지는 점수 순
+		List<AiType> ordered = new ArrayList<>(candidates.stream().distinct().toList());
+		ordered.sort(Comparator.<AiType, Boolean>comparing(this::isCircuitOpen).thenComparingDouble(this::score));
+
+		// 2. exploration-rate 만큼은 서킷이 닫힌 다른 제공자를 1순위로 (표본 갱신용)
+		List<AiType> explorable = ordered.stream().skip(1).filter(aiType -> !isCircuitOpen(aiType)).toList();
+		RandomGenerator generator = random.get();
+		if (!explorable.isEmpty() && generator.nextDouble() < explorationRate) {
+			AiType explored = explorable.get(generator.nextInt(explorable.size()));
+			ordered.remove(explored);
+			ordered.addFirst(explored);
+			log.debug("AI 라우팅 탐색. provider={}", explored);
+		}
+		return ordered;
+	}
+
+	/**
+	 * 제공자별 현재 점수와 EWMA 값 (actuator 노출용)
+	 */
+	public Map<AiType, ProviderScore> snapshot() {
+		Map<AiType, ProviderScore> snapshot = new LinkedHashMap<>();
+		for (AiType aiType : AiType.values()) {
+			ProviderStats providerStats = stats.get(aiType);
+			synchronized (providerStats) {
+				snapshot.put(aiType, new ProviderScore(score(aiType), providerStats.latencyMs, providerStats.errorRate,
+					providerStats.samples, circuitState(aiType)));
+			}
+		}
+		return snapshot;
+	}
+
+	double score(AiType aiType) {
+		ProviderStats providerStats = stats.get(aiType);
+		synchronized (providerStats) {
+			double latencyMs = providerStats.latencySamples == 0 ? initialLatency.toMillis() : providerStats.latencyMs;
+			return latencyMs + providerStats.errorRate * errorPenalty.toMillis();
+		}
+	}
+
+	/**
+	 * 서킷 브레이커가 호출을 막고 있지 않은지 (OPEN/FORCED_OPEN 이 아니면 true)
+	 */
+	public boolean isAvailable(AiType aiType) {
+		return !isOpen(circuitState(aiType));
+	}
+
+	/**
+	 * 키워드별 요약 서킷과 일괄 요약 서킷이 모두 호출을 막고 있지 않은지
+	 */
+	public boolean isBatchAvailable(AiType aiType) {
+		return isAvailable(aiType) && !isOpen(circuitState(AiResilience.batchCircuitBreakerName(aiType)));
+	}
+
+	private static boolean isOpen(CircuitBreaker.State state) {
+		return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+	}
+
+	/**
+	 * 어댑터 호출에 적용되는 AiResilience 서킷 브레이커 상태 (아직 생성되지 않았으면 CLOSED)
+	 */
+	private CircuitBreaker.State circuitState(AiType aiType) {
+		return circuitState(AiResilience.circuitBreakerName(aiType));
+	}
+
+	private CircuitBreaker.State circuitState(String name) {
+		return circuitBreakerRegistry.find(name)
+			.map(CircuitBreaker::getState)
+			.orElse(CircuitBreaker.State.CLOSED);
+	}
+
+	/**
+	 * @param score      라우팅 점수 (ms)
+	 * @param latencyMs  EWMA 응답 시간 (ms)
+	 * @param errorRate  EWMA 오류율 (0 ~ 1)
+	 * @param samples    반영한 호출 수
+	 * @param circuit    서킷 브레이커 상태
+	 */
+	public record ProviderScore(double score, double latencyMs, double errorRate, long samples,
+								CircuitBreaker.State circuit) {
+	}
+
+	private static class ProviderStats {
+		private double latencyMs;
+		private double errorRate;
+		private long samples;
+		private long latencySamples;
+
+		/**
+		 * 오류율은 모든 호출로, 응답 시간은 성공한 호출로만 갱신한다 (서킷 차단 등 즉시 실패가 응답 시간을 낮추지 않도록)
+		 */
+		synchronized void update(double alpha, double sampleLatencyMs, boolean success) {
+			double error = success ? 0.0 : 1.0;
+			errorRate = samples == 0 ? error : alpha * error + (1 - alpha) * errorRate;
+			samples++;
+			if (success) {
+				updateLatency(alpha, sampleLatencyMs);
+			}
+		}
+
+		/**
+		 * 취소된 호출의 경과 시간(응답 시간 하한)이 현재 EWMA 보다 길면 응답 시간 표본으로 반영한다
+		 */
+		synchronized void updateLowerBound(double alpha, double elapsedMs) {
+			if (latencySamples == 0 || elapsedMs > latencyMs) {
+				updateLatency(alpha, elapsedMs);
+			}
+		}
+
+		private void updateLatency(double alpha, double sampleLatencyMs) {
+			latencyMs = latencySamples == 0 ? sampleLatencyMs : alpha * sampleLatencyMs + (1 - alpha) * latencyMs;
+			latencySamples++;
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package site.kkokkio.infra.ai.adapter;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import site.kkokkio.infra.ai.AiType;
+import site.kkokkio.infra.ai.adapter.AiProviderScoreboard.ProviderScore;
+
+/**
+ * AI 제공자 라우팅 점수 조회 (GET /api/actuator/airouting)
+ */
+@Component
+@Endpoint(id = "airouting")
+@RequiredArgsConstructor
+public class AiRoutingEndpoint {
+	private final AiProviderScoreboard scoreboard;
+
+	@ReadOperation
+	public Map<AiType, ProviderScore> scores() {
+		return scoreboard.snapshot();
+	}
+}
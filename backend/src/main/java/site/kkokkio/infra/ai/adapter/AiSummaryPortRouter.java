@@ -1,27 +1,54 @@
 package site.kkokkio.infra.ai.adapter;
 
+import java.time.Duration;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import site.kkokkio.domain.post.port.out.AiSummaryPort;
+import site.kkokkio.infra.ai.AiSummaryClient;
 import site.kkokkio.infra.ai.AiType;
 import site.kkokkio.infra.ai.claude.ClaudeAiApiPort;
 import site.kkokkio.infra.ai.gemini.GeminiAiApiPort;
 import site.kkokkio.infra.ai.gpt.GptAiApiPort;
+import site.kkokkio.infra.ai.prompt.AiTokenEstimator;
 
 @Component
 @Primary
 @Slf4j
 public class AiSummaryPortRouter implements AiSummaryPort {
 
-	private final Map<AiType, AiSummaryPort> delegateMap;
+	public static final String LATENCY_METRIC = "ai.summary.latency";
+	public static final String HEDGE_METRIC = "ai.summary.hedge";
+	public static final String BATCH_LATENCY_METRIC = "ai.summary.batch.latency";
+	public static final String BATCH_ITEM_LATENCY_METRIC = "ai.summary.batch.item.latency";
+	public static final String TOKENS_IN_METRIC = "ai.summary.tokens.in";
+	private static final int LATENCY_WINDOW_SIZE = 200;
+	private static final int LATENCY_MIN_SAMPLES = 20;
+
+	private final Map<AiType, AiSummaryClient> delegateMap;
+	private final MeterRegistry meterRegistry;
+	private final AiProviderScoreboard scoreboard;
+	// 제공자별 최근 성공 응답 시간 (헤지 대기 시간 계산용)
+	private final Map<AiType, LatencyWindow> latencyWindows = new EnumMap<>(AiType.class);
+	private final Counter hedgeFiredCounter;
+	private final Counter hedgeWonCounter;
+	private final Counter hedgeBudgetExhaustedCounter;
 
 	@Value("${ai.type.current}")
 	private AiType currentAiType;
@@ -32,45 +59,98 @@ public class AiSummaryPortRouter implements AiSummaryPort {
 	@Value("${ai.type.tertiary}")
 	private AiType tertiaryAiType;
 
+	// 요청마다 점수판(EWMA 응답 시간/오류율) 순으로 1~3차 AI 를 정한다. false 면 ai.type 의 정적 순서
+	@Value("${ai.routing.adaptive:false}")
+	private boolean adaptiveRouting;
+
+	// 1차 AI 가 hedge.percentile 응답 시간 안에 답하지 않으면 2차 AI 를 동시에 호출한다
+	@Value("${ai.hedge.enabled:false}")
+	private boolean hedgeEnabled;
+
+	@Value("${ai.hedge.percentile:0.95}")
+	private double hedgePercentile;
+
+	// 백분위수 대기 시간의 하한/상한 (표본이 부족하면 상한을 쓴다)
+	@Value("${ai.hedge.min-delay:1s}")
+	private Duration hedgeMinDelay;
+
+	@Value("${ai.hedge.max-delay:4s}")
+	private Duration hedgeMaxDelay;
+
+	// budget-window 마다 허용하는 헤지 요청 수 (매시 배치 1회 실행분)
+	@Value("${ai.hedge.budget:10}")
+	private int hedgeBudget;
+
+	@Value("${ai.hedge.budget-window:1h}")
+	private Duration hedgeBudgetWindow;
+
+	private long hedgeWindowStartedAt;
+	private int hedgesInWindow;
+
 	public AiSummaryPortRouter(
 		GeminiAiApiPort geminiAdapter,
 		GptAiApiPort gptAdapter,
-		ClaudeAiApiPort claudeAdapter
+		ClaudeAiApiPort claudeAdapter,
+		MeterRegistry meterRegistry,
+		AiProviderScoreboard scoreboard
 	) {
+		this.meterRegistry = meterRegistry;
+		this.scoreboard = scoreboard;
 		this.delegateMap = new EnumMap<>(AiType.class);
 		delegateMap.put(AiType.GEMINI, geminiAdapter);
 		delegateMap.put(AiType.GPT, gptAdapter);
 		delegateMap.put(AiType.CLAUDE, claudeAdapter);
+		for (AiType aiType : AiType.values()) {
+			latencyWindows.put(aiType, new LatencyWindow(LATENCY_WINDOW_SIZE, LATENCY_MIN_SAMPLES));
+		}
+		this.hedgeFiredCounter = hedgeCounter(meterRegistry, "fired");
+		this.hedgeWonCounter = hedgeCounter(meterRegistry, "won");
+		this.hedgeBudgetExhaustedCounter = hedgeCounter(meterRegistry, "budget_exhausted");
 	}
 
 	@Override
 	public CompletableFuture<String> summarize(AiType requestedAiType, String content) {
 		// requestedAiType가 명시 되면 requestedAiType 우선. 아니라면 환경 변수에서 받아오기
 		// Test 환경이나, 환경변수 외 따로 AI 선택 필요 시 사용
-		AiType primaryAi = requestedAiType != null ? requestedAiType : currentAiType;
-		AiType secondaryAi = (requestedAiType != null && requestedAiType.equals(backupAiType))
-			? currentAiType
-			: backupAiType;
+		List<AiType> order = routeOrder(requestedAiType);
+		AiType primaryAi = order.get(0);
+		AiType secondaryAi = order.get(1);
+		AiType tertiaryAi = order.get(2);
 
-		AiSummaryPort primaryAdapter = delegateMap.get(primaryAi);
-		AiSummaryPort secondaryAdapter = delegateMap.get(secondaryAi);
-		AiSummaryPort fallbackAdapter = delegateMap.get(tertiaryAiType);
+		AiSummaryClient primaryAdapter = delegateMap.get(primaryAi);
+		AiSummaryClient secondaryAdapter = delegateMap.get(secondaryAi);
+		AiSummaryClient fallbackAdapter = delegateMap.get(tertiaryAi);
 
 		if (primaryAdapter == null) {
 			throw new IllegalArgumentException("지원하지 않는 AI 타입입니다: " + primaryAi);
 		}
 
+		// 헤지 모드: 1차 AI 가 느리면 2차 AI 를 동시에 호출하고, 둘 다 실패하면 3차 AI 로 폴백
+		if (hedgeEnabled && secondaryAdapter != null && !primaryAi.equals(secondaryAi)) {
+			return summarizeHedged(primaryAi, primaryAdapter, secondaryAi, secondaryAdapter, content)
+				.onErrorResume(hedgeError -> {
+					if (fallbackAdapter != null && !secondaryAi.equals(tertiaryAi)
+						&& !primaryAi.equals(tertiaryAi)) {
+						log.warn("1차/2차 AI '{}', '{}' 요약 실패, 3차 AI '{}'로 폴백합니다.", primaryAi, secondaryAi,
+							tertiaryAi, hedgeError);
+						return summarizeTimed(tertiaryAi, fallbackAdapter, content);
+					}
+					return Mono.error(hedgeError);
+				})
+				.toFuture();
+		}
+
 		// 메인 AI 오류 시 백업 AI가 폴백하여 요약
-		return Mono.fromFuture(primaryAdapter.summarize(primaryAi, content))
+		return summarizeTimed(primaryAi, primaryAdapter, content)
 			.onErrorResume(primaryError -> {
 				if (secondaryAdapter != null && !primaryAi.equals(secondaryAi)) {
 					log.warn("1차 AI '{}' 요약 실패, 2차 AI '{}'로 폴백합니다.", primaryAi, secondaryAi, primaryError);
-					return Mono.fromFuture(secondaryAdapter.summarize(secondaryAi, content))
+					return summarizeTimed(secondaryAi, secondaryAdapter, content)
 						.onErrorResume(secondaryError -> {
-							if (fallbackAdapter != null && !secondaryAi.equals(tertiaryAiType)) {
-								log.warn("2차 AI '{}' 요약 실패, 3차 AI '{}'로 폴백합니다.", secondaryAi, tertiaryAiType,
+							if (fallbackAdapter != null && !secondaryAi.equals(tertiaryAi)) {
+								log.warn("2차 AI '{}' 요약 실패, 3차 AI '{}'로 폴백합니다.", secondaryAi, tertiaryAi,
 									secondaryError);
-								return Mono.fromFuture(fallbackAdapter.summarize(tertiaryAiType, content));
+								return summarizeTimed(tertiaryAi, fallbackAdapter, content);
 							} else {
 								log.error("2차 AI 실패, 폴백할 AI가 없거나 동일합니다.", secondaryError);
 								return Mono.error(secondaryError);
@@ -83,4 +163,203 @@ public class AiSummaryPortRouter implements AiSummaryPort {
 			})
 			.toFuture();
 	}
+
+	/**
+	 * 일괄 요약은 일괄 요약 서킷이 열리지 않은 첫 번째 AI 에만 요청한다. 실패하면 호출한 쪽이 키워드별 요약(폴백/헤지 포함)으로 대체한다.
+	 * 응답 시간은 요청 단위 ai.summary.batch.latency 와 키워드당 환산 ai.summary.batch.item.latency 로 기록한다.
+	 * 점수판(키워드별 요약 EWMA)에는 반영하지 않는다. 일괄 요약의 상태는 일괄 요약 전용 서킷 브레이커가 따로 집계한다.
+	 */
+	@Override
+	public CompletableFuture<String> summarizeBatch(AiType requestedAiType, String content, int size) {
+		AiType aiType = batchProvider(requestedAiType);
+		AiSummaryClient adapter = delegateMap.get(aiType);
+		if (adapter == null) {
+			throw new IllegalArgumentException("지원하지 않는 AI 타입입니다: " + aiType);
+		}
+
+		return Mono.defer(() -> {
+				recordTokensIn(aiType, "batch", content);
+				Timer.Sample sample = Timer.start(meterRegistry);
+				return Mono.defer(() -> adapter.summarizeBatch(aiType, content, size))
+					.doOnSuccess(response -> {
+						long latency = sample.stop(batchTimer(BATCH_LATENCY_METRIC, aiType, "success"));
+						batchTimer(BATCH_ITEM_LATENCY_METRIC, aiType, "success")
+							.record(latency / Math.max(size, 1), TimeUnit.NANOSECONDS);
+					})
+					.doOnError(error -> sample.stop(batchTimer(BATCH_LATENCY_METRIC, aiType, "failure")))
+					.doOnCancel(() -> sample.stop(batchTimer(BATCH_LATENCY_METRIC, aiType, "cancelled")));
+			})
+			.toFuture();
+	}
+
+	/**
+	 * 일괄 요약 제공자: 호출 순서에서 키워드별/일괄 요약 서킷이 모두 열리지 않은 첫 번째 AI (모두 열려 있으면 1순위 AI)
+	 */
+	private AiType batchProvider(AiType requestedAiType) {
+		List<AiType> order = routeOrder(requestedAiType);
+		return order.stream()
+			.filter(scoreboard::isBatchAvailable)
+			.findFirst()
+			.orElse(order.getFirst());
+	}
+
+	/**
+	 * 1~3차 AI 호출 순서
+	 * - 요청에서 AI 를 명시하면 명시한 AI 우선 (명시한 AI 가 백업 AI 면 메인 AI 가 2차)
+	 * - 적응형 라우팅이면 점수판 순서, 아니면 ai.type 의 정적 순서
+	 */
+	private List<AiType> routeOrder(AiType requestedAiType) {
+		if (requestedAiType != null) {
+			AiType secondaryAi = requestedAiType.equals(backupAiType) ? currentAiType : backupAiType;
+			return List.of(requestedAiType, secondaryAi, tertiaryAiType);
+		}
+		if (!adaptiveRouting) {
+			return List.of(currentAiType, backupAiType, tertiaryAiType);
+		}
+		List<AiType> ranked = scoreboard.rank(List.of(currentAiType, backupAiType, tertiaryAiType));
+		AiType secondaryAi = ranked.size() > 1 ? ranked.get(1) : ranked.getFirst();
+		return List.of(ranked.getFirst(), secondaryAi, ranked.size() > 2 ? ranked.get(2) : secondaryAi);
+	}
+
+	/**
+	 * 1차 AI 를 호출하고, 헤지 대기 시간 안에 응답이 없으면(예산 안에서) 2차 AI 를 동시에 호출한다.
+	 * 1차 AI 가 먼저 실패하면 예산과 무관하게 바로 2차 AI 로 폴백한다.
+	 * 먼저 응답한 쪽을 쓰고 나머지 요청은 취소한다. 어댑터가 Mono 를 돌려주므로 취소는 진행 중인 HTTP 요청과 재시도까지 전달된다.
+	 * 둘 다 실패하면 마지막 오류를 전달한다.
+	 */
+	private Mono<String> summarizeHedged(AiType primaryAi, AiSummaryClient primaryAdapter, AiType secondaryAi,
+		AiSummaryClient secondaryAdapter, String content) {
+		return Mono.defer(() -> {
+			Sinks.One<Boolean> primaryFailed = Sinks.one();
+			Mono<String> primary = summarizeTimed(primaryAi, primaryAdapter, content)
+				.doOnError(error -> primaryFailed.tryEmitValue(Boolean.TRUE));
+
+			Duration delay = hedgeDelay(primaryAi);
+			Mono<Boolean> hedgeTrigger = Mono.delay(delay)
+				.filter(tick -> tryAcquireHedge())
+				.map(tick -> Boolean.TRUE);
+			Mono<Boolean> fallbackTrigger = primaryFailed.asMono().map(failed -> Boolean.FALSE);
+
+			Mono<String> secondary = Mono.firstWithValue(hedgeTrigger, fallbackTrigger)
+				.flatMap(hedged -> {
+					if (!hedged) {
+						log.warn("1차 AI '{}' 요약 실패, 2차 AI '{}'로 폴백합니다.", primaryAi, secondaryAi);
+						return summarizeTimed(secondaryAi, secondaryAdapter, content);
+					}
+					log.info("1차 AI '{}' 응답 지연({}ms), 2차 AI '{}'를 동시에 호출합니다.", primaryAi, delay.toMillis(),
+						secondaryAi);
+					hedgeFiredCounter.increment();
+					return summarizeTimed(secondaryAi, secondaryAdapter, content)
+						.doOnNext(summary -> hedgeWonCounter.increment());
+				});
+
+			return Mono.firstWithValue(primary, secondary)
+				.onErrorMap(NoSuchElementException.class, AiSummaryPortRouter::lastError);
+		});
+	}
+
+	/**
+	 * 1차 AI 의 최근 성공 응답 시간 백분위수 (min-delay ~ max-delay)
+	 */
+	Duration hedgeDelay(AiType aiType) {
+		long nanos = latencyWindows.get(aiType).percentile(hedgePercentile).orElse(hedgeMaxDelay.toNanos());
+		return Duration.ofNanos(Math.max(hedgeMinDelay.toNanos(), Math.min(nanos, hedgeMaxDelay.toNanos())));
+	}
+
+	/**
+	 * budget-window 안에서 헤지 예산이 남아 있으면 1건 차감한다.
+	 */
+	private synchronized boolean tryAcquireHedge() {
+		long now = System.currentTimeMillis();
+		if (now - hedgeWindowStartedAt >= hedgeBudgetWindow.toMillis()) {
+			hedgeWindowStartedAt = now;
+			hedgesInWindow = 0;
+		}
+		if (hedgesInWindow >= hedgeBudget) {
+			hedgeBudgetExhaustedCounter.increment();
+			return false;
+		}
+		hedgesInWindow++;
+		return true;
+	}
+
+	/**
+	 * firstWithValue 는 모두 실패하면 NoSuchElementException 으로 감싸므로 마지막 오류를 꺼낸다.
+	 * (재시도 가능한 외부 API 오류 여부를 배치 스텝이 판단할 수 있도록)
+	 */
+	private static Throwable lastError(NoSuchElementException error) {
+		if (error.getCause() == null) {
+			return error;
+		}
+		List<Throwable> errors = Exceptions.unwrapMultiple(error.getCause());
+		return errors.isEmpty() ? error : errors.getLast();
+	}
+
+	/**
+	 * 제공자별 요약 응답 시간을 ai.summary.latency{provider, outcome} 타이머(히스토그램)로 기록한다.
+	 * 헤지에서 진 요청은 outcome=cancelled 로 기록하고, 경과 시간을 응답 시간의 하한으로 점수판/헤지 표본에 반영한다.
+	 */
+	private Mono<String> summarizeTimed(AiType aiType, AiSummaryClient adapter, String content) {
+		return Mono.defer(() -> {
+			recordTokensIn(aiType, "single", content);
+			Timer.Sample sample = Timer.start(meterRegistry);
+			return Mono.defer(() -> adapter.summarize(aiType, content))
+				.doOnSuccess(summary -> {
+					long latency = sample.stop(latencyTimer(aiType, "success"));
+					latencyWindows.get(aiType).record(latency);
+					scoreboard.record(aiType, latency, true);
+				})
+				.doOnError(error -> scoreboard.record(aiType, sample.stop(latencyTimer(aiType, "failure")), false))
+				.doOnCancel(() -> recordCancelled(aiType, sample.stop(latencyTimer(aiType, "cancelled"))));
+		});
+	}
+
+	/**
+	 * 취소된 호출의 경과 시간은 실제 응답 시간의 하한이다.
+	 * 점수판에는 항상 하한으로 반영하고, 헤지 표본에는 헤지 대기 시간을 넘긴 느린 호출만 넣는다.
+	 * (막 시작했다가 취소된 헤지 요청이 백분위수를 낮추지 않도록)
+	 */
+	private void recordCancelled(AiType aiType, long elapsedNanos) {
+		scoreboard.recordCancelled(aiType, elapsedNanos);
+		if (elapsedNanos >= hedgeDelay(aiType).toNanos()) {
+			latencyWindows.get(aiType).record(elapsedNanos);
+		}
+	}
+
+	/**
+	 * 호출별 입력(userContent) 추정 토큰 수를 로그와 ai.summary.tokens.in{provider, mode} 로 남긴다. (시스템 프롬프트 제외)
+	 */
+	private void recordTokensIn(AiType aiType, String mode, String content) {
+		int tokensIn = AiTokenEstimator.estimate(aiType, content);
+		DistributionSummary.builder(TOKENS_IN_METRIC)
+			.description("AI 요약 호출별 입력 추정 토큰 수")
+			.tag("provider", aiType.name())
+			.tag("mode", mode)
+			.register(meterRegistry)
+			.record(tokensIn);
+		log.info("AI 요약 호출. provider={}, mode={}, tokensIn≈{}", aiType, mode, tokensIn);
+	}
+
+	private static Counter hedgeCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder(HEDGE_METRIC)
+			.description("AI 요약 헤지 요청 결과 수")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private Timer batchTimer(String name, AiType aiType, String outcome) {
+		return Timer.builder(name)
+			.description(BATCH_LATENCY_METRIC.equals(name) ? "AI 제공자별 일괄 요약 요청 응답 시간" : "AI 일괄 요약 응답 시간의 키워드당 환산값")
+			.tag("provider", aiType.name())
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
+
+	private Timer latencyTimer(AiType aiType, String outcome) {
+		return Timer.builder(LATENCY_METRIC)
+			.description("AI 제공자별 요약 응답 시간")
+			.tag("provider", aiType.name())
+			.tag("outcome", outcome)
+			.register(meterRegistry);
+	}
 }
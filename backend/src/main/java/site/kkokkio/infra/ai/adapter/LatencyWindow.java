@@ -0,0 +1,39 @@
+package site.kkokkio.infra.ai.adapter;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * 최근 응답 시간 표본 (고정 크기 링 버퍼)
+ * - 헤지 대기 시간을 정하기 위해 제공자별 최근 성공 응답 시간의 백분위수를 계산한다.
+ */
+class LatencyWindow {
+	private final long[] samples;
+	private final int minSamples;
+	private int next;
+	private int size;
+
+	LatencyWindow(int capacity, int minSamples) {
+		this.samples = new long[capacity];
+		this.minSamples = minSamples;
+	}
+
+	synchronized void record(long nanos) {
+		samples[next] = nanos;
+		next = (next + 1) % samples.length;
+		size = Math.min(size + 1, samples.length);
+	}
+
+	/**
+	 * 표본이 minSamples 개 미만이면 빈 값
+	 */
+	synchronized OptionalLong percentile(double percentile) {
+		if (size < minSamples) {
+			return OptionalLong.empty();
+		}
+		long[] sorted = Arrays.copyOf(samples, size);
+		Arrays.sort(sorted);
+		int index = (int)Math.ceil(percentile * size) - 1;
+		return OptionalLong.of(sorted[Math.max(0, Math.min(index, size - 1))]);
+	}
+}
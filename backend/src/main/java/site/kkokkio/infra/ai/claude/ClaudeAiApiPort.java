@@ -2,9 +2,9 @@ package site.kkokkio.infra.ai.claude;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,13 +15,12 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
-import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
-import site.kkokkio.domain.post.port.out.AiSummaryPort;
+import reactor.netty.http.client.HttpClientRequest;
+import site.kkokkio.infra.ai.AiResilience;
+import site.kkokkio.infra.ai.AiSummaryClient;
 import site.kkokkio.infra.ai.AiType;
 import site.kkokkio.infra.ai.claude.dto.ClaudeError;
 import site.kkokkio.infra.ai.claude.dto.ClaudeErrorDetail;
@@ -33,42 +32,65 @@ import site.kkokkio.infra.common.exception.ExternalApiErrorUtil;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ClaudeAiApiPort implements AiSummaryPort {
+public class ClaudeAiApiPort implements AiSummaryClient {
+	// 요약 1건당 최대 출력 토큰 (일괄 요약은 키워드 수만큼 늘린다)
+	private static final int MAX_TOKENS_PER_SUMMARY = 500;
 
 	@Qualifier("claudeWebClient")
 	private final WebClient claudeWebClient;
 
 	private final ClaudeApiProperties props;
 	private final AiSystemPromptResolver promptResolver;
+	private final AiResilience aiResilience;
 
 	@Value("${mock.enabled:true}")
 	private boolean mockEnabled;
 
+	// 일괄 요약 HTTP 응답 제한 시간 (WebClient 기본 응답 제한 5s 는 키워드별 요약 기준)
+	@Value("${ai.summary.batch.response-timeout:100s}")
+	private Duration batchResponseTimeout;
+
 	@Value("${mock.claude-file:claude-summary.json}")
 	private String mockFile;
 
-	@CircuitBreaker(name = "CLAUDE_AI_CIRCUIT_BREAKER")
-	@Retry(name = "CLAUDE_AI_RETRY")
-	@RateLimiter(name = "CLAUDE_AI_RATE_LIMITER")
 	@Override
-	public CompletableFuture<String> summarize(AiType aiType, String content) {
+	public Mono<String> summarize(AiType aiType, String content) {
 		if (aiType != AiType.CLAUDE) {
 			throw new IllegalArgumentException("이 어댑터는 CLAUDE 타입만 지원합니다.");
 		}
 		return summarize(content);
 	}
 
-	private CompletableFuture<String> summarize(String content) {
+	@Override
+	public Mono<String> summarizeBatch(AiType aiType, String content, int size) {
+		if (aiType != AiType.CLAUDE) {
+			throw new IllegalArgumentException("이 어댑터는 CLAUDE 타입만 지원합니다.");
+		}
+		// mock 응답은 단건 형식이므로 빈 배열을 돌려 키워드별 요약으로 대체한다
+		if (mockEnabled) {
+			return Mono.just("[]");
+		}
+		return aiResilience.decorateBatch(AiType.CLAUDE, request(promptResolver.getBatchPromptFor(AiType.CLAUDE),
+			content, MAX_TOKENS_PER_SUMMARY * size, batchResponseTimeout));
+	}
+
+	private Mono<String> summarize(String content) {
 		if (mockEnabled) {
 			return loadMockSummaryResponse();
 		}
 
 		// 시스템 프롬프트를 불러옴
-		String systemPrompt = promptResolver.getPromptFor(AiType.CLAUDE);
+		return aiResilience.decorate(AiType.CLAUDE,
+			request(promptResolver.getPromptFor(AiType.CLAUDE), content, MAX_TOKENS_PER_SUMMARY, null));
+	}
 
+	/**
+	 * @param responseTimeout HTTP 응답 제한 시간 (null 이면 WebClient 기본 응답 제한)
+	 */
+	private Mono<String> request(String systemPrompt, String content, int maxTokens, Duration responseTimeout) {
 		Map<String, Object> body = Map.of(
 			"model", props.getModel(),
-			"max_tokens", 500,
+			"max_tokens", maxTokens,
 			"temperature", 0.3,
 			"system", systemPrompt,
 			"messages", List.of(
@@ -79,6 +101,11 @@ public class ClaudeAiApiPort implements AiSummaryPort {
 		return claudeWebClient.post()
 			.uri("/messages")
 			.bodyValue(body)
+			.httpRequest(request -> {
+				if (responseTimeout != null && request.getNativeRequest() instanceof HttpClientRequest nativeRequest) {
+					nativeRequest.responseTimeout(responseTimeout);
+				}
+			})
 			.retrieve()
 			.onStatus(HttpStatusCode::isError, this::mapClaudeError)
 			.bodyToMono(ClaudeResponse.class)
@@ -87,8 +114,7 @@ public class ClaudeAiApiPort implements AiSummaryPort {
 					throw new IllegalStateException("Claude 요약 응답이 없습니다.");
 				}
 				return response.getContent().get(0).getText();
-			})
-			.toFuture();
+			});
 	}
 
 	private Mono<? extends Throwable> mapClaudeError(ClientResponse response) {
@@ -116,7 +142,7 @@ public class ClaudeAiApiPort implements AiSummaryPort {
 			});
 	}
 
-	private CompletableFuture<String> loadMockSummaryResponse() {
+	private Mono<String> loadMockSummaryResponse() {
 		try (InputStream is = getClass().getResourceAsStream("/mock/" + mockFile)) {
 			if (is == null) {
 				throw new IOException("Mock 파일을 찾을 수 없습니다: " + mockFile);
@@ -124,7 +150,7 @@ public class ClaudeAiApiPort implements AiSummaryPort {
 			ObjectMapper mapper = new ObjectMapper();
 			ClaudeResponse response = mapper.readValue(is, ClaudeResponse.class);
 			String content = response.getContent().get(0).getText();
-			return CompletableFuture.completedFuture(content);
+			return Mono.just(content);
 		} catch (IOException e) {
 			throw new RuntimeException("Claude mock 파일 로딩 실패", e);
 		}
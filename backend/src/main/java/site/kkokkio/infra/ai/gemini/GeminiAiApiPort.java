@@ -2,9 +2,9 @@ package site.kkokkio.infra.ai.gemini;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,13 +15,12 @@ import org.springframework.web.reactive.function.client.WebClient;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
-import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
-import site.kkokkio.domain.post.port.out.AiSummaryPort;
+import reactor.netty.http.client.HttpClientRequest;
+import site.kkokkio.infra.ai.AiResilience;
+import site.kkokkio.infra.ai.AiSummaryClient;
 import site.kkokkio.infra.ai.AiType;
 import site.kkokkio.infra.ai.gemini.dto.GeminiError;
 import site.kkokkio.infra.ai.gemini.dto.GeminiErrorDetail;
@@ -33,39 +32,60 @@ import site.kkokkio.infra.common.exception.ExternalApiErrorUtil;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class GeminiAiApiPort implements AiSummaryPort {
+public class GeminiAiApiPort implements AiSummaryClient {
 
 	@Qualifier("geminiWebClient")
 	private final WebClient geminiWebClient;
 
 	private final GeminiApiProperties props;
 	private final AiSystemPromptResolver promptResolver;
+	private final AiResilience aiResilience;
 
 	@Value("${mock.enabled:true}")
 	private boolean mockEnabled;
 
+	// 일괄 요약 HTTP 응답 제한 시간 (WebClient 기본 응답 제한 5s 는 키워드별 요약 기준)
+	@Value("${ai.summary.batch.response-timeout:100s}")
+	private Duration batchResponseTimeout;
+
 	@Value("${mock.gemini-file:gemini-summary.json}")
 	private String mockFile;
 
-	@CircuitBreaker(name = "GEMINI_AI_CIRCUIT_BREAKER")
-	@Retry(name = "GEMINI_AI_RETRY")
-	@RateLimiter(name = "GEMINI_AI_RATE_LIMITER")
 	@Override
-	public CompletableFuture<String> summarize(AiType aiType, String content) {
+	public Mono<String> summarize(AiType aiType, String content) {
 		if (aiType != AiType.GEMINI) {
 			throw new IllegalArgumentException("이 어댑터는 GEMINI 타입만 지원합니다.");
 		}
 		return summarize(content);
 	}
 
-	private CompletableFuture<String> summarize(String content) {
+	@Override
+	public Mono<String> summarizeBatch(AiType aiType, String content, int size) {
+		if (aiType != AiType.GEMINI) {
+			throw new IllegalArgumentException("이 어댑터는 GEMINI 타입만 지원합니다.");
+		}
+		// mock 응답은 단건 형식이므로 빈 배열을 돌려 키워드별 요약으로 대체한다
+		if (mockEnabled) {
+			return Mono.just("[]");
+		}
+		return aiResilience.decorateBatch(AiType.GEMINI,
+			request(promptResolver.getBatchPromptFor(AiType.GEMINI), content, batchResponseTimeout));
+	}
+
+	private Mono<String> summarize(String content) {
 		if (mockEnabled) {
 			return loadMockSummaryResponse();
 		}
 
 		// 시스템 프롬프트를 불러옴
-		String systemPrompt = promptResolver.getPromptFor(AiType.GEMINI);
+		return aiResilience.decorate(AiType.GEMINI,
+			request(promptResolver.getPromptFor(AiType.GEMINI), content, null));
+	}
 
+	/**
+	 * @param responseTimeout HTTP 응답 제한 시간 (null 이면 WebClient 기본 응답 제한)
+	 */
+	private Mono<String> request(String systemPrompt, String content, Duration responseTimeout) {
 		Map<String, Object> body = Map.of(
 			"model", props.getModel(),
 			"messages", List.of(
@@ -77,6 +97,11 @@ public class GeminiAiApiPort implements AiSummaryPort {
 		return geminiWebClient.post()
 			.uri("/chat/completions")
 			.bodyValue(body)
+			.httpRequest(request -> {
+				if (responseTimeout != null && request.getNativeRequest() instanceof HttpClientRequest nativeRequest) {
+					nativeRequest.responseTimeout(responseTimeout);
+				}
+			})
 			.retrieve()
 			.onStatus(HttpStatusCode::isError, this::mapGeminiError)
 			.bodyToMono(GeminiResponse.class)
@@ -85,8 +110,7 @@ public class GeminiAiApiPort implements AiSummaryPort {
 					throw new IllegalStateException("Gemini 요약 응답이 없습니다.");
 				}
 				return response.getChoices().get(0).getMessage().getContent();
-			})
-			.toFuture();
+			});
 	}
 
 	private Mono<? extends Throwable> mapGeminiError(ClientResponse response) {
@@ -114,7 +138,7 @@ public class GeminiAiApiPort implements AiSummaryPort {
 			});
 	}
 
-	private CompletableFuture<String> loadMockSummaryResponse() {
+	private Mono<String> loadMockSummaryResponse() {
 		try (InputStream is = getClass().getResourceAsStream("/mock/" + mockFile)) {
 			if (is == null) {
 				throw new IOException("Mock 파일을 찾을 수 없습니다: " + mockFile);
@@ -122,7 +146,7 @@ public class GeminiAiApiPort implements AiSummaryPort {
 			ObjectMapper mapper = new ObjectMapper();
 			GeminiResponse response = mapper.readValue(is, GeminiResponse.class);
 			String content = response.getChoices().get(0).getMessage().getContent();
-			return CompletableFuture.completedFuture(content);
+			return Mono.just(content);
 		} catch (IOException e) {
 			throw new RuntimeException("Gemini mock 파일 로딩 실패", e);
 		}
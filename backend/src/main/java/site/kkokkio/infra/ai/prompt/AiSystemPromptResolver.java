@@ -1,7 +1,27 @@
 package site.kkokkio.infra.ai.prompt;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import site.kkokkio.global.util.HashUtils;
 import site.kkokkio.infra.ai.AiType;
 
 public interface AiSystemPromptResolver {
 	String getPromptFor(AiType aiType);
+
+	/**
+	 * 여러 키워드를 한 번에 요약하는 일괄 요청용 프롬프트 (JSON 배열 응답)
+	 */
+	String getBatchPromptFor(AiType aiType);
+
+	/**
+	 * 프롬프트 버전. 제공자별 단건/일괄 프롬프트 중 하나라도 바뀌면 버전도 바뀌어 이전 프롬프트로 만든 요약 캐시를 쓰지 않는다.
+	 * (라우팅, 헤지, 일괄 요약 폴백으로 어느 제공자의 어느 프롬프트가 요약할지 캐시 조회 시점에는 알 수 없으므로 모두 묶는다)
+	 */
+	default String getPromptVersion() {
+		String prompts = Arrays.stream(AiType.values())
+			.map(aiType -> getPromptFor(aiType) + "\n" + getBatchPromptFor(aiType))
+			.collect(Collectors.joining("\n"));
+		return HashUtils.sha256Hex(prompts).substring(0, 12);
+	}
 }
@@ -0,0 +1,61 @@
+package site.kkokkio.infra.ai.prompt;
+
+import site.kkokkio.infra.ai.AiType;
+
+/**
+ * 제공자별 입력 토큰 수 추정
+ * - 토크나이저 없이 문자 종류별 평균 토큰 비율로 근사한다. (한글 음절, ASCII, 그 외 문자)
+ * - 한글은 토크나이저마다 차이가 커서 제공자별 비율을 따로 둔다. 정확한 과금 토큰이 아니라 절감량 추적/예산 판단용이다.
+ */
+public final class AiTokenEstimator {
+
+	private AiTokenEstimator() {
+	}
+
+	public static int estimate(AiType aiType, String text) {
+		if (text == null || text.isEmpty()) {
+			return 0;
+		}
+		int hangul = 0;
+		int ascii = 0;
+		int other = 0;
+		for (int i = 0; i < text.length(); ) {
+			int codePoint = text.codePointAt(i);
+			i += Character.charCount(codePoint);
+			if (Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL) {
+				hangul++;
+			} else if (codePoint < 0x80) {
+				ascii++;
+			} else {
+				other++;
+			}
+		}
+		Ratio ratio = ratioOf(aiType);
+		return (int)Math.ceil(hangul * ratio.hangul() + ascii * ratio.ascii() + other * ratio.other());
+	}
+
+	/**
+	 * 제공자 중 가장 많이 세는 추정값 (요청마다 제공자가 바뀔 수 있어 예산 판단에 사용)
+	 */
+	public static int estimateMax(String text) {
+		int max = 0;
+		for (AiType aiType : AiType.values()) {
+			max = Math.max(max, estimate(aiType, text));
+		}
+		return max;
+	}
+
+	/**
+	 * 문자 1개당 평균 토큰 수
+	 */
+	private static Ratio ratioOf(AiType aiType) {
+		return switch (aiType) {
+			case GPT -> new Ratio(0.6, 0.25, 1.0);
+			case GEMINI -> new Ratio(0.5, 0.25, 1.0);
+			case CLAUDE -> new Ratio(1.0, 0.3, 1.2);
+		};
+	}
+
+	private record Ratio(double hangul, double ascii, double other) {
+	}
+}
@@ -6,6 +6,9 @@ import site.kkokkio.infra.ai.AiType;
 
 @Component
 public class DefaultAiSystemPromptResolver implements AiSystemPromptResolver {
+	// 일괄 요약 프롬프트 (제공자 공통). 입력은 "### keyword_id: {ID}" 머리글로 키워드별 소스 묶음을 구분한다.
+	private static final String BATCH_PROMPT =
+		"| ## System 당신은 20년차 한국 언론사 출신의 한국어 트렌드 요약 전문가이다. JSON 스펙 외의 텍스트를 절대 포함하지 않는다. 출력 형식 예시: [{\"keyword_id\": 1, \"title\": \"봄맞이 여행 트렌드\", \"summary\": \"1문단 내용... 2문단 내용... 3문단 내용...\"}, {\"keyword_id\": 2, \"title\": \"...\", \"summary\": \"...\"}] ## User 입력은 \"### keyword_id: 숫자\" 머리글로 구분된 여러 키워드의 소스 묶음이다. 각 키워드마다 해당 묶음의 제목, 설명, URL, 플랫폼 정보만을 바탕으로, 1. title은 흥미를 끌 수 있는 한국어 문구로 최대 50자로 작성하라. 2. summary는 한국어 3문단으로 작성하라. 3.반드시 한국어로 작성하되 정말 필요한 경우에는 단어 단위로만 영어를 사용한다. 4. 특수문자(이모지, 기호)나 한국어·영어 외 언어는 소스에 존재하더라도 포함하지 않는다. 5. 작정자, 기자명, 신문사명 등 소스의 출처 관련으로 보이는 내용은 절대 포함하지 않는다. 6. 반드시 **단일 JSON 배열** 하나만 출력하고, 입력된 키워드마다 정확히 하나의 객체를 입력 순서대로 넣는다. 7. 각 객체의 keyword_id 는 머리글의 숫자를 그대로 숫자로 쓰고, 다른 키워드의 소스 내용을 섞지 않는다. 8. title 및 summary 필드 값에 큰따옴표(\")나 다른 기호문자를 포함하지 않는다. 9. summary 필드 값에서 줄바꿈을 넣을 경우 반드시 `\\n` 문자열로 이스케이프 처리하라.";
 
 	@Override
 	public String getPromptFor(AiType aiType) {
@@ -19,4 +22,12 @@ public class DefaultAiSystemPromptResolver implements AiSystemPromptResolver {
 			default -> throw new IllegalArgumentException("지원하지 않는 AI 타입: " + aiType);
 		};
 	}
+
+	@Override
+	public String getBatchPromptFor(AiType aiType) {
+		return switch (aiType) {
+			case GEMINI, GPT, CLAUDE -> BATCH_PROMPT;
+			default -> throw new IllegalArgumentException("지원하지 않는 AI 타입: " + aiType);
+		};
+	}
 }
@@ -0,0 +1,53 @@
+package site.kkokkio.infra.common.metrics;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 호출 1회 응답 시간 기록기
+ * - spring_batch_external_call_duration{target, outcome} (재시도는 시도마다 기록)
+ * - outcome : success / failure / cancelled (제한 시간 초과 등으로 응답 전에 취소된 호출)
+ * - 외부 API 어댑터가 배치 도메인에 의존하지 않도록 infra 에 둔다. 키워드 단위 시간은 BatchMetrics 가 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalCallMetrics {
+	public static final String EXTERNAL_CALL_DURATION = "spring_batch_external_call_duration";
+
+	public static final String TARGET_NAVER_NEWS = "naver_news";
+	public static final String TARGET_YOUTUBE = "youtube";
+	public static final String TARGET_OPEN_GRAPH = "open_graph";
+
+	private static final String SUCCESS = "success";
+	private static final String FAILURE = "failure";
+	private static final String CANCELLED = "cancelled";
+
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * 외부 호출 Mono 를 구독할 때마다(재시도 포함) 응답 시간을 기록한다.
+	 * 호출한 쪽의 timeout 으로 취소된 호출도 취소 시점까지의 시간을 outcome=cancelled 로 기록한다.
+	 */
+	public <T> Mono<T> time(String target, Mono<T> call) {
+		return Mono.defer(() -> {
+			Timer.Sample sample = Timer.start(meterRegistry);
+			return call
+				.doOnSuccess(result -> sample.stop(timer(target, SUCCESS)))
+				.doOnError(error -> sample.stop(timer(target, FAILURE)))
+				.doOnCancel(() -> sample.stop(timer(target, CANCELLED)));
+		});
+	}
+
+	private Timer timer(String target, String outcome) {
+		return Timer.builder(EXTERNAL_CALL_DURATION)
+			.description("외부 호출 1회 응답 시간")
+			.tag("target", target)
+			.tag("outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,83 @@
+package site.kkokkio.infra.common.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시/필터 조회 결과 Counter 와 Job 실행 단위 적중률 Gauge
+ * - {lookupMetric}{result} : 조회 결과 수 (누적 Counter, 실행별 값은 증가량으로 본다)
+ * - {ratioMetric} : 마지막으로 끝난 Job 실행 동안의 적중률
+ * - Job 이 끝나면 BatchMetricsListener 가 publishAll() 로 실행 동안 모은 조회/적중 수를 적중률로 옮기고 다시 센다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HitRatioMetrics {
+
+	private final MeterRegistry meterRegistry;
+	private final List<HitRatio> ratios = new CopyOnWriteArrayList<>();
+
+	public HitRatio register(String lookupMetric, String lookupDescription, String ratioMetric,
+		String ratioDescription) {
+		HitRatio ratio = new HitRatio(meterRegistry, lookupMetric, lookupDescription);
+		Gauge.builder(ratioMetric, ratio, HitRatio::ratio)
+			.description(ratioDescription)
+			.register(meterRegistry);
+		ratios.add(ratio);
+		return ratio;
+	}
+
+	/**
+	 * 실행 동안 모은 조회/적중 수로 적중률을 갱신한다. (조회가 없던 실행은 이전 적중률을 유지)
+	 */
+	public void publishAll() {
+		ratios.forEach(HitRatio::publish);
+	}
+
+	public static class HitRatio {
+		private final MeterRegistry meterRegistry;
+		private final String lookupMetric;
+		private final String lookupDescription;
+		// 현재 실행의 조회 수 / 적중 수
+		private final AtomicLong lookups = new AtomicLong();
+		private final AtomicLong hits = new AtomicLong();
+		private volatile double ratio;
+
+		private HitRatio(MeterRegistry meterRegistry, String lookupMetric, String lookupDescription) {
+			this.meterRegistry = meterRegistry;
+			this.lookupMetric = lookupMetric;
+			this.lookupDescription = lookupDescription;
+		}
+
+		public Counter counter(String result) {
+			return Counter.builder(lookupMetric)
+				.description(lookupDescription)
+				.tag("result", result)
+				.register(meterRegistry);
+		}
+
+		public void record(long lookupCount, long hitCount) {
+			lookups.addAndGet(lookupCount);
+			hits.addAndGet(hitCount);
+		}
+
+		public double ratio() {
+			return ratio;
+		}
+
+		synchronized void publish() {
+			long total = lookups.getAndSet(0);
+			long hit = hits.getAndSet(0);
+			if (total > 0) {
+				ratio = (double)hit / total;
+			}
+		}
+	}
+}
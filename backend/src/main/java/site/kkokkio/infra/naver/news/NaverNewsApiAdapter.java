@@ -28,6 +28,7 @@ import site.kkokkio.domain.source.port.out.NewsApiPort;
 import site.kkokkio.global.exception.ServiceException;
 import site.kkokkio.infra.common.exception.ExternalApiErrorUtil;
 import site.kkokkio.infra.common.exception.RetryableExternalApiException;
+import site.kkokkio.infra.common.metrics.ExternalCallMetrics;
 
 @Slf4j
 @Component
@@ -54,6 +55,8 @@ public class NaverNewsApiAdapter implements NewsApiPort {
 
     private final ObjectMapper objectMapper;
 
+    private final ExternalCallMetrics externalCallMetrics;
+
     @Retry(name = "NAVER_NEWS_RETRY")
     @CircuitBreaker(name = "NAVER_NEWS_CIRCUIT_BREAKER")
     @RateLimiter(name = "NAVER_NEWS_RATE_LIMITER")
@@ -65,13 +68,13 @@ public class NaverNewsApiAdapter implements NewsApiPort {
 		if (mockEnabled) {
 			responseMono = loadMockNewsResponse();
 		} else {
-			responseMono = naverWebClient.get()
+			responseMono = externalCallMetrics.time(ExternalCallMetrics.TARGET_NAVER_NEWS, naverWebClient.get()
 				.uri(uri -> buildUri(uri, keyword, display, start, sort))
 				.header("X-Naver-Client-Id", naverClientId)
 				.header("X-Naver-Client-Secret", naverClientSecret)
 				.retrieve()
 				.onStatus(HttpStatusCode::isError, this::mapError)
-				.bodyToMono(NaverNewsSearchResponse.class)
+				.bodyToMono(NaverNewsSearchResponse.class))
 				// 서킷 오픈 시 CallNotPermittedException → RetryableExternalApiException 변환
 				.onErrorMap(CallNotPermittedException.class,
 					ex -> new RetryableExternalApiException(503, ex.getMessage()));
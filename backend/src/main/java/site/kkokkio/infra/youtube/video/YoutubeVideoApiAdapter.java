@@ -31,6 +31,7 @@ import site.kkokkio.domain.source.port.out.VideoApiPort;
 import site.kkokkio.global.exception.ServiceException;
 import site.kkokkio.infra.common.exception.ExternalApiErrorUtil;
 import site.kkokkio.infra.common.exception.RetryableExternalApiException;
+import site.kkokkio.infra.common.metrics.ExternalCallMetrics;
 import site.kkokkio.infra.youtube.video.dto.ResourceId;
 import site.kkokkio.infra.youtube.video.dto.SearchSnippet;
 import site.kkokkio.infra.youtube.video.dto.ThumbnailDetails;
@@ -52,6 +53,9 @@ public class YoutubeVideoApiAdapter implements VideoApiPort {
     // ObjectMapper 주입 (JSON 파싱에 사용)
     private final ObjectMapper objectMapper;
 
+    // 외부 호출 응답 시간 기록
+    private final ExternalCallMetrics externalCallMetrics;
+
     // 파일에서 읽어올 Mock 활성화 여부
     @Value("${mock.enabled}")
     private boolean mockEnabled;
@@ -89,14 +93,14 @@ public class YoutubeVideoApiAdapter implements VideoApiPort {
             log.info("Mock 모드 비활성화: Youtube API 호출 시작. keyword={}, count={}", keyword, count);
 
             // WebClient를 사용하여 YouTube API 호출
-            responseMono = youtubeWebClient.get()
+            responseMono = externalCallMetrics.time(ExternalCallMetrics.TARGET_YOUTUBE, youtubeWebClient.get()
                     // 요청 URI 빌드 (기본 URL + 경로 + 쿼리 파라미터)
                     .uri(uri -> buildYoutubeVideosUri(uri, keyword, count))
                     .retrieve()
                     // HTTP 에러 응답 처리 (4xx, 5xx)
                     .onStatus(HttpStatusCode::isError, this::mapYoutubeError)
                     // 응답 본문을 Youtube API 응답 구조 DTO로 변환
-                    .bodyToMono(YoutubeVideosSearchResponse.class)
+                    .bodyToMono(YoutubeVideosSearchResponse.class))
                     // 서킷 오픈 시 예외 처리
                     .onErrorMap(CallNotPermittedException.class,
                             ex -> {
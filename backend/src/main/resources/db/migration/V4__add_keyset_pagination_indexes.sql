@@ -0,0 +1,10 @@
+-- 댓글 목록 키셋 페이지네이션 (post_id, deleted_at 필터 후 created_at, comment_id 역순 탐색)
+CREATE INDEX idx_comment_post_deleted_created
+    ON comment (post_id, deleted_at, created_at, comment_id);
+
+-- 키워드 검색 키셋 페이지네이션 (keyword_id 로 post_id 탐색, post 는 created_at, post_id 순 탐색)
+CREATE INDEX idx_pk_keyword_post
+    ON post_keyword (keyword_id, post_id);
+
+CREATE INDEX idx_post_created
+    ON post (created_at, post_id);
@@ -0,0 +1,3 @@
+-- 키워드별 최근 메트릭 조회 (keyword_id 로 bucket_at 역순 탐색, 신규성 평가/직전 메트릭 조회)
+CREATE INDEX idx_kmh_keyword_bucket
+    ON keyword_metric_hourly (keyword_id, bucket_at);
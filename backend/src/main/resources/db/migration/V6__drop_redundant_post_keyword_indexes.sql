@@ -0,0 +1,16 @@
+-- 키워드 검색 키셋 페이지네이션은 post_keyword (keyword_id, post_id) 만으로 post_id 역순 탐색하므로
+-- post (created_at, post_id) 인덱스는 더 이상 쓰지 않는다.
+DROP INDEX idx_post_created ON post;
+
+-- keyword_id 외래 키는 idx_pk_keyword_post 로 검사할 수 있으므로, 외래 키 생성 시 자동으로 만든 keyword_id 인덱스를 지운다.
+-- (MySQL 이 새 인덱스를 만들 때 이미 지웠을 수 있어 있을 때만 지운다)
+SET @drop_fk_index = (
+    SELECT IF(COUNT(*) > 0, 'DROP INDEX keyword_id ON post_keyword', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE()
+      AND table_name = 'post_keyword'
+      AND index_name = 'keyword_id'
+);
+PREPARE drop_fk_index FROM @drop_fk_index;
+EXECUTE drop_fk_index;
+DEALLOCATE PREPARE drop_fk_index;
@@ -0,0 +1,12 @@
+-- 배치 리더 lease 획득
+-- KEYS[1] : lease 키
+-- KEYS[2] : fencing token 카운터
+-- ARGV[1] : 노드 ID
+-- ARGV[2] : lease 유지 시간 (ms)
+-- 다른 노드가 lease 를 가지고 있으면 0, 획득하면 새 fencing token 을 반환한다. (SET NX PX 와 INCR 를 원자적으로 수행)
+if redis.call('EXISTS', KEYS[1]) == 1 then
+	return 0
+end
+local token = redis.call('INCR', KEYS[2])
+redis.call('SET', KEYS[1], ARGV[1] .. ':' .. token, 'PX', ARGV[2])
+return token
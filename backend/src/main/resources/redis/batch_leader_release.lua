@@ -0,0 +1,8 @@
+-- 배치 리더 lease 반납
+-- KEYS[1] : lease 키
+-- ARGV[1] : 획득 시 저장한 값 (노드 ID:fencing token)
+-- 만료 후 다른 노드가 다시 획득한 lease 는 지우지 않는다.
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+	return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,10 @@
+-- 배치 리더 lease 갱신 (heartbeat)
+-- KEYS[1] : lease 키
+-- ARGV[1] : 획득 시 저장한 값 (노드 ID:fencing token)
+-- ARGV[2] : lease 유지 시간 (ms)
+-- 아직 이 노드의 lease 이면 만료 시간을 늘리고 1, 만료되었거나 다른 노드가 가져갔으면 0 을 반환한다.
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+	redis.call('PEXPIRE', KEYS[1], ARGV[2])
+	return 1
+end
+return 0
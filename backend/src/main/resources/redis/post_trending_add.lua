@@ -0,0 +1,26 @@
+-- 포스트 트렌딩 점수 적립
+-- KEYS[1] : 트렌딩 ZSET
+-- ARGV[1] : 유지할 최대 멤버 수
+-- ARGV[2..] : (postId, 로그 가중치) 반복
+-- 점수는 ln(Σ 가중치 · e^((t - 기준시각)/τ)) 이므로 log-sum-exp 로 더하고, 기존 멤버 점수는 다시 쓰지 않는다.
+local key = KEYS[1]
+local maxSize = tonumber(ARGV[1])
+
+for i = 2, #ARGV, 2 do
+	local member = ARGV[i]
+	local added = tonumber(ARGV[i + 1])
+	local current = redis.call('ZSCORE', key, member)
+	local score = added
+	if current then
+		local hi = math.max(tonumber(current), added)
+		local lo = math.min(tonumber(current), added)
+		score = hi + math.log(1 + math.exp(lo - hi))
+	end
+	redis.call('ZADD', key, string.format('%.17g', score), member)
+end
+
+local size = redis.call('ZCARD', key)
+if size > maxSize then
+	redis.call('ZREMRANGEBYRANK', key, 0, size - maxSize - 1)
+end
+return size
@@ -0,0 +1,8 @@
+-- 소스 fingerprint Bloom filter 등록
+-- KEYS[1] : Bloom filter 비트맵
+-- ARGV[1..] : 등록할 fingerprint 들의 비트 오프셋
+local key = KEYS[1]
+for i = 1, #ARGV do
+	redis.call('SETBIT', key, ARGV[i], 1)
+end
+return #ARGV
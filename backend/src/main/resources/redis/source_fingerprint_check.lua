@@ -0,0 +1,24 @@
+-- 소스 fingerprint Bloom filter 조회
+-- KEYS[1] : Bloom filter 비트맵
+-- ARGV[1] : 해시 함수 수 k
+-- ARGV[2..] : fingerprint 별 비트 오프셋 k 개씩 반복
+-- 반환 : {비트맵 존재 여부, fingerprint 별 포함 가능 여부(1/0) ...}
+-- 비트맵이 없으면(최초 실행, 만료/유실) 판단할 수 없으므로 존재 여부 0 만 반환한다.
+local key = KEYS[1]
+local k = tonumber(ARGV[1])
+local result = { redis.call('EXISTS', key) }
+if result[1] == 0 then
+	return result
+end
+
+for i = 2, #ARGV, k do
+	local flag = 1
+	for j = 0, k - 1 do
+		if redis.call('GETBIT', key, ARGV[i + j]) == 0 then
+			flag = 0
+			break
+		end
+	end
+	result[#result + 1] = flag
+end
+return result
@@ -6,10 +6,12 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.Job;
-import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
@@ -26,6 +28,7 @@ import site.kkokkio.global.auth.CustomUserDetails;
 import site.kkokkio.global.auth.CustomUserDetailsService;
 import site.kkokkio.global.config.SecurityConfig;
 import site.kkokkio.global.enums.MemberRole;
+import site.kkokkio.global.scheduler.LeaderJobLauncher;
 import site.kkokkio.global.util.JwtUtils;
 
 @WebMvcTest(controllers = BatchJobControllerV1.class)
@@ -38,7 +41,7 @@ class BatchJobControllerV1Test {
 	AuthChecker authChecker;
 
 	@MockitoBean
-	private JobLauncher jobLauncher;
+	private LeaderJobLauncher leaderJobLauncher;
 
 	@MockitoBean
 	private Job trendToPostJob;
@@ -60,6 +63,7 @@ class BatchJobControllerV1Test {
 	void batchJobControllerV1Test1() throws Exception {
 		Member member = mock(Member.class);
 		when(member.getRole()).thenReturn(MemberRole.ADMIN);
+		when(leaderJobLauncher.runIfLeader(eq(trendToPostJob), any())).thenReturn(Optional.of(mock(JobExecution.class)));
 
 		mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/batch/run/trend")
 				.with(user(new CustomUserDetails("test@email.com", member.getRole().toString(), true)))
@@ -83,4 +87,17 @@ class BatchJobControllerV1Test {
 			.andExpect(status().isForbidden());
 	}
 
+	@Test
+	@DisplayName("배치 작업 실패 - 다른 노드가 배치 리더 409")
+	void batchJobControllerV1Test3() throws Exception {
+		Member member = mock(Member.class);
+		when(member.getRole()).thenReturn(MemberRole.ADMIN);
+		when(leaderJobLauncher.runIfLeader(eq(trendToPostJob), any())).thenReturn(Optional.empty());
+
+		mockMvc.perform(MockMvcRequestBuilders.post("/api/v1/batch/run/trend")
+				.with(user(new CustomUserDetails("test@email.com", member.getRole().toString(), true)))
+				.with(csrf())
+				.contentType(APPLICATION_JSON))
+			.andExpect(status().isConflict());
+	}
 }
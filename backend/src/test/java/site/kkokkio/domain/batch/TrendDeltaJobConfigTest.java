@@ -0,0 +1,143 @@
+package site.kkokkio.domain.batch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static site.kkokkio.domain.batch.context.BatchConstants.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import site.kkokkio.domain.keyword.dto.KeywordMetricHourlyDto;
+import site.kkokkio.domain.keyword.dto.NoveltyStatsDto;
+import site.kkokkio.domain.keyword.entity.Keyword;
+import site.kkokkio.domain.keyword.entity.KeywordMetricHourly;
+import site.kkokkio.domain.keyword.entity.KeywordMetricHourlyId;
+import site.kkokkio.domain.keyword.repository.KeywordMetricHourlyRepository;
+import site.kkokkio.domain.keyword.service.KeywordMetricHourlyService;
+import site.kkokkio.domain.keyword.service.TrendsService;
+import site.kkokkio.domain.post.dto.PostDraft;
+import site.kkokkio.domain.post.dto.PostGenerationTarget;
+import site.kkokkio.domain.post.entity.Post;
+import site.kkokkio.domain.post.service.PostCacheService;
+import site.kkokkio.domain.post.service.PostService;
+import site.kkokkio.domain.post.service.PostTrendingService;
+import site.kkokkio.domain.post.service.PostTrendingService.TrendingEvent;
+import site.kkokkio.domain.source.dto.SearchStatsDto;
+import site.kkokkio.domain.source.entity.Source;
+import site.kkokkio.domain.source.service.SourceService;
+import site.kkokkio.global.enums.Platform;
+
+@SpringBootTest
+@SpringBatchTest
+@ActiveProfiles("test")
+class TrendDeltaJobConfigTest {
+
+	@Autowired
+	private JobLauncherTestUtils jobLauncherTestUtils;
+
+	@Autowired
+	private Job trendToPostJob;
+
+	@Autowired
+	private Job trendDeltaJob;
+
+	@MockitoBean
+	private TrendsService trendsService;
+	@MockitoBean
+	private SourceService sourceService;
+	@MockitoBean
+	private KeywordMetricHourlyService keywordMetricHourlyService;
+	@MockitoBean
+	private KeywordMetricHourlyRepository keywordMetricHourlyRepository;
+	@MockitoBean
+	private PostCacheService postCacheService;
+	@MockitoBean
+	private PostTrendingService postTrendingService;
+	@MockitoSpyBean
+	private PostService postService;
+
+	// postId → 적립된 트렌딩 점수 (Redis ZSET 대신 메모리에 누적)
+	private final Map<Long, Double> trendingScores = new HashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		trendingScores.clear();
+		doAnswer(inv -> {
+			Map<Long, ? extends Number> amounts = inv.getArgument(1);
+			amounts.forEach((postId, amount) -> trendingScores.merge(postId, amount.doubleValue(), Double::sum));
+			return null;
+		}).when(postTrendingService).recordAll(any(), any());
+
+		Keyword keyword = Keyword.builder().id(101L).text("테스트키워드").build();
+		when(trendsService.getTrendingKeywordsFromRss()).thenReturn(List.of(keyword));
+		when(trendsService.refreshTrendingKeywordDelta()).thenReturn(List.of(keyword));
+		when(sourceService.searchNews()).thenReturn(new SearchStatsDto(1, 0));
+		when(sourceService.searchYoutube()).thenReturn(new SearchStatsDto(1, 0));
+		when(keywordMetricHourlyService.evaluateNovelty(any())).thenReturn(new NoveltyStatsDto(1, List.of(101L)));
+
+		// Top 키워드 1건 (포스트 1, 키워드 점수 300)
+		LocalDateTime bucketAt = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
+		Post post = Post.builder().id(1L).title("제목").summary("요약").bucketAt(bucketAt).build();
+		KeywordMetricHourly metric = KeywordMetricHourly.builder()
+			.id(new KeywordMetricHourlyId(bucketAt, Platform.GOOGLE_TREND, 101L))
+			.keyword(keyword)
+			.score(300)
+			.post(post)
+			.build();
+		when(keywordMetricHourlyRepository.findTop10HourlyMetricsClosestToNowNative(any())).thenReturn(List.of(metric));
+
+		// 포스트 생성 구간은 스텁 (캐시/트렌딩 적립만 실제 로직으로 실행)
+		PostGenerationTarget target = new PostGenerationTarget(
+			new KeywordMetricHourlyDto(101L, "테스트키워드", Platform.GOOGLE_TREND, bucketAt, 0, 0, false, null),
+			List.of(Source.builder().fingerprint("fp").normalizedUrl("url").title("제목").platform(Platform.NAVER_NEWS)
+				.build()),
+			"내용");
+		doReturn(List.of(target)).when(postService).findGenerationTargets(any());
+		doReturn(0).when(postService).prefetchSummaries(any());
+		doReturn(PostDraft.of(target, "제목", "요약")).when(postService).draftPost(any());
+		doReturn(List.of(1L)).when(postService).savePostDrafts(any());
+		doReturn(1).when(postService).cacheCardViews(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("trendDeltaJob: 여러 번 실행해도 키워드 점수를 트렌딩에 다시 적립하지 않음")
+	void deltaJobDoesNotCreditTrendingAgain() throws Exception {
+		// given - 정각 전체 실행에서 이번 시간 키워드 점수 1회 적립
+		jobLauncherTestUtils.setJob(trendToPostJob);
+		assertThat(jobLauncherTestUtils.launchJob().getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(trendingScores).containsEntry(1L, 300.0);
+		Map<Long, Double> afterFullRun = Map.copyOf(trendingScores);
+
+		// when - 같은 시간에 증분 갱신 2회
+		jobLauncherTestUtils.setJob(trendDeltaJob);
+		JobExecution first = jobLauncherTestUtils.launchJob();
+		JobExecution second = jobLauncherTestUtils.launchJob();
+
+		// then
+		assertThat(first.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(second.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(second.getStepExecutions()).extracting(StepExecution::getStepName)
+			.contains(CACHE_POST_STEP)
+			.doesNotContain(CREDIT_TRENDING_STEP);
+		assertThat(trendingScores).isEqualTo(afterFullRun);
+		verify(postTrendingService, times(1)).recordAll(eq(TrendingEvent.KEYWORD), any());
+		verify(postCacheService, times(3)).replaceTopPosts(any());
+	}
+}
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 import static site.kkokkio.domain.batch.context.BatchConstants.*;
 import static site.kkokkio.domain.batch.context.ExecutionContextKeys.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,13 +25,18 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import site.kkokkio.domain.batch.context.BatchConstants;
 import site.kkokkio.domain.batch.context.ExecutionContextKeys;
+import site.kkokkio.domain.keyword.dto.KeywordMetricHourlyDto;
 import site.kkokkio.domain.keyword.dto.NoveltyStatsDto;
 import site.kkokkio.domain.keyword.entity.Keyword;
 import site.kkokkio.domain.keyword.service.KeywordMetricHourlyService;
 import site.kkokkio.domain.keyword.service.TrendsService;
+import site.kkokkio.domain.post.dto.PostDraft;
+import site.kkokkio.domain.post.dto.PostGenerationTarget;
 import site.kkokkio.domain.post.service.PostService;
 import site.kkokkio.domain.source.dto.SearchStatsDto;
+import site.kkokkio.domain.source.entity.Source;
 import site.kkokkio.domain.source.service.SourceService;
+import site.kkokkio.global.enums.Platform;
 
 @SpringBootTest
 @SpringBatchTest
@@ -54,6 +60,7 @@ class TrendToPostJobConfigTest {
 
 	@BeforeEach
 	void setUp() {
+		jobLauncherTestUtils.setJob(trendToPostJob);
 		when(trendsService.getTrendingKeywordsFromRss())
 			.thenReturn(List.of(Keyword.builder().id(101L).text("테스트키워드").build()));
 		when(sourceService.searchNews())
@@ -62,7 +69,16 @@ class TrendToPostJobConfigTest {
 			.thenReturn(new SearchStatsDto(1, 0));
 		when(keywordMetricHourlyService.evaluateNovelty(any()))
 			.thenReturn(new NoveltyStatsDto(1, List.of(1L)));
-		when(postService.generatePosts(any()))
+		PostGenerationTarget target = new PostGenerationTarget(
+			new KeywordMetricHourlyDto(101L, "테스트키워드", Platform.GOOGLE_TREND, LocalDateTime.now(), 0, 0, false, null),
+			List.of(Source.builder().fingerprint("fp").normalizedUrl("url").title("제목").platform(Platform.NAVER_NEWS)
+				.build()),
+			"내용");
+		when(postService.findGenerationTargets(any()))
+			.thenReturn(List.of(target));
+		when(postService.draftPost(any()))
+			.thenReturn(PostDraft.of(target, "제목", "요약"));
+		when(postService.savePostDrafts(any()))
 			.thenReturn(List.of(1L));
 		when(postService.cacheCardViews(any(), any(), any()))
 			.thenReturn(1);
@@ -87,8 +103,11 @@ class TrendToPostJobConfigTest {
 			SEARCH_NEWS_STEP,
 			SEARCH_VIDEOS_STEP,
 			EVALUATE_NOVELTY_STEP,
+			EVALUATE_NOVELTY_WORKER_STEP + PARTITION_SEPARATOR + PARTITION_PREFIX + 0,
 			GENERATE_POST_STEP,
-			CACHE_POST_STEP
+			GENERATE_POST_WORKER_STEP + PARTITION_SEPARATOR + PARTITION_PREFIX + 0,
+			CACHE_POST_STEP,
+			CREDIT_TRENDING_STEP
 		);
 
 		// all steps completed
@@ -106,13 +125,13 @@ class TrendToPostJobConfigTest {
 			.isEqualTo(Boolean.FALSE);
 
 		// service 호출 검증
-		verify(postService, times(1)).generatePosts(any());
+		verify(postService, times(1)).savePostDrafts(any());
 		verify(postService, times(1)).cacheCardViews(any(), any(), any());
-
+		verify(postService, times(1)).creditTopKeywordScores();
 	}
 
 	@Test
-	@DisplayName("trendToPostJob: generatePosts 스킵 (postableIds 빈 리스트)")
+	@DisplayName("trendToPostJob: 포스트 생성 스킵 (postableIds 빈 리스트)")
 	void testTrendToPostJob_NoPostNeeded() throws Exception {
 		// given
 		// postableIds empty 로 분기
@@ -129,7 +148,7 @@ class TrendToPostJobConfigTest {
 		List<String> names = jobExecution.getStepExecutions().stream()
 			.map(StepExecution::getStepName)
 			.collect(Collectors.toList());
-		assertThat(names).contains(BatchConstants.CACHE_POST_STEP)
+		assertThat(names).contains(BatchConstants.CACHE_POST_STEP, BatchConstants.CREDIT_TRENDING_STEP)
 			.doesNotContain(BatchConstants.GENERATE_POST_STEP);
 
 		// JC_NO_POST_NEEDED flag 확인
@@ -138,7 +157,8 @@ class TrendToPostJobConfigTest {
 			.isEqualTo(Boolean.TRUE);
 
 		// service 호출 검증
-		verify(postService, never()).generatePosts(any());
+		verify(postService, never()).findGenerationTargets(any());
+		verify(postService, never()).savePostDrafts(any());
 		verify(postService, never()).cacheCardViews(any(), any(), any());
 	}
 
@@ -0,0 +1,57 @@
+package site.kkokkio.domain.batch.decider;
+
+import static org.assertj.core.api.Assertions.*;
+import static site.kkokkio.domain.batch.context.BatchConstants.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+
+import site.kkokkio.domain.batch.context.ExecutionContextKeys;
+
+class DeltaDeciderConfigTest {
+
+	private JobExecutionDecider decider;
+
+	@BeforeEach
+	void setUp() {
+		decider = new DeltaDeciderConfig().deltaDecider();
+	}
+
+	@Test
+	@DisplayName("deltaDecider: 증분 갱신 대상 키워드 없음")
+	void testNoDelta() {
+		// given
+		JobExecution jobExecution = new JobExecution(new JobInstance(1L, "testJob"), new JobParameters());
+		jobExecution.getExecutionContext()
+			.put(ExecutionContextKeys.JC_DELTA_KEYWORD_IDS, List.<Long>of());
+
+		// when
+		FlowExecutionStatus status = decider.decide(jobExecution, null);
+
+		// then
+		assertThat(status.getName()).isEqualTo(NO_DELTA_STATUS);
+	}
+
+	@Test
+	@DisplayName("deltaDecider: 증분 갱신 대상 키워드 존재")
+	void testDelta() {
+		// given
+		JobExecution jobExecution = new JobExecution(new JobInstance(2L, "testJob"), new JobParameters());
+		jobExecution.getExecutionContext()
+			.put(ExecutionContextKeys.JC_DELTA_KEYWORD_IDS, List.of(100L));
+
+		// when
+		FlowExecutionStatus status = decider.decide(jobExecution, null);
+
+		// then
+		assertThat(status).isEqualTo(FlowExecutionStatus.COMPLETED);
+	}
+}
@@ -5,11 +5,15 @@ import static site.kkokkio.domain.batch.context.ExecutionContextKeys.*;
 import static site.kkokkio.domain.batch.context.JobParameterKeys.*;
 import static site.kkokkio.domain.batch.context.MetricsKeys.*;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobInstance;
 import org.springframework.batch.core.JobParametersBuilder;
@@ -18,17 +22,22 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import site.kkokkio.infra.common.metrics.HitRatioMetrics;
+import site.kkokkio.infra.common.metrics.HitRatioMetrics.HitRatio;
 
 class BatchMetricsListenerTest {
 
 	private SimpleMeterRegistry registry;
+	private HitRatioMetrics hitRatioMetrics;
 	private BatchMetricsListener listener;
 
 	@BeforeEach
 	void setUp() {
 		registry = new SimpleMeterRegistry();
-		listener = new BatchMetricsListener(registry);
+		hitRatioMetrics = new HitRatioMetrics(registry);
+		listener = new BatchMetricsListener(registry, hitRatioMetrics);
 		ReflectionTestUtils.setField(listener, "application", "trend-batch-test");
 		ReflectionTestUtils.setField(listener, "profile", "test");
 	}
@@ -109,6 +118,33 @@ class BatchMetricsListenerTest {
 		assertThat(registry.getMeters()).isEmpty();
 	}
 
+	@Test
+	@DisplayName("BatchMetricsListener afterStep: 파티션 워커 실행은 step/partition 태그로 기록")
+	void testAfterStepPartitionTags() {
+		// given
+		JobExecution je = new JobExecution(new JobInstance(7L, "jobP"),
+			new JobParametersBuilder().toJobParameters());
+		StepExecution se = new StepExecution("workerStep:partition1", je);
+		se.setStartTime(LocalDateTime.now().minusSeconds(2));
+		se.setStatus(BatchStatus.COMPLETED);
+		se.getExecutionContext().put(SC_POST_CREATED, 3);
+
+		// when
+		listener.afterStep(se);
+
+		// then
+		Counter postSum = registry.find(BATCH_POST_CREATED)
+			.tags("step", "workerStep", "partition", "partition1")
+			.counter();
+		assertThat(postSum.count()).isEqualTo(3.0);
+
+		Timer duration = registry.find(BATCH_STEP_DURATION)
+			.tags("step", "workerStep", "partition", "partition1", "status", "COMPLETED")
+			.timer();
+		assertThat(duration.count()).isEqualTo(1);
+		assertThat(duration.totalTime(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(2.0);
+	}
+
 	@Test
 	@DisplayName("BatchMetricsListener afterStep: noPostNeeded=True")
 	void testAfterJobGauge() {
@@ -148,4 +184,81 @@ class BatchMetricsListenerTest {
 			.gauge();
 		assertThat(g.value()).isEqualTo(0.0);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("BatchMetricsListener afterStep: 스텝 소요 시간 Timer 기록")
+	void testAfterStepDuration() {
+		// given
+		JobExecution je = new JobExecution(new JobInstance(8L, "jobS"),
+			new JobParametersBuilder().toJobParameters());
+		StepExecution se = new StepExecution("searchNewsStep", je);
+		se.setStartTime(LocalDateTime.now().minusSeconds(1));
+		se.setStatus(BatchStatus.COMPLETED);
+
+		// when
+		listener.afterStep(se);
+
+		// then
+		Timer duration = registry.find(BATCH_STEP_DURATION)
+			.tags("step", "searchNewsStep", "partition", "none", "status", "COMPLETED")
+			.timer();
+		assertThat(duration.count()).isEqualTo(1);
+		assertThat(duration.totalTime(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("BatchMetricsListener afterJob: 마지막 실행 Gauge 는 실행마다 값이 갱신")
+	void testAfterJobLastRunGaugesUpdated() {
+		// given - 성공 후 실패
+		JobInstance instance = new JobInstance(9L, "jobL");
+		JobExecution first = new JobExecution(instance, new JobParametersBuilder().toJobParameters());
+		first.setStartTime(LocalDateTime.of(2025, 5, 1, 0, 0, 0));
+		first.setEndTime(LocalDateTime.of(2025, 5, 1, 0, 0, 30));
+		first.setStatus(BatchStatus.COMPLETED);
+		first.getExecutionContext().put(JC_NO_POST_NEEDED, Boolean.TRUE);
+
+		JobExecution second = new JobExecution(instance, new JobParametersBuilder().toJobParameters());
+		second.setStartTime(LocalDateTime.of(2025, 5, 1, 1, 0, 0));
+		second.setEndTime(LocalDateTime.of(2025, 5, 1, 1, 2, 0));
+		second.setStatus(BatchStatus.FAILED);
+
+		// when
+		listener.afterJob(first);
+		double firstDuration = lastRunGauge(BATCH_LAST_RUN_DURATION).value();
+		double firstSuccess = lastRunGauge(BATCH_LAST_RUN_SUCCESS).value();
+		double firstNoPost = lastRunGauge(BATCH_NO_POST_NEEDED).value();
+		listener.afterJob(second);
+
+		// then
+		assertThat(firstDuration).isEqualTo(30.0);
+		assertThat(firstSuccess).isEqualTo(1.0);
+		assertThat(firstNoPost).isEqualTo(1.0);
+		assertThat(lastRunGauge(BATCH_LAST_RUN_DURATION).value()).isEqualTo(120.0);
+		assertThat(lastRunGauge(BATCH_LAST_RUN_SUCCESS).value()).isEqualTo(0.0);
+		assertThat(lastRunGauge(BATCH_NO_POST_NEEDED).value()).isEqualTo(0.0);
+		assertThat(lastRunGauge(BATCH_LAST_RUN_TIMESTAMP).value()).isEqualTo(
+			(double)second.getEndTime().atZone(ZoneId.systemDefault()).toEpochSecond());
+		assertThat(registry.find(BATCH_LAST_RUN_SUCCESS).gauges()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("BatchMetricsListener afterJob: 캐시 적중률 Gauge 는 실행 동안의 조회로 갱신")
+	void testAfterJobPublishesHitRatio() {
+		// given
+		HitRatio hitRatio = hitRatioMetrics.register("test.lookup", "조회 결과 수", "test.hit.ratio", "적중률");
+		JobExecution je = new JobExecution(new JobInstance(10L, "jobH"), new JobParametersBuilder().toJobParameters());
+		je.setStartTime(LocalDateTime.now());
+		je.setStatus(BatchStatus.COMPLETED);
+		hitRatio.record(4, 3);
+
+		// when
+		listener.afterJob(je);
+
+		// then
+		assertThat(registry.get("test.hit.ratio").gauge().value()).isEqualTo(0.75);
+	}
+
+	private Gauge lastRunGauge(String name) {
+		return registry.find(name).tags("job", "jobL").gauge();
+	}
+}
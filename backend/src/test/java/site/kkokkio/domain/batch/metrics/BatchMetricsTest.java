@@ -0,0 +1,63 @@
+package site.kkokkio.domain.batch.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static site.kkokkio.domain.batch.context.MetricsKeys.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import site.kkokkio.global.enums.Platform;
+import site.kkokkio.infra.common.exception.RetryableExternalApiException;
+
+class BatchMetricsTest {
+
+	private SimpleMeterRegistry registry;
+	private BatchMetrics batchMetrics;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		batchMetrics = new BatchMetrics(registry);
+	}
+
+	@Test
+	@DisplayName("키워드 Timer - 예외는 그대로 던지고 실패로 기록")
+	void recordKeywordFailure() {
+		// when
+		assertThatThrownBy(() -> batchMetrics.recordKeyword(BatchMetrics.STAGE_POST_GENERATION, () -> {
+			throw new RetryableExternalApiException(503, "요약 실패");
+		})).isInstanceOf(RetryableExternalApiException.class);
+		String draft = batchMetrics.recordKeyword(BatchMetrics.STAGE_POST_GENERATION, () -> "draft");
+
+		// then
+		assertThat(draft).isEqualTo("draft");
+		assertThat(keywordTimer("failure").count()).isEqualTo(1);
+		assertThat(keywordTimer("success").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("키워드당 소스 수 - 플랫폼별 분포로 기록")
+	void recordSourcesPerKeyword() {
+		// when
+		batchMetrics.recordSourcesPerKeyword(Platform.NAVER_NEWS, 10);
+		batchMetrics.recordSourcesPerKeyword(Platform.NAVER_NEWS, 4);
+		batchMetrics.recordSourcesPerKeyword(Platform.YOUTUBE, 0);
+
+		// then
+		DistributionSummary news = registry.find(BATCH_SOURCES_PER_KEYWORD).tag("platform", "NAVER_NEWS").summary();
+		assertThat(news.count()).isEqualTo(2);
+		assertThat(news.totalAmount()).isEqualTo(14.0);
+		assertThat(registry.find(BATCH_SOURCES_PER_KEYWORD).tag("platform", "YOUTUBE").summary().count())
+			.isEqualTo(1);
+	}
+
+	private Timer keywordTimer(String outcome) {
+		return registry.find(BATCH_KEYWORD_DURATION)
+			.tags("stage", BatchMetrics.STAGE_POST_GENERATION, "outcome", outcome)
+			.timer();
+	}
+}
@@ -0,0 +1,58 @@
+package site.kkokkio.domain.batch.partition;
+
+import static org.assertj.core.api.Assertions.*;
+import static site.kkokkio.domain.batch.context.ExecutionContextKeys.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+class KeywordRangePartitionerTest {
+
+	@Test
+	@DisplayName("키워드를 순서대로 연속 구간으로 나눔")
+	void partitionByRange() {
+		// given
+		KeywordRangePartitioner partitioner = new KeywordRangePartitioner(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(3);
+
+		// then
+		assertThat(partitions).containsOnlyKeys("partition0", "partition1", "partition2");
+		assertThat(partitions.get("partition0").get(SC_PARTITION_KEYWORD_IDS)).isEqualTo(List.of(1L, 2L, 3L));
+		assertThat(partitions.get("partition1").get(SC_PARTITION_KEYWORD_IDS)).isEqualTo(List.of(4L, 5L, 6L));
+		assertThat(partitions.get("partition2").get(SC_PARTITION_KEYWORD_IDS)).isEqualTo(List.of(7L));
+		assertThat(partitions.get("partition1").getString(SC_PARTITION_NAME)).isEqualTo("partition1");
+	}
+
+	@Test
+	@DisplayName("키워드 수보다 많은 파티션은 만들지 않음")
+	void partitionCountLimitedByKeywords() {
+		// given
+		KeywordRangePartitioner partitioner = new KeywordRangePartitioner(List.of(1L, 2L));
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertThat(partitions).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("키워드가 없으면 빈 파티션 하나")
+	void emptyKeywords() {
+		// given
+		KeywordRangePartitioner partitioner = new KeywordRangePartitioner(null);
+
+		// when
+		Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+		// then
+		assertThat(partitions).containsOnlyKeys("partition0");
+		assertThat(partitions.get("partition0").get(SC_PARTITION_KEYWORD_IDS)).isEqualTo(List.of());
+	}
+}
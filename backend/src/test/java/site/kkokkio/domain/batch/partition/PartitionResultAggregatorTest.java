@@ -0,0 +1,60 @@
+package site.kkokkio.domain.batch.partition;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+
+class PartitionResultAggregatorTest {
+
+	private final PartitionResultAggregator aggregator = new PartitionResultAggregator("ids", "idCount");
+
+	@Test
+	@DisplayName("모든 파티션 완료 시 파티션 번호 순서대로 병합")
+	void mergeInPartitionOrder() {
+		// given
+		JobExecution je = new JobExecution(new JobInstance(1L, "job"), new JobParameters());
+		je.getExecutionContext().put("ids:partition10", List.of(11L));
+		je.getExecutionContext().put("ids:partition2", List.of(2L));
+		je.getExecutionContext().put("ids:partition0", List.of(0L, 1L));
+		StepExecution manager = new StepExecution("step", je);
+		StepExecution worker = new StepExecution("worker:partition0", je);
+		worker.setStatus(BatchStatus.COMPLETED);
+		worker.setWriteCount(3);
+
+		// when
+		aggregator.aggregate(manager, List.of(worker));
+
+		// then
+		assertThat(je.getExecutionContext().get("ids")).isEqualTo(List.of(0L, 1L, 2L, 11L));
+		assertThat(je.getExecutionContext().getInt("idCount")).isEqualTo(4);
+		assertThat(je.getExecutionContext().containsKey("ids:partition0")).isFalse();
+		assertThat(manager.getWriteCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("실패한 파티션이 있으면 병합하지 않고 파티션별 결과를 남김")
+	void keepPartialResultsOnFailure() {
+		// given
+		JobExecution je = new JobExecution(new JobInstance(1L, "job"), new JobParameters());
+		je.getExecutionContext().put("ids:partition0", List.of(1L));
+		StepExecution manager = new StepExecution("step", je);
+		StepExecution failed = new StepExecution("worker:partition1", je);
+		failed.setStatus(BatchStatus.FAILED);
+
+		// when
+		aggregator.aggregate(manager, List.of(failed));
+
+		// then
+		assertThat(je.getExecutionContext().containsKey("ids")).isFalse();
+		assertThat(je.getExecutionContext().containsKey("ids:partition0")).isTrue();
+		assertThat(manager.getStatus()).isEqualTo(BatchStatus.FAILED);
+	}
+}
@@ -170,6 +170,8 @@ class CachePostStepConfigTest {
 
 		// service 호출 검증
 		verify(postService, times(1)).cacheCardViews(newIds, kwIds, Duration.ofHours(24));
+		verify(postService, times(1)).refreshTopPostCache();
+		verify(postService, never()).creditTopKeywordScores();
 
 		// listener 호출 검증
 		verify(metricsListener, times(1)).beforeStep(any(StepExecution.class));
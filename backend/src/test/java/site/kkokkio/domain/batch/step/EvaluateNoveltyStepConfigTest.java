@@ -88,14 +88,15 @@ class EvaluateNoveltyStepConfigTest {
 	}
 
 	@Test
-	@DisplayName("evalutateNoveltyStep 성공")
+	@DisplayName("evalutateNoveltyStep 성공: 키워드 구간별 파티션 결과를 순서대로 병합")
 	void testEvaluateNovelty_Success() throws Exception {
-		// given
-		NoveltyStatsDto dto = mock(NoveltyStatsDto.class);
-		when(dto.lowVariationCount()).thenReturn(2);
-		when(dto.postableIds()).thenReturn(List.of(11L, 22L));
-		when(keywordMetricHourlyService.evaluateNovelty(anyList()))
-			.thenReturn(dto);
+		// given - 키워드 3개 → 파티션 3개
+		when(keywordMetricHourlyService.evaluateNovelty(List.of(7L)))
+			.thenReturn(new NoveltyStatsDto(0, List.of(7L)));
+		when(keywordMetricHourlyService.evaluateNovelty(List.of(8L)))
+			.thenReturn(new NoveltyStatsDto(1, List.of()));
+		when(keywordMetricHourlyService.evaluateNovelty(List.of(9L)))
+			.thenReturn(new NoveltyStatsDto(0, List.of(9L)));
 
 		// when
 		JobExecution exec = jobLauncherTestUtils.launchJob();
@@ -108,33 +109,33 @@ class EvaluateNoveltyStepConfigTest {
 		@SuppressWarnings("unchecked")
 		List<Long> postable = (List<Long>)jobCtx.get(JC_POSTABLE_KEYWORD_IDS);
 		int count = jobCtx.getInt(JC_POSTABLE_KEYWORD_COUNT);
-		assertThat(postable).containsExactly(11L, 22L);
+		assertThat(postable).containsExactly(7L, 9L);
 		assertThat(count).isEqualTo(2);
 
-		// StepExecutionContext 검증
-		StepExecution se = exec.getStepExecutions().iterator().next();
-		int skipped = se.getExecutionContext().getInt(SC_NOVELTY_SKIPPED);
-		assertThat(skipped).isEqualTo(2);
+		// 파티션 StepExecutionContext 검증
+		List<StepExecution> workers = workerExecutions(exec);
+		assertThat(workers).hasSize(3);
+		int skipped = workers.stream()
+			.mapToInt(se -> se.getExecutionContext().getInt(SC_NOVELTY_SKIPPED))
+			.sum();
+		assertThat(skipped).isEqualTo(1);
 
 		// service 호출 검증
-		verify(keywordMetricHourlyService, times(1)).evaluateNovelty(anyList());
+		verify(keywordMetricHourlyService, times(3)).evaluateNovelty(anyList());
 
-		// listener 호출 검증
-		verify(metricsListener, times(1)).beforeStep(any(StepExecution.class));
-		verify(metricsListener, times(1)).afterStep(any(StepExecution.class));
-		verify(errListener, times(1)).beforeStep(any(StepExecution.class));
-		verify(errListener, times(1)).afterStep(any(StepExecution.class));
+		// listener 호출 검증 (metrics: 파티션별, err: 매니저 + 파티션)
+		verify(metricsListener, times(3)).beforeStep(any(StepExecution.class));
+		verify(metricsListener, times(3)).afterStep(any(StepExecution.class));
+		verify(errListener, times(4)).beforeStep(any(StepExecution.class));
+		verify(errListener, times(4)).afterStep(any(StepExecution.class));
 	}
 
 	@Test
 	@DisplayName("evalutateNoveltyStep 성공: 빈 데이터")
 	void testEvaluateNovelty_Empty() throws Exception {
 		// given
-		NoveltyStatsDto dto = mock(NoveltyStatsDto.class);
-		when(dto.lowVariationCount()).thenReturn(0);
-		when(dto.postableIds()).thenReturn(List.of());
 		when(keywordMetricHourlyService.evaluateNovelty(anyList()))
-			.thenReturn(dto);
+			.thenReturn(new NoveltyStatsDto(0, List.of()));
 
 		// when
 		JobExecution exec = jobLauncherTestUtils.launchJob();
@@ -150,18 +151,16 @@ class EvaluateNoveltyStepConfigTest {
 		assertThat(postable).isEmpty();
 		assertThat(count).isZero();
 
-		// StepExecutionContext 검증
-		int skipped = exec.getStepExecutions().iterator().next()
-			.getExecutionContext()
-			.getInt(SC_NOVELTY_SKIPPED);
-		assertThat(skipped).isZero();
+		// 파티션 StepExecutionContext 검증
+		assertThat(workerExecutions(exec))
+			.allSatisfy(se -> assertThat(se.getExecutionContext().getInt(SC_NOVELTY_SKIPPED)).isZero());
 
 		// service 호출 검증
-		verify(keywordMetricHourlyService, times(1)).evaluateNovelty(anyList());
+		verify(keywordMetricHourlyService, times(3)).evaluateNovelty(anyList());
 
 		// listener 호출 검증
-		verify(metricsListener, times(1)).afterStep(any(StepExecution.class));
-		verify(errListener, times(1)).afterStep(any(StepExecution.class));
+		verify(metricsListener, times(3)).afterStep(any(StepExecution.class));
+		verify(errListener, times(4)).afterStep(any(StepExecution.class));
 	}
 
 	@Test
@@ -183,11 +182,38 @@ class EvaluateNoveltyStepConfigTest {
 		assertThat(exec.getExecutionContext().containsKey(JC_POSTABLE_KEYWORD_COUNT)).isFalse();
 
 		// listener 호출 검증
-		verify(metricsListener, times(1)).afterStep(argThat(se ->
+		verify(metricsListener, times(3)).afterStep(argThat(se ->
 			se.getStatus() == BatchStatus.FAILED
 		));
-		verify(errListener, times(1)).afterStep(argThat(se ->
+		verify(errListener, times(4)).afterStep(argThat(se ->
 			se.getStatus() == BatchStatus.FAILED
 		));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("evalutateNoveltyStep 실패: 일부 파티션만 실패하면 병합하지 않음")
+	void testEvaluateNovelty_PartialFailure() throws Exception {
+		// given
+		when(keywordMetricHourlyService.evaluateNovelty(List.of(7L)))
+			.thenReturn(new NoveltyStatsDto(0, List.of(7L)));
+		when(keywordMetricHourlyService.evaluateNovelty(List.of(8L)))
+			.thenThrow(new RuntimeException("error"));
+		when(keywordMetricHourlyService.evaluateNovelty(List.of(9L)))
+			.thenReturn(new NoveltyStatsDto(0, List.of(9L)));
+
+		// when
+		JobExecution exec = jobLauncherTestUtils.launchJob();
+
+		// then
+		assertThat(exec.getStatus()).isEqualTo(BatchStatus.FAILED);
+		assertThat(exec.getExecutionContext().containsKey(JC_POSTABLE_KEYWORD_IDS)).isFalse();
+		// 완료된 파티션 결과는 재시작 시 병합되도록 남겨 둔다
+		assertThat(exec.getExecutionContext().containsKey(JC_POSTABLE_KEYWORD_IDS + ":partition0")).isTrue();
+	}
+
+	private static List<StepExecution> workerExecutions(JobExecution exec) {
+		return exec.getStepExecutions().stream()
+			.filter(se -> se.getStepName().startsWith(BatchConstants.EVALUATE_NOVELTY_WORKER_STEP))
+			.toList();
+	}
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static site.kkokkio.domain.batch.context.ExecutionContextKeys.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +14,7 @@ import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -30,8 +32,14 @@ import site.kkokkio.domain.batch.context.BatchConstants;
 import site.kkokkio.domain.batch.context.ExecutionContextKeys;
 import site.kkokkio.domain.batch.listener.BatchMetricsListener;
 import site.kkokkio.domain.batch.listener.LogStepListener;
+import site.kkokkio.domain.keyword.dto.KeywordMetricHourlyDto;
+import site.kkokkio.domain.post.dto.PostDraft;
+import site.kkokkio.domain.post.dto.PostGenerationTarget;
 import site.kkokkio.domain.post.service.PostService;
+import site.kkokkio.domain.source.entity.Source;
+import site.kkokkio.global.enums.Platform;
 import site.kkokkio.global.scheduler.HourScheduler;
+import site.kkokkio.infra.common.exception.RetryableExternalApiException;
 
 @SpringBootTest
 @SpringBatchTest
@@ -39,6 +47,7 @@ import site.kkokkio.global.scheduler.HourScheduler;
 class GeneratePostStepConfigTest {
 
 	private static final String STEP_NAME = BatchConstants.GENERATE_POST_STEP;
+	private static final LocalDateTime BUCKET_AT = LocalDateTime.of(2025, 5, 1, 0, 0);
 
 	@Autowired
 	private JobLauncherTestUtils jobLauncherTestUtils;
@@ -86,11 +95,16 @@ class GeneratePostStepConfigTest {
 	}
 
 	@Test
-	@DisplayName("GeneratePostStep 성공")
+	@DisplayName("GeneratePostStep 성공: 키워드 구간별 파티션에서 생성한 포스트 ID 를 순서대로 병합")
 	void testGeneratePost_Success() throws Exception {
-		// given
-		when(postService.generatePosts(List.of(11L, 22L)))
-			.thenReturn(List.of(101L, 102L));
+		// given - 키워드 2개 → 파티션 2개
+		PostGenerationTarget target11 = target(11L);
+		PostGenerationTarget target22 = target(22L);
+		when(postService.findGenerationTargets(List.of(11L))).thenReturn(List.of(target11));
+		when(postService.findGenerationTargets(List.of(22L))).thenReturn(List.of(target22));
+		when(postService.draftPost(any())).thenAnswer(inv -> draft(inv.getArgument(0)));
+		when(postService.savePostDrafts(List.of(draft(target11)))).thenReturn(List.of(101L));
+		when(postService.savePostDrafts(List.of(draft(target22)))).thenReturn(List.of(102L));
 
 		// when
 		JobExecution exec = jobLauncherTestUtils.launchJob();
@@ -104,27 +118,31 @@ class GeneratePostStepConfigTest {
 			.get(ExecutionContextKeys.JC_NEW_POST_IDS);
 		assertThat(createdIds).containsExactly(101L, 102L);
 
-		// StepExecutionContext 검증
-		StepExecution se = exec.getStepExecutions().iterator().next();
-		int created = se.getExecutionContext()
-			.getInt(ExecutionContextKeys.SC_POST_CREATED);
+		// 파티션 StepExecutionContext 검증
+		List<StepExecution> workers = workerExecutions(exec);
+		assertThat(workers).hasSize(2);
+		int created = workers.stream()
+			.mapToInt(se -> se.getExecutionContext().getInt(ExecutionContextKeys.SC_POST_CREATED))
+			.sum();
 		assertThat(created).isEqualTo(2);
 
 		// service 호출 검증
-		verify(postService, times(1)).generatePosts(List.of(11L, 22L));
-
-		// listener 호출 검증
-		verify(metricsListener, times(1)).beforeStep(any(StepExecution.class));
-		verify(metricsListener, times(1)).afterStep(any(StepExecution.class));
-		verify(errListener, times(1)).beforeStep(any(StepExecution.class));
-		verify(errListener, times(1)).afterStep(any(StepExecution.class));
+		verify(postService, times(1)).findGenerationTargets(List.of(11L));
+		verify(postService, times(1)).findGenerationTargets(List.of(22L));
+		verify(postService, times(2)).savePostDrafts(anyList());
+
+		// listener 호출 검증 (metrics: 파티션별, err: 매니저 + 파티션)
+		verify(metricsListener, times(2)).beforeStep(any(StepExecution.class));
+		verify(metricsListener, times(2)).afterStep(any(StepExecution.class));
+		verify(errListener, times(3)).beforeStep(any(StepExecution.class));
+		verify(errListener, times(3)).afterStep(any(StepExecution.class));
 	}
 
 	@Test
-	@DisplayName("GeneratePostStep 성공: generatePosts 빈 리스트 반환")
+	@DisplayName("GeneratePostStep 성공: 생성 대상 없음")
 	void testGeneratePost_Empty() throws Exception {
 		// given
-		when(postService.generatePosts(anyList()))
+		when(postService.findGenerationTargets(anyList()))
 			.thenReturn(List.of());
 
 		// when
@@ -139,25 +157,27 @@ class GeneratePostStepConfigTest {
 			.get(ExecutionContextKeys.JC_NEW_POST_IDS);
 		assertThat(createdIds).isEmpty();
 
-		// stepExecutionContext 검증
-		StepExecution se = exec.getStepExecutions().iterator().next();
-		int created = se.getExecutionContext()
-			.getInt(ExecutionContextKeys.SC_POST_CREATED);
-		assertThat(created).isZero();
+		// 파티션 StepExecutionContext 검증
+		assertThat(workerExecutions(exec)).allSatisfy(se ->
+			assertThat(se.getExecutionContext().getInt(ExecutionContextKeys.SC_POST_CREATED)).isZero());
 
 		// service 호출 검증
-		verify(postService, times(1)).generatePosts(List.of(11L, 22L));
+		verify(postService, times(2)).findGenerationTargets(anyList());
+		verify(postService, never()).savePostDrafts(anyList());
 
 		// listener 호출 검증
-		verify(metricsListener, times(1)).afterStep(any(StepExecution.class));
-		verify(errListener, times(1)).afterStep(any(StepExecution.class));
+		verify(metricsListener, times(2)).afterStep(any(StepExecution.class));
+		verify(errListener, times(3)).afterStep(any(StepExecution.class));
 	}
 
 	@Test
-	@DisplayName("GeneratePostStep 실패: generatePosts 예외 발생")
+	@DisplayName("GeneratePostStep 실패: 저장 중 예외 발생")
 	void testGeneratePost_Failure() throws Exception {
 		// given
-		when(postService.generatePosts(anyList()))
+		when(postService.findGenerationTargets(List.of(11L))).thenReturn(List.of(target(11L)));
+		when(postService.findGenerationTargets(List.of(22L))).thenReturn(List.of(target(22L)));
+		when(postService.draftPost(any())).thenAnswer(inv -> draft(inv.getArgument(0)));
+		when(postService.savePostDrafts(anyList()))
 			.thenThrow(new RuntimeException("error"));
 
 		// when
@@ -169,24 +189,116 @@ class GeneratePostStepConfigTest {
 		// JobExecutionContext 검증
 		assertThat(exec.getExecutionContext().containsKey(JC_NEW_POST_IDS)).isFalse();
 
-		// StepExecutionContext 검증
-		assertThat(exec.getStepExecutions().iterator().next().getExecutionContext()
-			.containsKey(SC_POST_CREATED)).isFalse();
+		// 파티션 StepExecutionContext 검증
+		assertThat(workerExecutions(exec)).allSatisfy(se ->
+			assertThat(se.getExecutionContext().containsKey(SC_POST_CREATED)).isFalse());
 
-		// service 호출 검증
-		verify(postService, times(1)).generatePosts(anyList());
+		// service 호출 검증 (파티션별 1회)
+		verify(postService, times(2)).savePostDrafts(anyList());
 
 		// listener 호출 검증
-		verify(errListener).afterStep(argThat(stepExec ->
+		verify(errListener, times(3)).afterStep(argThat(stepExec ->
 			stepExec.getStatus() == BatchStatus.FAILED
 		));
 	}
 
 	@Test
-	@DisplayName("GeneratePostStep 재시도 성공(allowStartIfComplete=true): 2회 연속 실행 시도 가능")
+	@DisplayName("GeneratePostStep 재시도: 재시도 가능한 외부 API 오류 후 성공")
+	void testGeneratePost_Retry() throws Exception {
+		// given
+		PostGenerationTarget target11 = target(11L);
+		when(postService.findGenerationTargets(List.of(11L))).thenReturn(List.of(target11));
+		when(postService.findGenerationTargets(List.of(22L))).thenReturn(List.of());
+		when(postService.draftPost(target11))
+			.thenThrow(new RetryableExternalApiException(503, "unavailable"))
+			.thenReturn(draft(target11));
+		when(postService.savePostDrafts(anyList()))
+			.thenReturn(List.of(101L));
+
+		// when
+		JobExecution exec = jobLauncherTestUtils.launchJob();
+
+		// then
+		assertThat(exec.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		@SuppressWarnings("unchecked")
+		List<Long> createdIds = (List<Long>)exec.getExecutionContext().get(JC_NEW_POST_IDS);
+		assertThat(createdIds).containsExactly(101L);
+		assertThat(managerExecution(exec).getSkipCount()).isZero();
+		verify(postService, times(2)).draftPost(target11);
+	}
+
+	@Test
+	@DisplayName("GeneratePostStep 스킵: 재시도를 모두 실패한 키워드만 건너뜀")
+	void testGeneratePost_Skip() throws Exception {
+		// given
+		PostGenerationTarget target11 = target(11L);
+		PostGenerationTarget target22 = target(22L);
+		when(postService.findGenerationTargets(List.of(11L))).thenReturn(List.of(target11));
+		when(postService.findGenerationTargets(List.of(22L))).thenReturn(List.of(target22));
+		when(postService.draftPost(target11))
+			.thenThrow(new RetryableExternalApiException(503, "unavailable"));
+		when(postService.draftPost(target22))
+			.thenReturn(draft(target22));
+		when(postService.savePostDrafts(anyList()))
+			.thenReturn(List.of(102L));
+
+		// when
+		JobExecution exec = jobLauncherTestUtils.launchJob();
+
+		// then
+		assertThat(exec.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		@SuppressWarnings("unchecked")
+		List<Long> createdIds = (List<Long>)exec.getExecutionContext().get(JC_NEW_POST_IDS);
+		assertThat(createdIds).containsExactly(102L);
+		// 파티션 스킵 건수는 매니저 StepExecution 에 합산
+		assertThat(managerExecution(exec).getProcessSkipCount()).isEqualTo(1);
+		verify(postService, times(1)).savePostDrafts(List.of(draft(target22)));
+	}
+
+	@Test
+	@DisplayName("GeneratePostStep 재시작: 실패한 파티션만 다시 실행하고 완료된 파티션 결과와 병합")
+	void testGeneratePost_Restart() throws Exception {
+		// given - 두 번째 파티션 저장 중 실패
+		PostGenerationTarget target11 = target(11L);
+		PostGenerationTarget target22 = target(22L);
+		when(postService.findGenerationTargets(List.of(11L))).thenReturn(List.of(target11));
+		when(postService.findGenerationTargets(List.of(22L))).thenReturn(List.of(target22));
+		when(postService.draftPost(any())).thenAnswer(inv -> draft(inv.getArgument(0)));
+		when(postService.savePostDrafts(List.of(draft(target11))))
+			.thenReturn(List.of(101L));
+		when(postService.savePostDrafts(List.of(draft(target22))))
+			.thenThrow(new RuntimeException("db down"))
+			.thenReturn(List.of(102L));
+		JobParameters params = jobLauncherTestUtils.getUniqueJobParameters();
+
+		// when
+		JobExecution first = jobLauncherTestUtils.launchJob(params);
+		JobExecution second = jobLauncherTestUtils.launchJob(params);
+
+		// then
+		assertThat(first.getStatus()).isEqualTo(BatchStatus.FAILED);
+		assertThat(second.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+		assertThat(second.getJobInstance().getInstanceId()).isEqualTo(first.getJobInstance().getInstanceId());
+
+		// 완료된 파티션은 다시 요약/저장하지 않음
+		verify(postService, times(1)).findGenerationTargets(List.of(11L));
+		verify(postService, times(2)).findGenerationTargets(List.of(22L));
+		verify(postService, times(1)).draftPost(target11);
+
+		// 이전 실행에서 커밋된 포스트 ID 와 병합
+		@SuppressWarnings("unchecked")
+		List<Long> createdIds = (List<Long>)second.getExecutionContext().get(JC_NEW_POST_IDS);
+		assertThat(createdIds).containsExactly(101L, 102L);
+	}
+
+	@Test
+	@DisplayName("GeneratePostStep 연속 실행: 새 JobInstance 마다 다시 실행")
 	void testAllowStartIfComplete() throws Exception {
 		// given
-		when(postService.generatePosts(anyList()))
+		when(postService.findGenerationTargets(List.of(11L))).thenReturn(List.of(target(11L)));
+		when(postService.findGenerationTargets(List.of(22L))).thenReturn(List.of());
+		when(postService.draftPost(any())).thenAnswer(inv -> draft(inv.getArgument(0)));
+		when(postService.savePostDrafts(anyList()))
 			.thenReturn(List.of(1L));
 
 		// when&then: 첫 번째 실행
@@ -197,7 +309,38 @@ class GeneratePostStepConfigTest {
 		JobExecution second = jobLauncherTestUtils.launchJob();
 		assertThat(second.getStatus()).isEqualTo(BatchStatus.COMPLETED);
 
-		// trendsService 두 번 호출
-		verify(postService, times(2)).generatePosts(anyList());
+		// 실행마다 파티션별 대상 조회
+		verify(postService, times(2)).findGenerationTargets(List.of(11L));
+		verify(postService, times(2)).savePostDrafts(anyList());
+	}
+
+	private static StepExecution managerExecution(JobExecution exec) {
+		return exec.getStepExecutions().stream()
+			.filter(se -> se.getStepName().equals(STEP_NAME))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private static List<StepExecution> workerExecutions(JobExecution exec) {
+		return exec.getStepExecutions().stream()
+			.filter(se -> se.getStepName().startsWith(BatchConstants.GENERATE_POST_WORKER_STEP))
+			.toList();
+	}
+
+	private static PostGenerationTarget target(Long keywordId) {
+		KeywordMetricHourlyDto metric = new KeywordMetricHourlyDto(keywordId, "키워드" + keywordId,
+			Platform.GOOGLE_TREND, BUCKET_AT, 0, 0, false, null);
+		Source source = Source.builder()
+			.fingerprint("fp" + keywordId)
+			.normalizedUrl("url" + keywordId)
+			.title("제목")
+			.description("설명")
+			.platform(Platform.NAVER_NEWS)
+			.build();
+		return new PostGenerationTarget(metric, List.of(source), "내용");
+	}
+
+	private static PostDraft draft(PostGenerationTarget target) {
+		return PostDraft.of(target, "제목" + target.keywordId(), "요약");
 	}
-}
\ No newline at end of file
+}
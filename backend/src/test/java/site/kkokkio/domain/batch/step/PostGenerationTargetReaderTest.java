@@ -0,0 +1,72 @@
+package site.kkokkio.domain.batch.step;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+import site.kkokkio.domain.keyword.dto.KeywordMetricHourlyDto;
+import site.kkokkio.domain.post.dto.PostGenerationTarget;
+import site.kkokkio.domain.post.service.PostService;
+import site.kkokkio.global.enums.Platform;
+
+@ExtendWith(MockitoExtension.class)
+class PostGenerationTargetReaderTest {
+
+	@Mock
+	private PostService postService;
+
+	@Test
+	@DisplayName("키워드 순서대로 읽고 소스가 없는 키워드는 건너뜀")
+	void readInKeywordOrder() {
+		// given
+		PostGenerationTarget target1 = target(1L);
+		PostGenerationTarget target3 = target(3L);
+		given(postService.findGenerationTargets(List.of(1L, 2L, 3L))).willReturn(List.of(target3, target1));
+		PostGenerationTargetReader reader = new PostGenerationTargetReader(postService, List.of(1L, 2L, 3L));
+		ExecutionContext ctx = new ExecutionContext();
+
+		// when
+		reader.open(ctx);
+
+		// then
+		assertThat(reader.read()).isEqualTo(target1);
+		assertThat(reader.read()).isEqualTo(target3);
+		assertThat(reader.read()).isNull();
+		reader.update(ctx);
+		assertThat(ctx.getInt("postGenerationTargetReader.nextIndex")).isEqualTo(3);
+		// 조회한 대상은 일괄 요약으로 미리 요약
+		then(postService).should().prefetchSummaries(List.of(target3, target1));
+	}
+
+	@Test
+	@DisplayName("재시작 시 마지막으로 커밋된 키워드 다음부터 남은 키워드만 조회")
+	void resumeFromLastCommittedKeyword() {
+		// given
+		PostGenerationTarget target3 = target(3L);
+		given(postService.findGenerationTargets(List.of(3L))).willReturn(List.of(target3));
+		PostGenerationTargetReader reader = new PostGenerationTargetReader(postService, List.of(1L, 2L, 3L));
+		ExecutionContext ctx = new ExecutionContext();
+		ctx.putInt("postGenerationTargetReader.nextIndex", 2);
+
+		// when
+		reader.open(ctx);
+
+		// then
+		assertThat(reader.read()).isEqualTo(target3);
+		assertThat(reader.read()).isNull();
+	}
+
+	private static PostGenerationTarget target(Long keywordId) {
+		return new PostGenerationTarget(new KeywordMetricHourlyDto(keywordId, "키워드" + keywordId,
+			Platform.GOOGLE_TREND, LocalDateTime.now(), 0, 0, false, null), List.of(), "내용");
+	}
+}
@@ -5,6 +5,9 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -81,7 +84,8 @@ class SearchVideosStepConfigTest {
 	@DisplayName("searchVideosStep 성공")
 	void testSuccess() throws Exception {
 		// given
-		when(sourceService.searchYoutube()).thenReturn(new SearchStatsDto(5, 1));
+		when(sourceService.searchYoutube()).thenReturn(
+			new SearchStatsDto(5, 1, List.of("실패키워드"), Map.of("실패키워드", 120L, "정상키워드", 80L)));
 
 		// when
 		JobExecution exec = jobLauncherTestUtils.launchStep(STEP_NAME);
@@ -94,6 +98,8 @@ class SearchVideosStepConfigTest {
 		ExecutionContext stepCtx = stepExec.getExecutionContext();
 		assertThat(stepCtx.getInt(ExecutionContextKeys.SC_VIDEO_FETCHED)).isEqualTo(5);
 		assertThat(stepCtx.getInt(ExecutionContextKeys.SC_VIDEO_API_FAIL)).isEqualTo(1);
+		assertThat(stepCtx.getString(ExecutionContextKeys.SC_VIDEO_FAILED_KEYWORDS)).isEqualTo("실패키워드");
+		assertThat(stepCtx.getLong(ExecutionContextKeys.SC_VIDEO_MAX_LATENCY_MS)).isEqualTo(120L);
 
 		// sourceService 호출 검증
 		verify(sourceService, times(1)).searchYoutube();
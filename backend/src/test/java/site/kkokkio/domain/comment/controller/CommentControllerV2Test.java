@@ -36,6 +36,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import site.kkokkio.domain.comment.controller.dto.CommentReportRequest;
 import site.kkokkio.domain.comment.controller.dto.ReportedCommentHideRequest;
+import site.kkokkio.domain.comment.dto.CommentDto;
 import site.kkokkio.domain.comment.dto.ReportedCommentSummary;
 import site.kkokkio.domain.comment.service.CommentService;
 import site.kkokkio.domain.member.entity.Member;
@@ -43,6 +44,7 @@ import site.kkokkio.global.auth.AuthChecker;
 import site.kkokkio.global.auth.CustomUserDetails;
 import site.kkokkio.global.auth.CustomUserDetailsService;
 import site.kkokkio.global.config.SecurityConfig;
+import site.kkokkio.global.dto.CursorSlice;
 import site.kkokkio.global.enums.MemberRole;
 import site.kkokkio.global.enums.ReportReason;
 import site.kkokkio.global.exception.ServiceException;
@@ -74,6 +76,32 @@ class CommentControllerV2Test {
 	@MockitoBean
 	private JwtUtils jwtUtils;
 
+	@Test
+	@DisplayName("댓글 목록 커서 조회 - 성공")
+	void getCommentListByCursor() throws Exception {
+		CommentDto comment = CommentDto.builder()
+			.commentId(2L)
+			.memberId(UUID.randomUUID())
+			.profileUrl("https://i.sstatic.net/l60Hf.png")
+			.nickname("testUser")
+			.body("댓글")
+			.likeCount(0)
+			.createdAt(LocalDateTime.now())
+			.build();
+		given(commentService.getCommentSliceByPostId(eq(1L), any(), eq("cursor"), eq(1)))
+			.willReturn(new CursorSlice<>(List.of(comment), true, "next"));
+
+		mockMvc.perform(get("/api/v2/posts/{postId}/comments", 1L)
+				.param("cursor", "cursor")
+				.param("size", "1"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.code").value("200"))
+			.andExpect(jsonPath("$.data.list[0].commentId").value(2))
+			.andExpect(jsonPath("$.data.meta.hasNext").value(true))
+			.andExpect(jsonPath("$.data.meta.nextCursor").value("next"))
+			.andExpect(jsonPath("$.data.meta.totalElements").doesNotExist());
+	}
+
 	@Test
 	@DisplayName("댓글 신고 - 성공")
 	@WithMockUser(roles = "USER")
@@ -0,0 +1,130 @@
+package site.kkokkio.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 댓글 1건에 64 스레드가 동시에 좋아요할 때 처리량 비교 (좋아요마다 UPDATE vs 카운터 적립 + 주기 배치 UPDATE)
+ * - 실행 : ./gradlew test --tests '*CommentLikeCounterBenchmarkTest' -Pbenchmark=true
+ * - 기본은 H2(MySQL 모드). 로컬 MySQL 은 BENCHMARK_JDBC_URL / USERNAME / PASSWORD 환경 변수로 지정
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CommentLikeCounterBenchmarkTest {
+
+	private static final long COMMENT_ID = 1L;
+	private static final int THREADS = 64;
+	private static final int LIKES_PER_THREAD = 500;
+	private static final String DIRECT_UPDATE_SQL =
+		"UPDATE comment SET like_count = like_count + 1 WHERE comment_id = ?";
+
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	void setUp() {
+		String url = env("BENCHMARK_JDBC_URL", "jdbc:h2:mem:like_benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1");
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(url,
+			env("BENCHMARK_JDBC_USERNAME", "sa"), env("BENCHMARK_JDBC_PASSWORD", ""));
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		// CommentLikeCounter.FLUSH_SQL 을 그대로 쓰도록 같은 이름의 테이블을 만든다 (로컬 MySQL 은 반드시 벤치마크 전용 스키마를 지정)
+		jdbcTemplate.execute("DROP TABLE IF EXISTS comment");
+		jdbcTemplate.execute("""
+			CREATE TABLE comment (
+				comment_id BIGINT PRIMARY KEY,
+				like_count INT NOT NULL DEFAULT 0
+			)
+			""");
+	}
+
+	@Test
+	@DisplayName("벤치마크 - 댓글 1건에 64 스레드 동시 좋아요 likes/sec")
+	void compareLikesPerSecond() throws Exception {
+		// given
+		long total = (long)THREADS * LIKES_PER_THREAD;
+		CommentLikeCounter counter = new CommentLikeCounter(jdbcTemplate, transactionTemplate);
+
+		// when
+		resetComment();
+		double direct = likesPerSecond(() -> transactionTemplate.executeWithoutResult(
+			status -> jdbcTemplate.update(DIRECT_UPDATE_SQL, COMMENT_ID)));
+		int directCount = likeCount();
+
+		resetComment();
+		AtomicBoolean running = new AtomicBoolean(true);
+		Thread flusher = new Thread(() -> {
+			while (running.get()) {
+				counter.flush();
+			}
+		});
+		flusher.start();
+		double counted = likesPerSecond(() -> counter.add(COMMENT_ID, 1));
+		running.set(false);
+		flusher.join();
+		counter.drainOnShutdown();
+
+		// then
+		log.info("댓글 1건 동시 좋아요 threads={}, likes={}. 좋아요마다 UPDATE={} likes/s, 카운터 적립={} likes/s",
+			THREADS, total, Math.round(direct), Math.round(counted));
+		assertThat(directCount).isEqualTo(total);
+		assertThat(likeCount()).isEqualTo(total);
+	}
+
+	private double likesPerSecond(Runnable like) throws InterruptedException {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(THREADS);
+		for (int i = 0; i < THREADS; i++) {
+			executor.submit(() -> {
+				try {
+					start.await();
+					for (int j = 0; j < LIKES_PER_THREAD; j++) {
+						like.run();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		long startedAt = System.nanoTime();
+		start.countDown();
+		assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+		long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+		executor.shutdown();
+		return (double)THREADS * LIKES_PER_THREAD * 1_000_000.0 / Math.max(1, elapsedMicros);
+	}
+
+	private void resetComment() {
+		jdbcTemplate.execute("DELETE FROM comment");
+		jdbcTemplate.update("INSERT INTO comment (comment_id, like_count) VALUES (?, 0)", COMMENT_ID);
+	}
+
+	private int likeCount() {
+		return jdbcTemplate.queryForObject(
+			"SELECT like_count FROM comment WHERE comment_id = ?", Integer.class, COMMENT_ID);
+	}
+
+	private static String env(String name, String defaultValue) {
+		return Optional.ofNullable(System.getenv(name)).orElse(defaultValue);
+	}
+}
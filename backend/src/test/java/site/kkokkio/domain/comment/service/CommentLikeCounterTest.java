@@ -0,0 +1,152 @@
+package site.kkokkio.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CommentLikeCounterTest {
+
+	private static final Long COMMENT_ID = 1L;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private CommentLikeCounter commentLikeCounter;
+	// 배치 UPDATE 로 반영된 증감분 합계
+	private final AtomicLong flushed = new AtomicLong();
+
+	@BeforeEach
+	void setUp() {
+		commentLikeCounter = new CommentLikeCounter(jdbcTemplate, transactionTemplate);
+		given(transactionTemplate.execute(any()))
+			.willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		given(jdbcTemplate.batchUpdate(eq(CommentLikeCounter.FLUSH_SQL), anyList())).willAnswer(invocation -> {
+			List<Object[]> batchArgs = invocation.getArgument(1);
+			batchArgs.forEach(args -> flushed.addAndGet((Long)args[0]));
+			return new int[batchArgs.size()];
+		});
+	}
+
+	@Test
+	@DisplayName("좋아요 카운터 - 64 스레드 동시 적립과 주기 반영 중에도 유실 없음")
+	void concurrentLikesOnSingleComment() throws Exception {
+		// given
+		int threads = 64;
+		int likesPerThread = 10_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threads);
+		AtomicBoolean running = new AtomicBoolean(true);
+
+		Thread flusher = new Thread(() -> {
+			while (running.get()) {
+				commentLikeCounter.flush();
+			}
+		});
+		flusher.start();
+
+		// when
+		for (int i = 0; i < threads; i++) {
+			executor.submit(() -> {
+				try {
+					start.await();
+					for (int j = 0; j < likesPerThread; j++) {
+						commentLikeCounter.add(COMMENT_ID, 1);
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		start.countDown();
+		assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+
+		running.set(false);
+		flusher.join();
+		executor.shutdown();
+		commentLikeCounter.drainOnShutdown();
+
+		// then
+		long total = (long)threads * likesPerThread;
+		assertThat(flushed.get()).isEqualTo(total);
+		assertThat(commentLikeCounter.pendingDelta(COMMENT_ID)).isZero();
+	}
+
+	@Test
+	@DisplayName("좋아요 카운터 - 반영 전 증감분은 조회 값에 합산")
+	void pendingDeltaIsVisibleBeforeFlush() {
+		// given
+		commentLikeCounter.add(COMMENT_ID, 1);
+		commentLikeCounter.add(COMMENT_ID, 1);
+		commentLikeCounter.add(COMMENT_ID, -1);
+
+		// when & then
+		assertThat(commentLikeCounter.pendingDelta(COMMENT_ID)).isEqualTo(1);
+		commentLikeCounter.flush();
+		assertThat(commentLikeCounter.pendingDelta(COMMENT_ID)).isZero();
+		assertThat(flushed.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("좋아요 카운터 - 반영 실패 시 증감분을 보존해 다음 주기에 재시도")
+	void failedFlushIsRetried() {
+		// given
+		commentLikeCounter.add(COMMENT_ID, 3);
+		given(jdbcTemplate.batchUpdate(eq(CommentLikeCounter.FLUSH_SQL), anyList()))
+			.willThrow(new QueryTimeoutException("timeout"))
+			.willAnswer(invocation -> {
+				List<Object[]> batchArgs = invocation.getArgument(1);
+				batchArgs.forEach(args -> flushed.addAndGet((Long)args[0]));
+				return new int[batchArgs.size()];
+			});
+
+		// when
+		commentLikeCounter.flush();
+		assertThat(commentLikeCounter.pendingDelta(COMMENT_ID)).isEqualTo(3);
+		commentLikeCounter.flush();
+
+		// then
+		assertThat(flushed.get()).isEqualTo(3);
+		assertThat(commentLikeCounter.pendingDelta(COMMENT_ID)).isZero();
+	}
+
+	@Test
+	@DisplayName("좋아요 카운터 - 증감분이 상쇄되면 UPDATE 하지 않음")
+	void zeroDeltaIsSkipped() {
+		// given
+		commentLikeCounter.add(COMMENT_ID, 1);
+		commentLikeCounter.add(COMMENT_ID, -1);
+
+		// when
+		commentLikeCounter.flush();
+
+		// then
+		verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+	}
+}
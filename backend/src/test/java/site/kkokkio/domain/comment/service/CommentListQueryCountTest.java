@@ -0,0 +1,158 @@
+package site.kkokkio.domain.comment.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManagerFactory;
+import site.kkokkio.domain.comment.dto.CommentDto;
+import site.kkokkio.domain.comment.entity.Comment;
+import site.kkokkio.domain.comment.entity.CommentLike;
+import site.kkokkio.domain.comment.entity.CommentReport;
+import site.kkokkio.domain.comment.repository.CommentLikeRepository;
+import site.kkokkio.domain.comment.repository.CommentReportRepository;
+import site.kkokkio.domain.comment.repository.CommentRepository;
+import site.kkokkio.domain.member.entity.Member;
+import site.kkokkio.domain.member.repository.MemberRepository;
+import site.kkokkio.domain.post.entity.Post;
+import site.kkokkio.domain.post.repository.PostRepository;
+import site.kkokkio.global.auth.CustomUserDetails;
+
+/**
+ * 댓글 목록 조회 쿼리 수 회귀 테스트
+ * 페이지 크기와 무관하게 실행되는 SQL 수가 고정되어야 한다. (likedByMe/reportedByMe N+1 방지)
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class CommentListQueryCountTest {
+
+	// 포스트 조회 + 댓글 페이지 + 카운트 + 좋아요 IN + 신고 IN
+	private static final long EXPECTED_STATEMENTS = 5;
+
+	@Autowired
+	private CommentService commentService;
+	@Autowired
+	private MemberRepository memberRepository;
+	@Autowired
+	private PostRepository postRepository;
+	@Autowired
+	private CommentRepository commentRepository;
+	@Autowired
+	private CommentLikeRepository commentLikeRepository;
+	@Autowired
+	private CommentReportRepository commentReportRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Member writer;
+	private Member viewer;
+	private Post post;
+	private final List<Comment> comments = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		writer = memberRepository.save(member("writer"));
+		viewer = memberRepository.save(member("viewer"));
+		post = postRepository.save(Post.builder()
+			.title("포스트")
+			.summary("요약")
+			.bucketAt(LocalDateTime.now())
+			.build());
+
+		for (int i = 0; i < 25; i++) {
+			Comment comment = commentRepository.save(Comment.builder()
+				.post(post)
+				.member(writer)
+				.body("댓글" + i)
+				.build());
+			comments.add(comment);
+
+			if (i % 2 == 0) {
+				commentLikeRepository.save(CommentLike.builder().comment(comment).member(viewer).build());
+			}
+			if (i % 5 == 0) {
+				commentReportRepository.save(CommentReport.builder().comment(comment).reporter(viewer).build());
+			}
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		commentLikeRepository.deleteAll();
+		commentReportRepository.deleteAll();
+		commentRepository.deleteAll(comments);
+		postRepository.delete(post);
+		memberRepository.deleteAll(List.of(writer, viewer));
+		comments.clear();
+	}
+
+	@Test
+	@DisplayName("댓글 목록 조회 - 페이지 크기와 무관하게 쿼리 수 고정")
+	void queryCountIsConstant() {
+		// given
+		UserDetails userDetails = new CustomUserDetails(viewer.getEmail(), "USER", true);
+
+		// when
+		long smallPageStatements = countStatements(
+			() -> commentService.getCommentListByPostId(post.getId(), userDetails, PageRequest.of(0, 5)));
+		long largePageStatements = countStatements(
+			() -> commentService.getCommentListByPostId(post.getId(), userDetails, PageRequest.of(0, 20)));
+
+		// then
+		assertThat(smallPageStatements).isEqualTo(EXPECTED_STATEMENTS);
+		assertThat(largePageStatements).isEqualTo(EXPECTED_STATEMENTS);
+	}
+
+	@Test
+	@DisplayName("댓글 목록 조회 - 일괄 조회한 좋아요/신고 여부가 댓글별로 정확히 매핑")
+	void flagsAreResolvedPerComment() {
+		// given
+		UserDetails userDetails = new CustomUserDetails(viewer.getEmail(), "USER", true);
+
+		// when
+		Page<CommentDto> page = commentService.getCommentListByPostId(
+			post.getId(), userDetails, PageRequest.of(0, 25));
+
+		// then
+		for (CommentDto dto : page.getContent()) {
+			int index = comments.indexOf(comments.stream()
+				.filter(comment -> comment.getId().equals(dto.commentId()))
+				.findFirst()
+				.orElseThrow());
+			assertThat(dto.likedByMe()).isEqualTo(index % 2 == 0);
+			assertThat(dto.reportedByMe()).isEqualTo(index % 5 == 0);
+		}
+	}
+
+	private long countStatements(Runnable action) {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		action.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	private Member member(String name) {
+		return Member.builder()
+			.email(name + "@query-count.test")
+			.passwordHash("hash")
+			.nickname(name + "-query-count")
+			.birthDate(LocalDate.of(1990, 1, 1))
+			.build();
+	}
+}
@@ -21,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -38,7 +39,11 @@ import site.kkokkio.domain.member.entity.Member;
 import site.kkokkio.domain.member.service.MemberService;
 import site.kkokkio.domain.post.entity.Post;
 import site.kkokkio.domain.post.repository.PostRepository;
+import site.kkokkio.domain.post.service.PostTrendingService;
+import site.kkokkio.domain.post.service.PostTrendingService.TrendingEvent;
 import site.kkokkio.global.auth.CustomUserDetails;
+import site.kkokkio.global.dto.Cursor;
+import site.kkokkio.global.dto.CursorSlice;
 import site.kkokkio.global.enums.ReportProcessingStatus;
 import site.kkokkio.global.enums.ReportReason;
 import site.kkokkio.global.exception.ServiceException;
@@ -63,6 +68,12 @@ class CommentServiceTest {
 	@Mock
 	private MemberService memberService;
 
+	@Mock
+	private CommentLikeCounter commentLikeCounter;
+
+	@Mock
+	private PostTrendingService postTrendingService;
+
 	@Test
 	@DisplayName("댓글 목록 조회 성공")
 	void test1() {
@@ -83,6 +94,39 @@ class CommentServiceTest {
 		assertEquals(1, result.getTotalElements());
 	}
 
+	@Test
+	@DisplayName("댓글 목록 조회 성공 - 로그인 사용자 좋아요/신고 여부 일괄 조회")
+	void test1_withUser() {
+		Post post = Post.builder().build();
+		Member member = Member.builder().build();
+		ReflectionTestUtils.setField(member, "id", UUID.randomUUID());
+		ReflectionTestUtils.setField(member, "nickname", "testUser");
+		Comment liked = Comment.builder().post(post).member(member).body("댓글1").build();
+		ReflectionTestUtils.setField(liked, "id", 1L);
+		ReflectionTestUtils.setField(liked, "createdAt", LocalDateTime.now());
+		Comment reported = Comment.builder().post(post).member(member).body("댓글2").build();
+		ReflectionTestUtils.setField(reported, "id", 2L);
+		ReflectionTestUtils.setField(reported, "createdAt", LocalDateTime.now());
+		Page<Comment> comments = new PageImpl<>(List.of(liked, reported));
+
+		UserDetails userDetails = mock(UserDetails.class);
+		when(userDetails.getUsername()).thenReturn("test@email.com");
+		when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+		when(commentRepository.findAllByPostAndDeletedAtIsNull(eq(post), any())).thenReturn(comments);
+		when(commentLikeRepository.findLikedCommentIds("test@email.com", List.of(1L, 2L))).thenReturn(List.of(1L));
+		when(commentReportRepository.findReportedCommentIds("test@email.com", List.of(1L, 2L))).thenReturn(List.of(2L));
+
+		Page<CommentDto> result = commentService.getCommentListByPostId(1L, userDetails, PageRequest.of(0, 10));
+
+		assertEquals(true, result.getContent().get(0).likedByMe());
+		assertEquals(false, result.getContent().get(0).reportedByMe());
+		assertEquals(false, result.getContent().get(1).likedByMe());
+		assertEquals(true, result.getContent().get(1).reportedByMe());
+		verify(commentLikeRepository, Mockito.never()).existsByCommentAndMember(any(), any());
+		verify(commentReportRepository, Mockito.never()).existsByCommentAndReporter(any(), any());
+		verify(memberService, Mockito.never()).findByEmail(any());
+	}
+
 	@Test
 	@DisplayName("댓글 목록 조회 실패 - 없는 포스트")
 	void test1_1() {
@@ -92,6 +136,47 @@ class CommentServiceTest {
 			() -> commentService.getCommentListByPostId(1L, null, PageRequest.of(0, 10)));
 	}
 
+	@Test
+	@DisplayName("댓글 목록 커서 조회 - nextCursor로 다음 페이지 조회")
+	void test1_2() {
+		Member member = Member.builder().build();
+		ReflectionTestUtils.setField(member, "id", UUID.randomUUID());
+		ReflectionTestUtils.setField(member, "nickname", "testUser");
+		LocalDateTime now = LocalDateTime.now();
+		Comment newer = Comment.builder().member(member).body("최신 댓글").build();
+		ReflectionTestUtils.setField(newer, "id", 2L);
+		ReflectionTestUtils.setField(newer, "createdAt", now);
+		Comment older = Comment.builder().member(member).body("이전 댓글").build();
+		ReflectionTestUtils.setField(older, "id", 1L);
+		ReflectionTestUtils.setField(older, "createdAt", now.minusMinutes(1));
+
+		when(postRepository.existsById(1L)).thenReturn(true);
+		when(commentRepository.findSliceByPostId(1L, PageRequest.ofSize(1)))
+			.thenReturn(new SliceImpl<>(List.of(newer), PageRequest.ofSize(1), true));
+		when(commentRepository.findSliceByPostIdAfterCursor(1L, now, 2L, PageRequest.ofSize(1)))
+			.thenReturn(new SliceImpl<>(List.of(older), PageRequest.ofSize(1), false));
+
+		CursorSlice<CommentDto> first = commentService.getCommentSliceByPostId(1L, null, null, 1);
+		CursorSlice<CommentDto> second = commentService.getCommentSliceByPostId(1L, null, first.nextCursor(), 1);
+
+		assertTrue(first.hasNext());
+		assertEquals(2L, first.list().get(0).commentId());
+		assertEquals(new Cursor(now, 2L), Cursor.decode(first.nextCursor()));
+		assertFalse(second.hasNext());
+		assertNull(second.nextCursor());
+		assertEquals(1L, second.list().get(0).commentId());
+	}
+
+	@Test
+	@DisplayName("댓글 목록 커서 조회 실패 - 잘못된 커서")
+	void test1_3() {
+		when(postRepository.existsById(1L)).thenReturn(true);
+
+		ServiceException exception = assertThrows(ServiceException.class,
+			() -> commentService.getCommentSliceByPostId(1L, null, "not-a-cursor", 10));
+		assertEquals("400", exception.getCode());
+	}
+
 	@Test
 	@DisplayName("댓글 작성 성공")
 	void test2() {
@@ -118,6 +203,7 @@ class CommentServiceTest {
 		CommentDto result = commentService.createComment(1L, userDetails, request);
 
 		assertEquals("새 댓글", result.body());
+		verify(postTrendingService).record(TrendingEvent.COMMENT, 1L);
 	}
 
 	@Test
@@ -192,6 +278,7 @@ class CommentServiceTest {
 	@DisplayName("댓글 좋아요 성공")
 	void test5() {
 		Member member1 = Member.builder().build();
+		ReflectionTestUtils.setField(member1, "id", UUID.randomUUID());
 		ReflectionTestUtils.setField(member1, "email", "test1@email.com");
 		ReflectionTestUtils.setField(member1, "nickname", "testUser1");
 		Member member2 = Member.builder().build();
@@ -201,18 +288,23 @@ class CommentServiceTest {
 
 		UserDetails userDetails = mock(UserDetails.class);
 
-		Comment comment = Comment.builder().member(member2).body("댓글").likeCount(0).build();
+		Post post = Post.builder().build();
+		ReflectionTestUtils.setField(post, "id", 10L);
+		Comment comment = Comment.builder().post(post).member(member2).body("댓글").likeCount(0).build();
 		ReflectionTestUtils.setField(comment, "id", 1L);
 		ReflectionTestUtils.setField(comment, "createdAt", LocalDateTime.now());
 
 		when(commentRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(comment));
-		when(commentLikeRepository.existsByCommentAndMember(comment, member1)).thenReturn(false);
+		when(commentLikeRepository.insertIgnore(1L, member1.getId())).thenReturn(1);
 		when(userDetails.getUsername()).thenReturn(member1.getEmail());
 		when(memberService.findByEmail(any())).thenReturn(member1);
 
 		CommentDto result = commentService.likeComment(1L, userDetails);
 
 		assertEquals(1, result.likeCount());
+		verify(commentLikeCounter).add(1L, 1);
+		verify(postTrendingService).record(TrendingEvent.COMMENT_LIKE, 10L);
+		verify(commentRepository, never()).save(any(Comment.class)); // 좋아요 수는 댓글 행을 직접 갱신하지 않음
 	}
 
 	@Test
@@ -237,15 +329,19 @@ class CommentServiceTest {
 
 		when(commentRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(comment));
 		when(memberService.findByEmail(any())).thenReturn(member);
-		when(commentLikeRepository.existsByCommentAndMember(comment, member)).thenReturn(true);
+		when(commentLikeRepository.insertIgnore(any(), any())).thenReturn(0); // 유니크 키 중복으로 무시됨
 
 		assertThrows(ServiceException.class, () -> commentService.likeComment(1L, userDetails));
+		verify(commentLikeCounter, never()).add(any(), anyLong());
 	}
 
 	@Test
 	@DisplayName("댓글 좋아요 취소 성공")
 	void test6() {
 		UserDetails member1 = new CustomUserDetails("test1@email.com", "USER", true);
+		Member liker = Member.builder().build();
+		ReflectionTestUtils.setField(liker, "id", UUID.randomUUID());
+		ReflectionTestUtils.setField(liker, "email", "test1@email.com");
 		Member member2 = Member.builder().build();
 		ReflectionTestUtils.setField(member2, "id", UUID.randomUUID());
 		ReflectionTestUtils.setField(member2, "email", "test2@email.com");
@@ -256,11 +352,33 @@ class CommentServiceTest {
 		ReflectionTestUtils.setField(comment, "createdAt", LocalDateTime.now());
 
 		when(commentRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(comment));
-		when(commentLikeRepository.existsByCommentAndMember(any(), any())).thenReturn(true);
+		when(memberService.findByEmail("test1@email.com")).thenReturn(liker);
+		when(commentLikeRepository.deleteByCommentIdAndMemberId(1L, liker.getId())).thenReturn(1);
 
 		CommentDto result = commentService.unlikeComment(1L, member1);
 
 		assertEquals(0, result.likeCount());
+		verify(commentLikeCounter).add(1L, -1);
+	}
+
+	@Test
+	@DisplayName("댓글 좋아요 취소 실패 - 삭제된 좋아요 행 없음")
+	void test6_1() {
+		UserDetails member1 = new CustomUserDetails("test1@email.com", "USER", true);
+		Member liker = Member.builder().build();
+		ReflectionTestUtils.setField(liker, "id", UUID.randomUUID());
+		Member writer = Member.builder().build();
+		ReflectionTestUtils.setField(writer, "email", "writer@email.com");
+
+		Comment comment = Comment.builder().member(writer).body("댓글").likeCount(1).build();
+		ReflectionTestUtils.setField(comment, "id", 1L);
+
+		when(commentRepository.findByIdAndDeletedAtIsNull(1L)).thenReturn(Optional.of(comment));
+		when(memberService.findByEmail("test1@email.com")).thenReturn(liker);
+		when(commentLikeRepository.deleteByCommentIdAndMemberId(1L, liker.getId())).thenReturn(0);
+
+		assertThrows(ServiceException.class, () -> commentService.unlikeComment(1L, member1));
+		verify(commentLikeCounter, never()).add(any(), anyLong());
 	}
 
 	@Test
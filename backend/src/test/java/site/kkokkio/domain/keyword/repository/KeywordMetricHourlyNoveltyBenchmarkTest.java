@@ -0,0 +1,145 @@
+package site.kkokkio.domain.keyword.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 신규성 평가 조회 비용 비교 (키워드별 전체 이력 조회 vs 최근 2개 버킷 ROW_NUMBER 조회)
+ * - 키워드 10개에 1일 / 1년(8,760 버킷) 이력을 만들고 키워드당 조회 시간을 비교한다.
+ * - 실행 : ./gradlew test --tests '*KeywordMetricHourlyNoveltyBenchmarkTest' -Pbenchmark=true
+ * - 기본은 H2(MySQL 모드). 로컬 MySQL 은 BENCHMARK_JDBC_URL / USERNAME / PASSWORD 환경 변수로 지정
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class KeywordMetricHourlyNoveltyBenchmarkTest {
+
+	private static final int KEYWORDS = 10;
+	private static final int DAY_HOURS = 24;
+	private static final int YEAR_HOURS = 24 * 365;
+	private static final int ROUNDS = 20;
+	private static final String LEGACY_SQL =
+		"SELECT * FROM keyword_metric_hourly WHERE keyword_id = ? ORDER BY bucket_at DESC";
+
+	private JdbcTemplate jdbcTemplate;
+	private NamedParameterJdbcTemplate namedJdbcTemplate;
+	private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+	private final List<Long> keywordIds = LongStream.rangeClosed(1, KEYWORDS).boxed().toList();
+
+	@BeforeEach
+	void setUp() {
+		String url = env("BENCHMARK_JDBC_URL", "jdbc:h2:mem:novelty_benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url,
+			env("BENCHMARK_JDBC_USERNAME", "sa"), env("BENCHMARK_JDBC_PASSWORD", "")));
+		namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+		jdbcTemplate.execute("DROP TABLE IF EXISTS keyword_metric_hourly");
+		jdbcTemplate.execute("""
+			CREATE TABLE keyword_metric_hourly (
+				bucket_at TIMESTAMP NOT NULL,
+				platform VARCHAR(20) NOT NULL,
+				keyword_id BIGINT NOT NULL,
+				post_id BIGINT NULL,
+				volume INT NOT NULL,
+				score INT NOT NULL,
+				rank_delta DOUBLE NOT NULL,
+				novelty_ratio DOUBLE NOT NULL,
+				weighted_novelty DOUBLE NOT NULL,
+				no_post_streak INT NOT NULL,
+				low_variation BOOLEAN NOT NULL,
+				created_at TIMESTAMP NULL,
+				updated_at TIMESTAMP NULL,
+				PRIMARY KEY (bucket_at, platform, keyword_id)
+			)
+			""");
+		jdbcTemplate.execute("CREATE INDEX idx_kmh_keyword_bucket ON keyword_metric_hourly (keyword_id, bucket_at)");
+	}
+
+	@Test
+	@DisplayName("벤치마크 - 이력 1일 vs 1년, 키워드당 신규성 평가 조회 시간")
+	void compareCostPerKeyword() {
+		// given - 1일 이력
+		insertHistory(0, DAY_HOURS);
+		double legacyDay = microsPerKeyword(this::legacyQuery);
+		double windowedDay = microsPerKeyword(this::windowedQuery);
+
+		// given - 1년 이력 (이전 구간 추가)
+		insertHistory(DAY_HOURS, YEAR_HOURS);
+		double legacyYear = microsPerKeyword(this::legacyQuery);
+		double windowedYear = microsPerKeyword(this::windowedQuery);
+
+		// then
+		log.info("신규성 평가 조회 (키워드당 µs). 전체 이력 : 1일={}, 1년={} / 최근 2개 버킷 : 1일={}, 1년={}",
+			Math.round(legacyDay), Math.round(legacyYear), Math.round(windowedDay), Math.round(windowedYear));
+		assertThat(windowedQuery()).isEqualTo(KEYWORDS * 2);
+		assertThat(legacyQuery()).isEqualTo(KEYWORDS * YEAR_HOURS);
+	}
+
+	/**
+	 * 기존 방식 : 키워드마다 전체 이력을 bucket_at 역순으로 조회
+	 */
+	private int legacyQuery() {
+		int rows = 0;
+		for (Long keywordId : keywordIds) {
+			rows += jdbcTemplate.queryForList(LEGACY_SQL, keywordId).size();
+		}
+		return rows;
+	}
+
+	/**
+	 * 변경 방식 : 모든 키워드의 최근 2개 버킷을 lookback 구간 안에서 한 번에 조회
+	 */
+	private int windowedQuery() {
+		return namedJdbcTemplate.queryForList(KeywordMetricHourlyRepository.LATEST_TWO_BY_KEYWORD_SQL,
+			Map.of("keywordIds", keywordIds, "since", now.minusHours(48))).size();
+	}
+
+	private double microsPerKeyword(IntSupplier query) {
+		query.getAsInt(); // 워밍업
+		long startedAt = System.nanoTime();
+		for (int i = 0; i < ROUNDS; i++) {
+			query.getAsInt();
+		}
+		long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+		return (double)elapsedMicros / ROUNDS / KEYWORDS;
+	}
+
+	/**
+	 * [fromHoursAgo, toHoursAgo) 구간의 시간 버킷을 키워드마다 추가
+	 */
+	private void insertHistory(int fromHoursAgo, int toHoursAgo) {
+		List<Object[]> rows = new ArrayList<>();
+		for (Long keywordId : keywordIds) {
+			for (int hoursAgo = fromHoursAgo; hoursAgo < toHoursAgo; hoursAgo++) {
+				rows.add(new Object[] {now.minusHours(hoursAgo), "GOOGLE_TREND", keywordId, 100, 100_000, 0.0, 0.3,
+					3.0, 0, false});
+			}
+		}
+		jdbcTemplate.batchUpdate("""
+			INSERT INTO keyword_metric_hourly (bucket_at, platform, keyword_id, volume, score, rank_delta,
+				novelty_ratio, weighted_novelty, no_post_streak, low_variation, created_at, updated_at)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
+			""", rows);
+	}
+
+	private static String env(String name, String defaultValue) {
+		return Optional.ofNullable(System.getenv(name)).orElse(defaultValue);
+	}
+}
@@ -5,11 +5,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import site.kkokkio.domain.keyword.dto.KeywordMetricHourlyDto;
 import site.kkokkio.domain.keyword.dto.NoveltyStatsDto;
@@ -38,6 +41,11 @@ public class KeywordMetricHourlyServiceTest {
 	@Mock
 	private KeywordMetricHourlyRepository keywordMetricHourlyRepository;
 
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(keywordMetricHourlyService, "noveltyLookback", Duration.ofHours(48));
+	}
+
 	@Test
 	@DisplayName("인기 키워드 조회 성공")
 	void findHourlyMetricsTest() {
@@ -111,7 +119,7 @@ public class KeywordMetricHourlyServiceTest {
 
 	@Test
 	@DisplayName("신규성 점수 평가 - 낮은 변동성")
-	void scoreNoveltyEvaluation_LowVariation() throws Exception {
+	void scoreNoveltyEvaluation_LowVariation() {
 		// given
 		Long keywordId = 1L;
 		Keyword keyword = Keyword.builder().id(keywordId).text("테스트 키워드").build();
@@ -132,37 +140,33 @@ public class KeywordMetricHourlyServiceTest {
 		// PreviousMetric Mock 설정: lowVariation일 때 post를 유지해야 하므로 previousMetric에 post를 설정
 		Post dummyPost = Post.builder().id(99L).title("Dummy Post").build();
 		KeywordMetricHourly previousMetric = KeywordMetricHourly.builder()
-			.id(KeywordMetricHourlyId.builder().keywordId(keywordId).bucketAt(LocalDateTime.now(ZoneId.of("UTC")).withHour(9)).platform(Platform.GOOGLE_TREND).build())
+			.id(KeywordMetricHourlyId.builder().keywordId(keywordId).bucketAt(LocalDateTime.now(ZoneId.of("UTC")).minusHours(1)).platform(Platform.GOOGLE_TREND).build())
 			.keyword(keyword)
 			.post(dummyPost) // 낮은 변동성일 때 유지될 포스트
-			.volume(50) // previousMetric의 volume은 rankDelta 계산에 영향을 미치므로 설정
+			.volume(50)
 			.noPostStreak(1)
 			.build();
 
-		List<Long> postableIds = new ArrayList<>();
-		ArgumentCaptor<KeywordMetricHourly> metricCaptor = ArgumentCaptor.forClass(KeywordMetricHourly.class);
-		when(keywordMetricHourlyRepository.save(metricCaptor.capture())).thenReturn(currentMetric);
-
+		// 조회 결과 순서와 무관하게 bucketAt 역순으로 현재/직전 버킷을 판단
+		when(keywordMetricHourlyRepository.findLatestTwoByKeywordIds(eq(List.of(keywordId)), any(LocalDateTime.class)))
+			.thenReturn(List.of(previousMetric, currentMetric));
 
 		// when
-		Method scoreNoveltyEvaluationMethod = KeywordMetricHourlyService.class.getDeclaredMethod(
-			"scoreNoveltyEvaluation", KeywordMetricHourly.class, KeywordMetricHourly.class, List.class);
-		scoreNoveltyEvaluationMethod.setAccessible(true);
-		boolean lowVariationResult = (boolean)scoreNoveltyEvaluationMethod.invoke(keywordMetricHourlyService,
-			currentMetric, previousMetric, postableIds);
+		NoveltyStatsDto result = keywordMetricHourlyService.evaluateNovelty(List.of(keywordId));
 
 		// then
-		assertThat(lowVariationResult).isTrue();
-		assertThat(postableIds).isEmpty();
-		KeywordMetricHourly savedMetric = metricCaptor.getValue();
+		assertThat(result.lowVariationCount()).isEqualTo(1);
+		assertThat(result.postableIds()).isEmpty();
+		KeywordMetricHourly savedMetric = captureUpdatedMetrics().getFirst();
 		assertThat(savedMetric.isLowVariation()).isTrue();
 		assertThat(savedMetric.getNoPostStreak()).isEqualTo(2);
+		assertThat(savedMetric.getPost()).isSameAs(dummyPost);
 		assertThat(savedMetric.getScore()).isEqualTo(((int)(50.0 / 100) + (int)(3.0) + 1) * 1000 + 100);
 	}
 
 	@Test
 	@DisplayName("신규성 점수 평가 - 높은 변동성")
-	void scoreNoveltyEvaluation_HighVariation() throws Exception {
+	void scoreNoveltyEvaluation_HighVariation() {
 		// given
 		Long keywordId = 1L;
 		Keyword keyword = Keyword.builder().id(keywordId).text("테스트 키워드").build();
@@ -181,41 +185,86 @@ public class KeywordMetricHourlyServiceTest {
 			.build();
 
 		KeywordMetricHourly previousMetric = KeywordMetricHourly.builder()
-			.id(KeywordMetricHourlyId.builder().keywordId(keywordId).bucketAt(LocalDateTime.now(ZoneId.of("UTC")).withHour(9)).platform(Platform.GOOGLE_TREND).build())
+			.id(KeywordMetricHourlyId.builder().keywordId(keywordId).bucketAt(LocalDateTime.now(ZoneId.of("UTC")).minusHours(1)).platform(Platform.GOOGLE_TREND).build())
 			.keyword(keyword)
 			.post(Post.builder().id(88L).title("Old Post").build()) // 이전 Post가 있어도 무시되어야 함
 			.volume(100)
 			.noPostStreak(2)
 			.build();
 
-		List<Long> postableIds = new ArrayList<>();
-		ArgumentCaptor<KeywordMetricHourly> metricCaptor = ArgumentCaptor.forClass(KeywordMetricHourly.class);
-		when(keywordMetricHourlyRepository.save(metricCaptor.capture())).thenReturn(currentMetric);
+		when(keywordMetricHourlyRepository.findLatestTwoByKeywordIds(eq(List.of(keywordId)), any(LocalDateTime.class)))
+			.thenReturn(List.of(currentMetric, previousMetric));
 
 		// when
-		Method scoreNoveltyEvaluationMethod = KeywordMetricHourlyService.class.getDeclaredMethod(
-			"scoreNoveltyEvaluation", KeywordMetricHourly.class, KeywordMetricHourly.class, List.class);
-		scoreNoveltyEvaluationMethod.setAccessible(true);
-		boolean lowVariationResult = (boolean)scoreNoveltyEvaluationMethod.invoke(keywordMetricHourlyService,
-			currentMetric, previousMetric, postableIds);
+		NoveltyStatsDto result = keywordMetricHourlyService.evaluateNovelty(List.of(keywordId));
 
 		// then
-		assertThat(lowVariationResult).isFalse();
-		assertThat(postableIds).containsExactly(keywordId);
-		KeywordMetricHourly savedMetric = metricCaptor.getValue();
+		assertThat(result.lowVariationCount()).isZero();
+		assertThat(result.postableIds()).containsExactly(keywordId);
+		KeywordMetricHourly savedMetric = captureUpdatedMetrics().getFirst();
 		assertThat(savedMetric.isLowVariation()).isFalse();
 		assertThat(savedMetric.getNoPostStreak()).isZero();
+		assertThat(savedMetric.getPost()).isNull();
 		assertThat(savedMetric.getScore()).isEqualTo(((int)(500.0 / 100) + (int)(7.0) + 3) * 1000 + 200);
 	}
 
+	@Test
+	@DisplayName("신규성 평가 - 여러 키워드를 한 번 조회하고 한 번에 반영")
+	void evaluateNovelty_SingleQueryAndBatchUpdate() {
+		// given
+		Keyword first = Keyword.builder().id(1L).text("첫 키워드").build();
+		Keyword second = Keyword.builder().id(2L).text("둘째 키워드").build();
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC"));
+		when(keywordMetricHourlyRepository.findLatestTwoByKeywordIds(eq(List.of(1L, 2L)), any(LocalDateTime.class)))
+			.thenReturn(List.of(
+				metric(first, now, 0.0, 3.0, 0),
+				metric(first, now.minusHours(1), 0.0, 10.0, 0),
+				metric(second, now, 300.0, 8.0, 0),
+				metric(second, now.minusHours(2), 0.0, 10.0, 0)));
+
+		// when
+		NoveltyStatsDto result = keywordMetricHourlyService.evaluateNovelty(List.of(1L, 2L));
+
+		// then
+		assertThat(result.lowVariationCount()).isEqualTo(1);
+		assertThat(result.postableIds()).containsExactly(2L);
+		verify(keywordMetricHourlyRepository, times(1)).findLatestTwoByKeywordIds(anyList(), any(LocalDateTime.class));
+		assertThat(captureUpdatedMetrics())
+			.extracting(metric -> metric.getId().getKeywordId() + ":" + metric.getId().getBucketAt())
+			.containsExactly("1:" + now, "2:" + now);
+		verify(keywordMetricHourlyRepository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("신규성 평가 - 직전 버킷이 없으면 현재 버킷만으로 평가")
+	void evaluateNovelty_NoPreviousBucket() {
+		// given
+		// 최초 작성이거나 직전 버킷이 lookback 밖인 경우 = 가중 신규성 최대
+		Long keywordId = 1L;
+		Keyword keyword = Keyword.builder().id(keywordId).text("테스트 키워드").build();
+		LocalDateTime now = LocalDateTime.now(ZoneId.of("UTC"));
+		when(keywordMetricHourlyRepository.findLatestTwoByKeywordIds(eq(List.of(keywordId)), any(LocalDateTime.class)))
+			.thenReturn(List.of(metric(keyword, now, 0.0, 10.0, 0)));
+
+		// when
+		NoveltyStatsDto result = keywordMetricHourlyService.evaluateNovelty(List.of(keywordId));
+
+		// then
+		assertThat(result.lowVariationCount()).isZero();
+		assertThat(result.postableIds()).containsExactly(keywordId);
+		KeywordMetricHourly savedMetric = captureUpdatedMetrics().getFirst();
+		assertThat(savedMetric.isLowVariation()).isFalse();
+		assertThat(savedMetric.getScore()).isEqualTo(10 * 1000 + 100);
+	}
+
 	@Test
 	@DisplayName("신규성 평가 - 데이터 부족")
 	void evaluateNovelty_NoSufficientData() {
 		// given
-		// List가 하나밖에 없을 때 = 신규 작성일 경우
+		// 조회된 메트릭이 없을 때 = 포스팅 대상
 		Long keywordId = 1L;
-		when(keywordMetricHourlyRepository.findById_KeywordIdOrderById_BucketAtDesc(keywordId)).thenReturn(
-			List.of(KeywordMetricHourly.builder().build()));
+		when(keywordMetricHourlyRepository.findLatestTwoByKeywordIds(eq(List.of(keywordId)), any(LocalDateTime.class)))
+			.thenReturn(List.of());
 
 		// when
 		NoveltyStatsDto result = keywordMetricHourlyService.evaluateNovelty(List.of(keywordId));
@@ -223,6 +272,7 @@ public class KeywordMetricHourlyServiceTest {
 		// then
 		assertThat(result.lowVariationCount()).isZero();
 		assertThat(result.postableIds()).containsExactly(keywordId);
+		assertThat(captureUpdatedMetrics()).isEmpty();
 		verify(keywordMetricHourlyRepository, never()).save(any());
 	}
 
@@ -250,12 +300,12 @@ public class KeywordMetricHourlyServiceTest {
 	@DisplayName("키워드 메트릭 업데이트")
 	void updateKeywordMetricTest() throws Exception {
 		// given
+		Keyword keyword = Keyword.builder().id(1L).text("테스트 키워드").build();
 		KeywordMetricHourlyId id = KeywordMetricHourlyId.builder()
-			.keywordId(1L)
+			.keywordId(keyword.getId())
 			.bucketAt(LocalDateTime.now(ZoneId.of("UTC")))
 			.platform(Platform.GOOGLE_TREND)
 			.build();
-		Keyword keyword = Keyword.builder().id(1L).text("테스트 키워드").build();
 		KeywordMetricHourly currentMetric = KeywordMetricHourly.builder()
 			.id(id)
 			.keyword(keyword)
@@ -272,29 +322,49 @@ public class KeywordMetricHourlyServiceTest {
 		boolean lowVariation = true;
 		int noPostStreak = 1;
 
+		Post previousPost = Post.builder().id(88L).title("Old Post").build();
 		KeywordMetricHourly previousMetric = KeywordMetricHourly.builder()
 			.id(KeywordMetricHourlyId.builder().keywordId(keyword.getId()).bucketAt(LocalDateTime.now(ZoneId.of("UTC")).withHour(9)).platform(Platform.GOOGLE_TREND).build())
 			.keyword(keyword)
-			.post(Post.builder().id(88L).title("Old Post").build())
+			.post(previousPost)
 			.volume(100)
 			.noPostStreak(2)
 			.build();
 
-		ArgumentCaptor<KeywordMetricHourly> metricCaptor = ArgumentCaptor.forClass(KeywordMetricHourly.class);
-		when(keywordMetricHourlyRepository.save(metricCaptor.capture())).thenReturn(currentMetric);
-
 		// when
 		Method updateKeywordMetricMethod = KeywordMetricHourlyService.class.getDeclaredMethod("updateKeywordMetric",
 			KeywordMetricHourly.class, KeywordMetricHourly.class, int.class, boolean.class, int.class);
 		updateKeywordMetricMethod.setAccessible(true);
-		updateKeywordMetricMethod.invoke(keywordMetricHourlyService, currentMetric, previousMetric, noveltyScore, lowVariation,
-			noPostStreak);
+		KeywordMetricHourly updatedMetric = (KeywordMetricHourly)updateKeywordMetricMethod.invoke(
+			keywordMetricHourlyService, currentMetric, previousMetric, noveltyScore, lowVariation, noPostStreak);
 
 		// then
-		verify(keywordMetricHourlyRepository, times(1)).save(any(KeywordMetricHourly.class));
-		KeywordMetricHourly savedMetric = metricCaptor.getValue();
-		assertThat(savedMetric.getScore()).isEqualTo((noveltyScore * 1000) + 150);
-		assertThat(savedMetric.isLowVariation()).isTrue();
-		assertThat(savedMetric.getNoPostStreak()).isEqualTo(1);
+		verifyNoInteractions(keywordMetricHourlyRepository);
+		assertThat(updatedMetric.getScore()).isEqualTo((noveltyScore * 1000) + 150);
+		assertThat(updatedMetric.isLowVariation()).isTrue();
+		assertThat(updatedMetric.getNoPostStreak()).isEqualTo(1);
+		assertThat(updatedMetric.getPost()).isSameAs(previousPost);
+	}
+
+	private List<KeywordMetricHourly> captureUpdatedMetrics() {
+		ArgumentCaptor<List<KeywordMetricHourly>> captor = ArgumentCaptor.forClass(List.class);
+		verify(keywordMetricHourlyRepository, times(1)).updateNoveltyAll(captor.capture());
+		return captor.getValue();
+	}
+
+	private static KeywordMetricHourly metric(Keyword keyword, LocalDateTime bucketAt, double rankDelta,
+		double weightedNovelty, int noPostStreak) {
+		return KeywordMetricHourly.builder()
+			.id(KeywordMetricHourlyId.builder()
+				.keywordId(keyword.getId())
+				.bucketAt(bucketAt)
+				.platform(Platform.GOOGLE_TREND)
+				.build())
+			.keyword(keyword)
+			.rankDelta(rankDelta)
+			.weightedNovelty(weightedNovelty)
+			.noPostStreak(noPostStreak)
+			.volume(100)
+			.build();
 	}
 }
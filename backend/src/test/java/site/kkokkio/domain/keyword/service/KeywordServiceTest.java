@@ -19,9 +19,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import site.kkokkio.domain.keyword.entity.Keyword;
 import site.kkokkio.domain.keyword.repository.KeywordRepository;
@@ -29,6 +31,9 @@ import site.kkokkio.domain.post.dto.PostDto;
 import site.kkokkio.domain.post.entity.Post;
 import site.kkokkio.domain.post.entity.PostKeyword;
 import site.kkokkio.domain.post.repository.PostKeywordRepository;
+import site.kkokkio.global.dto.Cursor;
+import site.kkokkio.global.dto.CursorSlice;
+import site.kkokkio.global.exception.ServiceException;
 
 @ActiveProfiles("test")
 @ExtendWith(SpringExtension.class)
@@ -143,6 +148,58 @@ public class KeywordServiceTest {
 		assertThat(postDtoPage.isEmpty()).isTrue();
 	}
 
+	@Test
+	@DisplayName("키워드 조회 (커서) - 마지막 포스트의 (createdAt, id)로 다음 커서 생성")
+	void findKeywordSliceTest() {
+		// Given
+		String keywordText = "테스트 키워드";
+		LocalDateTime now = LocalDateTime.now();
+		Post newer = createPost(2L, "제목2", now);
+		Post older = createPost(1L, "제목1", now.minusHours(1));
+		ReflectionTestUtils.setField(newer, "createdAt", now);
+		ReflectionTestUtils.setField(older, "createdAt", now.minusHours(1));
+		Pageable pageable = PageRequest.ofSize(2);
+		when(postKeywordRepository.findSliceByKeywordText(keywordText, pageable)).thenReturn(new SliceImpl<>(
+			List.of(createPostKeyword(newer, keywordText), createPostKeyword(older, keywordText)), pageable, true));
+
+		// When
+		CursorSlice<PostDto> slice = keywordService.getPostSliceByKeyword(keywordText, null, 2);
+
+		// Then
+		assertThat(slice.list().get(0).postId()).isEqualTo(2L);
+		assertThat(slice.list().get(1).postId()).isEqualTo(1L);
+		assertThat(slice.hasNext()).isTrue();
+		assertThat(Cursor.decode(slice.nextCursor())).isEqualTo(new Cursor(now.minusHours(1), 1L));
+		verify(postKeywordRepository, never()).findByKeywordTextWithPostAndKeyword(any(), any());
+	}
+
+	@Test
+	@DisplayName("키워드 조회 (커서) - 다음 페이지는 커서의 post_id 만으로 탐색")
+	void findKeywordSliceTest_AfterCursor() {
+		// Given
+		String keywordText = "테스트 키워드";
+		LocalDateTime now = LocalDateTime.now();
+		Pageable pageable = PageRequest.ofSize(2);
+		String cursor = new Cursor(now, 5L).encode();
+		when(postKeywordRepository.findSliceByKeywordTextAfterCursor(keywordText, 5L, pageable)).thenReturn(
+			new SliceImpl<>(List.of(createPostKeyword(createPost(4L, "제목4", now), keywordText)), pageable, false));
+
+		// When
+		CursorSlice<PostDto> slice = keywordService.getPostSliceByKeyword(keywordText, cursor, 2);
+
+		// Then
+		assertThat(slice.list()).extracting(PostDto::postId).containsExactly(4L);
+		assertThat(slice.hasNext()).isFalse();
+		verify(postKeywordRepository, never()).findSliceByKeywordText(any(), any());
+	}
+
+	@Test
+	@DisplayName("키워드 조회 (커서) - 조회 크기 초과 시 예외")
+	void findKeywordSliceTest_TooLarge() {
+		assertThatThrownBy(() -> keywordService.getPostSliceByKeyword("키워드", null, Cursor.MAX_SIZE + 1))
+			.isInstanceOf(ServiceException.class);
+	}
+
 	private Post createPost(Long id, String title, LocalDateTime createdAt) {
 		return Post.builder()
 			.id(id)
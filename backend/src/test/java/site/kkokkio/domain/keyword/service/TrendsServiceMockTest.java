@@ -0,0 +1,224 @@
+package site.kkokkio.domain.keyword.service;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import site.kkokkio.domain.keyword.entity.Keyword;
+import site.kkokkio.domain.keyword.entity.KeywordMetricHourly;
+import site.kkokkio.domain.keyword.entity.KeywordMetricHourlyId;
+import site.kkokkio.domain.keyword.port.out.TrendsPort;
+import site.kkokkio.domain.keyword.repository.KeywordMetricHourlyRepository;
+import site.kkokkio.domain.keyword.repository.KeywordRepository;
+import site.kkokkio.domain.post.entity.Post;
+import site.kkokkio.global.enums.Platform;
+import site.kkokkio.infra.google.trends.dto.KeywordInfo;
+
+@ExtendWith(MockitoExtension.class)
+class TrendsServiceMockTest {
+
+	@InjectMocks
+	private TrendsService trendsService;
+
+	@Mock
+	private TrendsPort trendsAdapter;
+	@Mock
+	private KeywordRepository keywordRepository;
+	@Mock
+	private KeywordMetricHourlyRepository keywordMetricHourlyRepository;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(trendsService, "platform", Platform.GOOGLE_TREND);
+		ReflectionTestUtils.setField(trendsService, "previousMetricLookback", Duration.ofDays(7));
+		ReflectionTestUtils.setField(trendsService, "jumpRatio", 2.0);
+	}
+
+	@Test
+	@DisplayName("인기 키워드 저장 - 키워드/직전 메트릭/메트릭을 각각 일괄 처리")
+	void getTrendingKeywordsFromRss_bulk() {
+		// given
+		given(trendsAdapter.fetchTrendingKeywords()).willReturn(List.of(
+			KeywordInfo.builder().text("신규").volume(100).build(),
+			KeywordInfo.builder().text("기존").volume(300).build()));
+		Keyword created = Keyword.builder().id(1L).text("신규").build();
+		Keyword existing = Keyword.builder().id(2L).text("기존").build();
+		given(keywordRepository.findAllByTextIn(List.of("신규", "기존"))).willReturn(List.of(created, existing));
+
+		KeywordMetricHourly previous = KeywordMetricHourly.builder()
+			.id(KeywordMetricHourlyId.builder()
+				.keywordId(2L)
+				.platform(Platform.GOOGLE_TREND)
+				.bucketAt(LocalDateTime.now().withMinute(0).withSecond(0).withNano(0).minusHours(2))
+				.build())
+			.keyword(existing)
+			.volume(200)
+			.noPostStreak(3)
+			.build();
+		given(keywordMetricHourlyRepository.findLatestBeforeByKeywordIds(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))), any(), any()))
+			.willReturn(List.of(previous));
+
+		// when
+		List<Keyword> keywords = trendsService.getTrendingKeywordsFromRss();
+
+		// then
+		assertThat(keywords).containsExactly(created, existing);
+		then(keywordRepository).should().insertIgnoreAll(List.of("신규", "기존"));
+
+		ArgumentCaptor<List<KeywordMetricHourly>> metrics = ArgumentCaptor.forClass(List.class);
+		then(keywordMetricHourlyRepository).should().upsertAll(metrics.capture());
+		assertThat(metrics.getValue()).hasSize(2);
+
+		KeywordMetricHourly first = metrics.getValue().get(0);
+		assertThat(first.getId().getKeywordId()).isEqualTo(1L);
+		assertThat(first.getNoveltyRatio()).isEqualTo(1.0);
+		assertThat(first.getRankDelta()).isEqualTo(0.0);
+		assertThat(first.getScore()).isEqualTo(10 * 1000 + 100);
+
+		LocalDateTime bucketAt = first.getId().getBucketAt();
+		then(keywordMetricHourlyRepository).should()
+			.findLatestBeforeByKeywordIds(any(), eq(bucketAt.minusDays(7)), eq(bucketAt));
+
+		KeywordMetricHourly second = metrics.getValue().get(1);
+		assertThat(second.getId().getKeywordId()).isEqualTo(2L);
+		assertThat(second.getRankDelta()).isEqualTo(100.0);
+		assertThat(second.getNoPostStreak()).isEqualTo(3);
+		assertThat(second.getNoveltyRatio()).isEqualTo(0.3);
+		assertThat(second.getScore()).isEqualTo((3 + 3) * 1000 + 300);
+	}
+
+	@Test
+	@DisplayName("인기 키워드 저장 - 대소문자만 다른 텍스트도 저장된 키워드와 매칭")
+	void getTrendingKeywordsFromRss_caseInsensitiveMatch() {
+		// given
+		given(trendsAdapter.fetchTrendingKeywords()).willReturn(List.of(
+			KeywordInfo.builder().text("iPhone").volume(100).build()));
+		Keyword stored = Keyword.builder().id(7L).text("IPHONE").build();
+		given(keywordRepository.findAllByTextIn(List.of("iPhone"))).willReturn(List.of(stored));
+		given(keywordMetricHourlyRepository.findLatestBeforeByKeywordIds(eq(List.of(7L)), any(), any()))
+			.willReturn(List.of());
+
+		// when
+		List<Keyword> keywords = trendsService.getTrendingKeywordsFromRss();
+
+		// then
+		assertThat(keywords).containsExactly(stored);
+	}
+
+	@Test
+	@DisplayName("인기 키워드 저장 - RSS 결과가 없으면 저장하지 않음")
+	void getTrendingKeywordsFromRss_empty() {
+		// given
+		given(trendsAdapter.fetchTrendingKeywords()).willReturn(List.of());
+
+		// when
+		List<Keyword> keywords = trendsService.getTrendingKeywordsFromRss();
+
+		// then
+		assertThat(keywords).isEmpty();
+		then(keywordRepository).shouldHaveNoInteractions();
+		then(keywordMetricHourlyRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("증분 갱신 - 새로 진입했거나 검색량이 급등한 키워드만 현재 버킷에 병합")
+	void refreshTrendingKeywordDelta_onlyEnteredOrJumped() {
+		// given
+		given(trendsAdapter.fetchTrendingKeywords()).willReturn(List.of(
+			KeywordInfo.builder().text("신규").volume(100).build(),
+			KeywordInfo.builder().text("급등").volume(500).build(),
+			KeywordInfo.builder().text("유지").volume(150).build()));
+		Keyword entered = Keyword.builder().id(1L).text("신규").build();
+		Keyword jumped = Keyword.builder().id(2L).text("급등").build();
+		Keyword steady = Keyword.builder().id(3L).text("유지").build();
+		LocalDateTime bucketAt = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
+		given(keywordMetricHourlyRepository.findAllById_BucketAtAndId_Platform(bucketAt, Platform.GOOGLE_TREND))
+			.willReturn(List.of(metric(jumped, bucketAt, 200), metric(steady, bucketAt, 100)));
+		given(keywordRepository.findAllByTextIn(List.of("신규", "급등", "유지")))
+			.willReturn(List.of(jumped, steady));
+		given(keywordRepository.findAllByTextIn(List.of("신규", "급등"))).willReturn(List.of(entered, jumped));
+		given(keywordMetricHourlyRepository.findLatestBeforeByKeywordIds(List.of(1L, 2L), bucketAt.minusDays(7), bucketAt))
+			.willReturn(List.of());
+
+		// when
+		List<Keyword> keywords = trendsService.refreshTrendingKeywordDelta();
+
+		// then
+		assertThat(keywords).containsExactly(entered, jumped);
+		then(keywordRepository).should().insertIgnoreAll(List.of("신규", "급등"));
+		ArgumentCaptor<List<KeywordMetricHourly>> metrics = ArgumentCaptor.forClass(List.class);
+		then(keywordMetricHourlyRepository).should().upsertAll(metrics.capture());
+		assertThat(metrics.getValue()).extracting(m -> m.getId().getKeywordId()).containsExactly(1L, 2L);
+		assertThat(metrics.getValue()).allSatisfy(m -> assertThat(m.getId().getBucketAt()).isEqualTo(bucketAt));
+	}
+
+	@Test
+	@DisplayName("증분 갱신 - 현재 버킷에서 이미 포스트를 만든 키워드는 급등해도 다시 병합하지 않음")
+	void refreshTrendingKeywordDelta_skipAlreadyPosted() {
+		// given
+		given(trendsAdapter.fetchTrendingKeywords()).willReturn(List.of(
+			KeywordInfo.builder().text("포스트됨").volume(500).build()));
+		Keyword posted = Keyword.builder().id(1L).text("포스트됨").build();
+		LocalDateTime bucketAt = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
+		KeywordMetricHourly current = KeywordMetricHourly.builder()
+			.id(metric(posted, bucketAt, 100).getId())
+			.keyword(posted)
+			.volume(100)
+			.post(Post.builder().id(10L).build())
+			.build();
+		given(keywordMetricHourlyRepository.findAllById_BucketAtAndId_Platform(bucketAt, Platform.GOOGLE_TREND))
+			.willReturn(List.of(current));
+		given(keywordRepository.findAllByTextIn(List.of("포스트됨"))).willReturn(List.of(posted));
+
+		// when
+		List<Keyword> keywords = trendsService.refreshTrendingKeywordDelta();
+
+		// then
+		assertThat(keywords).isEmpty();
+		then(keywordRepository).should(never()).insertIgnoreAll(any());
+		then(keywordMetricHourlyRepository).should(never()).upsertAll(any());
+	}
+
+	@Test
+	@DisplayName("증분 갱신 - 현재 버킷이 아직 없으면 정각 전체 실행에 맡기고 저장하지 않음")
+	void refreshTrendingKeywordDelta_noCurrentBucket() {
+		// given
+		given(trendsAdapter.fetchTrendingKeywords()).willReturn(List.of(
+			KeywordInfo.builder().text("신규").volume(100).build()));
+		given(keywordMetricHourlyRepository.findAllById_BucketAtAndId_Platform(any(), eq(Platform.GOOGLE_TREND)))
+			.willReturn(List.of());
+
+		// when
+		List<Keyword> keywords = trendsService.refreshTrendingKeywordDelta();
+
+		// then
+		assertThat(keywords).isEmpty();
+		then(keywordRepository).shouldHaveNoInteractions();
+		then(keywordMetricHourlyRepository).should(never()).upsertAll(any());
+	}
+
+	private static KeywordMetricHourly metric(Keyword keyword, LocalDateTime bucketAt, int volume) {
+		return KeywordMetricHourly.builder()
+			.id(KeywordMetricHourlyId.builder()
+				.keywordId(keyword.getId())
+				.platform(Platform.GOOGLE_TREND)
+				.bucketAt(bucketAt)
+				.build())
+			.keyword(keyword)
+			.volume(volume)
+			.build();
+	}
+}
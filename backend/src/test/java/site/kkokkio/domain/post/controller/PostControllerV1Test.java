@@ -31,6 +31,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import site.kkokkio.domain.keyword.service.KeywordService;
 import site.kkokkio.domain.post.dto.PostDto;
 import site.kkokkio.domain.post.service.PostService;
+import site.kkokkio.domain.post.service.PostViewCounter;
 import site.kkokkio.domain.source.dto.SourceDto;
 import site.kkokkio.domain.source.service.SourceService;
 import site.kkokkio.global.auth.CustomUserDetailsService;
@@ -63,6 +64,9 @@ public class PostControllerV1Test {
 	@MockitoBean
 	private KeywordService keywordService;
 
+	@MockitoBean
+	private PostViewCounter postViewCounter;
+
 	private List<PostDto> postDtos;
 	private String keywordText = "테스트 키워드";
 	private int page = 0;
@@ -101,6 +105,28 @@ public class PostControllerV1Test {
 			.andExpect(jsonPath("$.data.title").value("포스트 제목"))
 			.andExpect(jsonPath("$.data.summary").value("포스트 요약"))
 			.andExpect(jsonPath("$.data.thumbnailUrl").value("https://image.url"));
+		verify(postViewCounter).recordView(1L, "127.0.0.1");
+	}
+
+	@Test
+	@DisplayName("포스트 단건 조회 - 클라이언트가 보낸 X-Forwarded-For 로 조회자를 바꿀 수 없음")
+	void getPost_ignoresSpoofedForwardedFor() throws Exception {
+		// given
+		PostDto postDto = PostDto.builder()
+			.postId(1L)
+			.keyword("테스트 키워드")
+			.title("포스트 제목")
+			.summary("포스트 요약")
+			.thumbnailUrl("https://image.url")
+			.build();
+		given(postService.getPostWithKeywordById(1L, null)).willReturn(postDto);
+
+		// when
+		mockMvc.perform(get("/api/v1/posts/{postId}", 1L).header("X-Forwarded-For", "10.0.0.1"))
+			.andExpect(status().isOk());
+
+		// then
+		verify(postViewCounter).recordView(1L, "127.0.0.1");
 	}
 
 	@Test
@@ -115,6 +141,37 @@ public class PostControllerV1Test {
 			.andExpect(status().isNotFound())
 			.andExpect(jsonPath("$.code").value("404"))
 			.andExpect(jsonPath("$.message").value("포스트를 불러오지 못했습니다."));
+		verify(postViewCounter, never()).recordView(any(), any());
+	}
+
+	@Test
+	@DisplayName("포스트 카드 일괄 조회 - 성공")
+	void getPostCards() throws Exception {
+		// given
+		given(postService.getPostCardsByIds(List.of(3L, 1L))).willReturn(List.of(postDtos.get(0), postDtos.get(1)));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/posts").param("ids", "3,1"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.code").value("200"))
+			.andExpect(jsonPath("$.data.length()").value(2))
+			.andExpect(jsonPath("$.data[0].postId").value(3L))
+			.andExpect(jsonPath("$.data[1].postId").value(1L));
+	}
+
+	@Test
+	@DisplayName("트렌딩 포스트 조회 - 성공")
+	void getTrendingPosts() throws Exception {
+		// given
+		given(postService.getTrendingPosts(2)).willReturn(List.of(postDtos.get(2), postDtos.get(0)));
+
+		// when & then
+		mockMvc.perform(get("/api/v1/posts/trending").param("size", "2"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.code").value("200"))
+			.andExpect(jsonPath("$.data.length()").value(2))
+			.andExpect(jsonPath("$.data[0].postId").value(2L))
+			.andExpect(jsonPath("$.data[1].postId").value(3L));
 	}
 
 	@Test
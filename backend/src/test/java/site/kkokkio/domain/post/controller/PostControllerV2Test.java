@@ -37,15 +37,18 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import site.kkokkio.domain.keyword.service.KeywordService;
 import site.kkokkio.domain.member.entity.Member;
 import site.kkokkio.domain.post.controller.dto.PostReportRequest;
 import site.kkokkio.domain.post.controller.dto.ReportedPostHideRequest;
+import site.kkokkio.domain.post.dto.PostDto;
 import site.kkokkio.domain.post.dto.ReportedPostSummary;
 import site.kkokkio.domain.post.service.PostService;
 import site.kkokkio.global.auth.AuthChecker;
 import site.kkokkio.global.auth.CustomUserDetails;
 import site.kkokkio.global.auth.CustomUserDetailsService;
 import site.kkokkio.global.config.SecurityConfig;
+import site.kkokkio.global.dto.CursorSlice;
 import site.kkokkio.global.enums.MemberRole;
 import site.kkokkio.global.enums.ReportReason;
 import site.kkokkio.global.exception.ServiceException;
@@ -69,6 +72,9 @@ public class PostControllerV2Test {
 	@MockitoBean
 	private PostService postService;
 
+	@MockitoBean
+	private KeywordService keywordService;
+
 	@MockitoBean
 	private CustomUserDetailsService customUserDetailsService;
 
@@ -78,6 +84,26 @@ public class PostControllerV2Test {
 	@MockitoBean
 	private JwtUtils jwtUtils;
 
+	@Test
+	@DisplayName("키워드 포스트 커서 조회 - 성공")
+	void getPostListByKeywordCursor_Success() throws Exception {
+		PostDto post = PostDto.builder()
+			.postId(1L)
+			.keyword("키워드")
+			.title("제목")
+			.summary("요약")
+			.thumbnailUrl("")
+			.build();
+		when(keywordService.getPostSliceByKeyword("키워드", null, 10))
+			.thenReturn(new CursorSlice<>(List.of(post), false, null));
+
+		mockMvc.perform(get("/api/v2/posts/search").param("keyword", "키워드"))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.data.list[0].postId").value(1))
+			.andExpect(jsonPath("$.data.meta.size").value(1))
+			.andExpect(jsonPath("$.data.meta.hasNext").value(false));
+	}
+
 	@Test
 	@DisplayName("포스트 신고 - 성공")
 	void reportPost_Success() throws Exception {
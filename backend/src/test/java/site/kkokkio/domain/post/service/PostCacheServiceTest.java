@@ -0,0 +1,148 @@
+package site.kkokkio.domain.post.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import site.kkokkio.domain.post.dto.PostDto;
+
+@ExtendWith(MockitoExtension.class)
+class PostCacheServiceTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+	@Mock
+	private ListOperations<String, String> listOps;
+	@Mock
+	private ValueOperations<String, String> valueOps;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private PostCacheService postCacheService;
+
+	@BeforeEach
+	void setUp() {
+		postCacheService = new PostCacheService(redisTemplate, objectMapper);
+		ReflectionTestUtils.setField(postCacheService, "cardTtl", Duration.ofHours(24));
+		ReflectionTestUtils.setField(postCacheService, "topLocalTtl", Duration.ofSeconds(30));
+	}
+
+	@Test
+	@DisplayName("Top 포스트 조회 - Redis 목록 순서대로 카드 반환")
+	void getTopPosts_redisHit() throws Exception {
+		// given
+		PostDto first = card(2L);
+		PostDto second = card(1L);
+		given(redisTemplate.opsForList()).willReturn(listOps);
+		given(redisTemplate.opsForValue()).willReturn(valueOps);
+		given(listOps.range(PostCacheService.TOP_POST_KEY, 0, -1)).willReturn(List.of("2", "1"));
+		given(valueOps.multiGet(List.of("POST_CARD:2", "POST_CARD:1"))).willReturn(List.of(
+			objectMapper.writeValueAsString(first), objectMapper.writeValueAsString(second)));
+
+		// when
+		Optional<List<PostDto>> result = postCacheService.getTopPosts();
+
+		// then
+		assertThat(result).isPresent();
+		assertThat(result.get()).extracting(PostDto::postId).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("Top 포스트 조회 - 로컬 캐시 히트 시 Redis 미조회")
+	void getTopPosts_localHit() throws Exception {
+		// given
+		PostDto first = card(1L);
+		given(redisTemplate.opsForList()).willReturn(listOps);
+		given(redisTemplate.opsForValue()).willReturn(valueOps);
+		given(listOps.range(PostCacheService.TOP_POST_KEY, 0, -1)).willReturn(List.of("1"));
+		given(valueOps.multiGet(List.of("POST_CARD:1")))
+			.willReturn(List.of(objectMapper.writeValueAsString(first)));
+		postCacheService.getTopPosts();
+
+		// when
+		Optional<List<PostDto>> result = postCacheService.getTopPosts();
+
+		// then
+		assertThat(result).isPresent();
+		verify(listOps, times(1)).range(PostCacheService.TOP_POST_KEY, 0, -1);
+	}
+
+	@Test
+	@DisplayName("Top 포스트 조회 - 만료된 카드가 있으면 미스 처리")
+	void getTopPosts_partialMiss() throws Exception {
+		// given
+		given(redisTemplate.opsForList()).willReturn(listOps);
+		given(redisTemplate.opsForValue()).willReturn(valueOps);
+		given(listOps.range(PostCacheService.TOP_POST_KEY, 0, -1)).willReturn(List.of("1", "2"));
+		given(valueOps.multiGet(List.of("POST_CARD:1", "POST_CARD:2")))
+			.willReturn(Arrays.asList(objectMapper.writeValueAsString(card(1L)), null));
+
+		// when
+		Optional<List<PostDto>> result = postCacheService.getTopPosts();
+
+		// then
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	@DisplayName("Top 포스트 교체 - Redis 장애 시에도 로컬 캐시는 교체")
+	void replaceTopPosts_redisDown() {
+		// given
+		given(redisTemplate.executePipelined(any(RedisCallback.class)))
+			.willThrow(new RedisConnectionFailureException("down"));
+
+		// when
+		postCacheService.replaceTopPosts(List.of(card(1L)));
+		Optional<List<PostDto>> result = postCacheService.getTopPosts();
+
+		// then
+		assertThat(result).isPresent();
+		assertThat(result.get()).extracting(PostDto::postId).containsExactly(1L);
+		verify(redisTemplate, never()).opsForList();
+	}
+
+	@Test
+	@DisplayName("Top 포스트 교체 - 빈 목록이면 POST_TOP 과 로컬 캐시를 비움")
+	void replaceTopPosts_empty() {
+		// given - 이전 배치에서 올린 Top 목록
+		postCacheService.replaceTopPosts(List.of(card(1L)));
+		given(redisTemplate.opsForList()).willReturn(listOps);
+		given(listOps.range(PostCacheService.TOP_POST_KEY, 0, -1)).willReturn(List.of());
+
+		// when
+		postCacheService.replaceTopPosts(List.of());
+		Optional<List<PostDto>> result = postCacheService.getTopPosts();
+
+		// then
+		assertThat(result).isEmpty();
+		verify(redisTemplate).delete(PostCacheService.TOP_POST_KEY);
+		verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+	}
+
+	private PostDto card(Long postId) {
+		return PostDto.builder()
+			.postId(postId)
+			.keyword("키워드" + postId)
+			.title("제목" + postId)
+			.summary("요약" + postId)
+			.build();
+	}
+}
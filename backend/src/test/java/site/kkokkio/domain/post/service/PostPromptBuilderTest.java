@@ -0,0 +1,135 @@
+package site.kkokkio.domain.post.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import site.kkokkio.domain.source.entity.Source;
+import site.kkokkio.global.enums.Platform;
+import site.kkokkio.infra.ai.AiType;
+import site.kkokkio.infra.ai.prompt.AiTokenEstimator;
+
+class PostPromptBuilderTest {
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+	private SimpleMeterRegistry meterRegistry;
+	private PostPromptBuilder builder;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		builder = new PostPromptBuilder(meterRegistry);
+		ReflectionTestUtils.setField(builder, "maxInputTokens", 1500);
+		ReflectionTestUtils.setField(builder, "simHashDistance", 3);
+	}
+
+	@Test
+	@DisplayName("AI 요약 입력 - 제목/설명이 사실상 같은 전재 기사는 최신 소스 하나만 남김")
+	void nearDuplicatesAreDropped() {
+		// given
+		String title = "정부, 내년도 예산안 발표… 복지 예산 역대 최대";
+		String description = "정부가 내년도 예산안을 발표했다. 복지 분야 예산은 역대 최대 규모로 편성됐다.";
+		Source older = source("https://a.example.com/1", title, description, NOW.minusHours(3), Platform.NAVER_NEWS);
+		Source newer = source("https://b.example.com/1", title.replace("…", " -"), description + " ",
+			NOW.minusHours(1), Platform.NAVER_NEWS);
+		Source other = source("https://c.example.com/1", "프로야구 개막전 매진 행렬",
+			"올 시즌 프로야구 개막전 다섯 경기가 모두 매진됐다.", NOW.minusHours(2), Platform.NAVER_NEWS);
+
+		// when
+		String content = builder.build(1L, List.of(older, newer, other));
+
+		// then
+		assertThat(content).contains(newer.getNormalizedUrl(), other.getNormalizedUrl())
+			.doesNotContain(older.getNormalizedUrl());
+		assertThat(droppedCount("duplicate")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("AI 요약 입력 - 최신순으로 정렬하고 플랫폼을 번갈아 배치")
+	void orderedByRecencyAndPlatformDiversity() {
+		// given
+		Source news1 = source("https://news.example.com/1", "뉴스 첫번째 기사", "첫번째 설명", NOW.minusHours(1),
+			Platform.NAVER_NEWS);
+		Source news2 = source("https://news.example.com/2", "완전히 다른 주제", "두번째 설명 내용", NOW.minusHours(2),
+			Platform.NAVER_NEWS);
+		Source video = source("https://youtube.example.com/1", "영상 소개", "영상 설명 문장", NOW.minusHours(3),
+			Platform.YOUTUBE);
+
+		// when
+		String content = builder.build(1L, List.of(news2, video, news1));
+
+		// then
+		assertThat(content.indexOf(news1.getNormalizedUrl())).isLessThan(content.indexOf(video.getNormalizedUrl()));
+		assertThat(content.indexOf(video.getNormalizedUrl())).isLessThan(content.indexOf(news2.getNormalizedUrl()));
+	}
+
+	@Test
+	@DisplayName("AI 요약 입력 - 토큰 예산을 넘는 소스는 빼되 첫 번째 소스는 항상 포함")
+	void truncatedToTokenBudget() {
+		// given
+		ReflectionTestUtils.setField(builder, "maxInputTokens", 10);
+		Source first = source("https://a.example.com/1", "가장 최신 기사 제목", "설명", NOW.minusHours(1), Platform.NAVER_NEWS);
+		Source second = source("https://b.example.com/1", "두 번째로 최신인 다른 기사", "다른 설명", NOW.minusHours(2),
+			Platform.NAVER_NEWS);
+
+		// when
+		String content = builder.build(1L, List.of(second, first));
+
+		// then
+		assertThat(content).contains(first.getNormalizedUrl()).doesNotContain(second.getNormalizedUrl());
+		assertThat(droppedCount("budget")).isEqualTo(1);
+		assertThat(meterRegistry.get(PostPromptBuilder.TOKENS_METRIC).tag("stage", "compacted").summary().totalAmount())
+			.isLessThan(meterRegistry.get(PostPromptBuilder.TOKENS_METRIC).tag("stage", "raw").summary().totalAmount());
+	}
+
+	@Test
+	@DisplayName("SimHash - 공백/기호만 다르면 같고, 다른 문장은 멀다")
+	void simHashDistance() {
+		// when
+		long base = PostPromptBuilder.simHash("서울 아파트값 3주 연속 상승, 강남권 오름폭 확대");
+		long punctuated = PostPromptBuilder.simHash("서울 아파트값 3주 연속 상승 - 강남권 오름폭 확대!");
+		long different = PostPromptBuilder.simHash("태풍 북상에 제주 항공편 무더기 결항, 여객선도 통제");
+
+		// then
+		assertThat(Long.bitCount(base ^ punctuated)).isZero();
+		assertThat(Long.bitCount(base ^ different)).isGreaterThan(3);
+	}
+
+	@Test
+	@DisplayName("토큰 추정 - 한글은 제공자별 비율이 다르고 가장 큰 추정값을 예산 판단에 사용")
+	void tokenEstimatePerProvider() {
+		// given
+		String text = "한국어 요약 입력 text";
+
+		// when
+		int gpt = AiTokenEstimator.estimate(AiType.GPT, text);
+		int claude = AiTokenEstimator.estimate(AiType.CLAUDE, text);
+
+		// then
+		assertThat(gpt).isPositive().isLessThan(claude);
+		assertThat(AiTokenEstimator.estimateMax(text)).isEqualTo(claude);
+	}
+
+	private double droppedCount(String reason) {
+		return meterRegistry.get(PostPromptBuilder.DROPPED_METRIC).tag("reason", reason).counter().count();
+	}
+
+	private static Source source(String url, String title, String description, LocalDateTime publishedAt,
+		Platform platform) {
+		return Source.builder()
+			.fingerprint(url)
+			.normalizedUrl(url)
+			.title(title)
+			.description(description)
+			.publishedAt(publishedAt)
+			.platform(platform)
+			.build();
+	}
+}
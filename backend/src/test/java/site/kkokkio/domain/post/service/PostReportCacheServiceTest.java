@@ -0,0 +1,90 @@
+package site.kkokkio.domain.post.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import site.kkokkio.domain.post.repository.PostReportRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PostReportCacheServiceTest {
+
+	private static final String EMAIL = "test@email.com";
+	private static final String KEY = PostReportCacheService.REPORTED_POST_KEY_PREFIX + EMAIL;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+	@Mock
+	private SetOperations<String, String> setOps;
+	@Mock
+	private PostReportRepository postReportRepository;
+
+	private PostReportCacheService postReportCacheService;
+
+	@BeforeEach
+	void setUp() {
+		postReportCacheService = new PostReportCacheService(redisTemplate, postReportRepository);
+		ReflectionTestUtils.setField(postReportCacheService, "reportedTtl", Duration.ofHours(24));
+		ReflectionTestUtils.setField(postReportCacheService, "reportedLocalTtl", Duration.ofSeconds(10));
+		postReportCacheService.init();
+		given(redisTemplate.opsForSet()).willReturn(setOps);
+	}
+
+	@Test
+	@DisplayName("신고 여부 조회 - Redis 적재 완료 Set 사용, DB 미조회")
+	void isReportedBy_redisHit() {
+		// given
+		given(setOps.members(KEY)).willReturn(Set.of("0", "3", "7"));
+
+		// when & then
+		assertThat(postReportCacheService.isReportedBy(EMAIL, 7L)).isTrue();
+		assertThat(postReportCacheService.isReportedBy(EMAIL, 8L)).isFalse();
+		verify(setOps, times(1)).members(KEY); // 두 번째 조회는 로컬 미러
+		verify(postReportRepository, never()).findPostIdsByReporterEmail(any());
+	}
+
+	@Test
+	@DisplayName("신고 여부 조회 - 적재 표시가 없으면 DB 조회 후 Redis 적재")
+	void isReportedBy_loadFromDatabase() {
+		// given
+		given(setOps.members(KEY)).willReturn(Set.of("3"));
+		given(postReportRepository.findPostIdsByReporterEmail(EMAIL)).willReturn(List.of(3L, 5L));
+
+		// when
+		boolean reported = postReportCacheService.isReportedBy(EMAIL, 5L);
+
+		// then
+		assertThat(reported).isTrue();
+		verify(redisTemplate).executePipelined(any(RedisCallback.class));
+	}
+
+	@Test
+	@DisplayName("신고 추가 - 로컬 미러와 Redis Set 즉시 갱신")
+	void addReportedPost() {
+		// given
+		given(setOps.members(KEY)).willReturn(Set.of("0"));
+		assertThat(postReportCacheService.isReportedBy(EMAIL, 9L)).isFalse();
+
+		// when
+		postReportCacheService.addReportedPost(EMAIL, 9L);
+
+		// then
+		assertThat(postReportCacheService.isReportedBy(EMAIL, 9L)).isTrue();
+		verify(setOps).add(KEY, "9");
+		verify(redisTemplate).expire(KEY, Duration.ofHours(24));
+	}
+}
@@ -5,19 +5,25 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -32,6 +38,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import site.kkokkio.domain.keyword.dto.KeywordMetricHourlyDto;
 import site.kkokkio.domain.keyword.entity.Keyword;
 import site.kkokkio.domain.keyword.entity.KeywordMetricHourly;
@@ -42,7 +49,9 @@ import site.kkokkio.domain.keyword.service.KeywordMetricHourlyService;
 import site.kkokkio.domain.member.entity.Member;
 import site.kkokkio.domain.member.service.MemberService;
 import site.kkokkio.domain.post.controller.dto.PostReportRequest;
+import site.kkokkio.domain.post.dto.PostDraft;
 import site.kkokkio.domain.post.dto.PostDto;
+import site.kkokkio.domain.post.dto.PostGenerationTarget;
 import site.kkokkio.domain.post.dto.ReportedPostSummary;
 import site.kkokkio.domain.post.entity.Post;
 import site.kkokkio.domain.post.entity.PostKeyword;
@@ -60,6 +69,7 @@ import site.kkokkio.global.enums.ReportProcessingStatus;
 import site.kkokkio.global.enums.ReportReason;
 import site.kkokkio.global.exception.ServiceException;
 import site.kkokkio.infra.ai.adapter.AiSummaryPortRouter;
+import site.kkokkio.infra.common.exception.RetryableExternalApiException;
 
 @ExtendWith(MockitoExtension.class)
 public class PostServiceTest {
@@ -94,6 +104,24 @@ public class PostServiceTest {
 	private ValueOperations<String, String> valueOps;
 	@Mock
 	private AiSummaryPortRouter aiSummaryAdapterRouter;
+	@Mock
+	private PostCacheService postCacheService;
+	@Mock
+	private PostReportCacheService postReportCacheService;
+	@Mock
+	private PostTrendingService postTrendingService;
+	@Mock
+	private PostSummaryCache postSummaryCache;
+	@Spy
+	private PostPromptBuilder postPromptBuilder = new PostPromptBuilder(new SimpleMeterRegistry());
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(postService, "summaryConcurrency", 4);
+		ReflectionTestUtils.setField(postService, "summaryTimeout", Duration.ofSeconds(5));
+		ReflectionTestUtils.setField(postPromptBuilder, "maxInputTokens", 1500);
+		ReflectionTestUtils.setField(postPromptBuilder, "simHashDistance", 3);
+	}
 
 	@Test
 	@DisplayName("postId로 포스트 단건 조회 성공")
@@ -130,6 +158,107 @@ public class PostServiceTest {
 		assertThat(result.title()).isEqualTo("제목");
 		assertThat(result.summary()).isEqualTo("요약");
 		assertThat(result.thumbnailUrl()).isEqualTo("https://image.url");
+		verify(postCacheService).putCard(any(PostDto.class));
+	}
+
+	@Test
+	@DisplayName("postId로 포스트 단건 조회 - 카드 캐시 히트 시 DB 미조회")
+	void test1_cacheHit() {
+		// given
+		PostDto card = PostDto.builder().postId(1L).keyword("키워드").title("제목").summary("요약").build();
+		given(postCacheService.getCard(1L)).willReturn(Optional.of(card));
+
+		// when
+		PostDto result = postService.getPostWithKeywordById(1L, null);
+
+		// then
+		assertThat(result.title()).isEqualTo("제목");
+		assertThat(result.reportedByMe()).isNull();
+		verify(postRepository, never()).findByIdAndDeletedAtIsNull(any());
+		verify(postKeywordRepository, never()).findByPost_Id(any());
+	}
+
+	@Test
+	@DisplayName("postId로 포스트 단건 조회 - 로그인 사용자는 신고 인덱스로 reportedByMe 설정")
+	void test1_reportedByMe() {
+		// given
+		PostDto card = PostDto.builder().postId(1L).keyword("키워드").title("제목").summary("요약").build();
+		UserDetails userDetails = mock(UserDetails.class);
+		given(userDetails.getUsername()).willReturn("test@email.com");
+		given(postCacheService.getCard(1L)).willReturn(Optional.of(card));
+		given(postReportCacheService.isReportedBy("test@email.com", 1L)).willReturn(true);
+
+		// when
+		PostDto result = postService.getPostWithKeywordById(1L, userDetails);
+
+		// then
+		assertThat(result.reportedByMe()).isTrue();
+		verify(memberService, never()).findByEmail(any());
+		verify(postReportRepository, never()).existsByPostAndReporter(any(), any());
+	}
+
+	@Test
+	@DisplayName("포스트 카드 일괄 조회 - 캐시 미스만 DB 조회, 요청 순서 유지")
+	void getPostCardsByIds_partialMiss() {
+		// given
+		PostDto cached = PostDto.builder().postId(2L).keyword("키워드2").title("제목2").summary("요약2").build();
+		given(postCacheService.getCards(List.of(2L, 1L))).willReturn(Map.of(2L, cached));
+
+		Post post = Post.builder().id(1L).title("제목1").summary("요약1").build();
+		Keyword keyword = Keyword.builder().id(100L).text("키워드1").build();
+		given(postKeywordRepository.findAllByPostIdIn(List.of(1L)))
+			.willReturn(List.of(PostKeyword.builder().post(post).keyword(keyword).build()));
+
+		// when
+		List<PostDto> result = postService.getPostCardsByIds(List.of(2L, 1L, 2L));
+
+		// then
+		assertThat(result).extracting(PostDto::postId).containsExactly(2L, 1L);
+		verify(postCacheService).putCards(argThat(cards -> cards.size() == 1 && cards.get(0).postId() == 1L));
+	}
+
+	@Test
+	@DisplayName("포스트 카드 일괄 조회 - 실패 (최대 개수 초과)")
+	void getPostCardsByIds_tooMany() {
+		// given
+		List<Long> ids = LongStream.rangeClosed(1, 51).boxed().toList();
+
+		// when & then
+		assertThatThrownBy(() -> postService.getPostCardsByIds(ids))
+			.isInstanceOf(ServiceException.class)
+			.hasMessageContaining("한 번에 조회할 수 있는 포스트 수를 초과했습니다.");
+		verify(postCacheService, never()).getCards(any());
+	}
+
+	@Test
+	@DisplayName("트렌딩 포스트 조회 - 점수 순서대로 카드 반환")
+	void getTrendingPosts() {
+		// given
+		given(postTrendingService.getTrendingPostIds(2)).willReturn(List.of(2L, 1L));
+		PostDto card1 = PostDto.builder().postId(1L).keyword("키워드1").title("제목1").summary("요약1").build();
+		PostDto card2 = PostDto.builder().postId(2L).keyword("키워드2").title("제목2").summary("요약2").build();
+		given(postCacheService.getCards(List.of(2L, 1L))).willReturn(Map.of(1L, card1, 2L, card2));
+
+		// when
+		List<PostDto> result = postService.getTrendingPosts(2);
+
+		// then
+		assertThat(result).extracting(PostDto::postId).containsExactly(2L, 1L);
+		verify(postKeywordRepository, never()).findAllByPostIdIn(any());
+	}
+
+	@Test
+	@DisplayName("트렌딩 포스트 조회 - 트렌딩이 비어 있으면 빈 목록")
+	void getTrendingPosts_empty() {
+		// given
+		given(postTrendingService.getTrendingPostIds(10)).willReturn(List.of());
+
+		// when
+		List<PostDto> result = postService.getTrendingPosts(10);
+
+		// then
+		assertThat(result).isEmpty();
+		verify(postCacheService, never()).getCards(any());
 	}
 
 	@Test
@@ -169,6 +298,59 @@ public class PostServiceTest {
 		// then
 		assertThat(result).hasSize(1);
 		assertThat(result.get(0).keyword()).isEqualTo("테스트 키워드");
+		verify(postCacheService).replaceTopPosts(result);
+	}
+
+	@Test
+	@DisplayName("Top 포스트 캐시 갱신 - 캐시만 교체하고 트렌딩 점수는 적립하지 않음")
+	void refreshTopPostCache_cacheOnly() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		Keyword keyword = Keyword.builder().id(100L).text("테스트 키워드").build();
+		Post post = Post.builder().id(1L).title("포스트 제목").summary("요약").bucketAt(now).build();
+		KeywordMetricHourly metric = KeywordMetricHourly.builder()
+			.id(new KeywordMetricHourlyId(now, Platform.GOOGLE_TREND, 100L))
+			.keyword(keyword)
+			.volume(100)
+			.score(300)
+			.post(post)
+			.build();
+		given(keywordMetricHourlyRepository.findTop10HourlyMetricsClosestToNowNative(any())).willReturn(
+			List.of(metric));
+
+		// when
+		int cached = postService.refreshTopPostCache();
+
+		// then
+		assertThat(cached).isEqualTo(1);
+		verify(postCacheService).replaceTopPosts(argThat(posts -> posts.size() == 1));
+		verify(postTrendingService, never()).recordAll(any(), any());
+	}
+
+	@Test
+	@DisplayName("Top 키워드 점수 적립 - 키워드 점수를 트렌딩 점수에 적립")
+	void creditTopKeywordScores_recordsKeywordScore() {
+		// given
+		LocalDateTime now = LocalDateTime.now();
+		Keyword keyword = Keyword.builder().id(100L).text("테스트 키워드").build();
+		Post post = Post.builder().id(1L).title("포스트 제목").summary("요약").bucketAt(now).build();
+		KeywordMetricHourly metric = KeywordMetricHourly.builder()
+			.id(new KeywordMetricHourlyId(now, Platform.GOOGLE_TREND, 100L))
+			.keyword(keyword)
+			.volume(100)
+			.score(300)
+			.post(post)
+			.build();
+		given(keywordMetricHourlyRepository.findTop10HourlyMetricsClosestToNowNative(any())).willReturn(
+			List.of(metric));
+
+		// when
+		int credited = postService.creditTopKeywordScores();
+
+		// then
+		assertThat(credited).isEqualTo(1);
+		verify(postTrendingService).recordAll(PostTrendingService.TrendingEvent.KEYWORD, Map.of(1L, 300));
+		verify(postCacheService, never()).replaceTopPosts(any());
 	}
 
 	@Test
@@ -185,9 +367,25 @@ public class PostServiceTest {
 		assertThat(result).hasSize(0);
 	}
 
+	@Test
+	@DisplayName("top10 키워드 포스트 조회 - 캐시 히트 시 DB 미조회")
+	void test5() {
+		// given
+		PostDto cachedPost = PostDto.builder().postId(1L).keyword("캐시 키워드").title("제목").summary("요약").build();
+		given(postCacheService.getTopPosts()).willReturn(Optional.of(List.of(cachedPost)));
+
+		// when
+		List<PostDto> result = postService.getTopPostsWithKeyword();
+
+		// then
+		assertThat(result).containsExactly(cachedPost);
+		verify(keywordMetricHourlyRepository, never()).findTop10HourlyMetricsClosestToNowNative(any());
+		verify(postCacheService, never()).replaceTopPosts(any());
+	}
+
 	@Test
 	@DisplayName("포스트 생성 - 성공")
-	void generatePosts_success() throws Exception {
+	void draftPost_savePostDrafts_success() throws Exception {
 		// given
 		Long keywordId = 100L;
 		LocalDateTime bucketAt = LocalDateTime.now();
@@ -195,7 +393,7 @@ public class PostServiceTest {
 
 		KeywordMetricHourlyDto metric = new KeywordMetricHourlyDto(keywordId, keywordText, Platform.GOOGLE_TREND,
 			bucketAt, 0, 0, false, null);
-		given(keywordMetricHourlyService.findHourlyMetrics()).willReturn(List.of(metric));
+		given(keywordMetricHourlyService.findHourlyMetrics(List.of(keywordId))).willReturn(List.of(metric));
 
 		Keyword keyword = Keyword.builder().id(keywordId).text(keywordText).build();
 		Source source1 = createSource("url1");
@@ -235,9 +433,12 @@ public class PostServiceTest {
 		given(keywordRepository.findById(keywordId)).willReturn(Optional.of(keyword));
 
 		// when
-		postService.generatePosts(List.of(keywordId));
+		List<PostGenerationTarget> targets = postService.findGenerationTargets(List.of(keywordId));
+		PostDraft draft = postService.draftPost(targets.getFirst());
+		List<Long> newPostIds = postService.savePostDrafts(List.of(draft));
 
 		// then
+		assertThat(newPostIds).containsExactly(100L);
 		then(postRepository).should().save(argThat(p ->
 			p.getTitle().equals("테스트제목") && p.getSummary().endsWith("Generated By AI")
 				&& p.getSummary().contains("이것은 테스트 요약입니다.")
@@ -246,11 +447,13 @@ public class PostServiceTest {
 		then(postSourceRepository).should().insertIgnoreAll(any());
 		then(postKeywordRepository).should().insertIgnoreAll(any());
 		then(postMetricHourlyRepository).should().save(any());
+		// AI 가 만든 요약은 캐시에 저장
+		then(postSummaryCache).should().put(any(), eq("테스트제목"), endsWith("Generated By AI"));
 	}
 
 	@Test
 	@DisplayName("포스트 생성 - lowVariation=true인 경우 기존 포스트 연결")
-	void generatePosts_LowVariation() {
+	void draftPost_savePostDrafts_LowVariation() {
 		// given
 		Long keywordId = 1L;
 		LocalDateTime bucketAt = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
@@ -259,7 +462,7 @@ public class PostServiceTest {
 		Keyword keyword = Keyword.builder().id(keywordId).text("chatgpt").build();
 		Source source = createSource("http://example.com");
 
-		given(keywordMetricHourlyService.findHourlyMetrics()).willReturn(List.of(metric));
+		given(keywordMetricHourlyService.findHourlyMetrics(List.of(keywordId))).willReturn(List.of(metric));
 		given(keywordSourceRepository.findTopSourcesByKeywordIdsLimited(List.of(keywordId), 10))
 			.willReturn(List.of(KeywordSource.builder().keyword(keyword).source(source).build()));
 
@@ -275,9 +478,14 @@ public class PostServiceTest {
 		));
 
 		// when
-		postService.generatePosts(List.of(keywordId));
+		List<PostGenerationTarget> targets = postService.findGenerationTargets(List.of(keywordId));
+		PostDraft draft = postService.draftPost(targets.getFirst());
+		List<Long> newPostIds = postService.savePostDrafts(List.of(draft));
 
 		// then
+		assertThat(draft.linkOnly()).isTrue();
+		assertThat(newPostIds).isEmpty();
+		then(aiSummaryAdapterRouter).shouldHaveNoInteractions();
 		then(postRepository).should(never()).save(any()); // 신규 포스트 저장 안됨
 		then(postSourceRepository).should().insertIgnoreAll(argThat(mappings ->
 			mappings.size() == 1 && mappings.getFirst().getPost().getId().equals(999L)
@@ -287,20 +495,21 @@ public class PostServiceTest {
 
 	@Test
 	@DisplayName("포스트 생성 - 소스가 없을 시 스킵")
-	void generatePosts_skipped() {
+	void findGenerationTargets_skipped() {
 		// given
 		Long keywordId = 1L;
 		LocalDateTime now = LocalDateTime.of(2025, 5, 1, 0, 0);
 		KeywordMetricHourlyDto metric = new KeywordMetricHourlyDto(keywordId, "없음", Platform.GOOGLE_TREND, now, 0, 0,
 			false, null);
 
-		given(keywordMetricHourlyService.findHourlyMetrics()).willReturn(List.of(metric));
+		given(keywordMetricHourlyService.findHourlyMetrics(List.of(keywordId))).willReturn(List.of(metric));
 		given(keywordSourceRepository.findTopSourcesByKeywordIdsLimited(List.of(keywordId), 10)).willReturn(List.of());
 
 		// when
-		postService.generatePosts(List.of(keywordId));
+		List<PostGenerationTarget> targets = postService.findGenerationTargets(List.of(keywordId));
 
 		// then
+		assertThat(targets).isEmpty();
 		then(postRepository).shouldHaveNoInteractions();
 		then(postSourceRepository).shouldHaveNoInteractions();
 		then(postKeywordRepository).shouldHaveNoInteractions();
@@ -308,6 +517,192 @@ public class PostServiceTest {
 		then(keywordMetricHourlyRepository).should(never()).findById(any());
 	}
 
+	@Test
+	@DisplayName("일괄 요약 - 묶음별 AI 요청을 ai.summary.concurrency 건까지 동시에 보내 가장 느린 묶음 수준의 시간에 완료")
+	void prefetchSummaries_requestsBatchesConcurrently() {
+		// given - 2건씩 4묶음
+		ReflectionTestUtils.setField(postService, "summaryBatchSize", 2);
+		ReflectionTestUtils.setField(postService, "summaryBatchTimeout", Duration.ofSeconds(5));
+		ReflectionTestUtils.setField(postService, "objectMapper", new ObjectMapper());
+		long aiLatencyMs = 300;
+		List<PostGenerationTarget> targets = LongStream.rangeClosed(1, 8)
+			.mapToObj(id -> generationTarget(id, false))
+			.toList();
+		given(aiSummaryAdapterRouter.summarizeBatch(eq(null), anyString(), eq(2))).willAnswer(invocation ->
+			CompletableFuture.supplyAsync(() -> "[]",
+				CompletableFuture.delayedExecutor(aiLatencyMs, TimeUnit.MILLISECONDS)));
+
+		// when
+		long startedAt = System.nanoTime();
+		postService.prefetchSummaries(targets);
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+		// then - 순차 요청이라면 묶음 수 배의 지연
+		then(aiSummaryAdapterRouter).should(times(4)).summarizeBatch(eq(null), anyString(), eq(2));
+		assertThat(elapsedMs).isLessThan(aiLatencyMs * 4 / 2);
+	}
+
+	@Test
+	@DisplayName("포스트 초안 - AI 요약이 제한 시간을 넘기면 재시도 가능한 외부 API 오류로 전달")
+	void draftPost_summaryTimeout() {
+		// given
+		ReflectionTestUtils.setField(postService, "summaryTimeout", Duration.ofMillis(200));
+		PostGenerationTarget target = generationTarget(1L, false);
+
+		// 응답하지 않는 AI
+		given(aiSummaryAdapterRouter.summarize(eq(null), anyString())).willReturn(new CompletableFuture<>());
+
+		// when & then - 청크 스텝이 재시도 후 스킵, 소스로 대체한 포스트는 만들지 않음
+		assertThatThrownBy(() -> postService.draftPost(target))
+			.isInstanceOf(RetryableExternalApiException.class);
+		then(postSummaryCache).should(never()).put(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("포스트 생성 대상 - 증분 갱신 키워드가 Top10 밖(11위)이어도 요청한 키워드의 대상을 만듦")
+	void findGenerationTargets_outsideTop10() {
+		// given - 11위 신규 키워드 (Top10 조회에는 포함되지 않음)
+		Long keywordId = 11L;
+		KeywordMetricHourlyDto metric = new KeywordMetricHourlyDto(keywordId, "11위 키워드", Platform.GOOGLE_TREND,
+			LocalDateTime.now(), 100, 1100, false, null);
+		given(keywordMetricHourlyService.findHourlyMetrics(List.of(keywordId))).willReturn(List.of(metric));
+		Keyword keyword = Keyword.builder().id(keywordId).text("11위 키워드").build();
+		given(keywordSourceRepository.findTopSourcesByKeywordIdsLimited(List.of(keywordId), 10))
+			.willReturn(List.of(KeywordSource.builder().keyword(keyword).source(createSource("url11")).build()));
+
+		// when
+		List<PostGenerationTarget> targets = postService.findGenerationTargets(List.of(keywordId));
+
+		// then
+		assertThat(targets).extracting(PostGenerationTarget::keywordId).containsExactly(keywordId);
+		then(keywordMetricHourlyService).should(never()).findHourlyMetrics();
+	}
+
+	@Test
+	@DisplayName("포스트 초안 - 재시도 가능한 외부 API 오류는 그대로 전달")
+	void draftPost_retryableErrorPropagates() {
+		// given
+		PostGenerationTarget target = new PostGenerationTarget(new KeywordMetricHourlyDto(1L, "키워드",
+			Platform.GOOGLE_TREND, LocalDateTime.now(), 0, 0, false, null), List.of(createSource("url1")), "내용");
+		given(aiSummaryAdapterRouter.summarize(eq(null), anyString()))
+			.willReturn(CompletableFuture.failedFuture(new RetryableExternalApiException(503, "unavailable")));
+
+		// when & then - 청크 스텝의 재시도/스킵 정책이 처리
+		assertThatThrownBy(() -> postService.draftPost(target))
+			.isInstanceOf(RetryableExternalApiException.class);
+	}
+
+	@Test
+	@DisplayName("포스트 초안 - 같은 소스 조합의 요약이 캐시에 있으면 AI 를 호출하지 않음")
+	void draftPost_summaryCacheHit() {
+		// given
+		PostGenerationTarget target = new PostGenerationTarget(new KeywordMetricHourlyDto(1L, "키워드",
+			Platform.GOOGLE_TREND, LocalDateTime.now(), 0, 0, false, null), List.of(createSource("url1")), "내용");
+		given(postSummaryCache.get(target))
+			.willReturn(Optional.of(new PostSummaryCache.CachedSummary("캐시제목", "캐시요약", System.currentTimeMillis())));
+
+		// when
+		PostDraft draft = postService.draftPost(target);
+
+		// then
+		assertThat(draft.title()).isEqualTo("캐시제목");
+		assertThat(draft.summary()).isEqualTo("캐시요약");
+		then(aiSummaryAdapterRouter).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("포스트 초안 - 그 외 요약 실패는 첫 번째 소스로 대체")
+	void draftPost_fallback() {
+		// given
+		Source source = createSource("url1");
+		PostGenerationTarget target = new PostGenerationTarget(new KeywordMetricHourlyDto(1L, "키워드",
+			Platform.GOOGLE_TREND, LocalDateTime.now(), 0, 0, false, null), List.of(source), "내용");
+		given(aiSummaryAdapterRouter.summarize(eq(null), anyString()))
+			.willReturn(CompletableFuture.failedFuture(new IllegalStateException("응답 없음")));
+
+		// when
+		PostDraft draft = postService.draftPost(target);
+
+		// then
+		assertThat(draft.title()).isEqualTo(source.getTitle());
+		assertThat(draft.summary()).isEqualTo(source.getDescription());
+		// 소스로 대체한 요약은 캐시하지 않음
+		then(postSummaryCache).should(never()).put(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("일괄 요약 - 여러 키워드를 한 번에 요청하고 keyword_id 가 맞는 유효한 항목만 캐시")
+	void prefetchSummaries_batch() {
+		// given
+		ReflectionTestUtils.setField(postService, "summaryBatchSize", 5);
+		ReflectionTestUtils.setField(postService, "summaryBatchTimeout", Duration.ofSeconds(5));
+		ReflectionTestUtils.setField(postService, "objectMapper", new ObjectMapper());
+		PostGenerationTarget target1 = generationTarget(1L, false);
+		PostGenerationTarget target2 = generationTarget(2L, false);
+		PostGenerationTarget target3 = generationTarget(3L, false);
+		PostGenerationTarget linkOnly = generationTarget(4L, true);
+		given(aiSummaryAdapterRouter.summarizeBatch(eq(null), anyString(), eq(3)))
+			.willReturn(CompletableFuture.completedFuture("""
+				```json
+				[
+				  {"keyword_id": 1, "title": "제목1", "summary": "요약1"},
+				  {"keyword_id": "2", "title": "", "summary": "요약2"},
+				  {"keyword_id": 9, "title": "제목9", "summary": "요약9"}
+				]
+				```"""));
+
+		// when
+		int filled = postService.prefetchSummaries(List.of(target1, target2, target3, linkOnly));
+
+		// then - 제목이 빈 2번과 응답에서 빠진 3번은 키워드별 요약으로 남김
+		assertThat(filled).isEqualTo(1);
+		then(aiSummaryAdapterRouter).should().summarizeBatch(eq(null), argThat(content ->
+			content.contains("### keyword_id: 1") && content.contains("### keyword_id: 3")
+				&& !content.contains("### keyword_id: 4")), eq(3));
+		then(postSummaryCache).should().putPrefetched(target1, "제목1", "요약1\n\nGenerated By AI");
+		then(postSummaryCache).should(never()).putPrefetched(eq(target2), any(), any());
+		then(postSummaryCache).should(never()).putPrefetched(eq(target3), any(), any());
+	}
+
+	@Test
+	@DisplayName("일괄 요약 - 요청이 실패하면 캐시를 채우지 않고 키워드별 요약에 맡김")
+	void prefetchSummaries_batchFailure() {
+		// given
+		ReflectionTestUtils.setField(postService, "summaryBatchSize", 5);
+		ReflectionTestUtils.setField(postService, "summaryBatchTimeout", Duration.ofSeconds(5));
+		given(aiSummaryAdapterRouter.summarizeBatch(eq(null), anyString(), eq(2)))
+			.willReturn(CompletableFuture.failedFuture(new RetryableExternalApiException(503, "장애")));
+
+		// when
+		int filled = postService.prefetchSummaries(List.of(generationTarget(1L, false), generationTarget(2L, false)));
+
+		// then
+		assertThat(filled).isZero();
+		then(postSummaryCache).should(never()).putPrefetched(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("일괄 요약 - 이미 캐시된 대상은 빼고, 묶음 크기가 1 이하면 요청하지 않음")
+	void prefetchSummaries_skipped() {
+		// given
+		ReflectionTestUtils.setField(postService, "summaryBatchSize", 5);
+		PostGenerationTarget cached = generationTarget(1L, false);
+		given(postSummaryCache.contains(cached)).willReturn(true);
+
+		// when
+		int filled = postService.prefetchSummaries(List.of(cached, generationTarget(2L, false)));
+
+		// then
+		assertThat(filled).isZero();
+		then(aiSummaryAdapterRouter).shouldHaveNoInteractions();
+	}
+
+	private PostGenerationTarget generationTarget(Long keywordId, boolean lowVariation) {
+		return new PostGenerationTarget(new KeywordMetricHourlyDto(keywordId, "키워드" + keywordId,
+			Platform.GOOGLE_TREND, LocalDateTime.now(), 0, 0, lowVariation, null),
+			List.of(createSource("url" + keywordId)), "내용" + keywordId);
+	}
+
 	private Source createSource(String url) {
 		return Source.builder()
 			.fingerprint(url)
@@ -358,6 +753,7 @@ public class PostServiceTest {
 		verify(postReportRepository).existsByPostAndReporter(post, reporter);
 		verify(postReportRepository).save(any(PostReport.class));
 		verify(postRepository).save(post);
+		verify(postReportCacheService).addReportedPost("test@email.com", postId);
 
 		assertEquals(1, post.getReportCount());
 	}
@@ -401,6 +797,7 @@ public class PostServiceTest {
 		verify(postReportRepository).existsByPostAndReporter(post, reporter);
 		verify(postReportRepository).save(any(PostReport.class));
 		verify(postRepository).save(post);
+		verify(postReportCacheService).addReportedPost("test@email.com", postId);
 
 		assertEquals(1, post.getReportCount());
 	}
@@ -675,6 +1072,8 @@ public class PostServiceTest {
 		verify(postRepository).save(eq(post2));
 
 		verify(postReportRepository).updateStatusByPostIdIn(eq(postIdsToHide), eq(ReportProcessingStatus.ACCEPTED));
+		verify(postCacheService).evictCards(postIdsToHide);
+		verify(postTrendingService).remove(postIdsToHide);
 	}
 
 	@Test
@@ -0,0 +1,184 @@
+package site.kkokkio.domain.post.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import site.kkokkio.domain.keyword.dto.KeywordMetricHourlyDto;
+import site.kkokkio.domain.post.dto.PostGenerationTarget;
+import site.kkokkio.domain.post.service.PostSummaryCache.CachedSummary;
+import site.kkokkio.domain.source.entity.Source;
+import site.kkokkio.global.enums.Platform;
+import site.kkokkio.infra.ai.prompt.AiSystemPromptResolver;
+import site.kkokkio.infra.common.metrics.HitRatioMetrics;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostSummaryCacheTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+	@Mock
+	private ValueOperations<String, String> valueOps;
+	@Mock
+	private AiSystemPromptResolver promptResolver;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private SimpleMeterRegistry meterRegistry;
+	private HitRatioMetrics hitRatioMetrics;
+	private PostSummaryCache cache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		hitRatioMetrics = new HitRatioMetrics(meterRegistry);
+		cache = new PostSummaryCache(redisTemplate, objectMapper, promptResolver, hitRatioMetrics);
+		ReflectionTestUtils.setField(cache, "ttl", Duration.ofHours(24));
+		ReflectionTestUtils.setField(cache, "localSize", 10);
+		cache.init();
+		given(redisTemplate.opsForValue()).willReturn(valueOps);
+		given(promptResolver.getPromptVersion()).willReturn("v1");
+	}
+
+	@Test
+	@DisplayName("요약 캐시 키 - 같은 키워드/소스 순서/요청 내용/프롬프트 버전이면 같고, 하나라도 바뀌면 다름")
+	void cacheKey() {
+		// given
+		PostGenerationTarget target = target(1L, "a", "b");
+
+		// when
+		String key = cache.cacheKey(target);
+
+		// then
+		assertThat(cache.cacheKey(target(1L, "a", "b"))).isEqualTo(key);
+		assertThat(cache.cacheKey(target(2L, "a", "b"))).isNotEqualTo(key);
+		assertThat(cache.cacheKey(target(1L, "b", "a"))).isNotEqualTo(key);
+		assertThat(cache.cacheKey(withContent(target, "압축 설정이 바뀐 내용"))).isNotEqualTo(key);
+		given(promptResolver.getPromptVersion()).willReturn("v2");
+		assertThat(cache.cacheKey(target)).isNotEqualTo(key);
+	}
+
+	@Test
+	@DisplayName("요약 캐시 - 저장한 요약은 로컬 LRU 에서 Redis 조회 없이 적중")
+	void localHit() {
+		// given
+		PostGenerationTarget target = target(1L, "a");
+		cache.put(target, "제목", "요약");
+
+		// when
+		Optional<CachedSummary> cached = cache.get(target);
+
+		// then
+		assertThat(cached).hasValueSatisfying(summary -> {
+			assertThat(summary.title()).isEqualTo("제목");
+			assertThat(summary.summary()).isEqualTo("요약");
+		});
+		then(valueOps).should().set(eq(PostSummaryCache.SUMMARY_KEY_PREFIX + cache.cacheKey(target)), anyString(),
+			eq(Duration.ofHours(24)));
+		then(valueOps).should(never()).get(anyString());
+		assertThat(lookupCount("local_hit")).isEqualTo(1);
+		assertThat(hitRatio()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("요약 캐시 - 일괄 요약으로 채운 요약의 첫 조회는 prefetch 적중으로 따로 세고 적중률에서 뺌")
+	void prefetchHit() {
+		// given
+		PostGenerationTarget target = target(1L, "a");
+		cache.putPrefetched(target, "제목", "요약");
+
+		// when
+		Optional<CachedSummary> first = cache.get(target);
+		Optional<CachedSummary> second = cache.get(target);
+
+		// then - 두 번째 조회부터는 재사용이므로 로컬 적중
+		assertThat(first).map(CachedSummary::title).contains("제목");
+		assertThat(second).map(CachedSummary::title).contains("제목");
+		assertThat(lookupCount("prefetch_hit")).isEqualTo(1);
+		assertThat(lookupCount("local_hit")).isEqualTo(1);
+		assertThat(hitRatio()).isEqualTo(1.0);
+		// prefetch 여부는 Redis 에 저장하지 않음
+		then(valueOps).should().set(anyString(), argThat(json -> !json.contains("prefetched")), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("요약 캐시 - 로컬에 없으면 Redis 에서 가져와 로컬에 채움")
+	void redisHit() throws Exception {
+		// given - 다른 인스턴스가 저장한 요약
+		PostGenerationTarget target = target(1L, "a");
+		String json = objectMapper.writeValueAsString(new CachedSummary("제목", "요약", System.currentTimeMillis()));
+		given(valueOps.get(PostSummaryCache.SUMMARY_KEY_PREFIX + cache.cacheKey(target))).willReturn(json);
+
+		// when
+		Optional<CachedSummary> first = cache.get(target);
+		Optional<CachedSummary> second = cache.get(target);
+
+		// then
+		assertThat(first).map(CachedSummary::title).contains("제목");
+		assertThat(second).isEqualTo(first);
+		assertThat(lookupCount("redis_hit")).isEqualTo(1);
+		assertThat(lookupCount("local_hit")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("요약 캐시 - 미스이거나 Redis 장애 시 빈 값 (AI 호출)")
+	void missAndRedisFailure() {
+		// given
+		PostGenerationTarget missing = target(1L, "a");
+		PostGenerationTarget failing = target(2L, "b");
+		given(valueOps.get(PostSummaryCache.SUMMARY_KEY_PREFIX + cache.cacheKey(failing)))
+			.willThrow(new QueryTimeoutException("timeout"));
+
+		// when & then
+		assertThat(cache.get(missing)).isEmpty();
+		assertThat(cache.get(failing)).isEmpty();
+		assertThat(lookupCount("miss")).isEqualTo(2);
+		assertThat(hitRatio()).isZero();
+	}
+
+	private double hitRatio() {
+		hitRatioMetrics.publishAll();
+		return meterRegistry.get(PostSummaryCache.HIT_RATIO_METRIC).gauge().value();
+	}
+
+	private double lookupCount(String result) {
+		return meterRegistry.get(PostSummaryCache.LOOKUP_METRIC).tag("result", result).counter().count();
+	}
+
+	private static PostGenerationTarget withContent(PostGenerationTarget target, String userContent) {
+		return new PostGenerationTarget(target.metric(), target.sources(), userContent);
+	}
+
+	private static PostGenerationTarget target(Long keywordId, String... fingerprints) {
+		List<Source> sources = Arrays.stream(fingerprints)
+			.map(fingerprint -> Source.builder()
+				.fingerprint(fingerprint)
+				.normalizedUrl("https://example.com/" + fingerprint)
+				.platform(Platform.NAVER_NEWS)
+				.build())
+			.toList();
+		return new PostGenerationTarget(new KeywordMetricHourlyDto(keywordId, "키워드", Platform.GOOGLE_TREND,
+			LocalDateTime.now(), 0, 0, false, null), sources, "내용");
+	}
+}
@@ -0,0 +1,139 @@
+package site.kkokkio.domain.post.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import site.kkokkio.domain.post.service.PostTrendingService.TrendingEvent;
+
+@ExtendWith(MockitoExtension.class)
+class PostTrendingServiceTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+	@Mock
+	private ZSetOperations<String, String> zSetOps;
+
+	private PostTrendingService postTrendingService;
+
+	@BeforeEach
+	void setUp() {
+		postTrendingService = new PostTrendingService(redisTemplate);
+		ReflectionTestUtils.setField(postTrendingService, "halfLife", Duration.ofHours(6));
+		ReflectionTestUtils.setField(postTrendingService, "maxSize", 1000L);
+		ReflectionTestUtils.setField(postTrendingService, "viewWeight", 1.0);
+		ReflectionTestUtils.setField(postTrendingService, "commentWeight", 5.0);
+		ReflectionTestUtils.setField(postTrendingService, "commentLikeWeight", 2.0);
+		ReflectionTestUtils.setField(postTrendingService, "keywordWeight", 0.01);
+	}
+
+	@Test
+	@DisplayName("트렌딩 적립 - 가중치의 로그에 현재 시각 오프셋을 더해 스크립트로 전달")
+	void recordAllPassesLogWeight() {
+		// given
+		double lowerBound = postTrendingService.decayOffset(Instant.now().getEpochSecond());
+
+		// when
+		postTrendingService.recordAll(TrendingEvent.COMMENT, Map.of(7L, 2));
+
+		// then
+		double upperBound = postTrendingService.decayOffset(Instant.now().getEpochSecond());
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(PostTrendingService.TRENDING_KEY)),
+			eq("1000"), eq("7"), argThat(arg -> {
+				double logWeight = Double.parseDouble((String)arg) - Math.log(5.0 * 2);
+				return logWeight >= lowerBound && logWeight <= upperBound;
+			}));
+	}
+
+	@Test
+	@DisplayName("트렌딩 적립 - 반감기만큼 늦은 이벤트는 로그 점수가 ln 2 만큼 크다")
+	void offsetGrowsByLnTwoPerHalfLife() {
+		// given
+		long now = Instant.now().getEpochSecond();
+
+		// when
+		double older = postTrendingService.decayOffset(now);
+		double newer = postTrendingService.decayOffset(now + Duration.ofHours(6).toSeconds());
+
+		// then - 가중치 2인 이전 이벤트와 가중치 1인 반감기 뒤 이벤트는 같은 점수
+		assertThat(Math.log(2) + older).isCloseTo(Math.log(1) + newer, within(1e-9));
+	}
+
+	@Test
+	@DisplayName("트렌딩 적립 - 양이 0 이하인 이벤트만 있으면 Redis 호출 없음")
+	void zeroAmountIsSkipped() {
+		// when
+		postTrendingService.recordAll(TrendingEvent.VIEW, Map.of(1L, 0L));
+
+		// then
+		verifyNoInteractions(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("트렌딩 제외 - 트랜잭션 안에서는 커밋 이후에 ZSET 에서 제거")
+	void removeAfterCommit() {
+		// given
+		given(redisTemplate.opsForZSet()).willReturn(zSetOps);
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			// when
+			postTrendingService.remove(List.of(1L, 2L));
+
+			// then - 커밋 전에는 제거하지 않음
+			verifyNoInteractions(redisTemplate);
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+			verify(zSetOps).remove(PostTrendingService.TRENDING_KEY, "1", "2");
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("트렌딩 조회 - ZREVRANGE 순서대로 포스트 ID 반환")
+	void getTrendingPostIds() {
+		// given
+		given(redisTemplate.opsForZSet()).willReturn(zSetOps);
+		given(zSetOps.reverseRange(PostTrendingService.TRENDING_KEY, 0, 2))
+			.willReturn(new LinkedHashSet<>(List.of("3", "1", "2")));
+
+		// when
+		List<Long> postIds = postTrendingService.getTrendingPostIds(3);
+
+		// then
+		assertThat(postIds).containsExactly(3L, 1L, 2L);
+	}
+
+	@Test
+	@DisplayName("트렌딩 조회 - Redis 장애 시 빈 목록")
+	void getTrendingPostIdsOnRedisFailure() {
+		// given
+		given(redisTemplate.opsForZSet()).willReturn(zSetOps);
+		given(zSetOps.reverseRange(PostTrendingService.TRENDING_KEY, 0, 9))
+			.willThrow(new QueryTimeoutException("timeout"));
+
+		// when
+		List<Long> postIds = postTrendingService.getTrendingPostIds(10);
+
+		// then
+		assertThat(postIds).isEmpty();
+	}
+}
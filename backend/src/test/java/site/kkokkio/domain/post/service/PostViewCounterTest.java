@@ -0,0 +1,179 @@
+package site.kkokkio.domain.post.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import site.kkokkio.global.jdbc.BulkUpsertStatement;
+import site.kkokkio.global.jdbc.BulkUpsertWriter;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostViewCounterTest {
+
+	@Mock
+	private BulkUpsertWriter bulkUpsertWriter;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+	@Mock
+	private StringRedisTemplate redisTemplate;
+	@Mock
+	private PostTrendingService postTrendingService;
+
+	private PostViewCounter postViewCounter;
+	// UPSERT 로 반영된 조회수 합계와 행 수
+	private final AtomicLong flushedViews = new AtomicLong();
+	private final AtomicLong flushedRows = new AtomicLong();
+
+	@BeforeEach
+	void setUp() {
+		postViewCounter = new PostViewCounter(bulkUpsertWriter, transactionTemplate, redisTemplate, postTrendingService);
+		ReflectionTestUtils.setField(postViewCounter, "viewerTtl", Duration.ofHours(48));
+		ReflectionTestUtils.setField(postViewCounter, "maxFlushAttempts", 5);
+		willAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+			return null;
+		}).given(transactionTemplate).executeWithoutResult(any());
+		willAnswer(this::countUpserted).given(bulkUpsertWriter).write(any(), anyCollection());
+	}
+
+	@Test
+	@DisplayName("조회수 집계 - 동시 조회를 유실 없이 한 문장 UPSERT 로 반영")
+	void concurrentViewsAreUpsertedOnce() throws Exception {
+		// given
+		int threads = 32;
+		int viewsPerThread = 5_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int i = 0; i < threads; i++) {
+			String viewer = "viewer" + i;
+			executor.submit(() -> {
+				for (int j = 0; j < viewsPerThread; j++) {
+					postViewCounter.recordView(1L, viewer);
+				}
+				done.countDown();
+			});
+		}
+		assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+
+		// when
+		postViewCounter.flush();
+
+		// then
+		assertThat(flushedViews.get()).isEqualTo((long)threads * viewsPerThread);
+		ArgumentCaptor<BulkUpsertStatement<?>> statement = ArgumentCaptor.forClass(BulkUpsertStatement.class);
+		verify(bulkUpsertWriter, times(1)).write(statement.capture(), anyCollection());
+		assertThat(statement.getValue().sql())
+			.startsWith("INSERT INTO post_metric_hourly")
+			.contains("ON DUPLICATE KEY UPDATE click_count = click_count + VALUES(click_count)");
+		verify(redisTemplate).executePipelined(any(RedisCallback.class));
+	}
+
+	@Test
+	@DisplayName("조회수 집계 - 여러 포스트는 UPSERT 배치 한 번으로 반영")
+	void multiplePostsShareOneStatement() {
+		// given
+		postViewCounter.recordView(1L, "a");
+		postViewCounter.recordView(2L, "a");
+		postViewCounter.recordView(2L, "b");
+
+		// when
+		postViewCounter.flush();
+
+		// then
+		verify(bulkUpsertWriter, times(1)).write(any(), anyCollection());
+		assertThat(flushedRows.get()).isEqualTo(2);
+		assertThat(flushedViews.get()).isEqualTo(3);
+		verify(postTrendingService).recordAll(PostTrendingService.TrendingEvent.VIEW, Map.of(1L, 1L, 2L, 2L));
+	}
+
+	@Test
+	@DisplayName("조회수 집계 - 반영 실패 시 다음 주기에 재시도")
+	void failedFlushIsRetried() {
+		// given
+		postViewCounter.recordView(1L, null);
+		postViewCounter.recordView(1L, null);
+		willThrow(new QueryTimeoutException("timeout"))
+			.willAnswer(this::countUpserted)
+			.given(bulkUpsertWriter).write(any(), anyCollection());
+
+		// when
+		postViewCounter.flush();
+		postViewCounter.flush();
+
+		// then
+		assertThat(flushedViews.get()).isEqualTo(2);
+		verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+		// 반영에 성공한 주기에만 트렌딩 점수에 적립
+		verify(postTrendingService, times(1)).recordAll(PostTrendingService.TrendingEvent.VIEW, Map.of(1L, 2L));
+	}
+
+	@Test
+	@DisplayName("조회수 집계 - 종료 시 남은 조회수 반영")
+	void drainOnShutdown() {
+		// given
+		postViewCounter.recordView(1L, "a");
+
+		// when
+		postViewCounter.drainOnShutdown();
+
+		// then
+		assertThat(flushedViews.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("조회수 집계 - 반영이 max-flush-attempts 번 실패한 버킷은 더 이상 다시 적립하지 않음")
+	void failedFlushIsDroppedAfterMaxAttempts() {
+		// given
+		ReflectionTestUtils.setField(postViewCounter, "maxFlushAttempts", 2);
+		postViewCounter.recordView(1L, null);
+		willThrow(new QueryTimeoutException("timeout")).given(bulkUpsertWriter).write(any(), anyCollection());
+
+		// when
+		postViewCounter.flush();
+		postViewCounter.flush();
+		postViewCounter.flush();
+
+		// then - 두 번 시도한 뒤 버렸으므로 세 번째 주기에는 반영할 조회수가 없음
+		verify(bulkUpsertWriter, times(2)).write(any(), anyCollection());
+		verify(postTrendingService, never()).recordAll(any(), any());
+	}
+
+	// UPSERT 파라미터 (post_id, bucket_at, click_count, like_count) 에서 조회수와 행 수를 센다
+	private Object countUpserted(InvocationOnMock invocation) {
+		BulkUpsertStatement<Object> statement = invocation.getArgument(0);
+		Collection<?> rows = invocation.getArgument(1);
+		for (Object row : rows) {
+			flushedViews.addAndGet((Long)statement.binder().apply(row)[2]);
+		}
+		flushedRows.addAndGet(rows.size());
+		return null;
+	}
+}
@@ -3,86 +3,312 @@ package site.kkokkio.domain.source.service;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.*;
 import static org.mockito.BDDMockito.*;
 
-import org.jsoup.Connection;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import site.kkokkio.domain.source.entity.Source;
-import site.kkokkio.domain.source.repository.SourceRepository;
+import site.kkokkio.global.enums.Platform;
+import site.kkokkio.infra.common.metrics.ExternalCallMetrics;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class OpenGraphServiceTest {
 
-    @InjectMocks
-    private OpenGraphService openGraphService;
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+	@Mock
+	private TransactionTemplate transactionTemplate;
+	@Captor
+	private ArgumentCaptor<List<Object[]>> batchArgs;
+
+	private OpenGraphService openGraphService;
+
+	@BeforeEach
+	void setUp() {
+		openGraphService = spy(new OpenGraphService(jdbcTemplate, transactionTemplate,
+			new ExternalCallMetrics(new SimpleMeterRegistry())));
+		ReflectionTestUtils.setField(openGraphService, "mockEnabled", false);
+		ReflectionTestUtils.setField(openGraphService, "maxInFlight", 8);
+		ReflectionTestUtils.setField(openGraphService, "perHostConcurrency", 2);
+		ReflectionTestUtils.setField(openGraphService, "maxHeadBytes", 64 * 1024);
+		ReflectionTestUtils.setField(openGraphService, "timeout", Duration.ofSeconds(2));
+		ReflectionTestUtils.setField(openGraphService, "batchSize", 100);
+		ReflectionTestUtils.setField(openGraphService, "batchWait", Duration.ofMillis(200));
+		ReflectionTestUtils.setField(openGraphService, "cacheSize", 100);
+		ReflectionTestUtils.setField(openGraphService, "cacheTtl", Duration.ofHours(1));
+		ReflectionTestUtils.setField(openGraphService, "maxAttempts", 2);
+		openGraphService.init();
+		given(transactionTemplate.execute(any()))
+			.willAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		// 기본은 요청한 행이 모두 반영된 것으로 응답
+		given(jdbcTemplate.batchUpdate(eq(OpenGraphService.UPDATE_THUMBNAIL_SQL), anyList()))
+			.willAnswer(invocation -> rowCounts(invocation.<List<Object[]>>getArgument(1).size(), 1));
+	}
+
+	@AfterEach
+	void tearDown() {
+		openGraphService.shutdown();
+	}
+
+	@Test
+	@DisplayName("OpenGraph 보강 - 추출한 썸네일을 배치 UPDATE 한 번으로 반영")
+	void enrich_batchUpdate() throws Exception {
+		// given
+		Source first = source("https://news.example.com/1", null);
+		Source second = source("https://other.example.com/2", null);
+		doReturn("https://cdn.example.com/1.jpg").when(openGraphService).fetchThumbnail(first.getNormalizedUrl());
+		doReturn("https://cdn.example.com/2.jpg").when(openGraphService).fetchThumbnail(second.getNormalizedUrl());
+
+		// when
+		Integer updated = openGraphService.enrich(List.of(first, second)).block();
+
+		// then
+		assertThat(updated).isEqualTo(2);
+		then(jdbcTemplate).should(times(1)).batchUpdate(eq(OpenGraphService.UPDATE_THUMBNAIL_SQL), batchArgs.capture());
+		assertThat(batchArgs.getValue()).extracting(args -> args[1] + "=" + args[0]).containsExactlyInAnyOrder(
+			first.getFingerprint() + "=https://cdn.example.com/1.jpg",
+			second.getFingerprint() + "=https://cdn.example.com/2.jpg");
+	}
+
+	@Test
+	@DisplayName("OpenGraph 보강 - 반환값은 요청 수가 아니라 실제로 UPDATE 된 행 수")
+	void enrich_countsUpdatedRows() throws Exception {
+		// given - 두 번째 소스는 반영할 행이 없어 0 행
+		Source first = source("https://news.example.com/1", null);
+		Source second = source("https://other.example.com/2", null);
+		doReturn("https://cdn.example.com/1.jpg").when(openGraphService).fetchThumbnail(first.getNormalizedUrl());
+		doReturn("https://cdn.example.com/2.jpg").when(openGraphService).fetchThumbnail(second.getNormalizedUrl());
+		given(jdbcTemplate.batchUpdate(eq(OpenGraphService.UPDATE_THUMBNAIL_SQL), anyList()))
+			.willReturn(new int[] {1, 0});
+
+		// when
+		Integer updated = openGraphService.enrich(List.of(first, second)).block();
 
-    @Mock
-    private SourceRepository sourceRepository;
+		// then
+		assertThat(updated).isEqualTo(1);
+	}
 
-    @BeforeEach
-    void setUp() {
-        ReflectionTestUtils.setField(openGraphService, "mockEnabled", false);
-    }
+	@Test
+	@DisplayName("OpenGraph 보강 - 썸네일이 있는 소스는 요청하지 않음")
+	void enrich_skipsSourcesWithThumbnail() throws Exception {
+		// given
+		Source video = source("https://www.youtube.com/watch?v=1", "https://i.ytimg.com/1.jpg");
 
-    @Test
-    @DisplayName("enrichAsync - 정상 추출")
-    void enrichAsync_success() throws Exception {
-        // given
-        Source source = Source.builder()
-            .normalizedUrl("https://example.com")
-            .build();
+		// when
+		Integer updated = openGraphService.enrich(List.of(video)).block();
 
-        String mockHtml = """
-            <html><head>
-            <meta property="og:image" content="https://cdn.example.com/image.jpg" />
-            </head><body></body></html>
-        """;
+		// then
+		assertThat(updated).isZero();
+		then(openGraphService).should(never()).fetchThumbnail(anyString());
+		then(jdbcTemplate).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("OpenGraph 보강 - 같은 fingerprint 는 캐시된 결과를 사용")
+	void enrich_cachedByFingerprint() throws Exception {
+		// given
+		Source withImage = source("https://news.example.com/1", null);
+		Source withoutImage = source("https://news.example.com/2", null);
+		doReturn("https://cdn.example.com/1.jpg").when(openGraphService).fetchThumbnail(withImage.getNormalizedUrl());
+		doReturn("").when(openGraphService).fetchThumbnail(withoutImage.getNormalizedUrl());
+
+		// when
+		openGraphService.enrich(List.of(withImage, withoutImage)).block();
+		Integer updated = openGraphService.enrich(List.of(withImage, withoutImage)).block();
+
+		// then - og:image 가 없던 결과도 캐시되어 다시 요청하지 않음
+		assertThat(updated).isEqualTo(1);
+		then(openGraphService).should(times(1)).fetchThumbnail(withImage.getNormalizedUrl());
+		then(openGraphService).should(times(1)).fetchThumbnail(withoutImage.getNormalizedUrl());
+	}
+
+	@Test
+	@DisplayName("OpenGraph 보강 - 추출 실패는 건너뛰고 나머지만 반영")
+	void enrich_failureSkipped() throws Exception {
+		// given
+		Source bad = source("https://bad.example.com/1", null);
+		Source good = source("https://good.example.com/1", null);
+		doThrow(new IOException("연결 실패")).when(openGraphService).fetchThumbnail(bad.getNormalizedUrl());
+		doReturn("https://cdn.example.com/good.jpg").when(openGraphService).fetchThumbnail(good.getNormalizedUrl());
+
+		// when
+		Integer updated = openGraphService.enrich(List.of(bad, good)).block();
+
+		// then
+		assertThat(updated).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("OpenGraph 보강 - 추출 실패한 소스는 다시 들어오면 max-attempts 번까지만 재시도")
+	void enrich_fetchFailureRetriedUpToMaxAttempts() throws Exception {
+		// given
+		Source bad = source("https://bad.example.com/1", null);
+		doThrow(new IOException("연결 실패")).when(openGraphService).fetchThumbnail(bad.getNormalizedUrl());
+
+		// when
+		for (int i = 0; i < 3; i++) {
+			openGraphService.enrich(List.of(bad)).block();
+		}
 
-        Document mockDoc = Jsoup.parse(mockHtml, "https://example.com");
+		// then
+		then(openGraphService).should(times(2)).fetchThumbnail(bad.getNormalizedUrl());
+	}
 
-		try (MockedStatic<Jsoup> jsoupMock = mockStatic(Jsoup.class)) {
-			Connection mockConnection = mock(Connection.class);
-			given(mockConnection.timeout(anyInt())).willReturn(mockConnection);
-			given(mockConnection.get()).willReturn(mockDoc);
+	@Test
+	@DisplayName("OpenGraph 보강 - 반영 실패한 썸네일은 다시 들어오면 추출 없이 UPDATE 만 재시도")
+	void enrich_updateFailureRetried() throws Exception {
+		// given
+		Source source = source("https://news.example.com/1", null);
+		doReturn("https://cdn.example.com/1.jpg").when(openGraphService).fetchThumbnail(source.getNormalizedUrl());
+		given(jdbcTemplate.batchUpdate(eq(OpenGraphService.UPDATE_THUMBNAIL_SQL), anyList()))
+			.willThrow(new QueryTimeoutException("timeout"))
+			.willReturn(new int[] {1});
 
-			jsoupMock.when(() -> Jsoup.connect("https://example.com")).thenReturn(mockConnection);
+		// when
+		Integer failed = openGraphService.enrich(List.of(source)).block();
+		Integer retried = openGraphService.enrich(List.of(source)).block();
 
-			// when
-			openGraphService.enrichAsync(source);
+		// then
+		assertThat(failed).isZero();
+		assertThat(retried).isEqualTo(1);
+		then(openGraphService).should(times(1)).fetchThumbnail(source.getNormalizedUrl());
+		then(jdbcTemplate).should(times(2)).batchUpdate(eq(OpenGraphService.UPDATE_THUMBNAIL_SQL), anyList());
+	}
+
+	@Test
+	@DisplayName("OpenGraph 보강 - 호스트별 동시 요청 수를 제한하면서 호스트 간에는 동시에 요청")
+	void enrich_perHostConcurrency() throws Exception {
+		// given
+		Map<String, AtomicInteger> inFlightByHost = new ConcurrentHashMap<>();
+		Map<String, AtomicInteger> maxByHost = new ConcurrentHashMap<>();
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		doAnswer(invocation -> {
+			String host = ((String)invocation.getArgument(0)).split("/")[2];
+			int hostCount = inFlightByHost.computeIfAbsent(host, key -> new AtomicInteger()).incrementAndGet();
+			maxByHost.computeIfAbsent(host, key -> new AtomicInteger()).accumulateAndGet(hostCount, Math::max);
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			Thread.sleep(100);
+			inFlight.decrementAndGet();
+			inFlightByHost.get(host).decrementAndGet();
+			return "https://cdn.example.com/image.jpg";
+		}).when(openGraphService).fetchThumbnail(anyString());
+
+		List<Source> sources = new ArrayList<>();
+		IntStream.range(0, 6).forEach(i -> {
+			sources.add(source("https://a.example.com/" + i, null));
+			sources.add(source("https://b.example.com/" + i, null));
+		});
+
+		// when
+		Integer updated = openGraphService.enrich(sources).block();
+
+		// then
+		assertThat(updated).isEqualTo(12);
+		assertThat(maxByHost.values()).allSatisfy(max -> assertThat(max.get()).isLessThanOrEqualTo(2));
+		assertThat(maxInFlight.get()).isGreaterThan(2);
+	}
+
+	@Test
+	@DisplayName("head 읽기 - </head> 에서 멈추고 본문은 읽지 않음")
+	void readHead_stopsAtHeadEnd() throws Exception {
+		// given
+		String head = "<html><head><meta property=\"og:image\" content=\"https://cdn.example.com/a.jpg\" />";
+		byte[] page = (head + "</HEAD><body>" + "x".repeat(1024 * 1024) + "</body></html>")
+			.getBytes(StandardCharsets.UTF_8);
+		CountingInputStream in = new CountingInputStream(page);
+
+		// when
+		String result = OpenGraphService.readHead(in, 64 * 1024, StandardCharsets.UTF_8);
+
+		// then
+		assertThat(result).isEqualTo(head);
+		assertThat(in.readBytes).isLessThanOrEqualTo(8 * 1024);
+	}
+
+	@Test
+	@DisplayName("head 읽기 - </head> 가 없으면 최대 바이트 수까지만 읽음")
+	void readHead_limitedToMaxBytes() throws Exception {
+		// given
+		byte[] page = ("<html><head>" + "가".repeat(100_000)).getBytes(StandardCharsets.UTF_8);
+		CountingInputStream in = new CountingInputStream(page);
+
+		// when
+		OpenGraphService.readHead(in, 10_000, StandardCharsets.UTF_8);
+
+		// then
+		assertThat(in.readBytes).isEqualTo(10_000);
+	}
+
+	private static int[] rowCounts(int size, int count) {
+		int[] counts = new int[size];
+		Arrays.fill(counts, count);
+		return counts;
+	}
+
+	private static Source source(String url, String thumbnailUrl) {
+		return Source.builder()
+			.fingerprint(url)
+			.normalizedUrl(url)
+			.thumbnailUrl(thumbnailUrl)
+			.publishedAt(LocalDateTime.now())
+			.platform(Platform.NAVER_NEWS)
+			.build();
+	}
+
+	private static class CountingInputStream extends InputStream {
+		private final InputStream delegate;
+		private int readBytes;
+
+		CountingInputStream(byte[] bytes) {
+			this.delegate = new ByteArrayInputStream(bytes);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int value = delegate.read();
+			if (value != -1) {
+				readBytes++;
+			}
+			return value;
+		}
 
-			// then
-			assertThat(source.getThumbnailUrl()).isEqualTo("https://cdn.example.com/image.jpg");
-			then(sourceRepository).should().save(source);
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+			int read = delegate.read(buffer, offset, length);
+			if (read > 0) {
+				readBytes += read;
+			}
+			return read;
 		}
-    }
-
-    @Test
-    @DisplayName("enrichAsync - 실패")
-    void enrichAsync_jsoupFails() {
-        // given
-        Source source = Source.builder()
-            .normalizedUrl("https://bad.url")
-            .build();
-
-        try (MockedStatic<Jsoup> jsoupMock = Mockito.mockStatic(Jsoup.class)) {
-            jsoupMock.when(() -> Jsoup.connect("https://bad.url"))
-                .thenThrow(new RuntimeException("연결 실패"));
-
-            // when
-            openGraphService.enrichAsync(source);
-
-            // then
-            then(sourceRepository).shouldHaveNoInteractions();
-        }
-    }
-}
\ No newline at end of file
+	}
+}
@@ -0,0 +1,183 @@
+package site.kkokkio.domain.source.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import site.kkokkio.domain.source.repository.SourceRepository;
+import site.kkokkio.infra.common.metrics.HitRatioMetrics;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SourceFingerprintFilterTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+	@Mock
+	private SourceRepository sourceRepository;
+
+	private SimpleMeterRegistry meterRegistry;
+	private HitRatioMetrics hitRatioMetrics;
+	private SourceFingerprintFilter filter;
+	// Redis 비트맵 대신 켜진 비트 오프셋 집합
+	private final Set<Long> bits = new HashSet<>();
+	private boolean bloomExists = true;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		hitRatioMetrics = new HitRatioMetrics(meterRegistry);
+		filter = new SourceFingerprintFilter(redisTemplate, sourceRepository, hitRatioMetrics);
+		ReflectionTestUtils.setField(filter, "bloomBits", 1L << 20);
+		ReflectionTestUtils.setField(filter, "hashCount", 7);
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willAnswer(invocation -> {
+				Object[] args = (Object[])invocation.getRawArguments()[2];
+				if (invocation.getArgument(0) == SourceFingerprintFilter.ADD_SCRIPT) {
+					for (Object arg : args) {
+						bits.add(Long.valueOf((String)arg));
+					}
+					bloomExists = true;
+					return (long)args.length;
+				}
+				return check(args);
+			});
+	}
+
+	@Test
+	@DisplayName("fingerprint 판별 - Bloom filter 에 없으면 DB 확인 없이 신규")
+	void unknownFingerprintsSkipExactCheck() {
+		// when
+		Set<String> known = filter.findKnown(List.of("a", "b"));
+
+		// then
+		assertThat(known).isEmpty();
+		then(sourceRepository).shouldHaveNoInteractions();
+		assertThat(lookupCount("new")).isEqualTo(2);
+		assertThat(hitRatio()).isZero();
+	}
+
+	@Test
+	@DisplayName("fingerprint 판별 - 등록된 fingerprint 는 후보만 DB 로 확인해 기존으로 판별")
+	void markedFingerprintsAreKnown() {
+		// given
+		filter.markKnown(List.of("a"));
+		given(sourceRepository.findExistingFingerprints(List.of("a"))).willReturn(List.of("a"));
+
+		// when
+		Set<String> known = filter.findKnown(List.of("a", "b"));
+
+		// then
+		assertThat(known).containsExactly("a");
+		then(sourceRepository).should().findExistingFingerprints(List.of("a"));
+		assertThat(lookupCount("known")).isEqualTo(1);
+		assertThat(lookupCount("new")).isEqualTo(1);
+		assertThat(hitRatio()).isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("fingerprint 판별 - Bloom filter 오탐은 DB 확인에서 걸러져 신규로 판별")
+	void falsePositiveIsTreatedAsNew() {
+		// given - 등록 후 DB 에는 없는 상태 (저장 실패 등)
+		filter.markKnown(List.of("a"));
+		given(sourceRepository.findExistingFingerprints(List.of("a"))).willReturn(List.of());
+
+		// when
+		Set<String> known = filter.findKnown(List.of("a"));
+
+		// then
+		assertThat(known).isEmpty();
+		assertThat(lookupCount("false_positive")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("fingerprint 판별 - 비트맵이 없으면 전부 DB 로 확인하고 기존 fingerprint 로 다시 채움")
+	void missingBloomFallsBackToExactCheckAndWarmsUp() {
+		// given
+		bloomExists = false;
+		given(sourceRepository.findExistingFingerprints(List.of("a", "b"))).willReturn(List.of("b"));
+
+		// when
+		Set<String> known = filter.findKnown(List.of("a", "b", "a"));
+
+		// then
+		assertThat(known).containsExactly("b");
+		assertThat(bits).isNotEmpty();
+		assertThat(lookupCount("false_positive")).isZero();
+		// 다시 채운 뒤에는 신규 fingerprint 를 DB 확인 없이 판별
+		assertThat(filter.findKnown(List.of("c"))).isEmpty();
+		then(sourceRepository).should(times(1)).findExistingFingerprints(anyCollection());
+	}
+
+	@Test
+	@DisplayName("fingerprint 판별 - Redis 장애 시 전부 DB 로 확인")
+	void redisFailureFallsBackToExactCheck() {
+		// given
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.willThrow(new QueryTimeoutException("timeout"));
+		given(sourceRepository.findExistingFingerprints(List.of("a", "b"))).willReturn(List.of("a"));
+
+		// when
+		Set<String> known = filter.findKnown(List.of("a", "b"));
+
+		// then
+		assertThat(known).containsExactly("a");
+	}
+
+	@Test
+	@DisplayName("fingerprint 판별 - 비트 오프셋은 결정적이고 비트맵 범위 안")
+	void offsetsAreDeterministicAndInRange() {
+		// when
+		long[] first = filter.offsets("https://example.com/news");
+		long[] second = filter.offsets("https://example.com/news");
+
+		// then
+		assertThat(first).hasSize(7).containsExactly(second);
+		assertThat(Arrays.stream(first).allMatch(offset -> offset >= 0 && offset < (1L << 20))).isTrue();
+	}
+
+	private List<Long> check(Object[] args) {
+		List<Long> result = new ArrayList<>();
+		result.add(bloomExists ? 1L : 0L);
+		if (!bloomExists) {
+			return result;
+		}
+		int k = Integer.parseInt((String)args[0]);
+		for (int i = 1; i < args.length; i += k) {
+			boolean all = true;
+			for (int j = 0; j < k; j++) {
+				all &= bits.contains(Long.valueOf((String)args[i + j]));
+			}
+			result.add(all ? 1L : 0L);
+		}
+		return result;
+	}
+
+	private double hitRatio() {
+		hitRatioMetrics.publishAll();
+		return meterRegistry.get(SourceFingerprintFilter.HIT_RATIO_METRIC).gauge().value();
+	}
+
+	private double lookupCount(String result) {
+		return meterRegistry.get(SourceFingerprintFilter.LOOKUP_METRIC).tag("result", result).counter().count();
+	}
+}
@@ -4,10 +4,14 @@ import static org.assertj.core.api.AssertionsForInterfaceTypes.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,18 +25,23 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import reactor.core.publisher.Mono;
+import site.kkokkio.domain.batch.metrics.BatchMetrics;
 import site.kkokkio.domain.keyword.dto.KeywordMetricHourlyDto;
+import site.kkokkio.domain.keyword.entity.Keyword;
 import site.kkokkio.domain.keyword.service.KeywordMetricHourlyService;
 import site.kkokkio.domain.post.dto.PostDto;
 import site.kkokkio.domain.post.entity.Post;
 import site.kkokkio.domain.post.service.PostService;
 import site.kkokkio.domain.source.controller.dto.TopSourceListResponse;
 import site.kkokkio.domain.source.dto.NewsDto;
+import site.kkokkio.domain.source.dto.SearchStatsDto;
 import site.kkokkio.domain.source.dto.SourceDto;
 import site.kkokkio.domain.source.dto.TopSourceItemDto;
 import site.kkokkio.domain.source.dto.VideoDto;
+import site.kkokkio.domain.source.entity.KeywordSource;
 import site.kkokkio.domain.source.entity.PostSource;
 import site.kkokkio.domain.source.entity.Source;
 import site.kkokkio.domain.source.port.out.NewsApiPort;
@@ -65,7 +74,11 @@ class SourceServiceTest {
 	@Mock
 	private OpenGraphService openGraphService;
 	@Mock
+	private BatchMetrics batchMetrics;
+	@Mock
 	private KeywordSourceRepository keywordSourceRepository;
+	@Mock
+	private SourceFingerprintFilter sourceFingerprintFilter;
 
 	private List<Source> newsSources;
 	private List<PostSource> newsPostSources;
@@ -76,6 +89,8 @@ class SourceServiceTest {
 
 	@BeforeEach
 	void setUp() {
+		ReflectionTestUtils.setField(sourceService, "searchConcurrency", 4);
+		ReflectionTestUtils.setField(sourceService, "searchTimeout", Duration.ofSeconds(5));
 		dummyPost = Post.builder().id(postId).build();
 		newsSources = Arrays.asList(
 			Source.builder().fingerprint("f1").normalizedUrl("https://news1").title("뉴스1").description("뉴스1 설명")
@@ -244,7 +259,80 @@ class SourceServiceTest {
 		then(keywordSourceRepository).should().insertIgnoreAll(argThat(ksList ->
 			ksList.size() == 1 && ksList.getFirst().getKeyword().getId().equals(keywordId)
 		));
-		then(openGraphService).should().enrichAsync(any(Source.class));
+		then(openGraphService).should().enrichAll(argThat(sources -> sources.size() == 1));
+		then(batchMetrics).should().recordKeyword(eq(BatchMetrics.STAGE_NEWS_SEARCH), anyLong(), eq(true));
+		then(batchMetrics).should().recordSourcesPerKeyword(Platform.NAVER_NEWS, 1);
+	}
+
+	@Test
+	@DisplayName("뉴스 검색 - 이미 저장된 Source 는 저장/OpenGraph 보강 없이 새 키워드 연결만 저장")
+	void searchNews_knownSourcesSkipped() {
+		// given
+		KeywordMetricHourlyDto metric1 = new KeywordMetricHourlyDto(1L, "키워드1", Platform.GOOGLE_TREND,
+			LocalDateTime.now(), 0, 0, false, null);
+		KeywordMetricHourlyDto metric2 = new KeywordMetricHourlyDto(2L, "키워드2", Platform.GOOGLE_TREND,
+			LocalDateTime.now(), 0, 0, false, null);
+		given(keywordMetricHourlyService.findHourlyMetrics()).willReturn(List.of(metric1, metric2));
+
+		NewsDto knownDto = NewsDto.builder().title("기존 뉴스").link("https://example.com/known")
+			.originalLink("https://example.com/known").description("설명").pubDate(LocalDateTime.now()).build();
+		NewsDto newDto = NewsDto.builder().title("신규 뉴스").link("https://example.com/new")
+			.originalLink("https://example.com/new").description("설명").pubDate(LocalDateTime.now()).build();
+		given(newsApi.fetchNews(eq("키워드1"), anyInt(), anyInt(), anyString()))
+			.willReturn(Mono.just(List.of(knownDto, newDto)));
+		given(newsApi.fetchNews(eq("키워드2"), anyInt(), anyInt(), anyString()))
+			.willReturn(Mono.just(List.of(knownDto)));
+
+		Source knownSource = knownDto.toEntity(Platform.NAVER_NEWS);
+		Source newSource = newDto.toEntity(Platform.NAVER_NEWS);
+		given(sourceFingerprintFilter.findKnown(anyList())).willReturn(Set.of(knownSource.getFingerprint()));
+		// 기존 Source 는 키워드1 과만 연결되어 있음
+		given(keywordSourceRepository.findAllByKeyword_IdInAndSource_FingerprintIn(
+			Set.of(1L, 2L), Set.of(knownSource.getFingerprint())))
+			.willReturn(List.of(KeywordSource.builder().keyword(Keyword.builder().id(1L).build())
+				.source(knownSource).build()));
+
+		// when
+		sourceService.searchNews();
+
+		// then
+		then(sourceRepository).should().insertIgnoreAll(List.of(newSource));
+		then(sourceFingerprintFilter).should().markKnown(List.of(newSource.getFingerprint()));
+		then(keywordSourceRepository).should().insertIgnoreAll(argThat(ksList -> {
+			assertThat(ksList).extracting(ks -> ks.getKeyword().getId() + "-" + ks.getSource().getFingerprint())
+				.containsExactly("1-" + newSource.getFingerprint(), "2-" + knownSource.getFingerprint());
+			return true;
+		}));
+		then(openGraphService).should().enrichAll(List.of(newSource));
+	}
+
+	@Test
+	@DisplayName("뉴스 검색 - 썸네일을 아직 채우지 못한 기존 Source 는 OpenGraph 보강을 다시 시도")
+	void searchNews_knownSourceWithoutThumbnailRetried() {
+		// given
+		KeywordMetricHourlyDto metric = new KeywordMetricHourlyDto(1L, "키워드1", Platform.GOOGLE_TREND,
+			LocalDateTime.now(), 0, 0, false, null);
+		given(keywordMetricHourlyService.findHourlyMetrics()).willReturn(List.of(metric));
+
+		NewsDto knownDto = NewsDto.builder().title("기존 뉴스").link("https://example.com/known")
+			.originalLink("https://example.com/known").description("설명").pubDate(LocalDateTime.now()).build();
+		NewsDto newDto = NewsDto.builder().title("신규 뉴스").link("https://example.com/new")
+			.originalLink("https://example.com/new").description("설명").pubDate(LocalDateTime.now()).build();
+		given(newsApi.fetchNews(eq("키워드1"), anyInt(), anyInt(), anyString()))
+			.willReturn(Mono.just(List.of(knownDto, newDto)));
+
+		Source knownSource = knownDto.toEntity(Platform.NAVER_NEWS);
+		Source newSource = newDto.toEntity(Platform.NAVER_NEWS);
+		given(sourceFingerprintFilter.findKnown(anyList())).willReturn(Set.of(knownSource.getFingerprint()));
+		given(sourceRepository.findFingerprintsWithoutThumbnail(Set.of(knownSource.getFingerprint())))
+			.willReturn(List.of(knownSource.getFingerprint()));
+
+		// when
+		sourceService.searchNews();
+
+		// then - 재시도 횟수 제한은 OpenGraphService 가 맡는다
+		then(sourceRepository).should().insertIgnoreAll(List.of(newSource));
+		then(openGraphService).should().enrichAll(List.of(newSource, knownSource));
 	}
 
 	@Test
@@ -294,7 +382,7 @@ class SourceServiceTest {
 			.willReturn(Mono.just(List.of(dto)));
 
 		// when
-		sourceService.searchNews();
+		SearchStatsDto stats = sourceService.searchNews();
 
 		// then
 		then(sourceRepository).should().insertIgnoreAll(argThat(sources -> {
@@ -302,6 +390,52 @@ class SourceServiceTest {
 			assertThat(sources.getFirst().getTitle()).isEqualTo("제목1");
 			return true;
 		}));
+		assertThat(stats.fetched()).isEqualTo(1);
+		assertThat(stats.failed()).isEqualTo(1);
+		assertThat(stats.failedKeywords()).containsExactly("실패키워드");
+		assertThat(stats.latencyMsByKeyword()).containsOnlyKeys("실패키워드", "정상키워드");
+	}
+
+	@Test
+	@DisplayName("뉴스 검색 - 키워드별 검색을 병렬로 실행해 가장 느린 키워드 수준의 시간에 완료")
+	void searchNews_parallel() {
+		// given
+		int keywordCount = 8;
+		Duration apiLatency = Duration.ofMillis(300);
+		List<KeywordMetricHourlyDto> metrics = LongStream.rangeClosed(1, keywordCount)
+			.mapToObj(id -> new KeywordMetricHourlyDto(id, "키워드" + id, Platform.GOOGLE_TREND,
+				LocalDateTime.now(), 0, 0, false, null))
+			.toList();
+		given(keywordMetricHourlyService.findHourlyMetrics()).willReturn(metrics);
+
+		given(newsApi.fetchNews(anyString(), anyInt(), anyInt(), anyString())).willAnswer(invocation -> {
+			String keyword = invocation.getArgument(0);
+			NewsDto dto = NewsDto.builder()
+				.title(keyword + " 뉴스")
+				.link("https://example.com/" + keyword)
+				.originalLink("https://example.com/origin/" + keyword)
+				.description("설명")
+				.pubDate(LocalDateTime.now())
+				.build();
+			return Mono.delay(apiLatency).thenReturn(List.of(dto));
+		});
+
+		// when
+		long startedAt = System.nanoTime();
+		SearchStatsDto stats = sourceService.searchNews();
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+		// then - 동시 4건이면 2회분, 순차라면 8회분의 지연
+		assertThat(elapsedMs).isLessThan(apiLatency.toMillis() * keywordCount / 2);
+		assertThat(stats.fetched()).isEqualTo(keywordCount);
+		assertThat(stats.failed()).isZero();
+		assertThat(stats.maxLatencyMs()).isGreaterThanOrEqualTo(apiLatency.toMillis());
+		// 완료 순서와 무관하게 키워드 순서대로 매핑
+		then(keywordSourceRepository).should().insertIgnoreAll(argThat(ksList -> {
+			assertThat(ksList).extracting(ks -> ks.getKeyword().getId())
+				.containsExactly(LongStream.rangeClosed(1, keywordCount).boxed().toArray(Long[]::new));
+			return true;
+		}));
 	}
 
 	@Test
@@ -1038,10 +1172,10 @@ class SourceServiceTest {
 			return true;
 		}));
 
-		// 4. openGraphService.enrichAsync 호출 검증
-		// distinctSources 리스트의 각 Source에 대해 호출되었는지 검증
-		then(openGraphService).should(times(3))
-			.enrichAsync(any(Source.class));
+		// 4. openGraphService.enrichAll 호출 검증
+		// distinctSources 리스트 전체를 한 번에 넘기는지 검증
+		then(openGraphService).should(times(1))
+			.enrichAll(argThat(sources -> sources.size() == 3));
 	}
 
 	@Test
@@ -1130,7 +1264,7 @@ class SourceServiceTest {
 			return true;
 		}));
 
-		// OpenGraphService는 정상 처리된 Source 개수만큼 호출 예상 (1개)
-		then(openGraphService).should(times(1)).enrichAsync(any(Source.class));
+		// OpenGraphService는 정상 처리된 Source 만 넘겨받음 (1개)
+		then(openGraphService).should(times(1)).enrichAll(argThat(sources -> sources.size() == 1));
 	}
 }
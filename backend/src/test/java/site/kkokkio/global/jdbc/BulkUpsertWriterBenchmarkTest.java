@@ -0,0 +1,131 @@
+package site.kkokkio.global.jdbc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import site.kkokkio.global.util.HashUtils;
+
+/**
+ * Source 10,000 건 저장 처리량 비교 (문자열로 만든 다중 행 INSERT IGNORE vs 청크 단위 JDBC 배치)
+ * - 실행 : ./gradlew test --tests '*BulkUpsertWriterBenchmarkTest' -Pbenchmark=true
+ * - 기본은 H2(MySQL 모드). 로컬 MySQL 은 BENCHMARK_JDBC_URL / USERNAME / PASSWORD 환경 변수로 지정
+ *   (URL 에 rewriteBatchedStatements=true 를 넣어야 배치가 다중 행 INSERT 로 합쳐진다)
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BulkUpsertWriterBenchmarkTest {
+
+	private static final int ROWS = 10_000;
+	// 기존 구현이 한 번에 받던 크기 (키워드 검색 결과 단위)
+	private static final int LEGACY_CALL_SIZE = 1_000;
+	private static final List<String> COLUMNS = List.of(
+		"fingerprint", "normalized_url", "title", "description", "thumbnail_url", "published_at", "platform");
+	private static final BulkUpsertStatement<BenchSource> INSERT_IGNORE =
+		BulkUpsertStatement.insertIgnore("bench_source", COLUMNS, BenchSource::values);
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		String url = env("BENCHMARK_JDBC_URL", "jdbc:h2:mem:bulk_benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url,
+			env("BENCHMARK_JDBC_USERNAME", "sa"), env("BENCHMARK_JDBC_PASSWORD", "")));
+		jdbcTemplate.execute("DROP TABLE IF EXISTS bench_source");
+		jdbcTemplate.execute("""
+			CREATE TABLE bench_source (
+				fingerprint VARCHAR(64) PRIMARY KEY,
+				normalized_url VARCHAR(500) NOT NULL,
+				title VARCHAR(255),
+				description TEXT,
+				thumbnail_url TEXT,
+				published_at TIMESTAMP NOT NULL,
+				platform VARCHAR(20) NOT NULL,
+				created_at TIMESTAMP NULL,
+				updated_at TIMESTAMP NULL
+			)
+			""");
+	}
+
+	@Test
+	@DisplayName("벤치마크 - Source 10,000 건 저장 rows/sec")
+	void compareRowsPerSecond() {
+		// given
+		List<BenchSource> sources = IntStream.range(0, ROWS).mapToObj(BenchSource::of).toList();
+		BulkUpsertWriter bulkUpsertWriter = new BulkUpsertWriter(jdbcTemplate);
+		ReflectionTestUtils.setField(bulkUpsertWriter, "chunkSize", 500);
+
+		// when
+		double legacy = rowsPerSecond(() -> {
+			for (int from = 0; from < ROWS; from += LEGACY_CALL_SIZE) {
+				legacyInsertIgnore(sources.subList(from, Math.min(from + LEGACY_CALL_SIZE, ROWS)));
+			}
+		});
+		int legacyCount = count();
+		jdbcTemplate.execute("DELETE FROM bench_source");
+		double batched = rowsPerSecond(() -> bulkUpsertWriter.write(INSERT_IGNORE, sources));
+
+		// then
+		log.info("Source {} 건 저장. 다중 행 문자열 INSERT={} rows/s, JDBC 배치={} rows/s",
+			ROWS, Math.round(legacy), Math.round(batched));
+		assertThat(legacyCount).isEqualTo(ROWS);
+		assertThat(count()).isEqualTo(ROWS);
+	}
+
+	/**
+	 * 기존 SourceRepositoryCustomImpl 과 같은 방식 (행 수만큼 값 튜플을 붙인 문장 1개)
+	 */
+	private void legacyInsertIgnore(List<BenchSource> sources) {
+		StringBuilder sql = new StringBuilder("INSERT IGNORE INTO bench_source (")
+			.append(String.join(", ", COLUMNS)).append(", created_at, updated_at) VALUES ");
+		List<Object> args = new ArrayList<>(sources.size() * COLUMNS.size());
+		for (int i = 0; i < sources.size(); i++) {
+			sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, NOW(), NOW())");
+			args.addAll(Arrays.asList(sources.get(i).values()));
+		}
+		jdbcTemplate.update(sql.toString(), args.toArray());
+	}
+
+	private double rowsPerSecond(Runnable write) {
+		// 두 방식 모두 같은 조건(워밍업 없이 1회)으로 측정
+		long startedAt = System.nanoTime();
+		write.run();
+		long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+		return ROWS * 1_000_000.0 / Math.max(1, elapsedMicros);
+	}
+
+	private int count() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bench_source", Integer.class);
+	}
+
+	private static String env(String name, String defaultValue) {
+		return Optional.ofNullable(System.getenv(name)).orElse(defaultValue);
+	}
+
+	private record BenchSource(String fingerprint, String url, String title, LocalDateTime publishedAt) {
+		static BenchSource of(int index) {
+			String url = "https://news.example.com/article/" + index;
+			return new BenchSource(HashUtils.sha256Hex(url), url, "뉴스 제목 " + index,
+				LocalDateTime.now().minusMinutes(index));
+		}
+
+		Object[] values() {
+			return new Object[] {fingerprint, url, title, "뉴스 설명 " + title, null, publishedAt, "NAVER_NEWS"};
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package site.kkokkio.global.jdbc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class BulkUpsertWriterTest {
+
+	private static final List<String> COLUMNS = List.of("id", "title", "thumbnail_url");
+	private static final BulkUpsertStatement<Item> INSERT_IGNORE =
+		BulkUpsertStatement.insertIgnore("bulk_item", COLUMNS, Item::values);
+	private static final BulkUpsertStatement<Item> UPSERT = BulkUpsertStatement.upsert("bulk_item", COLUMNS,
+		List.of("title = VALUES(title)", "thumbnail_url = COALESCE(VALUES(thumbnail_url), thumbnail_url)"),
+		Item::values);
+
+	private JdbcTemplate jdbcTemplate;
+	private BulkUpsertWriter bulkUpsertWriter;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(
+			new DriverManagerDataSource("jdbc:h2:mem:bulk_upsert;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+		jdbcTemplate.execute("DROP TABLE IF EXISTS bulk_item");
+		jdbcTemplate.execute("""
+			CREATE TABLE bulk_item (
+				id BIGINT PRIMARY KEY,
+				title VARCHAR(100),
+				thumbnail_url VARCHAR(100),
+				created_at TIMESTAMP,
+				updated_at TIMESTAMP
+			)
+			""");
+		bulkUpsertWriter = new BulkUpsertWriter(jdbcTemplate);
+		ReflectionTestUtils.setField(bulkUpsertWriter, "chunkSize", 3);
+	}
+
+	@Test
+	@DisplayName("문장 형태 - 행 수와 무관한 단일 행 INSERT")
+	void statementShapeIsFixed() {
+		assertThat(INSERT_IGNORE.sql()).isEqualTo(
+			"INSERT IGNORE INTO bulk_item (id, title, thumbnail_url, created_at, updated_at) "
+				+ "VALUES (?, ?, ?, NOW(), NOW())");
+		assertThat(UPSERT.sql()).endsWith(
+			"ON DUPLICATE KEY UPDATE title = VALUES(title), "
+				+ "thumbnail_url = COALESCE(VALUES(thumbnail_url), thumbnail_url), updated_at = NOW()");
+	}
+
+	@Test
+	@DisplayName("INSERT IGNORE - 청크 크기를 넘는 행을 모두 저장하고 중복 키는 건너뜀")
+	void insertIgnoreAcrossChunks() {
+		// given
+		bulkUpsertWriter.write(INSERT_IGNORE, List.of(new Item(1L, "기존", "thumb")));
+		List<Item> items = IntStream.rangeClosed(1, 10)
+			.mapToObj(id -> new Item((long)id, "제목" + id, null))
+			.toList();
+
+		// when
+		bulkUpsertWriter.write(INSERT_IGNORE, items);
+
+		// then
+		assertThat(count()).isEqualTo(10);
+		assertThat(titleOf(1L)).isEqualTo("기존");
+		assertThat(titleOf(10L)).isEqualTo("제목10");
+	}
+
+	@Test
+	@DisplayName("UPSERT - 중복 키는 제목을 갱신하고 새 썸네일이 없으면 기존 썸네일 유지")
+	void upsertUpdatesDuplicates() {
+		// given
+		bulkUpsertWriter.write(INSERT_IGNORE, List.of(new Item(1L, "이전", "thumb1"), new Item(2L, "이전", "thumb2")));
+
+		// when
+		bulkUpsertWriter.write(UPSERT, List.of(
+			new Item(1L, "새 제목", null),
+			new Item(2L, "새 제목", "thumb2-new"),
+			new Item(3L, "신규", null)));
+
+		// then
+		assertThat(count()).isEqualTo(3);
+		assertThat(titleOf(1L)).isEqualTo("새 제목");
+		assertThat(jdbcTemplate.queryForObject("SELECT thumbnail_url FROM bulk_item WHERE id = 1", String.class))
+			.isEqualTo("thumb1");
+		assertThat(jdbcTemplate.queryForObject("SELECT thumbnail_url FROM bulk_item WHERE id = 2", String.class))
+			.isEqualTo("thumb2-new");
+	}
+
+	@Test
+	@DisplayName("빈 목록 - 쿼리 실행 없음")
+	void emptyRowsAreSkipped() {
+		// when
+		bulkUpsertWriter.write(INSERT_IGNORE, List.of());
+
+		// then
+		assertThat(count()).isZero();
+	}
+
+	private int count() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bulk_item", Integer.class);
+	}
+
+	private String titleOf(Long id) {
+		return jdbcTemplate.queryForObject("SELECT title FROM bulk_item WHERE id = ?", String.class, id);
+	}
+
+	private record Item(Long id, String title, String thumbnailUrl) {
+		Object[] values() {
+			return new Object[] {id, title, thumbnailUrl};
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package site.kkokkio.global.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import site.kkokkio.global.scheduler.BatchLeaderLock.Lease;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BatchLeaderLockTest {
+
+	private static final String JOB = "trendJobs";
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+	@Mock
+	private ValueOperations<String, String> valueOps;
+
+	private SimpleMeterRegistry meterRegistry;
+	private BatchLeaderLock lock;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		lock = new BatchLeaderLock(redisTemplate, meterRegistry, "node-a");
+		ReflectionTestUtils.setField(lock, "leaseTtl", Duration.ofMinutes(30));
+		given(redisTemplate.opsForValue()).willReturn(valueOps);
+	}
+
+	@Test
+	@DisplayName("리더 lease - 획득하면 fencing token 을 받고 leader gauge 가 1")
+	void acquire() {
+		// given
+		given(redisTemplate.execute(eq(BatchLeaderLock.ACQUIRE_SCRIPT),
+			eq(List.of(BatchLeaderLock.LOCK_KEY_PREFIX + JOB, BatchLeaderLock.FENCE_KEY_PREFIX + JOB)),
+			any(), eq("1800000"))).willReturn(7L);
+
+		// when
+		Optional<Lease> lease = lock.tryAcquire(JOB);
+
+		// then
+		assertThat(lease).hasValueSatisfying(acquired -> {
+			assertThat(acquired.fencingToken()).isEqualTo(7L);
+			assertThat(acquired.owner()).startsWith("node-a-");
+		});
+		assertThat(leaderGauge()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("리더 lease - 다른 노드가 가지고 있으면 건너뛰고 leader gauge 가 0")
+	void notLeader() {
+		// given
+		given(redisTemplate.execute(eq(BatchLeaderLock.ACQUIRE_SCRIPT), anyList(), any(), any())).willReturn(0L);
+
+		// when
+		Optional<Lease> lease = lock.tryAcquire(JOB);
+
+		// then
+		assertThat(lease).isEmpty();
+		assertThat(leaderGauge()).isZero();
+	}
+
+	@Test
+	@DisplayName("리더 lease - Redis 장애 시 실행하지 않음")
+	void redisFailure() {
+		// given
+		given(redisTemplate.execute(eq(BatchLeaderLock.ACQUIRE_SCRIPT), anyList(), any(), any()))
+			.willThrow(new QueryTimeoutException("timeout"));
+
+		// when
+		Optional<Lease> lease = lock.tryAcquire(JOB);
+
+		// then
+		assertThat(lease).isEmpty();
+	}
+
+	@Test
+	@DisplayName("리더 lease - 반납하면 자신이 저장한 값일 때만 지우고 leader gauge 가 0")
+	void release() {
+		// given
+		given(redisTemplate.execute(eq(BatchLeaderLock.ACQUIRE_SCRIPT), anyList(), any(), any())).willReturn(3L);
+		Lease lease = lock.tryAcquire(JOB).orElseThrow();
+
+		// when
+		lock.release(lease);
+
+		// then
+		then(redisTemplate).should().execute(BatchLeaderLock.RELEASE_SCRIPT,
+			List.of(BatchLeaderLock.LOCK_KEY_PREFIX + JOB), lease.owner() + ":3");
+		assertThat(leaderGauge()).isZero();
+	}
+
+	@Test
+	@DisplayName("리더 lease - 갱신은 자신이 저장한 값일 때만 만료 시간을 늘리고, 잃었으면 leader gauge 가 0")
+	void renew() {
+		// given
+		given(redisTemplate.execute(eq(BatchLeaderLock.ACQUIRE_SCRIPT), anyList(), any(), any())).willReturn(3L);
+		Lease lease = lock.tryAcquire(JOB).orElseThrow();
+		given(redisTemplate.execute(BatchLeaderLock.RENEW_SCRIPT, List.of(BatchLeaderLock.LOCK_KEY_PREFIX + JOB),
+			lease.owner() + ":3", "1800000")).willReturn(1L, 0L);
+
+		// when & then
+		assertThat(lock.renew(lease)).isTrue();
+		assertThat(leaderGauge()).isEqualTo(1.0);
+		assertThat(lock.renew(lease)).isFalse();
+		assertThat(leaderGauge()).isZero();
+	}
+
+	@Test
+	@DisplayName("fencing token - 이후 다른 노드가 lease 를 받았으면 현재 token 이 아님")
+	void isCurrent() {
+		// given
+		given(valueOps.get(BatchLeaderLock.FENCE_KEY_PREFIX + JOB)).willReturn("8");
+
+		// when & then
+		assertThat(lock.isCurrent(JOB, 8L)).isTrue();
+		assertThat(lock.isCurrent(JOB, 7L)).isFalse();
+	}
+
+	private double leaderGauge() {
+		return meterRegistry.get(BatchLeaderLock.LEADER_METRIC).tag("lease", JOB).gauge().value();
+	}
+}
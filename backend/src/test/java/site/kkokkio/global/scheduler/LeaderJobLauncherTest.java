@@ -0,0 +1,213 @@
+package site.kkokkio.global.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import site.kkokkio.domain.batch.context.JobParameterKeys;
+import site.kkokkio.global.scheduler.BatchLeaderLock.Lease;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderJobLauncherTest {
+
+	@InjectMocks
+	private LeaderJobLauncher leaderJobLauncher;
+
+	@Mock
+	private JobLauncher jobLauncher;
+	@Mock
+	private JobRepository jobRepository;
+	@Mock
+	private BatchLeaderLock batchLeaderLock;
+	@Mock
+	private JobExplorer jobExplorer;
+	@Mock
+	private JobOperator jobOperator;
+	@Mock
+	private Job job;
+
+	@BeforeEach
+	void setUp() {
+		given(job.getName()).willReturn("trendToPostJob");
+		ReflectionTestUtils.setField(leaderJobLauncher, "acquireInterval", Duration.ofMillis(1));
+		ReflectionTestUtils.setField(leaderJobLauncher, "renewInterval", Duration.ofMinutes(1));
+	}
+
+	@Test
+	@DisplayName("리더 실행 - fencing token 을 Job 파라미터로 넘기고 끝나면 lease 반납")
+	void runAsLeader() throws Exception {
+		// given
+		Lease lease = new Lease("trendJobs", "node-a", 5L);
+		given(batchLeaderLock.tryAcquire("trendJobs")).willReturn(Optional.of(lease));
+		JobExecution execution = mock(JobExecution.class);
+		given(jobLauncher.run(eq(job), any())).willReturn(execution);
+
+		// when
+		Optional<JobExecution> result = leaderJobLauncher.runIfLeader(job,
+			new JobParametersBuilder().addString(JobParameterKeys.JP_RUNTIME, "2025-01-01T00:00"));
+
+		// then
+		assertThat(result).contains(execution);
+		ArgumentCaptor<JobParameters> params = ArgumentCaptor.forClass(JobParameters.class);
+		then(jobLauncher).should().run(eq(job), params.capture());
+		assertThat(params.getValue().getLong(JobParameterKeys.JP_FENCING_TOKEN)).isEqualTo(5L);
+		assertThat(params.getValue().getString(JobParameterKeys.JP_RUNTIME)).isEqualTo("2025-01-01T00:00");
+		assertThat(params.getValue().getString(JobParameterKeys.JP_LEASE_NAME)).isEqualTo("trendJobs");
+		then(batchLeaderLock).should().release(lease);
+	}
+
+	@Test
+	@DisplayName("리더 실행 - 정각 전체 실행과 증분 갱신은 같은 lease 를 사용")
+	void trendJobsShareLease() {
+		// when & then
+		assertThat(LeaderJobLauncher.leaseName(job.getName())).isEqualTo("trendJobs");
+		assertThat(LeaderJobLauncher.leaseName("trendDeltaJob")).isEqualTo("trendJobs");
+		assertThat(LeaderJobLauncher.leaseName("otherJob")).isEqualTo("otherJob");
+	}
+
+	@Test
+	@DisplayName("리더 실행 - lease 를 기다리는 동안 반납되면 얻어서 실행")
+	void runAfterWaitingForLease() throws Exception {
+		// given - 처음에는 증분 갱신이 lease 를 가지고 있다가 반납
+		Lease lease = new Lease("trendJobs", "node-a", 9L);
+		given(batchLeaderLock.tryAcquire("trendJobs")).willReturn(Optional.empty(), Optional.of(lease));
+		given(jobRepository.isJobInstanceExists(eq("trendToPostJob"), any())).willReturn(false);
+		JobExecution execution = mock(JobExecution.class);
+		given(jobLauncher.run(eq(job), any())).willReturn(execution);
+
+		// when
+		Optional<JobExecution> result = leaderJobLauncher.runIfLeader(job,
+			new JobParametersBuilder().addString(JobParameterKeys.JP_RUNTIME, "2025-01-01T00:00"), Duration.ofSeconds(5));
+
+		// then
+		assertThat(result).contains(execution);
+		then(batchLeaderLock).should(times(2)).tryAcquire("trendJobs");
+		then(batchLeaderLock).should().release(lease);
+	}
+
+	@Test
+	@DisplayName("리더 실행 - lease 를 기다리는 동안 다른 노드가 같은 파라미터로 실행했으면 다시 실행하지 않음")
+	void skipWhenRunByOtherNodeWhileWaiting() throws Exception {
+		// given
+		Lease lease = new Lease("trendJobs", "node-a", 10L);
+		given(batchLeaderLock.tryAcquire("trendJobs")).willReturn(Optional.empty(), Optional.of(lease));
+		given(jobRepository.isJobInstanceExists(eq("trendToPostJob"), any())).willReturn(true);
+
+		// when
+		Optional<JobExecution> result = leaderJobLauncher.runIfLeader(job,
+			new JobParametersBuilder().addString(JobParameterKeys.JP_RUNTIME, "2025-01-01T00:00"), Duration.ofSeconds(5));
+
+		// then
+		assertThat(result).isEmpty();
+		then(jobLauncher).shouldHaveNoInteractions();
+		then(batchLeaderLock).should().release(lease);
+	}
+
+	@Test
+	@DisplayName("리더 실행 - 기다려도 lease 를 얻지 못하면 실행하지 않음")
+	void skipWhenLeaseWaitExpires() throws Exception {
+		// given
+		given(batchLeaderLock.tryAcquire("trendJobs")).willReturn(Optional.empty());
+
+		// when
+		Optional<JobExecution> result = leaderJobLauncher.runIfLeader(job, new JobParametersBuilder(),
+			Duration.ofMillis(20));
+
+		// then
+		assertThat(result).isEmpty();
+		then(jobLauncher).shouldHaveNoInteractions();
+		then(batchLeaderLock).should(never()).release(any());
+	}
+
+	@Test
+	@DisplayName("리더 실행 - 리더가 아니면 실행하지 않음")
+	void skipWhenNotLeader() throws Exception {
+		// given
+		given(batchLeaderLock.tryAcquire("trendJobs")).willReturn(Optional.empty());
+
+		// when
+		Optional<JobExecution> result = leaderJobLauncher.runIfLeader(job, new JobParametersBuilder());
+
+		// then
+		assertThat(result).isEmpty();
+		then(jobLauncher).shouldHaveNoInteractions();
+		then(batchLeaderLock).should(never()).release(any());
+	}
+
+	@Test
+	@DisplayName("리더 실행 - 실행 실패해도 lease 반납")
+	void releaseOnFailure() throws Exception {
+		// given
+		Lease lease = new Lease("trendJobs", "node-a", 6L);
+		given(batchLeaderLock.tryAcquire("trendJobs")).willReturn(Optional.of(lease));
+		given(jobLauncher.run(eq(job), any())).willThrow(new JobRestartException("restart"));
+
+		// when & then
+		assertThatThrownBy(() -> leaderJobLauncher.runIfLeader(job, new JobParametersBuilder()))
+			.isInstanceOf(JobRestartException.class);
+		then(batchLeaderLock).should().release(lease);
+	}
+
+	@Test
+	@DisplayName("리더 실행 - Job 이 도는 동안 lease 를 주기적으로 갱신")
+	void renewLeaseWhileRunning() throws Exception {
+		// given
+		ReflectionTestUtils.setField(leaderJobLauncher, "renewInterval", Duration.ofMillis(10));
+		Lease lease = new Lease("trendJobs", "node-a", 5L);
+		given(batchLeaderLock.tryAcquire("trendJobs")).willReturn(Optional.of(lease));
+		given(batchLeaderLock.renew(lease)).willReturn(true);
+		given(jobLauncher.run(eq(job), any())).willAnswer(invocation -> {
+			Thread.sleep(100);
+			return mock(JobExecution.class);
+		});
+
+		// when
+		leaderJobLauncher.runIfLeader(job, new JobParametersBuilder());
+
+		// then
+		then(batchLeaderLock).should(atLeast(2)).renew(lease);
+		then(jobOperator).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("리더 실행 - lease 갱신에 실패하면 같은 fencing token 으로 실행 중인 Job 만 중지")
+	void stopJobWhenLeaseLost() throws Exception {
+		// given
+		Lease lease = new Lease("trendJobs", "node-a", 5L);
+		given(batchLeaderLock.renew(lease)).willReturn(false);
+		JobExecution mine = new JobExecution(11L, new JobParametersBuilder()
+			.addLong(JobParameterKeys.JP_FENCING_TOKEN, 5L, false).toJobParameters());
+		JobExecution other = new JobExecution(12L, new JobParametersBuilder()
+			.addLong(JobParameterKeys.JP_FENCING_TOKEN, 6L, false).toJobParameters());
+		given(jobExplorer.findRunningJobExecutions("trendToPostJob")).willReturn(Set.of(mine, other));
+
+		// when
+		leaderJobLauncher.renewOrStop(job.getName(), lease);
+
+		// then
+		then(jobOperator).should().stop(11L);
+		then(jobOperator).should(never()).stop(12L);
+	}
+}
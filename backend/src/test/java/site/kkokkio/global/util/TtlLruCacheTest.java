@@ -0,0 +1,67 @@
+package site.kkokkio.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TtlLruCacheTest {
+
+	@Test
+	@DisplayName("로컬 캐시 - 크기를 넘으면 가장 오래 접근하지 않은 항목부터 밀어냄")
+	void evictsLeastRecentlyUsed() {
+		// given
+		TtlLruCache<String, String> cache = new TtlLruCache<>(2, Duration.ofHours(1));
+		cache.put("a", "1");
+		cache.put("b", "2");
+		cache.get("a");
+
+		// when
+		cache.put("c", "3");
+
+		// then
+		assertThat(cache.get("a")).isEqualTo("1");
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("c")).isEqualTo("3");
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("로컬 캐시 - 저장 시각 기준으로 만료되고, 값을 바꿔도 저장 시각은 유지")
+	void expiresByStoredAt() {
+		// given
+		TtlLruCache<String, String> cache = new TtlLruCache<>(10, Duration.ofMinutes(1));
+		long expiredAt = System.currentTimeMillis() - Duration.ofMinutes(2).toMillis();
+		cache.put("old", "1", expiredAt);
+		cache.put("new", "1");
+
+		// when
+		boolean replaced = cache.replace("new", "1", "2");
+		cache.computeIfPresent("new", value -> value + "3");
+		cache.computeIfPresent("old", value -> value + "3");
+
+		// then
+		assertThat(cache.get("old")).isNull();
+		assertThat(replaced).isTrue();
+		assertThat(cache.replace("new", "1", "4")).isFalse();
+		assertThat(cache.get("new")).isEqualTo("23");
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("로컬 캐시 - compute 는 없거나 만료된 값을 null 로 넘김")
+	void computeTreatsExpiredAsAbsent() {
+		// given
+		TtlLruCache<String, Integer> cache = new TtlLruCache<>(10, Duration.ofMinutes(1));
+		cache.put("old", 5, System.currentTimeMillis() - Duration.ofMinutes(2).toMillis());
+
+		// when
+		cache.compute("old", (key, value) -> value == null ? 1 : value + 1);
+		cache.compute("old", (key, value) -> value == null ? 1 : value + 1);
+
+		// then
+		assertThat(cache.get("old")).isEqualTo(2);
+	}
+}
@@ -0,0 +1,177 @@
+package site.kkokkio.infra.ai.adapter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import site.kkokkio.infra.ai.AiType;
+
+class AiProviderScoreboardTest {
+	private static final List<AiType> STATIC_ORDER = List.of(AiType.GPT, AiType.GEMINI, AiType.CLAUDE);
+
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+	private SimpleMeterRegistry meterRegistry;
+	private AiProviderScoreboard scoreboard;
+
+	@BeforeEach
+	void setUp() {
+		circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+		meterRegistry = new SimpleMeterRegistry();
+		scoreboard = new AiProviderScoreboard(circuitBreakerRegistry, meterRegistry);
+		ReflectionTestUtils.setField(scoreboard, "alpha", 0.2);
+		ReflectionTestUtils.setField(scoreboard, "errorPenalty", Duration.ofSeconds(5));
+		ReflectionTestUtils.setField(scoreboard, "initialLatency", Duration.ofSeconds(2));
+		ReflectionTestUtils.setField(scoreboard, "explorationRate", 0.05);
+		Random seeded = new Random(42);
+		ReflectionTestUtils.setField(scoreboard, "random", (Supplier<RandomGenerator>)() -> seeded);
+	}
+
+	@Test
+	@DisplayName("AI 라우팅 점수 - 표본이 없으면 정적 순서 유지")
+	void staticOrderWithoutSamples() {
+		// given
+		ReflectionTestUtils.setField(scoreboard, "explorationRate", 0.0);
+
+		// when
+		List<AiType> ranked = scoreboard.rank(STATIC_ORDER);
+
+		// then
+		assertThat(ranked).containsExactlyElementsOf(STATIC_ORDER);
+	}
+
+	@Test
+	@DisplayName("AI 라우팅 점수 - 서킷이 열린 제공자는 점수와 무관하게 맨 뒤, 탐색 대상에서도 제외")
+	void openCircuitIsRankedLast() {
+		// given
+		ReflectionTestUtils.setField(scoreboard, "explorationRate", 1.0);
+		scoreboard.record(AiType.CLAUDE, Duration.ofMillis(100).toNanos(), true);
+		circuitBreakerRegistry.circuitBreaker("CLAUDE_AI_CIRCUIT_BREAKER").transitionToOpenState();
+
+		// when
+		List<AiType> ranked = scoreboard.rank(STATIC_ORDER);
+
+		// then
+		assertThat(ranked.getLast()).isEqualTo(AiType.CLAUDE);
+		assertThat(ranked.getFirst()).isEqualTo(AiType.GEMINI);
+		assertThat(scoreboard.snapshot().get(AiType.CLAUDE).circuit()).isEqualTo(CircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	@DisplayName("AI 라우팅 점수 - 빠르게 실패한 호출은 오류율만 올리고 응답 시간은 낮추지 않음")
+	void failureDoesNotLowerLatency() {
+		// given
+		scoreboard.record(AiType.GPT, Duration.ofMillis(1000).toNanos(), true);
+
+		// when
+		scoreboard.record(AiType.GPT, Duration.ofMillis(1).toNanos(), false);
+
+		// then
+		AiProviderScoreboard.ProviderScore score = scoreboard.snapshot().get(AiType.GPT);
+		assertThat(score.latencyMs()).isEqualTo(1000.0);
+		assertThat(score.errorRate()).isCloseTo(0.2, within(1e-9));
+		assertThat(score.score()).isCloseTo(2000.0, within(1e-6));
+		assertThat(meterRegistry.get(AiProviderScoreboard.SCORE_METRIC).tag("provider", "GPT").gauge().value())
+			.isCloseTo(2000.0, within(1e-6));
+	}
+
+	@Test
+	@DisplayName("AI 라우팅 점수 - 취소된 호출은 경과 시간을 응답 시간 하한으로만 반영하고 오류율은 바꾸지 않음")
+	void cancelledCallRaisesLatencyAsLowerBound() {
+		// given
+		scoreboard.record(AiType.GPT, Duration.ofMillis(100).toNanos(), true);
+
+		// when - 현재 EWMA 보다 짧은 하한은 무시, 긴 하한만 반영
+		scoreboard.recordCancelled(AiType.GPT, Duration.ofMillis(50).toNanos());
+		double afterShort = scoreboard.snapshot().get(AiType.GPT).latencyMs();
+		scoreboard.recordCancelled(AiType.GPT, Duration.ofMillis(1100).toNanos());
+
+		// then
+		AiProviderScoreboard.ProviderScore score = scoreboard.snapshot().get(AiType.GPT);
+		assertThat(afterShort).isEqualTo(100.0);
+		assertThat(score.latencyMs()).isCloseTo(300.0, within(0.001));
+		assertThat(score.errorRate()).isZero();
+		assertThat(score.samples()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("AI 라우팅 시뮬레이션 - 가짜 제공자 상태에 따라 가장 좋은 제공자로 수렴하고, 열화되면 다른 제공자로 옮겨감")
+	void simulationConverges() {
+		// given - GPT(메인)는 빠르지만 5번 중 3번 실패, GEMINI 는 느리지만 안정적, CLAUDE 가 가장 좋음
+		Map<AiType, FakeProvider> providers = new EnumMap<>(AiType.class);
+		providers.put(AiType.GPT, new FakeProvider(900, 0.6));
+		providers.put(AiType.GEMINI, new FakeProvider(2000, 0.0));
+		providers.put(AiType.CLAUDE, new FakeProvider(1000, 0.0));
+
+		// when - 1단계: 500 건 요청
+		Map<AiType, Integer> phase1 = simulate(providers, 500);
+
+		// 2단계: CLAUDE 가 모든 요청에 실패하도록 열화된 뒤 500 건 요청
+		providers.put(AiType.CLAUDE, new FakeProvider(1000, 1.0));
+		Map<AiType, Integer> phase2 = simulate(providers, 500);
+
+		// then - 각 단계 마지막 200 건의 1차 AI 선택 비율
+		assertThat(phase1.get(AiType.CLAUDE)).isGreaterThanOrEqualTo(180);
+		assertThat(phase2.get(AiType.GEMINI)).isGreaterThanOrEqualTo(180);
+		// 탐색 비율만큼은 다른 제공자도 1차로 시험
+		assertThat(phase1.get(AiType.GPT) + phase1.get(AiType.GEMINI)).isPositive();
+		assertThat(scoreboard.score(AiType.GPT)).isGreaterThan(scoreboard.score(AiType.GEMINI));
+	}
+
+	/**
+	 * 라우터처럼 1차 AI 부터 호출하고 실패하면 다음 순서로 폴백한다.
+	 * 마지막 200 건의 1차 AI 선택 횟수를 반환한다.
+	 */
+	private Map<AiType, Integer> simulate(Map<AiType, FakeProvider> providers, int requests) {
+		Map<AiType, Integer> primaryPicks = new EnumMap<>(AiType.class);
+		for (AiType aiType : AiType.values()) {
+			primaryPicks.put(aiType, 0);
+		}
+		for (int i = 0; i < requests; i++) {
+			List<AiType> ranked = scoreboard.rank(STATIC_ORDER);
+			if (i >= requests - 200) {
+				primaryPicks.merge(ranked.getFirst(), 1, Integer::sum);
+			}
+			for (AiType aiType : ranked) {
+				FakeProvider provider = providers.get(aiType);
+				boolean success = provider.call();
+				scoreboard.record(aiType, Duration.ofMillis(provider.latencyMs).toNanos(), success);
+				if (success) {
+					break;
+				}
+			}
+		}
+		return primaryPicks;
+	}
+
+	/**
+	 * 고정 응답 시간과 결정적인 실패 패턴(호출 5번 중 errorRate × 5 번 실패)을 갖는 가짜 제공자
+	 */
+	private static class FakeProvider {
+		private final long latencyMs;
+		private final double errorRate;
+		private int calls;
+
+		FakeProvider(long latencyMs, double errorRate) {
+			this.latencyMs = latencyMs;
+			this.errorRate = errorRate;
+		}
+
+		boolean call() {
+			return calls++ % 5 >= Math.round(errorRate * 5);
+		}
+	}
+}
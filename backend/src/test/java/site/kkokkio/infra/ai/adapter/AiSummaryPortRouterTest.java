@@ -0,0 +1,370 @@
+package site.kkokkio.infra.ai.adapter;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import site.kkokkio.infra.ai.AiResilience;
+import site.kkokkio.infra.ai.AiType;
+import site.kkokkio.infra.ai.claude.ClaudeAiApiPort;
+import site.kkokkio.infra.ai.gemini.GeminiAiApiPort;
+import site.kkokkio.infra.ai.gemini.GeminiApiProperties;
+import site.kkokkio.infra.ai.gpt.GptAiApiPort;
+import site.kkokkio.infra.ai.prompt.AiSystemPromptResolver;
+import site.kkokkio.infra.common.exception.RetryableExternalApiException;
+
+@ExtendWith(MockitoExtension.class)
+class AiSummaryPortRouterTest {
+
+	@Mock
+	private GeminiAiApiPort geminiAdapter;
+	@Mock
+	private GptAiApiPort gptAdapter;
+	@Mock
+	private ClaudeAiApiPort claudeAdapter;
+
+	private SimpleMeterRegistry meterRegistry;
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+	private AiProviderScoreboard scoreboard;
+	private AiSummaryPortRouter router;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+		scoreboard = new AiProviderScoreboard(circuitBreakerRegistry, meterRegistry);
+		ReflectionTestUtils.setField(scoreboard, "alpha", 0.2);
+		ReflectionTestUtils.setField(scoreboard, "errorPenalty", Duration.ofSeconds(5));
+		ReflectionTestUtils.setField(scoreboard, "initialLatency", Duration.ofSeconds(2));
+		ReflectionTestUtils.setField(scoreboard, "explorationRate", 0.0);
+		router = new AiSummaryPortRouter(geminiAdapter, gptAdapter, claudeAdapter, meterRegistry, scoreboard);
+		ReflectionTestUtils.setField(router, "currentAiType", AiType.GEMINI);
+		ReflectionTestUtils.setField(router, "backupAiType", AiType.GPT);
+		ReflectionTestUtils.setField(router, "tertiaryAiType", AiType.CLAUDE);
+	}
+
+	@Test
+	@DisplayName("AI 요약 - 제공자별 응답 시간을 결과와 함께 기록")
+	void latencyIsRecordedPerProvider() throws Exception {
+		// given
+		given(geminiAdapter.summarize(AiType.GEMINI, "내용"))
+			.willReturn(Mono.error(new RetryableExternalApiException(503, "장애")));
+		given(gptAdapter.summarize(AiType.GPT, "내용")).willReturn(Mono.just("요약"));
+
+		// when
+		String summary = router.summarize(null, "내용").get();
+
+		// then
+		assertThat(summary).isEqualTo("요약");
+		assertThat(timer(AiType.GEMINI, "failure").count()).isEqualTo(1);
+		assertThat(timer(AiType.GPT, "success").count()).isEqualTo(1);
+		assertThat(meterRegistry.find(AiSummaryPortRouter.LATENCY_METRIC).tag("provider", "CLAUDE").timer())
+			.isNull();
+	}
+
+	@Test
+	@DisplayName("AI 요약 적응형 라우팅 - 점수가 가장 좋은 제공자를 1차 AI 로 호출")
+	void adaptiveRoutingPicksBestScoredProvider() throws Exception {
+		// given - 메인(GEMINI)은 오류가 잦고 3차(CLAUDE)가 가장 빠름
+		ReflectionTestUtils.setField(router, "adaptiveRouting", true);
+		scoreboard.record(AiType.GEMINI, Duration.ofMillis(800).toNanos(), false);
+		scoreboard.record(AiType.GPT, Duration.ofMillis(1500).toNanos(), true);
+		scoreboard.record(AiType.CLAUDE, Duration.ofMillis(600).toNanos(), true);
+		given(claudeAdapter.summarize(AiType.CLAUDE, "내용")).willReturn(Mono.just("요약"));
+
+		// when
+		String summary = router.summarize(null, "내용").get();
+
+		// then
+		assertThat(summary).isEqualTo("요약");
+		then(geminiAdapter).shouldHaveNoInteractions();
+		then(gptAdapter).shouldHaveNoInteractions();
+		assertThat(scoreboard.snapshot().get(AiType.CLAUDE).samples()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("AI 요약 적응형 라우팅 - AI 를 명시하면 점수와 무관하게 명시한 AI 를 호출")
+	void requestedAiTypeOverridesAdaptiveRouting() throws Exception {
+		// given
+		ReflectionTestUtils.setField(router, "adaptiveRouting", true);
+		scoreboard.record(AiType.CLAUDE, Duration.ofMillis(100).toNanos(), true);
+		given(gptAdapter.summarize(AiType.GPT, "내용")).willReturn(Mono.just("요약"));
+
+		// when
+		String summary = router.summarize(AiType.GPT, "내용").get();
+
+		// then
+		assertThat(summary).isEqualTo("요약");
+		then(claudeAdapter).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("AI 요약 헤지 - 1차 AI 가 늦으면 2차 AI 를 동시에 호출하고 먼저 온 응답을 사용, 1차 요청은 취소")
+	void slowPrimaryIsHedged() throws Exception {
+		// given
+		enableHedge(10);
+		AtomicBoolean primaryCancelled = new AtomicBoolean();
+		given(geminiAdapter.summarize(AiType.GEMINI, "내용"))
+			.willReturn(Mono.<String>never().doOnCancel(() -> primaryCancelled.set(true)));
+		given(gptAdapter.summarize(AiType.GPT, "내용")).willReturn(Mono.just("2차 요약"));
+
+		// when
+		String summary = router.summarize(null, "내용").get(2, TimeUnit.SECONDS);
+
+		// then
+		assertThat(summary).isEqualTo("2차 요약");
+		assertThat(primaryCancelled).isTrue();
+		assertThat(hedgeCount("fired")).isEqualTo(1);
+		assertThat(hedgeCount("won")).isEqualTo(1);
+		assertThat(timer(AiType.GEMINI, "cancelled").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("AI 요약 헤지 - 헤지에 진 1차 AI 의 경과 시간을 응답 시간 하한으로 반영해 느린 1차 AI 에서 라우팅이 옮겨감")
+	void cancelledPrimaryLatencyIsRecordedAsLowerBound() throws Exception {
+		// given - 평소 빠르던 GEMINI 가 응답하지 않게 되고, GPT 헤지 요청이 이김
+		enableHedge(100);
+		ReflectionTestUtils.setField(router, "adaptiveRouting", true);
+		scoreboard.record(AiType.GEMINI, Duration.ofMillis(10).toNanos(), true);
+		scoreboard.record(AiType.GPT, Duration.ofMillis(30).toNanos(), true);
+		given(geminiAdapter.summarize(AiType.GEMINI, "내용")).willAnswer(inv -> Mono.never());
+		given(gptAdapter.summarize(AiType.GPT, "내용")).willAnswer(inv -> Mono.just("2차 요약"));
+
+		// when
+		for (int i = 0; i < 10; i++) {
+			assertThat(router.summarize(null, "내용").get(2, TimeUnit.SECONDS)).isEqualTo("2차 요약");
+		}
+
+		// then - 취소된 GEMINI 호출은 헤지 대기 시간(50ms) 이상 걸렸으므로 EWMA 가 올라가고 오류율은 그대로
+		AiProviderScoreboard.ProviderScore gemini = scoreboard.snapshot().get(AiType.GEMINI);
+		assertThat(gemini.latencyMs()).isGreaterThan(10.0);
+		assertThat(gemini.errorRate()).isZero();
+		assertThat(timer(AiType.GEMINI, "cancelled").count()).isPositive();
+		assertThat(scoreboard.rank(List.of(AiType.GEMINI, AiType.GPT, AiType.CLAUDE)).getFirst())
+			.isEqualTo(AiType.GPT);
+		then(geminiAdapter).should(atMost(9)).summarize(AiType.GEMINI, "내용");
+	}
+
+	@Test
+	@DisplayName("AI 요약 헤지 - 헤지에 진 1차 AI 의 HTTP 요청까지 취소되고 재시도로 다시 요청하지 않음 (실제 어댑터)")
+	void hedgeCancelsRealAdapterRequest() throws Exception {
+		// given - 응답하지 않는 Gemini 엔드포인트 (WebClient 교환 단계에서 요청 수/취소 여부 기록)
+		AtomicInteger requests = new AtomicInteger();
+		AtomicBoolean requestCancelled = new AtomicBoolean();
+		WebClient webClient = WebClient.builder()
+			.exchangeFunction(request -> Mono.<ClientResponse>never()
+				.doOnSubscribe(subscription -> requests.incrementAndGet())
+				.doOnCancel(() -> requestCancelled.set(true)))
+			.build();
+		GeminiApiProperties props = new GeminiApiProperties();
+		props.setModel("gemini");
+		AiSystemPromptResolver promptResolver = mock(AiSystemPromptResolver.class);
+		given(promptResolver.getPromptFor(AiType.GEMINI)).willReturn("프롬프트");
+		AiResilience aiResilience = new AiResilience(circuitBreakerRegistry, RetryRegistry.ofDefaults(),
+			RateLimiterRegistry.ofDefaults());
+		GeminiAiApiPort realGemini = new GeminiAiApiPort(webClient, props, promptResolver, aiResilience);
+		ReflectionTestUtils.setField(realGemini, "mockEnabled", false);
+
+		router = new AiSummaryPortRouter(realGemini, gptAdapter, claudeAdapter, meterRegistry, scoreboard);
+		ReflectionTestUtils.setField(router, "currentAiType", AiType.GEMINI);
+		ReflectionTestUtils.setField(router, "backupAiType", AiType.GPT);
+		ReflectionTestUtils.setField(router, "tertiaryAiType", AiType.CLAUDE);
+		enableHedge(10);
+		given(gptAdapter.summarize(AiType.GPT, "내용")).willReturn(Mono.just("2차 요약"));
+
+		// when
+		String summary = router.summarize(null, "내용").get(2, TimeUnit.SECONDS);
+
+		// then
+		assertThat(summary).isEqualTo("2차 요약");
+		assertThat(requestCancelled).isTrue();
+		assertThat(requests.get()).isEqualTo(1);
+		assertThat(timer(AiType.GEMINI, "cancelled").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("AI 요약 헤지 - 예산을 다 쓰면 2차 AI 를 호출하지 않고 1차 응답을 기다림")
+	void hedgeBudgetExhausted() throws Exception {
+		// given
+		enableHedge(0);
+		given(geminiAdapter.summarize(AiType.GEMINI, "내용"))
+			.willReturn(Mono.just("1차 요약").delayElement(Duration.ofMillis(200)));
+
+		// when
+		String summary = router.summarize(null, "내용").get(2, TimeUnit.SECONDS);
+
+		// then
+		assertThat(summary).isEqualTo("1차 요약");
+		then(gptAdapter).shouldHaveNoInteractions();
+		assertThat(hedgeCount("budget_exhausted")).isEqualTo(1);
+		assertThat(hedgeCount("fired")).isZero();
+	}
+
+	@Test
+	@DisplayName("AI 요약 헤지 - 1차 AI 가 먼저 실패하면 예산과 무관하게 바로 2차 AI 로 폴백")
+	void primaryFailureFallsBackWithoutBudget() throws Exception {
+		// given
+		enableHedge(0);
+		ReflectionTestUtils.setField(router, "hedgeMaxDelay", Duration.ofSeconds(10));
+		given(geminiAdapter.summarize(AiType.GEMINI, "내용"))
+			.willReturn(Mono.error(new RetryableExternalApiException(503, "장애")));
+		given(gptAdapter.summarize(AiType.GPT, "내용")).willReturn(Mono.just("2차 요약"));
+
+		// when
+		String summary = router.summarize(null, "내용").get(2, TimeUnit.SECONDS);
+
+		// then
+		assertThat(summary).isEqualTo("2차 요약");
+		assertThat(hedgeCount("fired")).isZero();
+	}
+
+	@Test
+	@DisplayName("AI 요약 헤지 - 모두 실패하면 마지막 AI 의 오류를 그대로 전달")
+	void allProvidersFailPropagatesLastError() {
+		// given
+		enableHedge(10);
+		given(geminiAdapter.summarize(AiType.GEMINI, "내용"))
+			.willReturn(Mono.error(new RetryableExternalApiException(503, "1차 장애")));
+		given(gptAdapter.summarize(AiType.GPT, "내용"))
+			.willReturn(Mono.error(new RetryableExternalApiException(503, "2차 장애")));
+		given(claudeAdapter.summarize(AiType.CLAUDE, "내용"))
+			.willReturn(Mono.error(new RetryableExternalApiException(429, "3차 장애")));
+
+		// when & then
+		assertThatThrownBy(() -> router.summarize(null, "내용").get(2, TimeUnit.SECONDS))
+			.hasCauseInstanceOf(RetryableExternalApiException.class)
+			.hasMessageContaining("3차 장애");
+	}
+
+	@Test
+	@DisplayName("AI 요약 헤지 - 대기 시간은 최근 응답 시간 백분위수를 하한/상한 안으로 제한")
+	void hedgeDelayFollowsRecentLatency() {
+		// given
+		enableHedge(10);
+		ReflectionTestUtils.setField(router, "hedgeMaxDelay", Duration.ofSeconds(4));
+		LatencyWindow window = new LatencyWindow(100, 20);
+		for (int i = 1; i <= 100; i++) {
+			window.record(Duration.ofMillis(i * 10L).toNanos());
+		}
+
+		// when
+		Duration withoutSamples = router.hedgeDelay(AiType.GEMINI);
+
+		// then - 표본이 부족하면 상한, 충분하면 백분위수
+		assertThat(withoutSamples).isEqualTo(Duration.ofSeconds(4));
+		assertThat(window.percentile(0.95)).hasValue(Duration.ofMillis(950).toNanos());
+		assertThat(new LatencyWindow(100, 20).percentile(0.95)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("AI 일괄 요약 - 1차 AI 에만 요청하고 요청 단위와 키워드당 응답 시간을 따로 기록")
+	void batchLatencyIsRecordedPerBatchAndItem() throws Exception {
+		// given
+		given(geminiAdapter.summarizeBatch(AiType.GEMINI, "내용", 4))
+			.willReturn(Mono.just("[]"));
+
+		// when
+		String response = router.summarizeBatch(null, "내용", 4).get();
+
+		// then
+		assertThat(response).isEqualTo("[]");
+		Timer batch = meterRegistry.get(AiSummaryPortRouter.BATCH_LATENCY_METRIC).tag("provider", "GEMINI").timer();
+		Timer item = meterRegistry.get(AiSummaryPortRouter.BATCH_ITEM_LATENCY_METRIC).tag("provider", "GEMINI").timer();
+		assertThat(batch.count()).isEqualTo(1);
+		assertThat(item.count()).isEqualTo(1);
+		assertThat(item.totalTime(TimeUnit.NANOSECONDS)).isLessThanOrEqualTo(batch.totalTime(TimeUnit.NANOSECONDS) / 4);
+		then(gptAdapter).shouldHaveNoInteractions();
+		// 키워드당 환산 응답 시간은 키워드별 요약 점수판에 섞지 않는다
+		assertThat(scoreboard.snapshot().get(AiType.GEMINI).samples()).isZero();
+	}
+
+	@Test
+	@DisplayName("AI 일괄 요약 - 실패는 일괄 요약 타이머에만 기록하고 점수판에는 반영하지 않음")
+	void batchFailureIsNotRecordedInScoreboard() {
+		// given
+		given(geminiAdapter.summarizeBatch(AiType.GEMINI, "내용", 4))
+			.willReturn(Mono.error(new RetryableExternalApiException(503, "장애")));
+
+		// when & then
+		assertThatThrownBy(() -> router.summarizeBatch(null, "내용", 4).get())
+			.hasCauseInstanceOf(RetryableExternalApiException.class);
+		AiProviderScoreboard.ProviderScore gemini = scoreboard.snapshot().get(AiType.GEMINI);
+		assertThat(gemini.samples()).isZero();
+		assertThat(gemini.errorRate()).isZero();
+		assertThat(meterRegistry.get(AiSummaryPortRouter.BATCH_LATENCY_METRIC).tag("provider", "GEMINI")
+			.tag("outcome", "failure").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("AI 일괄 요약 - 서킷이 열린 AI 는 건너뛰고 다음 AI 에 요청")
+	void batchSkipsOpenCircuit() throws Exception {
+		// given
+		circuitBreakerRegistry.circuitBreaker("GEMINI_AI_CIRCUIT_BREAKER").transitionToOpenState();
+		given(gptAdapter.summarizeBatch(AiType.GPT, "내용", 4)).willReturn(Mono.just("[]"));
+
+		// when
+		String response = router.summarizeBatch(null, "내용", 4).get();
+
+		// then
+		assertThat(response).isEqualTo("[]");
+		then(geminiAdapter).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("AI 일괄 요약 - 일괄 요약 서킷만 열린 AI 는 일괄 요약에서만 건너뜀")
+	void batchSkipsOpenBatchCircuit() throws Exception {
+		// given
+		circuitBreakerRegistry.circuitBreaker(AiResilience.batchCircuitBreakerName(AiType.GEMINI))
+			.transitionToOpenState();
+		given(gptAdapter.summarizeBatch(AiType.GPT, "내용", 4)).willReturn(Mono.just("[]"));
+
+		// when
+		String response = router.summarizeBatch(null, "내용", 4).get();
+
+		// then
+		assertThat(response).isEqualTo("[]");
+		then(geminiAdapter).should(never()).summarizeBatch(any(), anyString(), anyInt());
+		assertThat(scoreboard.isAvailable(AiType.GEMINI)).isTrue();
+	}
+
+	private void enableHedge(int budget) {
+		ReflectionTestUtils.setField(router, "hedgeEnabled", true);
+		ReflectionTestUtils.setField(router, "hedgePercentile", 0.95);
+		ReflectionTestUtils.setField(router, "hedgeMinDelay", Duration.ofMillis(50));
+		ReflectionTestUtils.setField(router, "hedgeMaxDelay", Duration.ofMillis(50));
+		ReflectionTestUtils.setField(router, "hedgeBudget", budget);
+		ReflectionTestUtils.setField(router, "hedgeBudgetWindow", Duration.ofHours(1));
+	}
+
+	private double hedgeCount(String result) {
+		return meterRegistry.get(AiSummaryPortRouter.HEDGE_METRIC).tag("result", result).counter().count();
+	}
+
+	private Timer timer(AiType aiType, String outcome) {
+		return meterRegistry.get(AiSummaryPortRouter.LATENCY_METRIC)
+			.tag("provider", aiType.name())
+			.tag("outcome", outcome)
+			.timer();
+	}
+}
@@ -2,8 +2,6 @@ package site.kkokkio.infra.ai.claude;
 
 import static org.assertj.core.api.Assertions.*;
 
-import java.util.concurrent.CompletableFuture;
-
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,8 +23,7 @@ public class ClaudeAiAdapterMockTest {
 		String content = "요약할 콘텐츠입니다.";
 
 		// when
-		CompletableFuture<String> resultFuture = claudeAiApiAdapter.summarize(AiType.CLAUDE, content);
-		String result = resultFuture.get();
+		String result = claudeAiApiAdapter.summarize(AiType.CLAUDE, content).block();
 
 		// then
 		assertThat(result).isNotNull();
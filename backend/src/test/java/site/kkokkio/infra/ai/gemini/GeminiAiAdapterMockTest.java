@@ -2,8 +2,6 @@ package site.kkokkio.infra.ai.gemini;
 
 import static org.assertj.core.api.Assertions.*;
 
-import java.util.concurrent.CompletableFuture;
-
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,8 +24,7 @@ class GeminiAiAdapterMockTest {
 		String content = "요약할 콘텐츠입니다.";
 
 		// when
-		CompletableFuture<String> resultFuture = geminiAiApiAdapter.summarize(AiType.GEMINI, content);
-		String result = resultFuture.get(); // 비동기 결과 받아오기
+		String result = geminiAiApiAdapter.summarize(AiType.GEMINI, content).block();
 
 		// then
 		assertThat(result).isNotNull();
@@ -2,8 +2,6 @@ package site.kkokkio.infra.ai.gpt;
 
 import static org.assertj.core.api.Assertions.*;
 
-import java.util.concurrent.CompletableFuture;
-
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,8 +23,7 @@ public class GptAiAdpaterMockTest {
 		String content = "요약할 콘텐츠입니다.";
 
 		// when
-		CompletableFuture<String> resultFuture = gptAiApiAdapter.summarize(AiType.GPT, content);
-		String result = resultFuture.get(); // 비동기 결과 받아오기
+		String result = gptAiApiAdapter.summarize(AiType.GPT, content).block();
 
 		// then
 		assertThat(result).isNotNull();
@@ -0,0 +1,75 @@
+package site.kkokkio.infra.common.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import site.kkokkio.infra.common.exception.RetryableExternalApiException;
+
+class ExternalCallMetricsTest {
+
+	private SimpleMeterRegistry registry;
+	private ExternalCallMetrics externalCallMetrics;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		externalCallMetrics = new ExternalCallMetrics(registry);
+	}
+
+	@Test
+	@DisplayName("외부 호출 Timer - 재시도로 다시 구독하면 시도마다 결과별로 기록")
+	void timePerAttempt() {
+		// given - 첫 시도 실패, 두 번째 시도 성공
+		AtomicInteger attempts = new AtomicInteger();
+		Mono<String> call = Mono.fromCallable(() -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new RetryableExternalApiException(503, "일시 장애");
+			}
+			return "ok";
+		});
+
+		// when
+		StepVerifier.create(externalCallMetrics.time(ExternalCallMetrics.TARGET_NAVER_NEWS, call).retry(1))
+			.expectNext("ok")
+			.verifyComplete();
+
+		// then
+		assertThat(timer("failure").count()).isEqualTo(1);
+		assertThat(timer("success").count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("외부 호출 Timer - 호출한 쪽의 timeout 으로 취소되면 cancelled 로 기록")
+	void timeCancelled() {
+		// given - 응답하지 않는 호출
+		Mono<String> call = Mono.never();
+
+		// when
+		StepVerifier.create(externalCallMetrics.time(ExternalCallMetrics.TARGET_NAVER_NEWS, call)
+				.timeout(Duration.ofMillis(50)))
+			.verifyError(TimeoutException.class);
+
+		// then
+		assertThat(timer("cancelled").count()).isEqualTo(1);
+		assertThat(timer("cancelled").totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+		assertThat(timer("failure")).isNull();
+	}
+
+	private Timer timer(String outcome) {
+		return registry.find(ExternalCallMetrics.EXTERNAL_CALL_DURATION)
+			.tags("target", ExternalCallMetrics.TARGET_NAVER_NEWS, "outcome", outcome)
+			.timer();
+	}
+}
@@ -0,0 +1,77 @@
+package site.kkokkio.infra.common.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import site.kkokkio.infra.common.metrics.HitRatioMetrics.HitRatio;
+
+class HitRatioMetricsTest {
+
+	private SimpleMeterRegistry registry;
+	private HitRatioMetrics hitRatioMetrics;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		hitRatioMetrics = new HitRatioMetrics(registry);
+	}
+
+	@Test
+	@DisplayName("적중률 Gauge - 실행마다 그 실행 동안의 조회로만 계산")
+	void ratioPerRun() {
+		// given
+		HitRatio hitRatio = hitRatioMetrics.register("test.lookup", "조회 결과 수", "test.hit.ratio", "적중률");
+
+		// when - 첫 실행은 모두 적중, 두 번째 실행은 4건 중 1건 적중
+		hitRatio.record(3, 3);
+		hitRatioMetrics.publishAll();
+		double firstRun = gauge();
+		hitRatio.record(4, 1);
+		double beforePublish = gauge();
+		hitRatioMetrics.publishAll();
+
+		// then
+		assertThat(firstRun).isEqualTo(1.0);
+		assertThat(beforePublish).isEqualTo(1.0);
+		assertThat(gauge()).isEqualTo(0.25);
+	}
+
+	@Test
+	@DisplayName("적중률 Gauge - 조회가 없던 실행은 이전 적중률 유지")
+	void keepRatioWithoutLookups() {
+		// given
+		HitRatio hitRatio = hitRatioMetrics.register("test.lookup", "조회 결과 수", "test.hit.ratio", "적중률");
+		hitRatio.record(2, 1);
+		hitRatioMetrics.publishAll();
+
+		// when
+		hitRatioMetrics.publishAll();
+
+		// then
+		assertThat(gauge()).isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("조회 결과 Counter - result 태그별로 누적")
+	void counterByResult() {
+		// given
+		HitRatio hitRatio = hitRatioMetrics.register("test.lookup", "조회 결과 수", "test.hit.ratio", "적중률");
+
+		// when
+		hitRatio.counter("hit").increment();
+		hitRatio.counter("hit").increment();
+		hitRatio.counter("miss").increment();
+
+		// then
+		assertThat(registry.get("test.lookup").tag("result", "hit").counter().count()).isEqualTo(2);
+		assertThat(registry.get("test.lookup").tag("result", "miss").counter().count()).isEqualTo(1);
+	}
+
+	private double gauge() {
+		return registry.get("test.hit.ratio").gauge().value();
+	}
+}